@@ -16,7 +16,9 @@
  */
 package org.nervousync.annotations.launcher;
 
+import org.nervousync.commons.Globals;
 import org.nervousync.enumerations.launcher.StartupType;
+import org.nervousync.launcher.StartupLauncher;
 
 import java.lang.annotation.*;
 
@@ -39,4 +41,22 @@ public @interface Launcher {
 	 * <span class="zh-CN">启动类型枚举值</span>
 	 */
 	StartupType value() default StartupType.MANUAL;
+
+	/**
+	 * <span class="en-US">Launcher classes which must be started before current launcher, default value: empty</span>
+	 * <span class="zh-CN">必须在当前启动器之前启动的启动器类，默认：空</span>
+	 *
+	 * @return <span class="en-US">Dependent launcher classes</span>
+	 * <span class="zh-CN">依赖的启动器类</span>
+	 */
+	Class<? extends StartupLauncher>[] dependencies() default {};
+
+	/**
+	 * <span class="en-US">Startup timeout in milliseconds, zero or negative value means no limit, default value: -1</span>
+	 * <span class="zh-CN">启动超时时间（毫秒），零或负数表示不限制，默认：-1</span>
+	 *
+	 * @return <span class="en-US">Startup timeout in milliseconds</span>
+	 * <span class="zh-CN">启动超时时间（毫秒）</span>
+	 */
+	long timeout() default Globals.DEFAULT_VALUE_LONG;
 }
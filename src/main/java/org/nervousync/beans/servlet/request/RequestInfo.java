@@ -18,7 +18,9 @@ package org.nervousync.beans.servlet.request;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.http.HttpClient;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import jakarta.annotation.Nonnull;
 import org.nervousync.commons.Globals;
@@ -26,6 +28,7 @@ import org.nervousync.proxy.AbstractProxyConfigBuilder;
 import org.nervousync.enumerations.web.HttpMethodOption;
 import org.nervousync.http.cert.TrustCert;
 import org.nervousync.http.cookie.CookieEntity;
+import org.nervousync.http.entity.HttpEntity;
 import org.nervousync.http.header.SimpleHeader;
 import org.nervousync.proxy.ProxyConfig;
 import org.nervousync.utils.FileUtils;
@@ -117,6 +120,26 @@ public final class RequestInfo {
 	 * <span class="zh-CN">发送请求的Cookie信息列表</span>
      */
     private final List<CookieEntity> cookieList;
+    /**
+	 * <span class="en-US">HTTP protocol version of client</span>
+	 * <span class="zh-CN">客户端使用的HTTP协议版本</span>
+     */
+    private final HttpClient.Version httpVersion;
+    /**
+	 * <span class="en-US">Executor of client, <code>null</code> for client default executor</span>
+	 * <span class="zh-CN">客户端使用的执行器，<code>null</code>为使用客户端默认执行器</span>
+     */
+    private final Executor executor;
+    /**
+	 * <span class="en-US">Upload request body using chunked transfer encoding</span>
+	 * <span class="zh-CN">使用分块传输编码上传请求体</span>
+     */
+    private final boolean chunkedUpload;
+    /**
+	 * <span class="en-US">Upload progress callback, <code>null</code> for not report progress</span>
+	 * <span class="zh-CN">上传进度回调，<code>null</code>为不报告进度</span>
+     */
+    private final HttpEntity.UploadProgress uploadProgress;
 
     /**
      * <h3 class="en-US">Constructor for RequestInfo</h3>
@@ -140,12 +163,22 @@ public final class RequestInfo {
      *                          <span class="zh-CN">发送请求的上传文件参数信息映射</span>
      * @param cookieList        <span class="en-US">Request cookies information list</span>
      *                          <span class="zh-CN">发送请求的Cookie信息列表</span>
+     * @param httpVersion       <span class="en-US">HTTP protocol version of client</span>
+     *                          <span class="zh-CN">客户端使用的HTTP协议版本</span>
+     * @param executor          <span class="en-US">Executor of client</span>
+     *                          <span class="zh-CN">客户端使用的执行器</span>
+     * @param chunkedUpload     <span class="en-US">Upload request body using chunked transfer encoding</span>
+     *                          <span class="zh-CN">使用分块传输编码上传请求体</span>
+     * @param uploadProgress    <span class="en-US">Upload progress callback</span>
+     *                          <span class="zh-CN">上传进度回调</span>
      */
     private RequestInfo(final HttpMethodOption methodOption, final ProxyConfig proxyConfig,
                         final List<TrustCert> trustTrustCerts, final String passPhrase, final String userAgent,
                         final String requestUrl, final String charset, final String contentType, final int timeOut,
                         final byte[] postData, final List<SimpleHeader> headers, final Map<String, String[]> parameters,
-                        final Map<String, File> uploadParams, final List<CookieEntity> cookieList) {
+                        final Map<String, File> uploadParams, final List<CookieEntity> cookieList,
+                        final HttpClient.Version httpVersion, final Executor executor,
+                        final boolean chunkedUpload, final HttpEntity.UploadProgress uploadProgress) {
         this.methodOption = methodOption;
         this.proxyConfig = proxyConfig;
         this.trustTrustCerts = trustTrustCerts;
@@ -160,6 +193,10 @@ public final class RequestInfo {
         this.parameters = parameters;
         this.uploadParams = uploadParams;
         this.cookieList = cookieList;
+        this.httpVersion = httpVersion;
+        this.executor = executor;
+        this.chunkedUpload = chunkedUpload;
+        this.uploadProgress = uploadProgress;
     }
     /**
      * Builder request builder.
@@ -274,6 +311,34 @@ public final class RequestInfo {
 	 */
     public Map<String, File> getUploadParam() {
         return uploadParams;
+    }
+	/**
+	 * <h3 class="en-US">Getter method for HTTP protocol version</h3>
+	 * <h3 class="zh-CN">HTTP协议版本的Getter方法</h3>
+	 */
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+	/**
+	 * <h3 class="en-US">Getter method for client executor</h3>
+	 * <h3 class="zh-CN">客户端执行器的Getter方法</h3>
+	 */
+    public Executor getExecutor() {
+        return executor;
+    }
+	/**
+	 * <h3 class="en-US">Getter method for chunked upload status</h3>
+	 * <h3 class="zh-CN">分块上传状态的Getter方法</h3>
+	 */
+    public boolean isChunkedUpload() {
+        return chunkedUpload;
+    }
+	/**
+	 * <h3 class="en-US">Getter method for upload progress callback</h3>
+	 * <h3 class="zh-CN">上传进度回调的Getter方法</h3>
+	 */
+    public HttpEntity.UploadProgress getUploadProgress() {
+        return uploadProgress;
     }
     /**
      * <h2 class="en-US">Request proxy configure builder</h2>
@@ -385,6 +450,26 @@ public final class RequestInfo {
          * <span class="zh-CN">发送请求的Cookie信息列表</span>
          */
         private final List<CookieEntity> cookieList = new ArrayList<>();
+        /**
+         * <span class="en-US">HTTP protocol version of client</span>
+         * <span class="zh-CN">客户端使用的HTTP协议版本</span>
+         */
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+        /**
+         * <span class="en-US">Executor of client, <code>null</code> for client default executor</span>
+         * <span class="zh-CN">客户端使用的执行器，<code>null</code>为使用客户端默认执行器</span>
+         */
+        private Executor executor = null;
+        /**
+         * <span class="en-US">Upload request body using chunked transfer encoding</span>
+         * <span class="zh-CN">使用分块传输编码上传请求体</span>
+         */
+        private boolean chunkedUpload = Boolean.FALSE;
+        /**
+         * <span class="en-US">Upload progress callback, <code>null</code> for not report progress</span>
+         * <span class="zh-CN">上传进度回调，<code>null</code>为不报告进度</span>
+         */
+        private HttpEntity.UploadProgress uploadProgress = null;
 
         private RequestBuilder(final HttpMethodOption methodOption) {
             this.methodOption = methodOption;
@@ -399,7 +484,8 @@ public final class RequestInfo {
         public RequestInfo build() {
             return new RequestInfo(this.methodOption, this.proxyConfig, this.trustTrustCerts, this.passPhrase,
                     this.userAgent, this.requestUrl, this.charset, this.contentType, this.timeOut,
-                    this.postData, this.headers, this.parameters, this.uploadParams, this.cookieList);
+                    this.postData, this.headers, this.parameters, this.uploadParams, this.cookieList,
+                    this.httpVersion, this.executor, this.chunkedUpload, this.uploadProgress);
         }
         /**
          * <h3 class="en-US">Generate RequestProxyBuilder instance to configure proxy server</h3>
@@ -534,6 +620,66 @@ public final class RequestInfo {
             this.timeOut = timeOut;
             return this;
         }
+        /**
+         * <h3 class="en-US">Configure HTTP protocol version of client</h3>
+         * <h3 class="zh-CN">设置客户端使用的HTTP协议版本</h3>
+         *
+         * @param httpVersion   <span class="en-US">HTTP protocol version</span>
+         *                      <span class="zh-CN">HTTP协议版本</span>
+         *
+         * @return  <span class="en-US">Current RequestBuilder instance</span>
+         *          <span class="zh-CN">当前RequestBuilder实例对象</span>
+         */
+        public RequestBuilder httpVersion(final HttpClient.Version httpVersion) {
+            this.httpVersion = (httpVersion == null) ? HttpClient.Version.HTTP_2 : httpVersion;
+            return this;
+        }
+        /**
+         * <h3 class="en-US">Configure executor of client</h3>
+         * <p class="en-US">Requests using the same executor instance share the same client, e.g. a virtual thread per task executor</p>
+         * <h3 class="zh-CN">设置客户端使用的执行器</h3>
+         * <p class="zh-CN">使用相同执行器实例的请求共享同一个客户端，例如每任务一个虚拟线程的执行器</p>
+         *
+         * @param executor      <span class="en-US">Executor instance</span>
+         *                      <span class="zh-CN">执行器实例对象</span>
+         *
+         * @return  <span class="en-US">Current RequestBuilder instance</span>
+         *          <span class="zh-CN">当前RequestBuilder实例对象</span>
+         */
+        public RequestBuilder executor(final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+        /**
+         * <h3 class="en-US">Configure upload request body using chunked transfer encoding</h3>
+         * <p class="en-US">The Content-Length header will not be sent even if the body size is known</p>
+         * <h3 class="zh-CN">设置使用分块传输编码上传请求体</h3>
+         * <p class="zh-CN">即使请求体大小已知也不发送Content-Length请求头</p>
+         *
+         * @param chunkedUpload <span class="en-US">Chunked upload status</span>
+         *                      <span class="zh-CN">分块上传状态</span>
+         *
+         * @return  <span class="en-US">Current RequestBuilder instance</span>
+         *          <span class="zh-CN">当前RequestBuilder实例对象</span>
+         */
+        public RequestBuilder chunkedUpload(final boolean chunkedUpload) {
+            this.chunkedUpload = chunkedUpload;
+            return this;
+        }
+        /**
+         * <h3 class="en-US">Configure upload progress callback</h3>
+         * <h3 class="zh-CN">设置上传进度回调</h3>
+         *
+         * @param uploadProgress    <span class="en-US">Upload progress callback</span>
+         *                          <span class="zh-CN">上传进度回调</span>
+         *
+         * @return  <span class="en-US">Current RequestBuilder instance</span>
+         *          <span class="zh-CN">当前RequestBuilder实例对象</span>
+         */
+        public RequestBuilder uploadProgress(final HttpEntity.UploadProgress uploadProgress) {
+            this.uploadProgress = uploadProgress;
+            return this;
+        }
         /**
          * <h3 class="en-US">Configure request send data bytes</h3>
          * <h3 class="zh-CN">设置请求发送的二进制数据</h3>
@@ -19,6 +19,7 @@ package org.nervousync.beans.servlet.response;
 import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.zip.GZIPInputStream;
 
@@ -44,6 +45,11 @@ public final class ResponseInfo {
      * <span class="zh-CN">多语言支持的日志对象</span>
      */
     private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+	 * <span class="en-US">Maximum bytes count to sniff the character encoding from response content</span>
+	 * <span class="zh-CN">从响应数据中探测字符集编码的最大字节数</span>
+     */
+    static final int SNIFF_LENGTH = 4096;
     /**
 	 * <span class="en-US">Response HTTP status code</span>
 	 * <span class="zh-CN">响应的HTTP状态代码</span>
@@ -93,26 +99,9 @@ public final class ResponseInfo {
      */
     public ResponseInfo(final HttpResponse.ResponseInfo responseInfo, final InputStream inputStream) {
         this.statusCode = responseInfo.statusCode();
-        responseInfo.headers().map().forEach((key, values) -> {
-            if (key != null && values != null && !values.isEmpty()) {
-                StringBuilder stringBuilder = new StringBuilder();
-                for (String headerValue : values) {
-                    stringBuilder.append(" ").append(headerValue);
-                }
-                this.headerMaps.put(key.toUpperCase(), stringBuilder.substring(1));
-            }
-        });
+        this.headerMaps.putAll(parseHeaders(responseInfo.headers().map()));
         this.contentType = this.headerMaps.get("CONTENT-TYPE");
-        if (this.contentType != null && this.contentType.contains("charset=")) {
-            this.charset = this.contentType.substring(this.contentType.indexOf("charset="));
-            if (this.contentType.contains("\"")) {
-                this.charset = this.charset.substring(0, this.charset.indexOf("\""));
-            }
-            this.charset = this.charset.substring(this.charset.indexOf("=") + 1);
-            if (this.charset.contains(";")) {
-                this.charset = this.charset.substring(0, this.charset.indexOf(";"));
-            }
-        }
+        this.charset = parseCharset(this.contentType);
         this.identifiedCode = this.headerMaps.get("IDENTIFIED");
         GZIPInputStream gzipInputStream = null;
         try {
@@ -149,17 +138,7 @@ public final class ResponseInfo {
             this.contentLength = urlConnection.getContentLength();
             if (this.statusCode == HttpsURLConnection.HTTP_OK) {
                 this.contentType = urlConnection.getContentType();
-                if (this.contentType != null
-                        && this.contentType.contains("charset=")) {
-                    this.charset = this.contentType.substring(this.contentType.indexOf("charset="));
-                    if (this.contentType.contains("\"")) {
-                        this.charset = this.charset.substring(0, this.charset.indexOf("\""));
-                    }
-                    this.charset = this.charset.substring(this.charset.indexOf("=") + 1);
-                    if (this.charset.contains(";")) {
-                        this.charset = this.charset.substring(0, this.charset.indexOf(";"));
-                    }
-                }
+                this.charset = parseCharset(this.contentType);
 
                 inputStream = urlConnection.getInputStream();
                 if (Optional.ofNullable(urlConnection.getContentEncoding())
@@ -173,16 +152,7 @@ public final class ResponseInfo {
 
             Map<String, List<String>> headerFields = urlConnection.getHeaderFields();
             if (headerFields != null && !headerFields.isEmpty()) {
-                for (Map.Entry<String, List<String>> entry : headerFields.entrySet()) {
-                    List<String> headerValues = entry.getValue();
-                    if (entry.getKey() != null && headerValues != null && !headerValues.isEmpty()) {
-                        StringBuilder stringBuilder = new StringBuilder();
-                        for (String headerValue : headerValues) {
-                            stringBuilder.append(" ").append(headerValue);
-                        }
-                        this.headerMaps.put(entry.getKey().toUpperCase(), stringBuilder.substring(1));
-                    }
-                }
+                this.headerMaps.putAll(parseHeaders(headerFields));
             }
 
             byteArrayOutputStream = new ByteArrayOutputStream(Globals.DEFAULT_BUFFER_SIZE);
@@ -199,17 +169,8 @@ public final class ResponseInfo {
             this.responseContent = byteArrayOutputStream.toByteArray();
 
             if (this.charset == null) {
-                String tempContent = new String(this.responseContent, Globals.DEFAULT_ENCODING);
-                if (tempContent.contains("charset=")) {
-                    this.charset = tempContent.substring(tempContent.indexOf("charset="));
-                    this.charset = this.charset.substring(0, this.charset.indexOf("\""));
-                    this.charset = this.charset.substring(this.charset.indexOf("=") + 1);
-                    if (this.charset.contains(";")) {
-                        this.charset = this.charset.substring(0, this.charset.indexOf(";"));
-                    }
-                } else {
-                    this.charset = Globals.DEFAULT_ENCODING;
-                }
+                this.charset = Optional.ofNullable(sniffCharset(this.responseContent))
+                        .orElse(Globals.DEFAULT_ENCODING);
             }
 
             this.identifiedCode = urlConnection.getHeaderField("identified");
@@ -389,4 +350,83 @@ public final class ResponseInfo {
         }
         return headerList;
     }
+    /**
+	 * <h3 class="en-US">Parse header values map, the header name was converted to upper case and values were joined by space</h3>
+	 * <h3 class="zh-CN">解析响应头数据映射表，响应头名称转换为大写，多个数据值使用空格连接</h3>
+     *
+     * @param headerFields  <span class="en-US">Response header values map</span>
+     *                      <span class="zh-CN">响应头数据值映射表</span>
+     *
+     * @return  <span class="en-US">Parsed header map</span>
+     *          <span class="zh-CN">解析后的响应头映射表</span>
+     */
+    static Map<String, String> parseHeaders(final Map<String, List<String>> headerFields) {
+        Map<String, String> headerMap = new HashMap<>();
+        headerFields.forEach((key, values) -> {
+            if (key != null && values != null && !values.isEmpty()) {
+                headerMap.put(key.toUpperCase(), String.join(" ", values));
+            }
+        });
+        return headerMap;
+    }
+    /**
+	 * <h3 class="en-US">Parse character encoding from the value of response header "Content-Type"</h3>
+	 * <h3 class="zh-CN">从响应头"Content-Type"的值中解析字符集编码</h3>
+     *
+     * @param contentType   <span class="en-US">String value of response header "Content-Type"</span>
+     *                      <span class="zh-CN">响应头"Content-Type"的字符串值</span>
+     *
+     * @return  <span class="en-US">Character encoding or null if not found</span>
+     *          <span class="zh-CN">字符集编码，如果未找到则返回null</span>
+     */
+    static String parseCharset(final String contentType) {
+        if (contentType == null || !contentType.contains("charset=")) {
+            return null;
+        }
+        String charset = contentType.substring(contentType.indexOf("charset="));
+        if (charset.contains("\"")) {
+            charset = charset.substring(0, charset.indexOf("\""));
+        }
+        charset = charset.substring(charset.indexOf("=") + 1);
+        if (charset.contains(";")) {
+            charset = charset.substring(0, charset.indexOf(";"));
+        }
+        return charset;
+    }
+    /**
+	 * <h3 class="en-US">Sniff character encoding from the leading bytes of response content</h3>
+	 * <span class="en-US">Only the first SNIFF_LENGTH bytes will be decoded, the whole content was not converted to string</span>
+	 * <h3 class="zh-CN">从响应数据的起始字节中探测字符集编码</h3>
+	 * <span class="zh-CN">仅解码前SNIFF_LENGTH个字节，不再将全部响应数据转换为字符串</span>
+     *
+     * @param dataBytes     <span class="en-US">Response content binary data bytes</span>
+     *                      <span class="zh-CN">响应数据的二进制字节数组</span>
+     *
+     * @return  <span class="en-US">Character encoding or null if not found</span>
+     *          <span class="zh-CN">字符集编码，如果未找到则返回null</span>
+     */
+    static String sniffCharset(final byte[] dataBytes) {
+        String leadingContent =
+                new String(dataBytes, 0, Math.min(dataBytes.length, SNIFF_LENGTH), StandardCharsets.ISO_8859_1);
+        int index = leadingContent.indexOf("charset=");
+        if (index == Globals.DEFAULT_VALUE_INT) {
+            return null;
+        }
+        index += "charset=".length();
+        while (index < leadingContent.length()
+                && (leadingContent.charAt(index) == '"' || leadingContent.charAt(index) == '\'')) {
+            index++;
+        }
+        int endIndex = index;
+        while (endIndex < leadingContent.length()) {
+            char character = leadingContent.charAt(endIndex);
+            if (Character.isLetterOrDigit(character) || character == '-' || character == '_'
+                    || character == '.' || character == ':') {
+                endIndex++;
+            } else {
+                break;
+            }
+        }
+        return (endIndex > index) ? leadingContent.substring(index, endIndex) : null;
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.beans.servlet.response;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.IOUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.io.*;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * <h2 class="en-US">Streaming response define</h2>
+ * <span class="en-US">
+ *     Response body was not buffered in memory, read the data from input stream, transfer to output stream
+ *     or parse the JSON array one element at a time. The instance must be closed after used.
+ * </span>
+ * <h2 class="zh-CN">流式网络响应定义</h2>
+ * <span class="zh-CN">响应体不在内存中缓存，从输入流读取数据、写入到输出流或逐个解析JSON数组元素。使用后必须关闭实例对象。</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:06:42 $
+ */
+public final class ResponseStream implements Closeable {
+    /**
+     * <span class="en-US">Response HTTP status code</span>
+     * <span class="zh-CN">响应的HTTP状态代码</span>
+     */
+    private final int statusCode;
+    /**
+     * <span class="en-US">Response header information map</span>
+     * <span class="zh-CN">响应头信息映射表</span>
+     */
+    private final Map<String, String> headerMaps = new HashMap<>();
+    /**
+     * <span class="en-US">String value for http response header "Content-Type"</span>
+     * <span class="zh-CN">响应头"Content-Type"的字符串值</span>
+     */
+    private final String contentType;
+    /**
+     * <span class="en-US">Character encoding for http response data</span>
+     * <span class="zh-CN">响应数据使用的编码集</span>
+     */
+    private final String charset;
+    /**
+     * <span class="en-US">Response content length from header, -1 if unknown</span>
+     * <span class="zh-CN">响应头中的响应数据长度，未知时为-1</span>
+     */
+    private final long contentLength;
+    /**
+     * <span class="en-US">Response body input stream, decoded if content encoding is gzip</span>
+     * <span class="zh-CN">响应体输入流，如果内容编码为gzip则已解码</span>
+     */
+    private final InputStream inputStream;
+
+    /**
+     * <h3 class="en-US">Constructor for ResponseStream</h3>
+     * <span class="en-US">Parse response information from HttpResponse.ResponseInfo and keep the ResponseBody input stream</span>
+     * <h3 class="zh-CN">ResponseStream的构造函数</h3>
+     * <span class="zh-CN">从HttpResponse.ResponseInfo实例对象中解析响应信息并保留响应体输入数据流</span>
+     *
+     * @param responseInfo <span class="en-US">Instance of HttpResponse.ResponseInfo</span>
+     *                     <span class="zh-CN">HttpResponse.ResponseInfo实例对象</span>
+     * @param inputStream  <span class="en-US">ResponseBody input stream</span>
+     *                     <span class="zh-CN">响应体输入数据流</span>
+     * @throws IOException <span class="en-US">If an error occurs when read gzip header</span>
+     *                     <span class="zh-CN">读取gzip头信息时出现异常</span>
+     */
+    public ResponseStream(final HttpResponse.ResponseInfo responseInfo, final InputStream inputStream)
+            throws IOException {
+        this.statusCode = responseInfo.statusCode();
+        this.headerMaps.putAll(ResponseInfo.parseHeaders(responseInfo.headers().map()));
+        this.contentType = this.headerMaps.get("CONTENT-TYPE");
+        this.charset = ResponseInfo.parseCharset(this.contentType);
+        if (this.headerMaps.getOrDefault("CONTENT-ENCODING", Globals.DEFAULT_VALUE_STRING).contains("gzip")) {
+            this.contentLength = Globals.DEFAULT_VALUE_INT;
+            try {
+                this.inputStream = new GZIPInputStream(inputStream, Globals.DEFAULT_BUFFER_SIZE);
+            } catch (IOException e) {
+                IOUtils.closeStream(inputStream);
+                throw e;
+            }
+        } else {
+            this.contentLength = responseInfo.headers().firstValueAsLong("Content-Length")
+                    .orElse(Globals.DEFAULT_VALUE_INT);
+            this.inputStream = inputStream;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for response HTTP status code</h3>
+     * <h3 class="zh-CN">响应的HTTP状态代码的Getter方法</h3>
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for response header map</h3>
+     * <h3 class="zh-CN">响应头信息映射表的Getter方法</h3>
+     */
+    public Map<String, String> getHeaderMaps() {
+        return headerMaps;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for response content type</h3>
+     * <h3 class="zh-CN">响应头"Content-Type"字符串值的Getter方法</h3>
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for response character encoding</h3>
+     * <h3 class="zh-CN">响应数据使用的编码集的Getter方法</h3>
+     */
+    public String getCharset() {
+        return charset;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for response content length, -1 if unknown</h3>
+     * <h3 class="zh-CN">响应数据长度的Getter方法，未知时为-1</h3>
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for response body input stream</h3>
+     * <h3 class="zh-CN">响应体输入流的Getter方法</h3>
+     */
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve response header value by given header name</h3>
+     * <h3 class="zh-CN">根据给定的响应头键值读取对应的数据值</h3>
+     *
+     * @param headerName <span class="en-US">Response header name</span>
+     *                   <span class="zh-CN">响应头键值</span>
+     * @return <span class="en-US">Response header value or empty string if header name not exists</span>
+     * <span class="zh-CN">响应头数据值，如果数据不存在则返回空字符串</span>
+     */
+    public String getHeader(final String headerName) {
+        return this.headerMaps.getOrDefault(headerName.toUpperCase(), Globals.DEFAULT_VALUE_STRING);
+    }
+
+    /**
+     * <h3 class="en-US">Transfer response body to given output stream</h3>
+     * <h3 class="zh-CN">将响应体写入到给定的输出流</h3>
+     *
+     * @param outputStream <span class="en-US">Target output stream</span>
+     *                     <span class="zh-CN">目标输出流</span>
+     * @return <span class="en-US">Transferred bytes count</span>
+     * <span class="zh-CN">写入的字节数</span>
+     * @throws IOException <span class="en-US">If an error occurs when read or write data</span>
+     *                     <span class="zh-CN">读取或写入数据时出现异常</span>
+     */
+    public long transferTo(final OutputStream outputStream) throws IOException {
+        return this.inputStream.transferTo(outputStream);
+    }
+
+    /**
+     * <h3 class="en-US">Parse response JSON array incrementally to the instance stream of given class type</h3>
+     * <span class="en-US">Only one element was kept in memory, close the returned stream will close the response</span>
+     * <h3 class="zh-CN">增量转换响应的JSON数组为指定类型的对象流</h3>
+     * <span class="zh-CN">内存中仅保留一个元素，关闭返回的数据流将关闭响应</span>
+     *
+     * @param clazz <span class="en-US">Class type</span>
+     *              <span class="zh-CN">数据对象类</span>
+     * @param <T>   <span class="en-US">Template type of stream</span>
+     *              <span class="zh-CN">数据流的参数化类型</span>
+     * @return <span class="en-US">Instance stream of given class type</span>
+     * <span class="zh-CN">数据对象流</span>
+     * @throws IOException <span class="en-US">If an error occurs when read JSON data</span>
+     *                     <span class="zh-CN">读取JSON数据时出现异常</span>
+     */
+    public <T> Stream<T> parseList(final Class<T> clazz) throws IOException {
+        ObjectReader objectReader = StringUtils.objectReader(StringUtils.StringType.JSON, clazz);
+        MappingIterator<T> mappingIterator;
+        if (StringUtils.isEmpty(this.charset)
+                || Charset.forName(this.charset).equals(StandardCharsets.UTF_8)) {
+            mappingIterator = objectReader.readValues(this.inputStream);
+        } else {
+            mappingIterator = objectReader.readValues(new InputStreamReader(this.inputStream, this.charset));
+        }
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(mappingIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        Boolean.FALSE)
+                .onClose(() -> {
+                    IOUtils.closeStream(mappingIterator);
+                    this.close();
+                });
+    }
+
+    /**
+     * (Non-Javadoc)
+     *
+     * @see Closeable#close()
+     */
+    @Override
+    public void close() {
+        IOUtils.closeStream(this.inputStream);
+    }
+}
@@ -19,7 +19,6 @@ package org.nervousync.beans.transfer.basic;
 import org.nervousync.beans.transfer.AbstractAdapter;
 import org.nervousync.utils.DateTimeUtils;
 
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
@@ -49,6 +48,6 @@ public final class DateTimeAdapter extends AbstractAdapter {
      */
 	@Override
 	public String marshal(final Object v) {
-		return DateTimeUtils.formatDate((Date) v, DateTimeFormatter.ofPattern(this.pattern));
+		return DateTimeUtils.formatDate((Date) v, DateTimeUtils.formatter(this.pattern));
 	}
 }
@@ -16,6 +16,8 @@
  */
 package org.nervousync.commons;
 
+import java.util.regex.Pattern;
+
 /**
  * <h2 class="en-US">Regular expression library</h2>
  * <h2 class="zh-CN">正则表达式库</h2>
@@ -87,4 +89,65 @@ public final class RegexGlobals {
      * <span class="zh-CN">正则表达式，用于匹配电话号码字符串</span>
      */
     public static final String PHONE_NUMBER = "^(00|\\+){0,1}(\\d){1,}$";
+
+    /**
+     * <span class="en-US">Precompiled pattern to match email address.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配电子邮件地址</span>
+     */
+    public static final Pattern EMAIL_ADDRESS_PATTERN = Pattern.compile(EMAIL_ADDRESS);
+    /**
+     * <span class="en-US">Precompiled pattern to match Base64 encoded strings.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配Base64编码字符串</span>
+     */
+    public static final Pattern BASE64_PATTERN = Pattern.compile(BASE64);
+    /**
+     * <span class="en-US">Precompiled pattern to match UUID string.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配UUID字符串</span>
+     */
+    public static final Pattern UUID_PATTERN = Pattern.compile(UUID);
+    /**
+     * <span class="en-US">Precompiled pattern to match hex string of MD5 value.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配MD5值的十六进制字符串</span>
+     */
+    public static final Pattern MD5_VALUE_PATTERN = Pattern.compile(MD5_VALUE);
+    /**
+     * <span class="en-US">Precompiled pattern to match XML string.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配XML字符串</span>
+     */
+    public static final Pattern XML_PATTERN = Pattern.compile(XML);
+    /**
+     * <span class="en-US">Precompiled pattern to match Luhn mod 10.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配Luhn模10字符串</span>
+     */
+    public static final Pattern LUHN_PATTERN = Pattern.compile(LUHN);
+    /**
+     * <span class="en-US">Precompiled pattern to match China ID number.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配中国身份证号</span>
+     */
+    public static final Pattern CHN_ID_Card_PATTERN = Pattern.compile(CHN_ID_Card);
+    /**
+     * <span class="en-US">Precompiled pattern to match China Social Credit Code.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配中国统一社会信用代码</span>
+     */
+    public static final Pattern CHN_Social_Credit_PATTERN = Pattern.compile(CHN_Social_Credit);
+    /**
+     * <span class="en-US">Precompiled pattern to match IPv4 address.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配IPv4地址字符串</span>
+     */
+    public static final Pattern IPV4_PATTERN = Pattern.compile(IPV4_REGEX);
+    /**
+     * <span class="en-US">Precompiled pattern to match IPv6 address.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配IPv6地址字符串</span>
+     */
+    public static final Pattern IPV6_PATTERN = Pattern.compile(IPV6_REGEX);
+    /**
+     * <span class="en-US">Precompiled pattern to match IPv6 compress address.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配IPv6压缩地址字符串</span>
+     */
+    public static final Pattern IPV6_COMPRESS_PATTERN = Pattern.compile(IPV6_COMPRESS_REGEX);
+    /**
+     * <span class="en-US">Precompiled pattern to match phone number.</span>
+     * <span class="zh-CN">预编译的正则表达式，用于匹配电话号码字符串</span>
+     */
+    public static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile(PHONE_NUMBER);
 }
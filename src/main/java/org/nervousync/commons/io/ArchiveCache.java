@@ -0,0 +1,535 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.io;
+
+import org.nervousync.exceptions.zip.ZipException;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.zip.ZipFile;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * <h2 class="en-US">Open archive handle cache</h2>
+ * <span class="en-US">
+ *     Cache the opened JarFile/ZipFile instance by archive path, the central directory was parsed only once
+ *     when reading many entries from the same archive. The handles were reference counted, the least recently
+ *     used handle was evicted when the cache is full, and the cached handle was discarded when the last modified
+ *     time or the size of archive file was changed. Evicted handle was closed after the last reference released.
+ * </span>
+ * <h2 class="zh-CN">已打开的压缩文件句柄缓存</h2>
+ * <span class="zh-CN">
+ *     按压缩文件路径缓存已打开的JarFile/ZipFile实例对象，从同一压缩文件读取多个条目时只解析一次中央目录。
+ *     句柄使用引用计数，缓存已满时淘汰最近最少使用的句柄，压缩文件的最后修改时间或大小改变时丢弃缓存的句柄。
+ *     被淘汰的句柄在最后一个引用释放后关闭。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:12:08 $
+ */
+public final class ArchiveCache {
+	/**
+	 * <span class="en-US">Multilingual supported logger instance</span>
+	 * <span class="zh-CN">多语言支持的日志对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ArchiveCache.class);
+	/**
+	 * <span class="en-US">Default maximum count of cached handles</span>
+	 * <span class="zh-CN">默认的最大缓存句柄数</span>
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 32;
+	/**
+	 * <span class="en-US">Length of cache key prefix</span>
+	 * <span class="zh-CN">缓存键值前缀的长度</span>
+	 */
+	private static final int CACHE_KEY_PREFIX_LENGTH = "jar:".length();
+	/**
+	 * <span class="en-US">Registered archive handles, access ordered</span>
+	 * <span class="zh-CN">已注册的压缩文件句柄，按访问排序</span>
+	 */
+	private static final Map<String, CachedArchive> REGISTERED_HANDLES = new LinkedHashMap<>(16, 0.75f, Boolean.TRUE);
+	/**
+	 * <span class="en-US">Maximum count of cached handles</span>
+	 * <span class="zh-CN">最大缓存句柄数</span>
+	 */
+	private static int maximumHandles = DEFAULT_CACHE_LIMIT;
+
+	/**
+	 * <h3 class="en-US">Private constructor for ArchiveCache</h3>
+	 * <h3 class="zh-CN">压缩文件句柄缓存的私有构造方法</h3>
+	 */
+	private ArchiveCache() {
+	}
+
+	/**
+	 * <h3 class="en-US">Configure maximum count of cached handles</h3>
+	 * <h3 class="zh-CN">设置最大缓存句柄数</h3>
+	 *
+	 * @param cacheLimit <span class="en-US">Maximum count of cached handles</span>
+	 *                   <span class="zh-CN">最大缓存句柄数</span>
+	 */
+	public static void cacheLimit(final int cacheLimit) {
+		if (cacheLimit < 1) {
+			throw new IllegalArgumentException("cacheLimit must be positive");
+		}
+		synchronized (REGISTERED_HANDLES) {
+			maximumHandles = cacheLimit;
+			evictEldest();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Acquire JarFile handle of given file</h3>
+	 * <h3 class="zh-CN">获取给定文件的JarFile句柄</h3>
+	 *
+	 * @param file <span class="en-US">Archive file instance</span>
+	 *             <span class="zh-CN">压缩文件实例对象</span>
+	 * @return <span class="en-US">Acquired handle, must be closed after used</span>
+	 * <span class="zh-CN">获取的句柄，使用后必须关闭</span>
+	 * @throws IOException <span class="en-US">If file not found or open archive failed</span>
+	 *                     <span class="zh-CN">文件未找到或打开压缩文件失败时抛出异常</span>
+	 */
+	public static Handle acquireJar(final File file) throws IOException {
+		try {
+			return acquire(file, Boolean.TRUE);
+		} catch (ZipException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Acquire ZipFile handle of given file</h3>
+	 * <h3 class="zh-CN">获取给定文件的ZipFile句柄</h3>
+	 *
+	 * @param file <span class="en-US">Archive file instance</span>
+	 *             <span class="zh-CN">压缩文件实例对象</span>
+	 * @return <span class="en-US">Acquired handle, must be closed after used</span>
+	 * <span class="zh-CN">获取的句柄，使用后必须关闭</span>
+	 * @throws IOException  <span class="en-US">If file not found</span>
+	 *                      <span class="zh-CN">文件未找到时抛出异常</span>
+	 * @throws ZipException <span class="en-US">If parse archive failed</span>
+	 *                      <span class="zh-CN">解析压缩文件失败时抛出异常</span>
+	 */
+	public static Handle acquireZip(final File file) throws IOException, ZipException {
+		return acquire(file, Boolean.FALSE);
+	}
+
+	/**
+	 * <h3 class="en-US">Discard cached handles of given file, or of all archives under given directory</h3>
+	 * <h3 class="zh-CN">丢弃给定文件的缓存句柄，或给定文件夹下所有压缩文件的缓存句柄</h3>
+	 *
+	 * @param file <span class="en-US">Archive file or directory instance</span>
+	 *             <span class="zh-CN">压缩文件或文件夹实例对象</span>
+	 */
+	public static void invalidate(final File file) {
+		if (file == null) {
+			return;
+		}
+		String filePath = file.getAbsolutePath();
+		String childPrefix = filePath.endsWith(File.separator) ? filePath : filePath + File.separator;
+		synchronized (REGISTERED_HANDLES) {
+			Iterator<Map.Entry<String, CachedArchive>> iterator = REGISTERED_HANDLES.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, CachedArchive> entry = iterator.next();
+				String archivePath = entry.getKey().substring(CACHE_KEY_PREFIX_LENGTH);
+				if (archivePath.equals(filePath) || archivePath.startsWith(childPrefix)) {
+					iterator.remove();
+					entry.getValue().evict();
+				}
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Discard all cached handles</h3>
+	 * <h3 class="zh-CN">丢弃所有缓存句柄</h3>
+	 */
+	public static void clear() {
+		synchronized (REGISTERED_HANDLES) {
+			REGISTERED_HANDLES.values().forEach(CachedArchive::evict);
+			REGISTERED_HANDLES.clear();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Count of cached handles</h3>
+	 * <h3 class="zh-CN">缓存句柄的数量</h3>
+	 *
+	 * @return <span class="en-US">Count of cached handles</span>
+	 * <span class="zh-CN">缓存句柄的数量</span>
+	 */
+	public static int size() {
+		synchronized (REGISTERED_HANDLES) {
+			return REGISTERED_HANDLES.size();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Acquire handle of given file, open archive outside the lock if cache missed</h3>
+	 * <span class="en-US">
+	 *     Encrypted zip archives were not cached, because the password and decryptor of ZipFile instance
+	 *     are mutable states and could not be shared between callers.
+	 * </span>
+	 * <h3 class="zh-CN">获取给定文件的句柄，缓存未命中时在锁外打开压缩文件</h3>
+	 * <span class="zh-CN">加密的压缩文件不会被缓存，因为ZipFile实例对象的密码和解密器是可变状态，无法在调用者之间共享</span>
+	 *
+	 * @param file       <span class="en-US">Archive file instance</span>
+	 *                   <span class="zh-CN">压缩文件实例对象</span>
+	 * @param jarArchive <span class="en-US">Open as JarFile</span>
+	 *                   <span class="zh-CN">作为JarFile打开</span>
+	 * @return <span class="en-US">Acquired handle</span>
+	 * <span class="zh-CN">获取的句柄</span>
+	 * @throws IOException  <span class="en-US">If file not found or open archive failed</span>
+	 *                      <span class="zh-CN">文件未找到或打开压缩文件失败时抛出异常</span>
+	 * @throws ZipException <span class="en-US">If parse archive failed</span>
+	 *                      <span class="zh-CN">解析压缩文件失败时抛出异常</span>
+	 */
+	private static Handle acquire(final File file, final boolean jarArchive) throws IOException, ZipException {
+		if (file == null || !file.isFile()) {
+			throw new FileNotFoundException(file == null ? "File not found" : file.getAbsolutePath());
+		}
+		String filePath = file.getAbsolutePath();
+		String cacheKey = cacheKey(filePath, jarArchive);
+		long lastModified = file.lastModified();
+		long fileSize = file.length();
+		synchronized (REGISTERED_HANDLES) {
+			CachedArchive cachedArchive = REGISTERED_HANDLES.get(cacheKey);
+			if (cachedArchive != null && cachedArchive.matches(lastModified, fileSize)) {
+				cachedArchive.referenceCount++;
+				return new Handle(cachedArchive);
+			}
+		}
+
+		CachedArchive openedArchive = jarArchive
+				? new CachedArchive(lastModified, fileSize, new JarFile(file), null)
+				: new CachedArchive(lastModified, fileSize, null, ZipFile.openZipFile(filePath));
+		synchronized (REGISTERED_HANDLES) {
+			openedArchive.referenceCount = 1;
+			if (openedArchive.encrypted()) {
+				openedArchive.evicted = Boolean.TRUE;
+				return new Handle(openedArchive);
+			}
+			CachedArchive cachedArchive = REGISTERED_HANDLES.get(cacheKey);
+			if (cachedArchive != null && cachedArchive.matches(lastModified, fileSize)) {
+				cachedArchive.referenceCount++;
+				openedArchive.closeArchive();
+				return new Handle(cachedArchive);
+			}
+			evict(cacheKey);
+			REGISTERED_HANDLES.put(cacheKey, openedArchive);
+			evictEldest();
+			return new Handle(openedArchive);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Generate cache key</h3>
+	 * <h3 class="zh-CN">生成缓存键值</h3>
+	 *
+	 * @param filePath   <span class="en-US">Absolute file path</span>
+	 *                   <span class="zh-CN">文件绝对路径</span>
+	 * @param jarArchive <span class="en-US">Open as JarFile</span>
+	 *                   <span class="zh-CN">作为JarFile打开</span>
+	 * @return <span class="en-US">Generated cache key</span>
+	 * <span class="zh-CN">生成的缓存键值</span>
+	 */
+	private static String cacheKey(final String filePath, final boolean jarArchive) {
+		return (jarArchive ? "jar:" : "zip:") + filePath;
+	}
+
+	/**
+	 * <h3 class="en-US">Remove cached handle by given key, must be invoked with lock held</h3>
+	 * <h3 class="zh-CN">按给定键值移除缓存句柄，必须在持有锁时调用</h3>
+	 *
+	 * @param cacheKey <span class="en-US">Cache key</span>
+	 *                 <span class="zh-CN">缓存键值</span>
+	 */
+	private static void evict(final String cacheKey) {
+		CachedArchive cachedArchive = REGISTERED_HANDLES.remove(cacheKey);
+		if (cachedArchive != null) {
+			cachedArchive.evict();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Remove the least recently used handles over the limit, must be invoked with lock held</h3>
+	 * <h3 class="zh-CN">移除超出限制的最近最少使用的句柄，必须在持有锁时调用</h3>
+	 */
+	private static void evictEldest() {
+		Iterator<CachedArchive> iterator = REGISTERED_HANDLES.values().iterator();
+		while (REGISTERED_HANDLES.size() > maximumHandles && iterator.hasNext()) {
+			CachedArchive cachedArchive = iterator.next();
+			iterator.remove();
+			cachedArchive.evict();
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Acquired archive handle</h2>
+	 * <span class="en-US">
+	 *     Close the handle to release the reference, do not close the JarFile instance directly.
+	 *     Each acquired handle releases its reference only once, close the handle again takes no effect.
+	 * </span>
+	 * <h2 class="zh-CN">获取的压缩文件句柄</h2>
+	 * <span class="zh-CN">关闭句柄以释放引用，不要直接关闭JarFile实例对象。每个获取的句柄仅释放一次引用，再次关闭句柄无效。</span>
+	 */
+	public static final class Handle implements AutoCloseable {
+		/**
+		 * <span class="en-US">Referenced archive instance</span>
+		 * <span class="zh-CN">引用的压缩文件实例对象</span>
+		 */
+		private final CachedArchive cachedArchive;
+		/**
+		 * <span class="en-US">Handle was closed</span>
+		 * <span class="zh-CN">句柄已关闭</span>
+		 */
+		private final AtomicBoolean closed = new AtomicBoolean(Boolean.FALSE);
+
+		/**
+		 * <h3 class="en-US">Constructor for Handle</h3>
+		 * <h3 class="zh-CN">句柄的构造方法</h3>
+		 *
+		 * @param cachedArchive <span class="en-US">Referenced archive instance</span>
+		 *                      <span class="zh-CN">引用的压缩文件实例对象</span>
+		 */
+		private Handle(final CachedArchive cachedArchive) {
+			this.cachedArchive = cachedArchive;
+		}
+
+		/**
+		 * <h3 class="en-US">Getter method for JarFile instance</h3>
+		 * <h3 class="zh-CN">JarFile实例对象的Getter方法</h3>
+		 *
+		 * @return <span class="en-US">JarFile instance or <code>null</code> if acquired by acquireZip</span>
+		 * <span class="zh-CN">JarFile实例对象，通过acquireZip获取时为<code>null</code></span>
+		 */
+		public JarFile jarFile() {
+			return this.cachedArchive.jarFile;
+		}
+
+		/**
+		 * <h3 class="en-US">Getter method for ZipFile instance</h3>
+		 * <h3 class="zh-CN">ZipFile实例对象的Getter方法</h3>
+		 *
+		 * @return <span class="en-US">ZipFile instance or <code>null</code> if acquired by acquireJar</span>
+		 * <span class="zh-CN">ZipFile实例对象，通过acquireJar获取时为<code>null</code></span>
+		 */
+		public ZipFile zipFile() {
+			return this.cachedArchive.zipFile;
+		}
+
+		/**
+		 * <h3 class="en-US">Open entry input stream, the handle will be released when the stream closed</h3>
+		 * <span class="en-US">The handle was released immediately if the entry not exists</span>
+		 * <h3 class="zh-CN">打开条目输入流，流关闭时释放句柄</h3>
+		 * <span class="zh-CN">如果条目不存在则立即释放句柄</span>
+		 *
+		 * @param entryPath <span class="en-US">Entry path</span>
+		 *                  <span class="zh-CN">条目路径</span>
+		 * @return <span class="en-US">Opened input stream or <code>null</code> if entry not exists</span>
+		 * <span class="zh-CN">打开的输入流，条目不存在时返回<code>null</code></span>
+		 * @throws IOException  <span class="en-US">If open input stream failed</span>
+		 *                      <span class="zh-CN">打开输入流失败时抛出异常</span>
+		 * @throws ZipException <span class="en-US">If open input stream failed</span>
+		 *                      <span class="zh-CN">打开输入流失败时抛出异常</span>
+		 */
+		public InputStream transferInputStream(final String entryPath) throws IOException, ZipException {
+			InputStream inputStream = null;
+			try {
+				JarFile jarFile = this.cachedArchive.jarFile;
+				if (jarFile != null) {
+					JarEntry jarEntry = jarFile.getJarEntry(entryPath);
+					if (jarEntry != null) {
+						inputStream = jarFile.getInputStream(jarEntry);
+					}
+				} else if (this.cachedArchive.zipFile.isEntryExists(entryPath)) {
+					inputStream = this.cachedArchive.zipFile.entryInputStream(entryPath);
+				}
+			} finally {
+				if (inputStream == null) {
+					this.close();
+				}
+			}
+			if (inputStream == null) {
+				return null;
+			}
+			return new FilterInputStream(inputStream) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						Handle.this.close();
+					}
+				}
+			};
+		}
+
+		/**
+		 * <h3 class="en-US">Release the reference of current handle, only the first invocation takes effect</h3>
+		 * <h3 class="zh-CN">释放当前句柄的引用，仅第一次调用有效</h3>
+		 */
+		@Override
+		public void close() {
+			if (this.closed.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+				this.cachedArchive.release();
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Reference counted archive instance</h2>
+	 * <h2 class="zh-CN">引用计数的压缩文件实例对象</h2>
+	 */
+	private static final class CachedArchive {
+		/**
+		 * <span class="en-US">Last modified time of archive file when opened</span>
+		 * <span class="zh-CN">打开时压缩文件的最后修改时间</span>
+		 */
+		private final long lastModified;
+		/**
+		 * <span class="en-US">Size of archive file when opened</span>
+		 * <span class="zh-CN">打开时压缩文件的大小</span>
+		 */
+		private final long fileSize;
+		/**
+		 * <span class="en-US">Opened JarFile instance</span>
+		 * <span class="zh-CN">已打开的JarFile实例对象</span>
+		 */
+		private final JarFile jarFile;
+		/**
+		 * <span class="en-US">Parsed ZipFile instance</span>
+		 * <span class="zh-CN">已解析的ZipFile实例对象</span>
+		 */
+		private final ZipFile zipFile;
+		/**
+		 * <span class="en-US">Reference count, guarded by cache lock</span>
+		 * <span class="zh-CN">引用计数，由缓存锁保护</span>
+		 */
+		private int referenceCount = 0;
+		/**
+		 * <span class="en-US">Archive was removed from cache or not cached, guarded by cache lock</span>
+		 * <span class="zh-CN">压缩文件已从缓存中移除或未缓存，由缓存锁保护</span>
+		 */
+		private boolean evicted = Boolean.FALSE;
+
+		/**
+		 * <h3 class="en-US">Constructor for CachedArchive</h3>
+		 * <h3 class="zh-CN">引用计数的压缩文件实例对象的构造方法</h3>
+		 *
+		 * @param lastModified <span class="en-US">Last modified time of archive file</span>
+		 *                     <span class="zh-CN">压缩文件的最后修改时间</span>
+		 * @param fileSize     <span class="en-US">Size of archive file</span>
+		 *                     <span class="zh-CN">压缩文件的大小</span>
+		 * @param jarFile      <span class="en-US">Opened JarFile instance</span>
+		 *                     <span class="zh-CN">已打开的JarFile实例对象</span>
+		 * @param zipFile      <span class="en-US">Parsed ZipFile instance</span>
+		 *                     <span class="zh-CN">已解析的ZipFile实例对象</span>
+		 */
+		private CachedArchive(final long lastModified, final long fileSize,
+		                      final JarFile jarFile, final ZipFile zipFile) {
+			this.lastModified = lastModified;
+			this.fileSize = fileSize;
+			this.jarFile = jarFile;
+			this.zipFile = zipFile;
+		}
+
+		/**
+		 * <h3 class="en-US">Check the archive contains encrypted entries</h3>
+		 * <h3 class="zh-CN">检查压缩文件包含加密的条目</h3>
+		 *
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		private boolean encrypted() {
+			if (this.zipFile == null || this.zipFile.getCentralDirectory() == null
+					|| this.zipFile.getCentralDirectory().getFileHeaders() == null) {
+				return Boolean.FALSE;
+			}
+			return this.zipFile.getCentralDirectory().getFileHeaders()
+					.stream()
+					.anyMatch(fileHeader -> fileHeader != null && fileHeader.isEncrypted());
+		}
+
+		/**
+		 * <h3 class="en-US">Check the archive file was not changed</h3>
+		 * <h3 class="zh-CN">检查压缩文件未被修改</h3>
+		 *
+		 * @param lastModified <span class="en-US">Current last modified time of archive file</span>
+		 *                     <span class="zh-CN">压缩文件当前的最后修改时间</span>
+		 * @param fileSize     <span class="en-US">Current size of archive file</span>
+		 *                     <span class="zh-CN">压缩文件当前的大小</span>
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		private boolean matches(final long lastModified, final long fileSize) {
+			return this.lastModified == lastModified && this.fileSize == fileSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Release one reference, close archive if evicted and no reference exists</h3>
+		 * <h3 class="zh-CN">释放一个引用，如果已淘汰且不存在引用则关闭压缩文件</h3>
+		 */
+		private void release() {
+			synchronized (REGISTERED_HANDLES) {
+				if (this.referenceCount > 0) {
+					this.referenceCount--;
+				}
+				if (this.evicted && this.referenceCount == 0) {
+					this.closeArchive();
+				}
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Mark archive evicted, close archive if no reference exists, must be invoked with lock held</h3>
+		 * <h3 class="zh-CN">标记压缩文件已淘汰，如果不存在引用则关闭压缩文件，必须在持有锁时调用</h3>
+		 */
+		private void evict() {
+			this.evicted = Boolean.TRUE;
+			if (this.referenceCount == 0) {
+				this.closeArchive();
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Close the opened JarFile instance</h3>
+		 * <h3 class="zh-CN">关闭已打开的JarFile实例对象</h3>
+		 */
+		private void closeArchive() {
+			if (this.jarFile != null) {
+				try {
+					this.jarFile.close();
+				} catch (IOException e) {
+					LOGGER.error("Archive_Close_File_Error");
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Stack_Message_Error", e);
+					}
+				}
+			}
+		}
+	}
+}
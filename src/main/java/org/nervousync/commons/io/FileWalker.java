@@ -0,0 +1,683 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.io;
+
+import org.nervousync.utils.LoggerUtils;
+
+import java.io.Closeable;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2 class="en-US">Directory walker</h2>
+ * <span class="en-US">
+ *     Walk the directory tree using DirectoryStream, the results can be streamed lazily or delivered to a callback.
+ *     Supports depth limit, hidden files, glob/regex/FilenameFilter filters (compiled once) and parallel fork/join mode for wide trees.
+ *     The filters only apply to files, directories are always traversed except hidden directories when hidden files
+ *     were excluded. Symbolic links are followed, a linked directory which is an ancestor of itself was skipped to
+ *     avoid walking into link cycles.
+ * </span>
+ * <h2 class="zh-CN">文件夹遍历器</h2>
+ * <span class="zh-CN">
+ *     使用DirectoryStream遍历文件夹树，结果可以惰性流式返回或通过回调方法传递。
+ *     支持深度限制、隐藏文件、通配符/正则表达式/FilenameFilter过滤器（仅编译一次）以及用于宽文件夹树的并行fork/join模式。
+ *     过滤器仅作用于文件，除排除隐藏文件时的隐藏文件夹外，文件夹始终会被遍历。跟随符号链接，链接到自身祖先的文件夹将被跳过以避免进入链接循环。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:26:37 $
+ */
+public final class FileWalker {
+	/**
+	 * <span class="en-US">Multilingual supported logger instance</span>
+	 * <span class="zh-CN">多语言支持的日志对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(FileWalker.class);
+	/**
+	 * <span class="en-US">Base directory path</span>
+	 * <span class="zh-CN">起始文件夹路径</span>
+	 */
+	private final Path basePath;
+	/**
+	 * <span class="en-US">Maximum directory depth, 1 for list child files of base directory only</span>
+	 * <span class="zh-CN">最大文件夹深度，1为仅列出起始文件夹的子文件</span>
+	 */
+	private int maxDepth = Integer.MAX_VALUE;
+	/**
+	 * <span class="en-US">Include hidden files</span>
+	 * <span class="zh-CN">包含隐藏文件</span>
+	 */
+	private boolean readHiddenFiles = Boolean.TRUE;
+	/**
+	 * <span class="en-US">Include traversed directories (include base directory)</span>
+	 * <span class="zh-CN">包含遍历的文件夹（包括起始文件夹）</span>
+	 */
+	private boolean includeDirectories = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Compiled glob matcher of file name</span>
+	 * <span class="zh-CN">编译后的文件名通配符匹配器</span>
+	 */
+	private PathMatcher pathMatcher = null;
+	/**
+	 * <span class="en-US">Compiled regex pattern of file name</span>
+	 * <span class="zh-CN">编译后的文件名正则表达式</span>
+	 */
+	private Pattern fileNamePattern = null;
+	/**
+	 * <span class="en-US">File name filter instance</span>
+	 * <span class="zh-CN">文件名过滤器实例对象</span>
+	 */
+	private FilenameFilter filenameFilter = null;
+	/**
+	 * <span class="en-US">Fork/join pool for parallel mode, <code>null</code> for sequential mode</span>
+	 * <span class="zh-CN">并行模式使用的fork/join线程池，<code>null</code>为顺序模式</span>
+	 */
+	private ForkJoinPool forkJoinPool = null;
+
+	/**
+	 * <h3 class="en-US">Private constructor for FileWalker</h3>
+	 * <h3 class="zh-CN">文件夹遍历器的私有构造方法</h3>
+	 *
+	 * @param basePath <span class="en-US">Base directory path</span>
+	 *                 <span class="zh-CN">起始文件夹路径</span>
+	 */
+	private FileWalker(final Path basePath) {
+		this.basePath = Objects.requireNonNull(basePath);
+	}
+
+	/**
+	 * <h3 class="en-US">Create walker instance by given directory path</h3>
+	 * <h3 class="zh-CN">使用给定的文件夹路径创建遍历器实例对象</h3>
+	 *
+	 * @param basePath <span class="en-US">Base directory path</span>
+	 *                 <span class="zh-CN">起始文件夹路径</span>
+	 * @return <span class="en-US">Created walker instance</span>
+	 * <span class="zh-CN">创建的遍历器实例对象</span>
+	 */
+	public static FileWalker newWalker(final String basePath) {
+		return new FileWalker(Paths.get(basePath));
+	}
+
+	/**
+	 * <h3 class="en-US">Create walker instance by given directory path</h3>
+	 * <h3 class="zh-CN">使用给定的文件夹路径创建遍历器实例对象</h3>
+	 *
+	 * @param basePath <span class="en-US">Base directory path</span>
+	 *                 <span class="zh-CN">起始文件夹路径</span>
+	 * @return <span class="en-US">Created walker instance</span>
+	 * <span class="zh-CN">创建的遍历器实例对象</span>
+	 */
+	public static FileWalker newWalker(final Path basePath) {
+		return new FileWalker(basePath);
+	}
+
+	/**
+	 * <h3 class="en-US">Configure maximum directory depth</h3>
+	 * <h3 class="zh-CN">设置最大文件夹深度</h3>
+	 *
+	 * @param maxDepth <span class="en-US">Maximum directory depth, 1 for list child files of base directory only</span>
+	 *                 <span class="zh-CN">最大文件夹深度，1为仅列出起始文件夹的子文件</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker maxDepth(final int maxDepth) {
+		if (maxDepth < 1) {
+			throw new IllegalArgumentException("maxDepth must be positive");
+		}
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure include hidden files</h3>
+	 * <h3 class="zh-CN">设置是否包含隐藏文件</h3>
+	 *
+	 * @param readHiddenFiles <span class="en-US">Include hidden files</span>
+	 *                        <span class="zh-CN">包含隐藏文件</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker readHiddenFiles(final boolean readHiddenFiles) {
+		this.readHiddenFiles = readHiddenFiles;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure include traversed directories</h3>
+	 * <h3 class="zh-CN">设置是否包含遍历的文件夹</h3>
+	 *
+	 * @param includeDirectories <span class="en-US">Include traversed directories (include base directory)</span>
+	 *                           <span class="zh-CN">包含遍历的文件夹（包括起始文件夹）</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker includeDirectories(final boolean includeDirectories) {
+		this.includeDirectories = includeDirectories;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure glob pattern of file name</h3>
+	 * <h3 class="zh-CN">设置文件名通配符</h3>
+	 *
+	 * @param globPattern <span class="en-US">Glob pattern, e.g. *.{java,class}</span>
+	 *                    <span class="zh-CN">通配符，例如：*.{java,class}</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker glob(final String globPattern) {
+		this.pathMatcher = (globPattern == null) ? null
+				: this.basePath.getFileSystem().getPathMatcher("glob:" + globPattern);
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure regex string of file name</h3>
+	 * <h3 class="zh-CN">设置文件名正则表达式</h3>
+	 *
+	 * @param fileNameRegex <span class="en-US">Regex string, file name must fully match it</span>
+	 *                      <span class="zh-CN">正则表达式，文件名必须完全匹配</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker regex(final String fileNameRegex) {
+		this.fileNamePattern = (fileNameRegex == null) ? null : Pattern.compile(fileNameRegex);
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure file name filter</h3>
+	 * <h3 class="zh-CN">设置文件名过滤器</h3>
+	 *
+	 * @param filenameFilter <span class="en-US">File name filter instance</span>
+	 *                       <span class="zh-CN">文件名过滤器实例对象</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker filter(final FilenameFilter filenameFilter) {
+		this.filenameFilter = filenameFilter;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Walk directories in parallel using common fork/join pool</h3>
+	 * <h3 class="zh-CN">使用公共fork/join线程池并行遍历文件夹</h3>
+	 *
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker parallel() {
+		return this.parallel(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * <h3 class="en-US">Walk directories in parallel using given fork/join pool</h3>
+	 * <p class="en-US">Parallel mode is used by walk and list methods, the stream method always walks lazily in current thread</p>
+	 * <h3 class="zh-CN">使用给定的fork/join线程池并行遍历文件夹</h3>
+	 * <p class="zh-CN">并行模式用于walk和list方法，stream方法始终在当前线程中惰性遍历</p>
+	 *
+	 * @param forkJoinPool <span class="en-US">Fork/join pool instance, <code>null</code> for sequential mode</span>
+	 *                     <span class="zh-CN">fork/join线程池实例对象，<code>null</code>为顺序模式</span>
+	 * @return <span class="en-US">Current walker instance</span>
+	 * <span class="zh-CN">当前遍历器实例对象</span>
+	 */
+	public FileWalker parallel(final ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Stream the matched paths lazily</h3>
+	 * <p class="en-US">The directory handles are opened on demand, the stream should be closed after used</p>
+	 * <h3 class="zh-CN">惰性流式返回匹配的路径</h3>
+	 * <p class="zh-CN">文件夹句柄按需打开，使用后应关闭流</p>
+	 *
+	 * @return <span class="en-US">Stream of matched paths</span>
+	 * <span class="zh-CN">匹配路径的流</span>
+	 */
+	public Stream<Path> stream() {
+		PathIterator pathIterator = new PathIterator();
+		return StreamSupport.stream(
+						Spliterators.spliteratorUnknownSize(pathIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+						Boolean.FALSE)
+				.onClose(pathIterator::close);
+	}
+
+	/**
+	 * <h3 class="en-US">Walk the directory tree and deliver matched paths to given consumer</h3>
+	 * <p class="en-US">The consumer must be thread-safe in parallel mode</p>
+	 * <h3 class="zh-CN">遍历文件夹树并将匹配的路径传递给给定的消费者</h3>
+	 * <p class="zh-CN">在并行模式下消费者必须是线程安全的</p>
+	 *
+	 * @param consumer <span class="en-US">Path consumer</span>
+	 *                 <span class="zh-CN">路径消费者</span>
+	 */
+	public void walk(final Consumer<Path> consumer) {
+		if (this.forkJoinPool == null) {
+			try (Stream<Path> pathStream = this.stream()) {
+				pathStream.forEach(consumer);
+			}
+			return;
+		}
+		BasicFileAttributes fileAttributes = readAttributes(this.basePath);
+		if (fileAttributes == null || !fileAttributes.isDirectory()) {
+			return;
+		}
+		this.forkJoinPool.invoke(new WalkTask(this.basePath, 1, descend(null, this.basePath, fileAttributes), consumer));
+	}
+
+	/**
+	 * <h3 class="en-US">List absolute path of matched paths</h3>
+	 * <h3 class="zh-CN">列出匹配路径的绝对路径</h3>
+	 *
+	 * @return <span class="en-US">List of absolute path</span>
+	 * <span class="zh-CN">绝对路径列表</span>
+	 */
+	public List<String> list() {
+		if (this.forkJoinPool == null) {
+			try (Stream<Path> pathStream = this.stream()) {
+				return pathStream.map(path -> path.toAbsolutePath().toString()).collect(Collectors.toList());
+			}
+		}
+		Queue<String> pathQueue = new ConcurrentLinkedQueue<>();
+		this.walk(path -> pathQueue.add(path.toAbsolutePath().toString()));
+		return new ArrayList<>(pathQueue);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given file path is matched configured filters</h3>
+	 * <h3 class="zh-CN">检查给定的文件路径是否匹配配置的过滤器</h3>
+	 *
+	 * @param filePath <span class="en-US">File path</span>
+	 *                 <span class="zh-CN">文件路径</span>
+	 * @return <span class="en-US">Match result</span>
+	 * <span class="zh-CN">匹配结果</span>
+	 */
+	private boolean accept(final Path filePath) {
+		Path fileName = filePath.getFileName();
+		if (fileName == null) {
+			return Boolean.FALSE;
+		}
+		if (this.pathMatcher != null && !this.pathMatcher.matches(fileName)) {
+			return Boolean.FALSE;
+		}
+		if (this.fileNamePattern != null && !this.fileNamePattern.matcher(fileName.toString()).matches()) {
+			return Boolean.FALSE;
+		}
+		if (this.filenameFilter != null
+				&& !this.filenameFilter.accept(filePath.getParent().toFile(), fileName.toString())) {
+			return Boolean.FALSE;
+		}
+		return !this.excluded(filePath);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given path is excluded as hidden file or directory</h3>
+	 * <h3 class="zh-CN">检查给定的路径是否作为隐藏文件或文件夹被排除</h3>
+	 *
+	 * @param filePath <span class="en-US">File or directory path</span>
+	 *                 <span class="zh-CN">文件或文件夹路径</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean excluded(final Path filePath) {
+		if (this.readHiddenFiles) {
+			return Boolean.FALSE;
+		}
+		try {
+			return Files.isHidden(filePath);
+		} catch (IOException e) {
+			return Boolean.TRUE;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Open directory stream, returns <code>null</code> if directory cannot be read</h3>
+	 * <h3 class="zh-CN">打开文件夹流，如果文件夹无法读取则返回<code>null</code></h3>
+	 *
+	 * @param directory <span class="en-US">Directory path</span>
+	 *                  <span class="zh-CN">文件夹路径</span>
+	 * @return <span class="en-US">Opened directory stream or <code>null</code></span>
+	 * <span class="zh-CN">打开的文件夹流或<code>null</code></span>
+	 */
+	private static DirectoryStream<Path> openDirectory(final Path directory) {
+		try {
+			return Files.newDirectoryStream(directory);
+		} catch (IOException | SecurityException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Walk_Directory_Skip_Debug", directory);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Read file attributes, returns <code>null</code> if attributes cannot be read</h3>
+	 * <h3 class="zh-CN">读取文件属性，如果无法读取则返回<code>null</code></h3>
+	 *
+	 * @param filePath <span class="en-US">File path</span>
+	 *                 <span class="zh-CN">文件路径</span>
+	 * @return <span class="en-US">Read attributes or <code>null</code></span>
+	 * <span class="zh-CN">读取的属性或<code>null</code></span>
+	 */
+	private static BasicFileAttributes readAttributes(final Path filePath) {
+		try {
+			return Files.readAttributes(filePath, BasicFileAttributes.class);
+		} catch (IOException | SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Close directory stream quietly</h3>
+	 * <h3 class="zh-CN">静默关闭文件夹流</h3>
+	 *
+	 * @param directoryStream <span class="en-US">Directory stream instance</span>
+	 *                        <span class="zh-CN">文件夹流实例对象</span>
+	 */
+	private static void closeDirectory(final DirectoryStream<Path> directoryStream) {
+		try {
+			directoryStream.close();
+		} catch (IOException ignored) {
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Generate ancestor keys of given directory, returns <code>null</code> if directory should be skipped</h3>
+	 * <span class="en-US">
+	 *     The directory was skipped if its file key was found in ancestors, or the file system does not provide
+	 *     file key and the directory is a symbolic link.
+	 * </span>
+	 * <h3 class="zh-CN">生成给定文件夹的祖先键值，如果应跳过文件夹则返回<code>null</code></h3>
+	 * <span class="zh-CN">如果文件夹的文件键值存在于祖先中，或文件系统不提供文件键值且文件夹是符号链接，则跳过该文件夹。</span>
+	 *
+	 * @param ancestors      <span class="en-US">Ancestor keys of parent directory</span>
+	 *                       <span class="zh-CN">父文件夹的祖先键值</span>
+	 * @param directory      <span class="en-US">Directory path</span>
+	 *                       <span class="zh-CN">文件夹路径</span>
+	 * @param fileAttributes <span class="en-US">Attributes of directory</span>
+	 *                       <span class="zh-CN">文件夹的属性</span>
+	 * @return <span class="en-US">Ancestor keys of given directory or <code>null</code></span>
+	 * <span class="zh-CN">给定文件夹的祖先键值或<code>null</code></span>
+	 */
+	private static AncestorKeys descend(final AncestorKeys ancestors, final Path directory,
+	                                    final BasicFileAttributes fileAttributes) {
+		Object fileKey = fileAttributes.fileKey();
+		if (fileKey == null) {
+			return Files.isSymbolicLink(directory) ? null : new AncestorKeys(null, ancestors);
+		}
+		for (AncestorKeys current = ancestors; current != null; current = current.parent()) {
+			if (fileKey.equals(current.fileKey())) {
+				return null;
+			}
+		}
+		return new AncestorKeys(fileKey, ancestors);
+	}
+
+	/**
+	 * <h2 class="en-US">File keys of walking directory and its ancestors</h2>
+	 * <h2 class="zh-CN">正在遍历的文件夹及其祖先的文件键值</h2>
+	 *
+	 * @param fileKey <span class="en-US">File key of directory, <code>null</code> if not provided</span>
+	 *                <span class="zh-CN">文件夹的文件键值，未提供时为<code>null</code></span>
+	 * @param parent  <span class="en-US">Ancestor keys of parent directory</span>
+	 *                <span class="zh-CN">父文件夹的祖先键值</span>
+	 */
+	private record AncestorKeys(Object fileKey, AncestorKeys parent) {
+	}
+
+	/**
+	 * <h2 class="en-US">Opened directory frame</h2>
+	 * <h2 class="zh-CN">已打开的文件夹帧</h2>
+	 *
+	 * @param directoryStream <span class="en-US">Directory stream instance</span>
+	 *                        <span class="zh-CN">文件夹流实例对象</span>
+	 * @param iterator        <span class="en-US">Iterator of directory stream</span>
+	 *                        <span class="zh-CN">文件夹流的迭代器</span>
+	 * @param depth           <span class="en-US">Depth of children</span>
+	 *                        <span class="zh-CN">子文件的深度</span>
+	 * @param ancestors       <span class="en-US">Ancestor keys of directory</span>
+	 *                        <span class="zh-CN">文件夹的祖先键值</span>
+	 */
+	private record DirectoryFrame(DirectoryStream<Path> directoryStream, Iterator<Path> iterator, int depth,
+	                              AncestorKeys ancestors) {
+	}
+
+	/**
+	 * <h2 class="en-US">Lazy depth-first path iterator</h2>
+	 * <h2 class="zh-CN">惰性深度优先路径迭代器</h2>
+	 */
+	private final class PathIterator implements Iterator<Path>, Closeable {
+		/**
+		 * <span class="en-US">Opened directory frames</span>
+		 * <span class="zh-CN">已打开的文件夹帧</span>
+		 */
+		private final Deque<DirectoryFrame> directoryFrames = new ArrayDeque<>();
+		/**
+		 * <span class="en-US">Next matched path</span>
+		 * <span class="zh-CN">下一个匹配的路径</span>
+		 */
+		private Path nextPath = null;
+
+		/**
+		 * <h3 class="en-US">Constructor for PathIterator</h3>
+		 * <h3 class="zh-CN">路径迭代器的构造方法</h3>
+		 */
+		PathIterator() {
+			BasicFileAttributes fileAttributes = readAttributes(basePath);
+			if (fileAttributes != null && fileAttributes.isDirectory()
+					&& this.push(basePath, 1, descend(null, basePath, fileAttributes)) && includeDirectories) {
+				this.nextPath = basePath;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.nextPath == null) {
+				this.nextPath = this.advance();
+			}
+			return this.nextPath != null;
+		}
+
+		@Override
+		public Path next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Path currentPath = this.nextPath;
+			this.nextPath = null;
+			return currentPath;
+		}
+
+		@Override
+		public void close() {
+			while (!this.directoryFrames.isEmpty()) {
+				closeDirectory(this.directoryFrames.pop().directoryStream());
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Open directory and push to frames</h3>
+		 * <h3 class="zh-CN">打开文件夹并压入帧</h3>
+		 *
+		 * @param directory <span class="en-US">Directory path</span>
+		 *                  <span class="zh-CN">文件夹路径</span>
+		 * @param depth     <span class="en-US">Depth of children</span>
+		 *                  <span class="zh-CN">子文件的深度</span>
+		 * @param ancestors <span class="en-US">Ancestor keys of directory, <code>null</code> to skip the directory</span>
+		 *                  <span class="zh-CN">文件夹的祖先键值，为<code>null</code>时跳过文件夹</span>
+		 * @return <span class="en-US">Open result</span>
+		 * <span class="zh-CN">打开结果</span>
+		 */
+		private boolean push(final Path directory, final int depth, final AncestorKeys ancestors) {
+			if (ancestors == null) {
+				return Boolean.FALSE;
+			}
+			DirectoryStream<Path> directoryStream = openDirectory(directory);
+			if (directoryStream == null) {
+				return Boolean.FALSE;
+			}
+			this.directoryFrames.push(
+					new DirectoryFrame(directoryStream, directoryStream.iterator(), depth, ancestors));
+			return Boolean.TRUE;
+		}
+
+		/**
+		 * <h3 class="en-US">Advance to next matched path</h3>
+		 * <h3 class="zh-CN">前进到下一个匹配的路径</h3>
+		 *
+		 * @return <span class="en-US">Next matched path or <code>null</code> if finished</span>
+		 * <span class="zh-CN">下一个匹配的路径，完成时返回<code>null</code></span>
+		 */
+		private Path advance() {
+			while (!this.directoryFrames.isEmpty()) {
+				DirectoryFrame directoryFrame = this.directoryFrames.peek();
+				Path childPath;
+				try {
+					if (!directoryFrame.iterator().hasNext()) {
+						closeDirectory(this.directoryFrames.pop().directoryStream());
+						continue;
+					}
+					childPath = directoryFrame.iterator().next();
+				} catch (DirectoryIteratorException e) {
+					closeDirectory(this.directoryFrames.pop().directoryStream());
+					continue;
+				}
+				BasicFileAttributes fileAttributes = readAttributes(childPath);
+				if (fileAttributes == null) {
+					continue;
+				}
+				if (fileAttributes.isDirectory()) {
+					if (directoryFrame.depth() < maxDepth && !excluded(childPath)
+							&& this.push(childPath, directoryFrame.depth() + 1,
+							descend(directoryFrame.ancestors(), childPath, fileAttributes))
+							&& includeDirectories) {
+						return childPath;
+					}
+				} else if (accept(childPath)) {
+					return childPath;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Fork/join task for walking one directory</h2>
+	 * <span class="en-US">The directory was delivered to consumer after it was opened, same as sequential mode</span>
+	 * <h2 class="zh-CN">遍历单个文件夹的fork/join任务</h2>
+	 * <span class="zh-CN">文件夹打开后才传递给消费者，与顺序模式相同</span>
+	 */
+	private final class WalkTask extends RecursiveAction {
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = 8021356094176413257L;
+		/**
+		 * <span class="en-US">Directory path</span>
+		 * <span class="zh-CN">文件夹路径</span>
+		 */
+		private final Path directory;
+		/**
+		 * <span class="en-US">Depth of children</span>
+		 * <span class="zh-CN">子文件的深度</span>
+		 */
+		private final int depth;
+		/**
+		 * <span class="en-US">Ancestor keys of directory</span>
+		 * <span class="zh-CN">文件夹的祖先键值</span>
+		 */
+		private final AncestorKeys ancestors;
+		/**
+		 * <span class="en-US">Path consumer</span>
+		 * <span class="zh-CN">路径消费者</span>
+		 */
+		private final Consumer<Path> consumer;
+
+		/**
+		 * <h3 class="en-US">Constructor for WalkTask</h3>
+		 * <h3 class="zh-CN">遍历任务的构造方法</h3>
+		 *
+		 * @param directory <span class="en-US">Directory path</span>
+		 *                  <span class="zh-CN">文件夹路径</span>
+		 * @param depth     <span class="en-US">Depth of children</span>
+		 *                  <span class="zh-CN">子文件的深度</span>
+		 * @param ancestors <span class="en-US">Ancestor keys of directory, <code>null</code> to skip the directory</span>
+		 *                  <span class="zh-CN">文件夹的祖先键值，为<code>null</code>时跳过文件夹</span>
+		 * @param consumer  <span class="en-US">Path consumer</span>
+		 *                  <span class="zh-CN">路径消费者</span>
+		 */
+		WalkTask(final Path directory, final int depth, final AncestorKeys ancestors, final Consumer<Path> consumer) {
+			this.directory = directory;
+			this.depth = depth;
+			this.ancestors = ancestors;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.ancestors == null) {
+				return;
+			}
+			DirectoryStream<Path> directoryStream = openDirectory(this.directory);
+			if (directoryStream == null) {
+				return;
+			}
+			if (includeDirectories) {
+				this.consumer.accept(this.directory);
+			}
+			List<WalkTask> childTasks = new ArrayList<>();
+			try {
+				for (Path childPath : directoryStream) {
+					BasicFileAttributes fileAttributes = readAttributes(childPath);
+					if (fileAttributes == null) {
+						continue;
+					}
+					if (fileAttributes.isDirectory()) {
+						if (this.depth < maxDepth && !excluded(childPath)) {
+							childTasks.add(new WalkTask(childPath, this.depth + 1,
+									descend(this.ancestors, childPath, fileAttributes), this.consumer));
+						}
+					} else if (accept(childPath)) {
+						this.consumer.accept(childPath);
+					}
+				}
+			} catch (DirectoryIteratorException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Walk_Directory_Skip_Debug", this.directory);
+				}
+			} finally {
+				closeDirectory(directoryStream);
+			}
+			invokeAll(childTasks);
+		}
+	}
+}
@@ -0,0 +1,546 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.http.client;
+
+import org.nervousync.beans.servlet.request.RequestInfo;
+import org.nervousync.commons.Globals;
+import org.nervousync.http.cert.TrustCert;
+import org.nervousync.http.security.GeneX509TrustManager;
+import org.nervousync.proxy.ProxyConfig;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.StringUtils;
+
+import javax.net.ssl.*;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Http client registry</h2>
+ * <span class="en-US">
+ *     Cache the HttpClient instances by proxy, timeout, trust certificates, protocol version and executor,
+ *     requests with the same configure reuse the connection pool, TLS sessions and HTTP/2 multiplexed connections.
+ *     Clients using trust certificates skip hostname verification by their own trust manager,
+ *     the global system property is no longer modified.
+ * </span>
+ * <h2 class="zh-CN">Http客户端注册表</h2>
+ * <span class="zh-CN">
+ *     按代理服务器、超时时间、信任证书、协议版本和执行器缓存HttpClient实例对象，
+ *     相同配置的请求复用连接池、TLS会话和HTTP/2多路复用连接。
+ *     使用信任证书的客户端由其自身的信任管理器跳过主机名验证，不再修改全局系统属性。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:02:19 $
+ */
+public final class ClientRegistry {
+	/**
+	 * <span class="en-US">Multilingual supported logger instance</span>
+	 * <span class="zh-CN">多语言支持的日志对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ClientRegistry.class);
+	/**
+	 * <span class="en-US">Maximum count of registered clients, the registry will be cleared when reached</span>
+	 * <span class="zh-CN">最大注册客户端数量，达到后将清空注册表</span>
+	 */
+	private static final int CLIENT_LIMIT = 64;
+	/**
+	 * <span class="en-US">Registered clients</span>
+	 * <span class="zh-CN">已注册的客户端</span>
+	 */
+	private static final Map<ClientKey, RegisteredClient> REGISTERED_CLIENTS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Count of created clients</span>
+	 * <span class="zh-CN">已创建的客户端数量</span>
+	 */
+	private static final AtomicLong CREATED_COUNT = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+	/**
+	 * <span class="en-US">Count of reused clients</span>
+	 * <span class="zh-CN">已复用的客户端次数</span>
+	 */
+	private static final AtomicLong REUSED_COUNT = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+
+	/**
+	 * <h3 class="en-US">Private constructor for ClientRegistry</h3>
+	 * <h3 class="zh-CN">Http客户端注册表的私有构造方法</h3>
+	 */
+	private ClientRegistry() {
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve registered client by given request information</h3>
+	 * <h3 class="zh-CN">根据给定的请求信息获取已注册的客户端</h3>
+	 *
+	 * @param requestInfo <span class="en-US">Request information</span>
+	 *                    <span class="zh-CN">请求信息</span>
+	 * @return <span class="en-US">Registered HttpClient instance</span>
+	 * <span class="zh-CN">已注册的HttpClient实例对象</span>
+	 */
+	public static HttpClient client(final RequestInfo requestInfo) {
+		return registeredClient(requestInfo).httpClient;
+	}
+
+	/**
+	 * <h3 class="en-US">Send request using registered client and record statistics</h3>
+	 * <h3 class="zh-CN">使用已注册的客户端发送请求并记录统计信息</h3>
+	 *
+	 * @param <T>         <span class="en-US">Response body type</span>
+	 *                    <span class="zh-CN">响应体类型</span>
+	 * @param requestInfo <span class="en-US">Request information</span>
+	 *                    <span class="zh-CN">请求信息</span>
+	 * @param httpRequest <span class="en-US">Generated request instance</span>
+	 *                    <span class="zh-CN">生成的请求实例对象</span>
+	 * @param bodyHandler <span class="en-US">Response body handler</span>
+	 *                    <span class="zh-CN">响应体处理器</span>
+	 * @return <span class="en-US">Response instance</span>
+	 * <span class="zh-CN">响应实例对象</span>
+	 * @throws IOException          <span class="en-US">If an I/O error occurs when sending or receiving</span>
+	 *                              <span class="zh-CN">发送或接收时出现I/O错误</span>
+	 * @throws InterruptedException <span class="en-US">If the operation is interrupted</span>
+	 *                              <span class="zh-CN">操作被中断时</span>
+	 */
+	public static <T> HttpResponse<T> send(final RequestInfo requestInfo, final HttpRequest httpRequest,
+	                                       final HttpResponse.BodyHandler<T> bodyHandler)
+			throws IOException, InterruptedException {
+		RegisteredClient registeredClient = registeredClient(requestInfo);
+		registeredClient.requestCount.incrementAndGet();
+		registeredClient.activeCount.incrementAndGet();
+		try {
+			HttpResponse<T> httpResponse = registeredClient.httpClient.send(httpRequest, bodyHandler);
+			registeredClient.recordSession(httpResponse);
+			return httpResponse;
+		} finally {
+			registeredClient.activeCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Send request asynchronously using registered client and record statistics</h3>
+	 * <span class="en-US">Cancel the returned future will cancel the running exchange</span>
+	 * <h3 class="zh-CN">使用已注册的客户端异步发送请求并记录统计信息</h3>
+	 * <span class="zh-CN">取消返回的异步结果将取消运行中的请求</span>
+	 *
+	 * @param <T>         <span class="en-US">Response body type</span>
+	 *                    <span class="zh-CN">响应体类型</span>
+	 * @param requestInfo <span class="en-US">Request information</span>
+	 *                    <span class="zh-CN">请求信息</span>
+	 * @param httpRequest <span class="en-US">Generated request instance</span>
+	 *                    <span class="zh-CN">生成的请求实例对象</span>
+	 * @param bodyHandler <span class="en-US">Response body handler</span>
+	 *                    <span class="zh-CN">响应体处理器</span>
+	 * @return <span class="en-US">Future of response instance</span>
+	 * <span class="zh-CN">响应实例对象的异步结果</span>
+	 */
+	public static <T> CompletableFuture<HttpResponse<T>> sendAsync(final RequestInfo requestInfo,
+	                                                               final HttpRequest httpRequest,
+	                                                               final HttpResponse.BodyHandler<T> bodyHandler) {
+		RegisteredClient registeredClient = registeredClient(requestInfo);
+		registeredClient.requestCount.incrementAndGet();
+		registeredClient.activeCount.incrementAndGet();
+		CompletableFuture<HttpResponse<T>> responseFuture =
+				registeredClient.httpClient.sendAsync(httpRequest, bodyHandler);
+		return linkCancel(responseFuture.whenComplete((httpResponse, throwable) -> {
+			registeredClient.activeCount.decrementAndGet();
+			if (httpResponse != null) {
+				registeredClient.recordSession(httpResponse);
+			}
+		}), responseFuture);
+	}
+
+	/**
+	 * <h3 class="en-US">Propagate cancellation of dependent future to the source future</h3>
+	 * <h3 class="zh-CN">将依赖异步结果的取消操作传递到源异步结果</h3>
+	 *
+	 * @param <T>       <span class="en-US">Result type of dependent future</span>
+	 *                  <span class="zh-CN">依赖异步结果的类型</span>
+	 * @param dependent <span class="en-US">Dependent future</span>
+	 *                  <span class="zh-CN">依赖的异步结果</span>
+	 * @param source    <span class="en-US">Source future</span>
+	 *                  <span class="zh-CN">源异步结果</span>
+	 * @return <span class="en-US">Dependent future</span>
+	 * <span class="zh-CN">依赖的异步结果</span>
+	 */
+	public static <T> CompletableFuture<T> linkCancel(final CompletableFuture<T> dependent,
+	                                                  final CompletableFuture<?> source) {
+		dependent.whenComplete((result, throwable) -> {
+			if (throwable instanceof CancellationException) {
+				source.cancel(Boolean.TRUE);
+			}
+		});
+		return dependent;
+	}
+
+	/**
+	 * <h3 class="en-US">Statistics of registered clients</h3>
+	 * <h3 class="zh-CN">已注册客户端的统计信息</h3>
+	 *
+	 * @return <span class="en-US">Statistics list</span>
+	 * <span class="zh-CN">统计信息列表</span>
+	 */
+	public static List<ClientStatistics> statistics() {
+		List<ClientStatistics> statisticsList = new ArrayList<>();
+		REGISTERED_CLIENTS.forEach((clientKey, registeredClient) ->
+				statisticsList.add(new ClientStatistics(clientKey.clientName(), registeredClient.requestCount.get(),
+						registeredClient.activeCount.get(), registeredClient.handshakeCount())));
+		return statisticsList;
+	}
+
+	/**
+	 * <h3 class="en-US">Count of created clients</h3>
+	 * <h3 class="zh-CN">已创建的客户端数量</h3>
+	 *
+	 * @return <span class="en-US">Count of created clients</span>
+	 * <span class="zh-CN">已创建的客户端数量</span>
+	 */
+	public static long createdCount() {
+		return CREATED_COUNT.get();
+	}
+
+	/**
+	 * <h3 class="en-US">Count of reused clients</h3>
+	 * <h3 class="zh-CN">已复用的客户端次数</h3>
+	 *
+	 * @return <span class="en-US">Count of reused clients</span>
+	 * <span class="zh-CN">已复用的客户端次数</span>
+	 */
+	public static long reusedCount() {
+		return REUSED_COUNT.get();
+	}
+
+	/**
+	 * <h3 class="en-US">Remove all registered clients</h3>
+	 * <span class="en-US">The connections of removed clients will be released after the running requests finished</span>
+	 * <h3 class="zh-CN">移除所有已注册的客户端</h3>
+	 * <span class="zh-CN">已移除客户端的连接将在运行中的请求完成后释放</span>
+	 */
+	public static void clear() {
+		REGISTERED_CLIENTS.clear();
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve or create registered client</h3>
+	 * <h3 class="zh-CN">获取或创建已注册的客户端</h3>
+	 *
+	 * @param requestInfo <span class="en-US">Request information</span>
+	 *                    <span class="zh-CN">请求信息</span>
+	 * @return <span class="en-US">Registered client</span>
+	 * <span class="zh-CN">已注册的客户端</span>
+	 */
+	private static RegisteredClient registeredClient(final RequestInfo requestInfo) {
+		ClientKey clientKey = ClientKey.of(requestInfo);
+		RegisteredClient registeredClient = REGISTERED_CLIENTS.get(clientKey);
+		if (registeredClient != null) {
+			REUSED_COUNT.incrementAndGet();
+			return registeredClient;
+		}
+		if (REGISTERED_CLIENTS.size() >= CLIENT_LIMIT) {
+			REGISTERED_CLIENTS.clear();
+		}
+		return REGISTERED_CLIENTS.computeIfAbsent(clientKey, key -> {
+			CREATED_COUNT.incrementAndGet();
+			return new RegisteredClient(buildClient(requestInfo));
+		});
+	}
+
+	/**
+	 * <h3 class="en-US">Build HttpClient instance by given request information</h3>
+	 * <h3 class="zh-CN">根据给定的请求信息构建HttpClient实例对象</h3>
+	 *
+	 * @param requestInfo <span class="en-US">Request information</span>
+	 *                    <span class="zh-CN">请求信息</span>
+	 * @return <span class="en-US">Built HttpClient instance</span>
+	 * <span class="zh-CN">构建的HttpClient实例对象</span>
+	 */
+	private static HttpClient buildClient(final RequestInfo requestInfo) {
+		HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+				.version(requestInfo.getHttpVersion() == null
+						? HttpClient.Version.HTTP_2
+						: requestInfo.getHttpVersion())
+				.followRedirects(HttpClient.Redirect.NORMAL);
+		if (requestInfo.getTimeOut() > 0) {
+			clientBuilder.connectTimeout(Duration.ofSeconds(requestInfo.getTimeOut()));
+		}
+		if (requestInfo.getExecutor() != null) {
+			clientBuilder.executor(requestInfo.getExecutor());
+		}
+		if (requestInfo.getProxyInfo() != null) {
+			ProxyConfig proxyConfig = requestInfo.getProxyInfo();
+			clientBuilder.proxy(ProxySelector.of(
+					new InetSocketAddress(proxyConfig.getProxyAddress(), proxyConfig.getProxyPort())));
+		}
+		if (requestInfo.getTrustCertInfos() != null && !requestInfo.getTrustCertInfos().isEmpty()) {
+			try {
+				SSLContext sslContext = SSLContext.getInstance("TLS");
+				sslContext.init(new KeyManager[0],
+						new TrustManager[]{
+								new TrustedCertManager(GeneX509TrustManager.newInstance(requestInfo.getPassPhrase(),
+										requestInfo.getTrustCertInfos()))},
+						new SecureRandom());
+				clientBuilder.sslContext(sslContext);
+			} catch (Exception e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Process_SSL_Certificate_Request_Error", e);
+				}
+			}
+		}
+		return clientBuilder.build();
+	}
+
+	/**
+	 * <h2 class="en-US">Statistics of registered client</h2>
+	 * <h2 class="zh-CN">已注册客户端的统计信息</h2>
+	 *
+	 * @param clientName     <span class="en-US">Client name generated by configure</span>
+	 *                       <span class="zh-CN">根据配置生成的客户端名称</span>
+	 * @param requestCount   <span class="en-US">Count of sent requests</span>
+	 *                       <span class="zh-CN">已发送的请求数</span>
+	 * @param activeCount    <span class="en-US">Count of running requests</span>
+	 *                       <span class="zh-CN">运行中的请求数</span>
+	 * @param handshakeCount <span class="en-US">Count of established TLS sessions</span>
+	 *                       <span class="zh-CN">已建立的TLS会话数</span>
+	 */
+	public record ClientStatistics(String clientName, long requestCount, long activeCount, long handshakeCount) {
+	}
+
+	/**
+	 * <h2 class="en-US">Registry key of client</h2>
+	 * <h2 class="zh-CN">客户端的注册键值</h2>
+	 *
+	 * @param proxyAddress <span class="en-US">Proxy server address</span>
+	 *                     <span class="zh-CN">代理服务器地址</span>
+	 * @param proxyPort    <span class="en-US">Proxy server port</span>
+	 *                     <span class="zh-CN">代理服务器端口</span>
+	 * @param timeOut      <span class="en-US">Connect timeout</span>
+	 *                     <span class="zh-CN">连接超时时间</span>
+	 * @param httpVersion  <span class="en-US">HTTP protocol version</span>
+	 *                     <span class="zh-CN">HTTP协议版本</span>
+	 * @param passPhrase   <span class="en-US">Pass phrase for system certificate library</span>
+	 *                     <span class="zh-CN">系统信任证书库读取密钥</span>
+	 * @param trustCerts   <span class="en-US">Trusted certificate list</span>
+	 *                     <span class="zh-CN">信任的证书列表</span>
+	 * @param executor     <span class="en-US">Executor of client</span>
+	 *                     <span class="zh-CN">客户端使用的执行器</span>
+	 */
+	private record ClientKey(String proxyAddress, int proxyPort, int timeOut, HttpClient.Version httpVersion,
+	                         String passPhrase, List<TrustCert> trustCerts, Executor executor) {
+		/**
+		 * <h3 class="en-US">Generate registry key by given request information</h3>
+		 * <h3 class="zh-CN">根据给定的请求信息生成注册键值</h3>
+		 *
+		 * @param requestInfo <span class="en-US">Request information</span>
+		 *                    <span class="zh-CN">请求信息</span>
+		 * @return <span class="en-US">Generated registry key</span>
+		 * <span class="zh-CN">生成的注册键值</span>
+		 */
+		static ClientKey of(final RequestInfo requestInfo) {
+			ProxyConfig proxyConfig = requestInfo.getProxyInfo();
+			List<TrustCert> trustCerts = requestInfo.getTrustCertInfos() == null
+					? Collections.emptyList()
+					: List.copyOf(requestInfo.getTrustCertInfos());
+			return new ClientKey(proxyConfig == null ? null : proxyConfig.getProxyAddress(),
+					proxyConfig == null ? Globals.DEFAULT_VALUE_INT : proxyConfig.getProxyPort(),
+					Math.max(requestInfo.getTimeOut(), Globals.INITIALIZE_INT_VALUE), requestInfo.getHttpVersion(),
+					trustCerts.isEmpty() ? null : requestInfo.getPassPhrase(), trustCerts, requestInfo.getExecutor());
+		}
+
+		/**
+		 * <h3 class="en-US">Generate client name without sensitive information</h3>
+		 * <h3 class="zh-CN">生成不包含敏感信息的客户端名称</h3>
+		 *
+		 * @return <span class="en-US">Generated client name</span>
+		 * <span class="zh-CN">生成的客户端名称</span>
+		 */
+		String clientName() {
+			StringBuilder stringBuilder = new StringBuilder();
+			stringBuilder.append(this.httpVersion).append(";timeout=").append(this.timeOut);
+			if (StringUtils.notBlank(this.proxyAddress)) {
+				stringBuilder.append(";proxy=").append(this.proxyAddress).append(":").append(this.proxyPort);
+			}
+			if (!this.trustCerts.isEmpty()) {
+				stringBuilder.append(";trustCerts=").append(this.trustCerts.size());
+			}
+			if (this.executor != null) {
+				stringBuilder.append(";executor=").append(this.executor.getClass().getSimpleName());
+			}
+			return stringBuilder.toString();
+		}
+
+		@Override
+		public String toString() {
+			return this.clientName();
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Registered client and statistics counters</h2>
+	 * <h2 class="zh-CN">已注册的客户端及统计计数器</h2>
+	 */
+	private static final class RegisteredClient {
+		/**
+		 * <span class="en-US">HttpClient instance</span>
+		 * <span class="zh-CN">HttpClient实例对象</span>
+		 */
+		private final HttpClient httpClient;
+		/**
+		 * <span class="en-US">Count of sent requests</span>
+		 * <span class="zh-CN">已发送的请求数</span>
+		 */
+		private final AtomicLong requestCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+		/**
+		 * <span class="en-US">Count of running requests</span>
+		 * <span class="zh-CN">运行中的请求数</span>
+		 */
+		private final AtomicLong activeCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+		/**
+		 * <span class="en-US">Established TLS sessions, weak referenced</span>
+		 * <span class="zh-CN">已建立的TLS会话，弱引用</span>
+		 */
+		private final Set<SSLSession> sslSessions = Collections.newSetFromMap(new WeakHashMap<>());
+		/**
+		 * <span class="en-US">Count of established TLS sessions</span>
+		 * <span class="zh-CN">已建立的TLS会话数</span>
+		 */
+		private long handshakeCount = Globals.INITIALIZE_INT_VALUE;
+
+		/**
+		 * <h3 class="en-US">Constructor for RegisteredClient</h3>
+		 * <h3 class="zh-CN">已注册客户端的构造方法</h3>
+		 *
+		 * @param httpClient <span class="en-US">HttpClient instance</span>
+		 *                   <span class="zh-CN">HttpClient实例对象</span>
+		 */
+		RegisteredClient(final HttpClient httpClient) {
+			this.httpClient = httpClient;
+		}
+
+		/**
+		 * <h3 class="en-US">Record TLS session of response, new session means a handshake was performed</h3>
+		 * <h3 class="zh-CN">记录响应的TLS会话，新会话代表执行了一次握手</h3>
+		 *
+		 * @param httpResponse <span class="en-US">Response instance</span>
+		 *                     <span class="zh-CN">响应实例对象</span>
+		 */
+		void recordSession(final HttpResponse<?> httpResponse) {
+			httpResponse.sslSession().ifPresent(sslSession -> {
+				synchronized (this.sslSessions) {
+					if (this.sslSessions.add(sslSession)) {
+						this.handshakeCount++;
+					}
+				}
+			});
+		}
+
+		/**
+		 * <h3 class="en-US">Count of established TLS sessions</h3>
+		 * <h3 class="zh-CN">已建立的TLS会话数</h3>
+		 *
+		 * @return <span class="en-US">Count of established TLS sessions</span>
+		 * <span class="zh-CN">已建立的TLS会话数</span>
+		 */
+		long handshakeCount() {
+			synchronized (this.sslSessions) {
+				return this.handshakeCount;
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Trust manager of trusted certificates client</h2>
+	 * <span class="en-US">
+	 *     Verify certificate chain by delegate trust manager and skip hostname verification for current client only,
+	 *     replace the global system property "jdk.internal.httpclient.disableHostnameVerification"
+	 * </span>
+	 * <h2 class="zh-CN">信任证书客户端的信任管理器</h2>
+	 * <span class="zh-CN">
+	 *     使用委托的信任管理器验证证书链，仅对当前客户端跳过主机名验证，
+	 *     替代全局系统属性"jdk.internal.httpclient.disableHostnameVerification"
+	 * </span>
+	 */
+	private static final class TrustedCertManager extends X509ExtendedTrustManager {
+		/**
+		 * <span class="en-US">Delegate trust manager</span>
+		 * <span class="zh-CN">委托的信任管理器</span>
+		 */
+		private final X509TrustManager trustManager;
+
+		/**
+		 * <h3 class="en-US">Constructor for TrustedCertManager</h3>
+		 * <h3 class="zh-CN">信任证书管理器的构造方法</h3>
+		 *
+		 * @param trustManager <span class="en-US">Delegate trust manager</span>
+		 *                     <span class="zh-CN">委托的信任管理器</span>
+		 */
+		TrustedCertManager(final X509TrustManager trustManager) {
+			this.trustManager = trustManager;
+		}
+
+		@Override
+		public void checkClientTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
+				throws CertificateException {
+			this.trustManager.checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
+				throws CertificateException {
+			this.trustManager.checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkClientTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine)
+				throws CertificateException {
+			this.trustManager.checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine)
+				throws CertificateException {
+			this.trustManager.checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkClientTrusted(final X509Certificate[] chain, final String authType)
+				throws CertificateException {
+			this.trustManager.checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(final X509Certificate[] chain, final String authType)
+				throws CertificateException {
+			this.trustManager.checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return this.trustManager.getAcceptedIssuers();
+		}
+	}
+}
@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.http.client;
+
+import org.nervousync.beans.servlet.request.RequestInfo;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.LoggerUtils;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">Batch request dispatcher</h2>
+ * <span class="en-US">
+ *     Send requests asynchronously with the maximum concurrent requests and the maximum request permits per second
+ *     of each host, the pending and running requests can be cancelled.
+ * </span>
+ * <h2 class="zh-CN">批量请求调度器</h2>
+ * <span class="zh-CN">按照最大并发请求数和每个主机每秒最大请求数异步发送请求，等待中和运行中的请求可以被取消。</span>
+ *
+ * @param <T> <span class="en-US">Result type of request</span>
+ *            <span class="zh-CN">请求结果类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 20:11:35 $
+ */
+public final class RequestBatch<T> {
+	/**
+	 * <span class="en-US">Multilingual supported logger instance</span>
+	 * <span class="zh-CN">多语言支持的日志对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(RequestBatch.class);
+	/**
+	 * <span class="en-US">Default maximum concurrent requests</span>
+	 * <span class="zh-CN">默认的最大并发请求数</span>
+	 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+	/**
+	 * <span class="en-US">Request sender</span>
+	 * <span class="zh-CN">请求发送器</span>
+	 */
+	private final Function<RequestInfo, CompletableFuture<T>> requestSender;
+	/**
+	 * <span class="en-US">Maximum concurrent requests</span>
+	 * <span class="zh-CN">最大并发请求数</span>
+	 */
+	private final int concurrency;
+	/**
+	 * <span class="en-US">Minimum interval nanoseconds between requests of the same host, 0 for unlimited</span>
+	 * <span class="zh-CN">同一主机请求之间的最小间隔纳秒数，0为不限制</span>
+	 */
+	private final long intervalNanos;
+	/**
+	 * <span class="en-US">All request entries in submit order</span>
+	 * <span class="zh-CN">按提交顺序排列的所有请求</span>
+	 */
+	private final List<BatchEntry<T>> batchEntries;
+	/**
+	 * <span class="en-US">Pending request entries</span>
+	 * <span class="zh-CN">等待中的请求</span>
+	 */
+	private final Deque<BatchEntry<T>> pendingEntries;
+	/**
+	 * <span class="en-US">Request entries which host slot was reached, waiting for concurrent slot</span>
+	 * <span class="zh-CN">已到达主机时间槽，等待并发槽位的请求</span>
+	 */
+	private final Deque<BatchEntry<T>> readyEntries = new ArrayDeque<>();
+	/**
+	 * <span class="en-US">Next available time of each host</span>
+	 * <span class="zh-CN">每个主机的下次可用时间</span>
+	 */
+	private final Map<String, Long> hostSlots = new HashMap<>();
+	/**
+	 * <span class="en-US">Count of running requests</span>
+	 * <span class="zh-CN">运行中的请求数</span>
+	 */
+	private int activeCount = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Count of requests waiting for host slot</span>
+	 * <span class="zh-CN">等待主机时间槽的请求数</span>
+	 */
+	private int delayedCount = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Dispatching status, used for avoiding recursive dispatch</span>
+	 * <span class="zh-CN">调度状态，用于避免递归调度</span>
+	 */
+	private boolean dispatching = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Dispatch was requested while dispatching</span>
+	 * <span class="zh-CN">调度过程中收到新的调度请求</span>
+	 */
+	private boolean redispatch = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Batch cancelled status</span>
+	 * <span class="zh-CN">批量请求取消状态</span>
+	 */
+	private boolean cancelled = Boolean.FALSE;
+
+	/**
+	 * <h3 class="en-US">Private constructor for RequestBatch</h3>
+	 * <h3 class="zh-CN">批量请求调度器的私有构造方法</h3>
+	 *
+	 * @param requestSender    <span class="en-US">Request sender</span>
+	 *                         <span class="zh-CN">请求发送器</span>
+	 * @param requestInfos     <span class="en-US">Request information list</span>
+	 *                         <span class="zh-CN">请求信息列表</span>
+	 * @param concurrency      <span class="en-US">Maximum concurrent requests</span>
+	 *                         <span class="zh-CN">最大并发请求数</span>
+	 * @param permitsPerSecond <span class="en-US">Maximum request permits per second of each host, 0 for unlimited</span>
+	 *                         <span class="zh-CN">每个主机每秒最大请求数，0为不限制</span>
+	 */
+	private RequestBatch(final Function<RequestInfo, CompletableFuture<T>> requestSender,
+	                     final Collection<RequestInfo> requestInfos, final int concurrency,
+	                     final int permitsPerSecond) {
+		this.requestSender = requestSender;
+		this.concurrency = (concurrency > 0) ? concurrency : DEFAULT_CONCURRENCY;
+		this.intervalNanos = (permitsPerSecond > 0) ? TimeUnit.SECONDS.toNanos(1L) / permitsPerSecond : 0L;
+		List<BatchEntry<T>> entryList = new ArrayList<>(requestInfos.size());
+		requestInfos.forEach(requestInfo -> entryList.add(new BatchEntry<>(requestInfo)));
+		this.batchEntries = Collections.unmodifiableList(entryList);
+		this.pendingEntries = new ArrayDeque<>(entryList);
+	}
+
+	/**
+	 * <h3 class="en-US">Create batch request dispatcher and start sending requests</h3>
+	 * <h3 class="zh-CN">创建批量请求调度器并开始发送请求</h3>
+	 *
+	 * @param <T>              <span class="en-US">Result type of request</span>
+	 *                         <span class="zh-CN">请求结果类型</span>
+	 * @param requestSender    <span class="en-US">Request sender</span>
+	 *                         <span class="zh-CN">请求发送器</span>
+	 * @param requestInfos     <span class="en-US">Request information list</span>
+	 *                         <span class="zh-CN">请求信息列表</span>
+	 * @param concurrency      <span class="en-US">Maximum concurrent requests</span>
+	 *                         <span class="zh-CN">最大并发请求数</span>
+	 * @param permitsPerSecond <span class="en-US">Maximum request permits per second of each host, 0 for unlimited</span>
+	 *                         <span class="zh-CN">每个主机每秒最大请求数，0为不限制</span>
+	 * @return <span class="en-US">Started batch request dispatcher</span>
+	 * <span class="zh-CN">已开始的批量请求调度器</span>
+	 */
+	public static <T> RequestBatch<T> execute(final Function<RequestInfo, CompletableFuture<T>> requestSender,
+	                                          final Collection<RequestInfo> requestInfos, final int concurrency,
+	                                          final int permitsPerSecond) {
+		RequestBatch<T> requestBatch = new RequestBatch<>(requestSender, requestInfos, concurrency, permitsPerSecond);
+		requestBatch.dispatch();
+		return requestBatch;
+	}
+
+	/**
+	 * <h3 class="en-US">Futures of each request in submit order</h3>
+	 * <h3 class="zh-CN">按提交顺序排列的每个请求的异步结果</h3>
+	 *
+	 * @return <span class="en-US">Future list</span>
+	 * <span class="zh-CN">异步结果列表</span>
+	 */
+	public List<CompletableFuture<T>> futures() {
+		return this.batchEntries.stream().map(batchEntry -> batchEntry.resultFuture).toList();
+	}
+
+	/**
+	 * <h3 class="en-US">Future of all results in submit order</h3>
+	 * <span class="en-US">The result of failed or cancelled request is <code>null</code></span>
+	 * <h3 class="zh-CN">按提交顺序排列的所有结果的异步结果</h3>
+	 * <span class="zh-CN">失败或已取消请求的结果为<code>null</code></span>
+	 *
+	 * @return <span class="en-US">Future of result list</span>
+	 * <span class="zh-CN">结果列表的异步结果</span>
+	 */
+	public CompletableFuture<List<T>> all() {
+		List<CompletableFuture<T>> futureList = this.futures();
+		return CompletableFuture.allOf(futureList.toArray(CompletableFuture<?>[]::new))
+				.handle((result, throwable) ->
+						futureList.stream()
+								.map(future -> {
+									if (future.isCompletedExceptionally()) {
+										return null;
+									}
+									return future.join();
+								})
+								.toList());
+	}
+
+	/**
+	 * <h3 class="en-US">Cancel pending and running requests</h3>
+	 * <h3 class="zh-CN">取消等待中和运行中的请求</h3>
+	 */
+	public void cancel() {
+		synchronized (this) {
+			this.cancelled = Boolean.TRUE;
+			this.pendingEntries.clear();
+			this.readyEntries.clear();
+		}
+		this.batchEntries.forEach(batchEntry -> batchEntry.resultFuture.cancel(Boolean.TRUE));
+	}
+
+	/**
+	 * <h3 class="en-US">Check batch was cancelled</h3>
+	 * <h3 class="zh-CN">检查批量请求是否已取消</h3>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public synchronized boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * <h3 class="en-US">Count of pending requests</h3>
+	 * <h3 class="zh-CN">等待中的请求数</h3>
+	 *
+	 * @return <span class="en-US">Count of pending requests</span>
+	 * <span class="zh-CN">等待中的请求数</span>
+	 */
+	public synchronized int pendingCount() {
+		return this.pendingEntries.size() + this.readyEntries.size() + this.delayedCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Count of running requests</h3>
+	 * <h3 class="zh-CN">运行中的请求数</h3>
+	 *
+	 * @return <span class="en-US">Count of running requests</span>
+	 * <span class="zh-CN">运行中的请求数</span>
+	 */
+	public synchronized int activeCount() {
+		return this.activeCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Start pending requests until the concurrent limit reached</h3>
+	 * <span class="en-US">
+	 *     Requests waiting for host slot do not hold concurrent slot.
+	 *     Dispatch requested by requests completed inline was handled by the loop of current dispatch instead of recursion.
+	 * </span>
+	 * <h3 class="zh-CN">启动等待中的请求直到达到并发限制</h3>
+	 * <span class="zh-CN">等待主机时间槽的请求不占用并发槽位。请求同步完成时触发的调度由当前调度循环处理，而不是递归调用。</span>
+	 */
+	private void dispatch() {
+		synchronized (this) {
+			if (this.dispatching) {
+				this.redispatch = Boolean.TRUE;
+				return;
+			}
+			this.dispatching = Boolean.TRUE;
+		}
+		while (true) {
+			List<BatchEntry<T>> startEntries = new ArrayList<>();
+			Map<BatchEntry<T>, Long> delayedEntries = new LinkedHashMap<>();
+			synchronized (this) {
+				while (!this.cancelled && this.activeCount < this.concurrency) {
+					BatchEntry<T> batchEntry = this.readyEntries.poll();
+					if (batchEntry == null) {
+						batchEntry = this.pendingEntries.poll();
+						if (batchEntry == null) {
+							break;
+						}
+						long delayNanos = this.acquireSlot(batchEntry.requestInfo);
+						if (delayNanos > 0L) {
+							this.delayedCount++;
+							delayedEntries.put(batchEntry, delayNanos);
+							continue;
+						}
+					}
+					this.activeCount++;
+					startEntries.add(batchEntry);
+				}
+			}
+			delayedEntries.forEach((batchEntry, delayNanos) ->
+					CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS)
+							.execute(() -> this.ready(batchEntry)));
+			startEntries.forEach(this::send);
+			synchronized (this) {
+				if (!this.redispatch) {
+					this.dispatching = Boolean.FALSE;
+					return;
+				}
+				this.redispatch = Boolean.FALSE;
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Move the request entry which host slot was reached to ready queue</h3>
+	 * <h3 class="zh-CN">将已到达主机时间槽的请求项移入就绪队列</h3>
+	 *
+	 * @param batchEntry <span class="en-US">Request entry</span>
+	 *                   <span class="zh-CN">请求项</span>
+	 */
+	private void ready(final BatchEntry<T> batchEntry) {
+		synchronized (this) {
+			this.delayedCount--;
+			if (this.cancelled || batchEntry.resultFuture.isDone()) {
+				return;
+			}
+			this.readyEntries.add(batchEntry);
+		}
+		this.dispatch();
+	}
+
+	/**
+	 * <h3 class="en-US">Acquire request slot of target host</h3>
+	 * <h3 class="zh-CN">获取目标主机的请求时间槽</h3>
+	 *
+	 * @param requestInfo <span class="en-US">Request information</span>
+	 *                    <span class="zh-CN">请求信息</span>
+	 * @return <span class="en-US">Delay nanoseconds before sending request</span>
+	 * <span class="zh-CN">发送请求前需要等待的纳秒数</span>
+	 */
+	private long acquireSlot(final RequestInfo requestInfo) {
+		if (this.intervalNanos == 0L) {
+			return 0L;
+		}
+		String hostName;
+		try {
+			hostName = Objects.requireNonNullElse(URI.create(requestInfo.getRequestUrl()).getHost(), "");
+		} catch (IllegalArgumentException | NullPointerException e) {
+			hostName = "";
+		}
+		long currentTime = System.nanoTime();
+		long slotTime = Math.max(currentTime, this.hostSlots.getOrDefault(hostName, currentTime));
+		this.hostSlots.put(hostName, slotTime + this.intervalNanos);
+		return slotTime - currentTime;
+	}
+
+	/**
+	 * <h3 class="en-US">Send request of given entry</h3>
+	 * <h3 class="zh-CN">发送给定请求项的请求</h3>
+	 *
+	 * @param batchEntry <span class="en-US">Request entry</span>
+	 *                   <span class="zh-CN">请求项</span>
+	 */
+	private void send(final BatchEntry<T> batchEntry) {
+		if (batchEntry.resultFuture.isDone()) {
+			this.release();
+			return;
+		}
+		CompletableFuture<T> runningFuture;
+		try {
+			runningFuture = this.requestSender.apply(batchEntry.requestInfo);
+		} catch (Exception e) {
+			runningFuture = CompletableFuture.failedFuture(e);
+		}
+		batchEntry.runningFuture = runningFuture;
+		runningFuture.whenComplete((result, throwable) -> {
+			if (throwable == null) {
+				batchEntry.resultFuture.complete(result);
+			} else if (!batchEntry.resultFuture.isDone()) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", throwable);
+				}
+				batchEntry.resultFuture.completeExceptionally(throwable);
+			}
+			this.release();
+		});
+		if (batchEntry.resultFuture.isCancelled()) {
+			runningFuture.cancel(Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Release the concurrent slot and dispatch pending requests</h3>
+	 * <h3 class="zh-CN">释放并发槽位并调度等待中的请求</h3>
+	 */
+	private void release() {
+		synchronized (this) {
+			this.activeCount--;
+		}
+		this.dispatch();
+	}
+
+	/**
+	 * <h2 class="en-US">Request entry of batch</h2>
+	 * <h2 class="zh-CN">批量请求中的请求项</h2>
+	 *
+	 * @param <T> <span class="en-US">Result type of request</span>
+	 *            <span class="zh-CN">请求结果类型</span>
+	 */
+	private static final class BatchEntry<T> {
+		/**
+		 * <span class="en-US">Request information</span>
+		 * <span class="zh-CN">请求信息</span>
+		 */
+		private final RequestInfo requestInfo;
+		/**
+		 * <span class="en-US">Future of request result</span>
+		 * <span class="zh-CN">请求结果的异步结果</span>
+		 */
+		private final CompletableFuture<T> resultFuture = new CompletableFuture<>();
+		/**
+		 * <span class="en-US">Future of running request</span>
+		 * <span class="zh-CN">运行中请求的异步结果</span>
+		 */
+		private volatile CompletableFuture<T> runningFuture = null;
+
+		/**
+		 * <h3 class="en-US">Constructor for BatchEntry</h3>
+		 * <h3 class="zh-CN">请求项的构造方法</h3>
+		 *
+		 * @param requestInfo <span class="en-US">Request information</span>
+		 *                    <span class="zh-CN">请求信息</span>
+		 */
+		BatchEntry(final RequestInfo requestInfo) {
+			this.requestInfo = requestInfo;
+			this.resultFuture.whenComplete((result, throwable) -> {
+				if (this.resultFuture.isCancelled() && this.runningFuture != null) {
+					this.runningFuture.cancel(Boolean.TRUE);
+				}
+			});
+		}
+	}
+}
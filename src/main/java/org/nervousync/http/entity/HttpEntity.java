@@ -16,14 +16,15 @@
  */
 package org.nervousync.http.entity;
 
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.io.UnsupportedEncodingException;
+import java.io.*;
 import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.nervousync.enumerations.web.HttpMethodOption;
 import org.nervousync.utils.FileUtils;
@@ -178,44 +179,173 @@ public final class HttpEntity {
 		String charsetEncoding = StringUtils.notBlank(charset) ? charset : Globals.DEFAULT_ENCODING;
 		this.checkType();
 		if (this.multipart) {
-			StringBuilder stringBuilder;
 			for (EntityInfo entityInfo : this.entityList) {
-				stringBuilder = new StringBuilder();
-				stringBuilder.append("--").append(this.boundary).append(FileUtils.CRLF);
-				stringBuilder.append("Content-Disposition:" + Globals.FORM_DATA_CONTENT_DISPOSITION + ";");
-				stringBuilder.append("name=\"").append(entityInfo.getEntityName()).append("\"");
-				String value = entityInfo.getEntityValue();
+				outputStream.write(this.partHeader(entityInfo).getBytes(Globals.DEFAULT_ENCODING));
 				if (entityInfo.isBinary()) {
-					stringBuilder.append(";filename=\"").append(StringUtils.getFilename(value)).append("\"");
-					stringBuilder.append(FileUtils.CRLF);
-					stringBuilder.append("Content-Type:" + Globals.DEFAULT_CONTENT_TYPE_BINARY);
-				}
-				stringBuilder.append(FileUtils.CRLF);
-				stringBuilder.append(FileUtils.CRLF);
-				
-				outputStream.write(stringBuilder.toString().getBytes(Globals.DEFAULT_ENCODING));
-				if (entityInfo.isBinary()) {
-					outputStream.write(FileUtils.readFileBytes(value));
+					try (InputStream inputStream = FileUtils.loadFile(entityInfo.getEntityValue())) {
+						inputStream.transferTo(outputStream);
+					}
 				} else {
-					outputStream.write(value.getBytes(charsetEncoding));
+					outputStream.write(entityInfo.getEntityValue().getBytes(charsetEncoding));
 				}
 				outputStream.write(FileUtils.CRLF.getBytes(charsetEncoding));
 			}
-			outputStream.write(("--" + this.boundary).getBytes(charsetEncoding));
+			outputStream.write(this.closeDelimiter().getBytes(charsetEncoding));
 		} else {
-			StringBuilder stringBuilder = new StringBuilder();
-			for (EntityInfo entityInfo : this.entityList) {
-				stringBuilder.append("&");
-				stringBuilder.append(URLEncoder.encode(entityInfo.getEntityName(), charsetEncoding));
-				stringBuilder.append("=");
-				stringBuilder.append(URLEncoder.encode(entityInfo.getEntityValue(), charsetEncoding));
+			outputStream.write(this.encodedForm(charsetEncoding).getBytes(charsetEncoding));
+		}
+	}
+	/**
+	 * <h3 class="en-US">Generate streaming request body publisher</h3>
+	 * <span class="en-US">
+	 *     Upload files were read from disk or SMB when sending, the content length was reported
+	 *     if all part sizes are known and chunked is <code>false</code>.
+	 * </span>
+	 * <h3 class="zh-CN">生成流式请求体发布器</h3>
+	 * <span class="zh-CN">上传文件在发送时从磁盘或SMB中读取，当所有部分的大小已知且未使用分块上传时报告内容长度。</span>
+	 *
+	 * @param charset			<span class="en-US">Charset encoding</span>
+	 *                          <span class="zh-CN">字符编码集</span>
+	 * @param chunked			<span class="en-US">Using chunked transfer encoding</span>
+	 *                          <span class="zh-CN">使用分块传输编码</span>
+	 * @param uploadProgress	<span class="en-US">Upload progress callback, <code>null</code> for not report progress</span>
+	 *                          <span class="zh-CN">上传进度回调，<code>null</code>为不报告进度</span>
+	 *
+	 * @return 	<span class="en-US">Generated request body publisher</span>
+	 * 			<span class="zh-CN">生成的请求体发布器</span>
+	 * @throws IOException
+	 * <span class="en-US">If upload file not found or charset encoding is not supported</span>
+	 * <span class="zh-CN">如果上传文件不存在或字符编码集不被支持</span>
+	 */
+	public HttpRequest.BodyPublisher generatePublisher(final String charset, final boolean chunked,
+	                                                   final UploadProgress uploadProgress) throws IOException {
+		String charsetEncoding = StringUtils.notBlank(charset) ? charset : Globals.DEFAULT_ENCODING;
+		HttpRequest.BodyPublisher bodyPublisher;
+		if (this.entityList.isEmpty()) {
+			bodyPublisher = HttpRequest.BodyPublishers.noBody();
+		} else {
+			this.checkType();
+			if (this.multipart) {
+				List<HttpRequest.BodyPublisher> publisherList = new ArrayList<>();
+				for (EntityInfo entityInfo : this.entityList) {
+					publisherList.add(HttpRequest.BodyPublishers.ofByteArray(
+							this.partHeader(entityInfo).getBytes(Globals.DEFAULT_ENCODING)));
+					if (entityInfo.isBinary()) {
+						publisherList.add(filePublisher(entityInfo.getEntityValue()));
+					} else {
+						publisherList.add(HttpRequest.BodyPublishers.ofByteArray(
+								entityInfo.getEntityValue().getBytes(charsetEncoding)));
+					}
+					publisherList.add(HttpRequest.BodyPublishers.ofByteArray(
+							FileUtils.CRLF.getBytes(charsetEncoding)));
+				}
+				publisherList.add(HttpRequest.BodyPublishers.ofByteArray(
+						this.closeDelimiter().getBytes(charsetEncoding)));
+				bodyPublisher = HttpRequest.BodyPublishers.concat(publisherList.toArray(new HttpRequest.BodyPublisher[0]));
+			} else {
+				bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(
+						this.encodedForm(charsetEncoding).getBytes(charsetEncoding));
 			}
-			
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug("Write_Request_Data_Debug", stringBuilder);
+		}
+		if (chunked || uploadProgress != null) {
+			return new ProgressPublisher(bodyPublisher, chunked, uploadProgress);
+		}
+		return bodyPublisher;
+	}
+	/**
+	 * <h3 class="en-US">Generate multipart header of given entity</h3>
+	 * <h3 class="zh-CN">生成给定参数的多媒体分段头信息</h3>
+	 *
+	 * @param entityInfo 	<span class="en-US">Entity information</span>
+	 *                      <span class="zh-CN">参数信息</span>
+	 *
+	 * @return 	<span class="en-US">Generated multipart header</span>
+	 * 			<span class="zh-CN">生成的多媒体分段头信息</span>
+	 */
+	private String partHeader(final EntityInfo entityInfo) {
+		StringBuilder stringBuilder = new StringBuilder();
+		stringBuilder.append("--").append(this.boundary).append(FileUtils.CRLF);
+		stringBuilder.append("Content-Disposition:" + Globals.FORM_DATA_CONTENT_DISPOSITION + ";");
+		stringBuilder.append("name=\"").append(entityInfo.getEntityName()).append("\"");
+		if (entityInfo.isBinary()) {
+			stringBuilder.append(";filename=\"").append(StringUtils.getFilename(entityInfo.getEntityValue())).append("\"");
+			stringBuilder.append(FileUtils.CRLF);
+			stringBuilder.append("Content-Type:" + Globals.DEFAULT_CONTENT_TYPE_BINARY);
+		}
+		stringBuilder.append(FileUtils.CRLF);
+		stringBuilder.append(FileUtils.CRLF);
+		return stringBuilder.toString();
+	}
+	/**
+	 * <h3 class="en-US">Generate multipart close delimiter</h3>
+	 * <h3 class="zh-CN">生成多媒体结束分隔符</h3>
+	 *
+	 * @return 	<span class="en-US">Generated close delimiter</span>
+	 * 			<span class="zh-CN">生成的结束分隔符</span>
+	 */
+	private String closeDelimiter() {
+		return "--" + this.boundary + "--" + FileUtils.CRLF;
+	}
+	/**
+	 * <h3 class="en-US">Generate url encoded form data</h3>
+	 * <h3 class="zh-CN">生成URL编码的表单数据</h3>
+	 *
+	 * @param charsetEncoding 	<span class="en-US">Charset encoding</span>
+	 *                          <span class="zh-CN">字符编码集</span>
+	 *
+	 * @return 	<span class="en-US">Generated form data</span>
+	 * 			<span class="zh-CN">生成的表单数据</span>
+	 * @throws UnsupportedEncodingException
+	 * <span class="en-US">If charset encoding is not supported</span>
+	 * <span class="zh-CN">如果字符编码集不被支持</span>
+	 */
+	private String encodedForm(final String charsetEncoding) throws UnsupportedEncodingException {
+		StringBuilder stringBuilder = new StringBuilder();
+		for (EntityInfo entityInfo : this.entityList) {
+			stringBuilder.append("&");
+			stringBuilder.append(URLEncoder.encode(entityInfo.getEntityName(), charsetEncoding));
+			stringBuilder.append("=");
+			stringBuilder.append(URLEncoder.encode(entityInfo.getEntityValue(), charsetEncoding));
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Write_Request_Data_Debug", stringBuilder);
+		}
+		return stringBuilder.substring(1);
+	}
+	/**
+	 * <h3 class="en-US">Generate body publisher of upload file</h3>
+	 * <span class="en-US">Local file was read by FileChannel, other file was read by input stream when sending</span>
+	 * <h3 class="zh-CN">生成上传文件的请求体发布器</h3>
+	 * <span class="zh-CN">本地文件使用FileChannel读取，其他文件在发送时使用输入流读取</span>
+	 *
+	 * @param filePath 	<span class="en-US">Upload file path</span>
+	 *                  <span class="zh-CN">上传文件地址</span>
+	 *
+	 * @return 	<span class="en-US">Generated body publisher</span>
+	 * 			<span class="zh-CN">生成的请求体发布器</span>
+	 * @throws FileNotFoundException
+	 * <span class="en-US">If upload file not found</span>
+	 * <span class="zh-CN">如果上传文件不存在</span>
+	 */
+	private static HttpRequest.BodyPublisher filePublisher(final String filePath) throws FileNotFoundException {
+		if (!filePath.startsWith(Globals.SAMBA_PROTOCOL)) {
+			File file = FileUtils.getFile(filePath);
+			if (file.isFile()) {
+				return HttpRequest.BodyPublishers.ofFile(file.toPath());
 			}
-			outputStream.write(stringBuilder.substring(1).getBytes(charsetEncoding));
 		}
+		HttpRequest.BodyPublisher streamPublisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+			try {
+				return FileUtils.loadFile(filePath);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		long fileSize = FileUtils.fileSize(filePath);
+		if (fileSize == 0L) {
+			return HttpRequest.BodyPublishers.noBody();
+		}
+		return (fileSize > 0L) ? HttpRequest.BodyPublishers.fromPublisher(streamPublisher, fileSize) : streamPublisher;
 	}
 	/**
 	 * <h3 class="en-US">Check entity information, configure multipart and mixed value</h3>
@@ -253,6 +383,105 @@ public final class HttpEntity {
 		}
 		return stringBuilder.toString();
 	}
+	/**
+	 * <h2 class="en-US">Upload progress callback</h2>
+	 * <h2 class="zh-CN">上传进度回调</h2>
+	 */
+	@FunctionalInterface
+	public interface UploadProgress {
+		/**
+		 * <h3 class="en-US">Report upload progress</h3>
+		 * <h3 class="zh-CN">报告上传进度</h3>
+		 *
+		 * @param transferred 	<span class="en-US">Transferred bytes count</span>
+		 *                      <span class="zh-CN">已传输的字节数</span>
+		 * @param totalLength 	<span class="en-US">Total bytes count, -1 if unknown</span>
+		 *                      <span class="zh-CN">总字节数，未知时为-1</span>
+		 */
+		void progress(final long transferred, final long totalLength);
+	}
+	/**
+	 * <h2 class="en-US">Body publisher wrapper for chunked upload and progress report</h2>
+	 * <h2 class="zh-CN">用于分块上传和进度报告的请求体发布器包装器</h2>
+	 */
+	private static final class ProgressPublisher implements HttpRequest.BodyPublisher {
+		/**
+		 * <span class="en-US">Delegate body publisher</span>
+		 * <span class="zh-CN">委托的请求体发布器</span>
+		 */
+		private final HttpRequest.BodyPublisher bodyPublisher;
+		/**
+		 * <span class="en-US">Using chunked transfer encoding</span>
+		 * <span class="zh-CN">使用分块传输编码</span>
+		 */
+		private final boolean chunked;
+		/**
+		 * <span class="en-US">Upload progress callback</span>
+		 * <span class="zh-CN">上传进度回调</span>
+		 */
+		private final UploadProgress uploadProgress;
+		/**
+		 * <h3 class="en-US">Constructor method for ProgressPublisher</h3>
+		 * <h3 class="zh-CN">ProgressPublisher构造方法</h3>
+		 *
+		 * @param bodyPublisher 	<span class="en-US">Delegate body publisher</span>
+		 *                          <span class="zh-CN">委托的请求体发布器</span>
+		 * @param chunked 			<span class="en-US">Using chunked transfer encoding</span>
+		 *                          <span class="zh-CN">使用分块传输编码</span>
+		 * @param uploadProgress 	<span class="en-US">Upload progress callback</span>
+		 *                          <span class="zh-CN">上传进度回调</span>
+		 */
+		ProgressPublisher(final HttpRequest.BodyPublisher bodyPublisher, final boolean chunked,
+		                  final UploadProgress uploadProgress) {
+			this.bodyPublisher = bodyPublisher;
+			this.chunked = chunked;
+			this.uploadProgress = uploadProgress;
+		}
+		/**
+		 * (Non-Javadoc)
+		 * @see HttpRequest.BodyPublisher#contentLength()
+		 */
+		@Override
+		public long contentLength() {
+			return this.chunked ? Globals.DEFAULT_VALUE_LONG : this.bodyPublisher.contentLength();
+		}
+		/**
+		 * (Non-Javadoc)
+		 * @see Flow.Publisher#subscribe(Flow.Subscriber)
+		 */
+		@Override
+		public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+			if (this.uploadProgress == null) {
+				this.bodyPublisher.subscribe(subscriber);
+				return;
+			}
+			final long totalLength = this.bodyPublisher.contentLength();
+			final AtomicLong transferred = new AtomicLong(0L);
+			this.bodyPublisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+				@Override
+				public void onSubscribe(final Flow.Subscription subscription) {
+					subscriber.onSubscribe(subscription);
+				}
+
+				@Override
+				public void onNext(final ByteBuffer item) {
+					long count = transferred.addAndGet(item.remaining());
+					subscriber.onNext(item);
+					uploadProgress.progress(count, totalLength);
+				}
+
+				@Override
+				public void onError(final Throwable throwable) {
+					subscriber.onError(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					subscriber.onComplete();
+				}
+			});
+		}
+	}
 	/**
 	 * <h2 class="en-US">Http Entity Information Define</h2>
 	 * <h2 class="zh-CN">HTTP请求参数信息定义</h2>
@@ -17,6 +17,7 @@
 package org.nervousync.launcher;
 
 import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.jmx.Monitor;
 import org.nervousync.annotations.launcher.Launcher;
 import org.nervousync.annotations.provider.Provider;
 import org.nervousync.beans.launcher.LauncherConfig;
@@ -25,27 +26,38 @@ import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
 import org.nervousync.enumerations.launcher.StartupType;
 import org.nervousync.utils.DateTimeUtils;
+import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <h2 class="en-US">Startup Manager</h2>
- * <span class="en-US">Running in singleton mode</span>
+ * <span class="en-US">
+ *     Running in singleton mode.
+ *     Launchers without dependencies between each other were started concurrently,
+ *     a launcher was started after all launchers declared in Launcher#dependencies() were started.
+ * </span>
  * <h2 class="zh-CN">启动管理器</h2>
- * <span class="en-US">使用单例模式运行</span>
+ * <span class="zh-CN">
+ *     使用单例模式运行。
+ *     相互之间没有依赖关系的启动器并发启动，启动器在Launcher#dependencies()中声明的所有启动器启动后才会启动。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Jun 28, 2022 15:25:33 $
+ * @version $Revision: 1.1.0 $ $Date: Oct 18, 2026 17:31:25 $
  */
-public final class StartupManager {
+@Monitor(domain = "org.nervousync", type = "StartupManager")
+public final class StartupManager implements StartupManagerMBean {
+	/**
+	 * <span class="en-US">Multilingual supported logger instance</span>
+	 * <span class="zh-CN">多语言支持的日志对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(StartupManager.class);
 	private static final long SCHEDULE_PERIOD = 30 * 1000L;
 	/**
 	 * <span class="en-US">Singleton instance of StartupManager</span>
@@ -57,21 +69,46 @@ public final class StartupManager {
 	 * <span class="en-US">启动器配置信息实例对象</span>
 	 */
 	private final StartupConfig startupConfig;
+	/**
+	 * <span class="en-US">Registered launcher configure information, mapping key is launcher class name</span>
+	 * <span class="zh-CN">已注册的启动器配置信息，映射键为启动器类名</span>
+	 */
+	private final Map<String, LauncherConfig> launcherConfigs;
+	/**
+	 * <span class="en-US">Lock for modifying launcher configure information</span>
+	 * <span class="zh-CN">修改启动器配置信息的锁</span>
+	 */
+	private final Lock configLock;
+	/**
+	 * <span class="en-US">Service loader of startup launcher, only used in configure scan task</span>
+	 * <span class="zh-CN">启动器的服务加载器，仅在配置扫描任务中使用</span>
+	 */
+	private final ServiceLoader<StartupLauncher> serviceLoader;
 	/**
 	 * <span class="en-US">Registered startup launcher instance</span>
 	 * <span class="en-US">已注册的启动器实例</span>
 	 */
-	private final List<StartupLauncher> runningLaunchers;
+	private final Map<String, StartupLauncher> runningLaunchers;
+	/**
+	 * <span class="en-US">Startup time in milliseconds of launchers, mapping key is launcher class name</span>
+	 * <span class="zh-CN">启动器的启动耗时（毫秒），映射键为启动器类名</span>
+	 */
+	private final Map<String, Long> startupTimes;
+	/**
+	 * <span class="en-US">Startup futures of launchers which in starting, mapping key is launcher class name</span>
+	 * <span class="zh-CN">正在启动的启动器的异步任务，映射键为启动器类名</span>
+	 */
+	private final Map<String, CompletableFuture<Void>> launchFutures;
+	/**
+	 * <span class="en-US">Executor for starting launchers concurrently</span>
+	 * <span class="zh-CN">用于并发启动启动器的执行器</span>
+	 */
+	private final ExecutorService startupExecutor;
 	/**
 	 * <span class="en-US">Schedule executor for update startup launcher configure</span>
 	 * <span class="en-US">启动器配置信息更新调度程序</span>
 	 */
 	private final ScheduledExecutorService scheduledExecutorService;
-	/**
-	 * <span class="en-US">Schedule task running status</span>
-	 * <span class="en-US">调度任务执行状态</span>
-	 */
-	private boolean running = Boolean.FALSE;
 
 	/**
 	 * <h3 class="en-US">Private constructor method for StartupManager</h3>
@@ -81,20 +118,32 @@ public final class StartupManager {
 	 */
 	private StartupManager(final StartupConfig startupConfig) {
 		this.startupConfig = (startupConfig == null) ? new StartupConfig() : startupConfig;
-		this.runningLaunchers = new ArrayList<>();
+		this.launcherConfigs = new ConcurrentHashMap<>();
+		this.startupConfig.getRegisteredLaunchers()
+				.stream()
+				.filter(launcherConfig -> launcherConfig.getLauncherClass() != null)
+				.forEach(launcherConfig ->
+						this.launcherConfigs.put(launcherConfig.getLauncherClass().getName(), launcherConfig));
+		this.configLock = new ReentrantLock();
+		this.serviceLoader = ServiceLoader.load(StartupLauncher.class);
+		this.runningLaunchers = new ConcurrentHashMap<>();
+		this.startupTimes = new ConcurrentHashMap<>();
+		this.launchFutures = new ConcurrentHashMap<>();
+		this.startupExecutor = Executors.newCachedThreadPool();
 		this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-		this.scheduledExecutorService.scheduleWithFixedDelay(this::scanConfig, Globals.DEFAULT_SCHEDULE_DELAY,
-				SCHEDULE_PERIOD, TimeUnit.MILLISECONDS);
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 			if (StartupManager.INSTANCE != null) {
 				StartupManager.INSTANCE.destroy();
 				StartupManager.INSTANCE = null;
 			}
 		}));
-		this.startupConfig.getRegisteredLaunchers()
+		ObjectUtils.registerMBean(this);
+		this.startLaunchers(this.launcherConfigs.values()
 				.stream()
 				.filter(launcherConfig -> StartupType.AUTO.equals(launcherConfig.getStartupType()))
-				.forEach(this::startLauncher);
+				.toList());
+		this.scheduledExecutorService.scheduleWithFixedDelay(this::scanConfig, Globals.DEFAULT_SCHEDULE_DELAY,
+				SCHEDULE_PERIOD, TimeUnit.MILLISECONDS);
 	}
 
 	/**
@@ -133,38 +182,54 @@ public final class StartupManager {
 	 * <span class="en-US">启动器配置信息列表</span>
 	 */
 	public List<LauncherConfig> registeredLaunchers() {
-		return this.startupConfig.getRegisteredLaunchers();
+		return new ArrayList<>(this.launcherConfigs.values());
 	}
 
-	public void config(final String className, final StartupType startupType) {
-		final AtomicBoolean modified = new AtomicBoolean(Boolean.FALSE);
-		long startTime = DateTimeUtils.currentUTCTimeMillis();
+	/**
+	 * <h3 class="en-US">Obtain class names of running launchers</h3>
+	 * <h3 class="zh-CN">获取正在运行的启动器类名</h3>
+	 *
+	 * @return <span class="en-US">Class name list of running launchers</span>
+	 * <span class="zh-CN">正在运行的启动器类名列表</span>
+	 */
+	@Override
+	public List<String> getRunningLaunchers() {
+		return new ArrayList<>(this.runningLaunchers.keySet());
+	}
 
-		while (true) {
-			if (!this.running) {
-				this.running = Boolean.TRUE;
-				break;
-			}
-			if (1000L < (DateTimeUtils.currentUTCTimeMillis() - startTime)) {
-				return;
-			}
-		}
-		List<LauncherConfig> registeredLaunchers = this.startupConfig.getRegisteredLaunchers();
-		registeredLaunchers.replaceAll(launcherConfig -> {
-			if (ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName())
+	/**
+	 * <h3 class="en-US">Obtain the last startup time of launchers</h3>
+	 * <h3 class="zh-CN">获取启动器最后一次启动的耗时</h3>
+	 *
+	 * @return <span class="en-US">Mapping of launcher class name and startup time in milliseconds</span>
+	 * <span class="zh-CN">启动器类名与启动耗时（毫秒）的映射</span>
+	 */
+	@Override
+	public Map<String, Long> getStartupTimes() {
+		return new HashMap<>(this.startupTimes);
+	}
+
+	/**
+	 * <h3 class="en-US">Modify startup type of registered launcher</h3>
+	 * <h3 class="zh-CN">修改注册的启动器的启动类型</h3>
+	 *
+	 * @param className   <span class="en-US">Launcher class name</span>
+	 *                    <span class="zh-CN">启动器类名</span>
+	 * @param startupType <span class="en-US">Enumeration value of startup type</span>
+	 *                    <span class="zh-CN">启动类型枚举值</span>
+	 */
+	public void config(final String className, final StartupType startupType) {
+		this.configLock.lock();
+		try {
+			LauncherConfig launcherConfig = this.launcherConfigs.get(className);
+			if (launcherConfig != null
 					&& !ObjectUtils.nullSafeEquals(launcherConfig.getStartupType(), startupType)) {
 				launcherConfig.setStartupType(startupType);
-				modified.set(Boolean.TRUE);
+				this.saveConfig();
 			}
-			return launcherConfig;
-		});
-
-		if (modified.get()) {
-			this.startupConfig.setRegisteredLaunchers(registeredLaunchers);
-			this.saveConfig();
+		} finally {
+			this.configLock.unlock();
 		}
-
-		this.running = Boolean.FALSE;
 	}
 
 	/**
@@ -178,12 +243,8 @@ public final class StartupManager {
 		if (this.runningLauncher(className)) {
 			return;
 		}
-		this.startupConfig.getRegisteredLaunchers()
-				.stream()
-				.filter(launcherConfig ->
-						ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName()))
-				.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()))
-				.forEach(this::startLauncher);
+		this.startableConfig(className)
+				.ifPresent(launcherConfig -> this.startLaunchers(List.of(launcherConfig)));
 	}
 
 	/**
@@ -194,21 +255,9 @@ public final class StartupManager {
 	 *                  <span class="en-US">启动器类名</span>
 	 */
 	public void stop(final String className) {
-		if (this.runningLauncher(className)) {
-			this.startupConfig.getRegisteredLaunchers()
-					.stream()
-					.filter(launcherConfig ->
-							ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName()))
-					.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()))
-					.forEach(launcherConfig ->
-							this.runningLaunchers.removeIf(startupLauncher -> {
-								if (ObjectUtils.nullSafeEquals(launcherConfig.getLauncherClass(),
-										startupLauncher.getClass())) {
-									startupLauncher.stop();
-									return Boolean.TRUE;
-								}
-								return Boolean.FALSE;
-							}));
+		if (this.runningLauncher(className) && this.startableConfig(className).isPresent()) {
+			Optional.ofNullable(this.runningLaunchers.remove(className))
+					.ifPresent(StartupLauncher::stop);
 		}
 	}
 
@@ -220,30 +269,161 @@ public final class StartupManager {
 	 *                  <span class="en-US">启动器类名</span>
 	 */
 	public void restart(final String className) {
-		this.startupConfig.getRegisteredLaunchers()
-				.stream()
-				.filter(launcherConfig ->
-						ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName()))
-				.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()))
-				.forEach(launcherConfig -> {
-					if (this.runningLauncher(className)) {
-						this.runningLaunchers.stream()
-								.filter(startupLauncher ->
-										ObjectUtils.nullSafeEquals(launcherConfig.getLauncherClass(),
-												startupLauncher.getClass()))
-								.forEach(startupLauncher -> {
-									startupLauncher.stop();
-									startupLauncher.startup();
-								});
+		this.startableConfig(className)
+				.ifPresent(launcherConfig -> {
+					StartupLauncher startupLauncher = this.runningLaunchers.get(className);
+					if (startupLauncher == null) {
+						this.startLaunchers(List.of(launcherConfig));
 					} else {
-						this.startLauncher(launcherConfig);
+						startupLauncher.stop();
+						long beginTime = DateTimeUtils.currentUTCTimeMillis();
+						startupLauncher.startup();
+						this.startupTimes.put(className, DateTimeUtils.currentUTCTimeMillis() - beginTime);
 					}
 				});
 	}
 
 	private boolean runningLauncher(@Nonnull final String className) {
-		return this.runningLaunchers.stream()
-				.anyMatch(startupLauncher -> ObjectUtils.nullSafeEquals(className, startupLauncher.getClass().getName()));
+		return this.runningLaunchers.containsKey(className);
+	}
+
+	/**
+	 * <h3 class="en-US">Find the registered and not disabled launcher configure information</h3>
+	 * <h3 class="zh-CN">查找已注册并且未禁用的启动器配置信息</h3>
+	 *
+	 * @param className <span class="en-US">Launcher class name</span>
+	 *                  <span class="zh-CN">启动器类名</span>
+	 * @return <span class="en-US">Launcher configure information instance</span>
+	 * <span class="zh-CN">启动器配置信息实例对象</span>
+	 */
+	private Optional<LauncherConfig> startableConfig(@Nonnull final String className) {
+		return Optional.ofNullable(this.launcherConfigs.get(className))
+				.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()));
+	}
+
+	/**
+	 * <h3 class="en-US">Start given launchers and wait for all startup tasks finished</h3>
+	 * <span class="en-US">
+	 *     The registered dependencies which not running were started too,
+	 *     failed or timeout launcher was logged and the launchers depend on it were not started.
+	 * </span>
+	 * <h3 class="zh-CN">启动给定的启动器并等待所有启动任务完成</h3>
+	 * <span class="zh-CN">未运行的已注册依赖启动器也会被启动，启动失败或超时的启动器会记录日志，依赖它的启动器不会被启动</span>
+	 *
+	 * @param launcherConfigs <span class="en-US">Launcher configure information list</span>
+	 *                        <span class="zh-CN">启动器配置信息列表</span>
+	 */
+	private void startLaunchers(@Nonnull final List<LauncherConfig> launcherConfigs) {
+		if (launcherConfigs.isEmpty()) {
+			return;
+		}
+		List<CompletableFuture<Void>> startupFutures = new ArrayList<>();
+		synchronized (this.launchFutures) {
+			launcherConfigs.forEach(launcherConfig ->
+					startupFutures.add(this.launchFuture(launcherConfig, new HashSet<>())));
+		}
+		startupFutures.forEach(startupFuture -> {
+			try {
+				startupFuture.join();
+			} catch (CompletionException | CancellationException ignored) {
+				// Error was logged by the startup task
+			}
+		});
+	}
+
+	/**
+	 * <h3 class="en-US">Generate startup future of given launcher, the startup futures of dependencies were generated first</h3>
+	 * <h3 class="zh-CN">生成给定启动器的启动异步任务，首先生成依赖启动器的启动异步任务</h3>
+	 *
+	 * @param launcherConfig <span class="en-US">Launcher configure information instance</span>
+	 *                       <span class="zh-CN">启动器配置信息实例对象</span>
+	 * @param visitingNames  <span class="en-US">Launcher class names in current dependency path</span>
+	 *                       <span class="zh-CN">当前依赖路径中的启动器类名</span>
+	 * @return <span class="en-US">Startup future of given launcher</span>
+	 * <span class="zh-CN">给定启动器的启动异步任务</span>
+	 */
+	private CompletableFuture<Void> launchFuture(@Nonnull final LauncherConfig launcherConfig,
+	                                             @Nonnull final Set<String> visitingNames) {
+		final String className = launcherConfig.getLauncherClass().getName();
+		if (this.runningLaunchers.containsKey(className)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		CompletableFuture<Void> existsFuture = this.launchFutures.get(className);
+		if (existsFuture != null) {
+			return existsFuture;
+		}
+		if (!visitingNames.add(className)) {
+			LOGGER.error("Launcher_Dependency_Circular", className);
+			return CompletableFuture.failedFuture(new IllegalStateException(className));
+		}
+		Launcher launcher = launcherConfig.getLauncherClass().getAnnotation(Launcher.class);
+		List<CompletableFuture<Void>> dependFutures = new ArrayList<>();
+		if (launcher != null) {
+			for (Class<?> dependClass : launcher.dependencies()) {
+				LauncherConfig dependConfig = this.startableConfig(dependClass.getName()).orElse(null);
+				if (dependConfig == null && !this.runningLaunchers.containsKey(dependClass.getName())) {
+					LOGGER.error("Launcher_Dependency_Not_Found", className, dependClass.getName());
+					dependFutures.add(CompletableFuture.failedFuture(new IllegalStateException(dependClass.getName())));
+				} else if (dependConfig != null) {
+					dependFutures.add(this.launchFuture(dependConfig, visitingNames));
+				}
+			}
+		}
+		visitingNames.remove(className);
+		final long timeout = (launcher == null) ? Globals.DEFAULT_VALUE_LONG : launcher.timeout();
+		CompletableFuture<Void> launchFuture =
+				CompletableFuture.allOf(dependFutures.toArray(CompletableFuture<?>[]::new))
+						.thenCompose(ignored -> this.startupFuture(launcherConfig, timeout))
+						.whenComplete((ignored, throwable) -> {
+							if (throwable != null) {
+								LOGGER.error("Launcher_Startup_Error", className);
+								if (LOGGER.isDebugEnabled()) {
+									LOGGER.debug("Stack_Message_Error", throwable);
+								}
+							}
+						});
+		this.launchFutures.put(className, launchFuture);
+		launchFuture.whenComplete((ignored, throwable) -> this.launchFutures.remove(className, launchFuture));
+		return launchFuture;
+	}
+
+	/**
+	 * <h3 class="en-US">Submit startup task of given launcher</h3>
+	 * <span class="en-US">
+	 *     When the timeout reached, the startup task was interrupted and the returned future failed.
+	 *     The launcher finished startup after timeout was stopped and not registered as running.
+	 * </span>
+	 * <h3 class="zh-CN">提交给定启动器的启动任务</h3>
+	 * <span class="zh-CN">超时后启动任务会被中断，返回的异步任务失败。超时后才完成启动的启动器会被停止，不会注册为运行状态。</span>
+	 *
+	 * @param launcherConfig <span class="en-US">Launcher configure information instance</span>
+	 *                       <span class="zh-CN">启动器配置信息实例对象</span>
+	 * @param timeout        <span class="en-US">Startup timeout in milliseconds, zero or negative value means no limit</span>
+	 *                       <span class="zh-CN">启动超时时间（毫秒），零或负数表示不限制</span>
+	 * @return <span class="en-US">Startup future of given launcher</span>
+	 * <span class="zh-CN">给定启动器的启动异步任务</span>
+	 */
+	private CompletableFuture<Void> startupFuture(@Nonnull final LauncherConfig launcherConfig, final long timeout) {
+		final CompletableFuture<Void> startupFuture = new CompletableFuture<>();
+		final AtomicBoolean finished = new AtomicBoolean(Boolean.FALSE);
+		final Future<?> startupTask = this.startupExecutor.submit(() -> {
+			try {
+				if (this.startLauncher(launcherConfig, finished)) {
+					startupFuture.complete(null);
+				}
+			} catch (Throwable e) {
+				startupFuture.completeExceptionally(e);
+			}
+		});
+		if (timeout > 0L) {
+			CompletableFuture.delayedExecutor(timeout, TimeUnit.MILLISECONDS).execute(() -> {
+				if (finished.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+					startupFuture.completeExceptionally(new TimeoutException());
+					startupTask.cancel(Boolean.TRUE);
+				}
+			});
+		}
+		return startupFuture;
 	}
 
 	/**
@@ -252,72 +432,129 @@ public final class StartupManager {
 	 *
 	 * @param launcherConfig <span class="en-US">Launcher configure information instance</span>
 	 *                       <span class="en-US">启动器配置信息实例对象</span>
+	 * @param finished       <span class="en-US">Finished status, the launcher was stopped if status was set by timeout</span>
+	 *                       <span class="zh-CN">完成状态，如果状态已被超时设置则停止启动器</span>
+	 * @return <span class="en-US"><code>true</code> if the launcher is running, <code>false</code> if stopped by timeout</span>
+	 * <span class="zh-CN">如果启动器正在运行返回<code>true</code>，如果因超时被停止返回<code>false</code></span>
 	 */
-	private void startLauncher(@Nonnull final LauncherConfig launcherConfig) {
-		if (this.runningLaunchers.stream().noneMatch(startupLauncher ->
-				ObjectUtils.nullSafeEquals(launcherConfig.getLauncherClass(), startupLauncher.getClass()))) {
-			StartupLauncher startupLauncher =
-					(StartupLauncher) ObjectUtils.newInstance(launcherConfig.getLauncherClass());
+	private boolean startLauncher(@Nonnull final LauncherConfig launcherConfig, @Nonnull final AtomicBoolean finished) {
+		String className = launcherConfig.getLauncherClass().getName();
+		if (this.runningLaunchers.containsKey(className)) {
+			finished.set(Boolean.TRUE);
+			return Boolean.TRUE;
+		}
+		long beginTime = DateTimeUtils.currentUTCTimeMillis();
+		StartupLauncher startupLauncher =
+				(StartupLauncher) ObjectUtils.newInstance(launcherConfig.getLauncherClass());
+		try {
 			startupLauncher.startup();
-			this.runningLaunchers.add(startupLauncher);
+		} catch (RuntimeException e) {
+			finished.set(Boolean.TRUE);
+			throw e;
+		}
+		if (!finished.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+			startupLauncher.stop();
+			return Boolean.FALSE;
+		}
+		this.runningLaunchers.put(className, startupLauncher);
+		long startupTime = DateTimeUtils.currentUTCTimeMillis() - beginTime;
+		this.startupTimes.put(className, startupTime);
+		LOGGER.info("Launcher_Startup_Time", className, startupTime);
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h3 class="en-US">Scan launcher configure immediately</h3>
+	 * <span class="en-US">
+	 *     Register the launchers which were added to the service providers, update the startup type of registered
+	 *     launchers and remove the launchers which were removed from the service providers.
+	 *     Wait for the configure lock if the configure information is modifying by other thread.
+	 * </span>
+	 * <h3 class="zh-CN">立即扫描启动器配置信息</h3>
+	 * <span class="zh-CN">
+	 *     注册服务提供者中新增的启动器，更新已注册启动器的启动类型并移除服务提供者中已删除的启动器。
+	 *     如果配置信息正在被其他线程修改则等待配置锁。
+	 * </span>
+	 */
+	public void scanLaunchers() {
+		this.configLock.lock();
+		try {
+			this.scan();
+		} finally {
+			this.configLock.unlock();
 		}
 	}
 
 	/**
 	 * <h3 class="en-US">Schedule task, using for checking launcher configure modified</h3>
+	 * <span class="en-US">The scan was skipped if the configure information is modifying by other thread.</span>
 	 * <h3 class="zh-CN">调度任务，用于扫描系统中启动器的修改</h3>
+	 * <span class="zh-CN">如果配置信息正在被其他线程修改则跳过本次扫描</span>
 	 */
 	private void scanConfig() {
-		if (this.running) {
+		if (!this.configLock.tryLock()) {
 			return;
 		}
+		try {
+			this.scan();
+		} finally {
+			this.configLock.unlock();
+		}
+	}
 
-		this.running = Boolean.TRUE;
-
-		List<Class<?>> scannedClasses = new ArrayList<>();
-		AtomicBoolean modified = new AtomicBoolean(Boolean.FALSE);
-		List<LauncherConfig> registeredLaunchers = this.startupConfig.getRegisteredLaunchers();
-		ServiceLoader.load(StartupLauncher.class).forEach(startupLauncher -> {
-			Class<?> launcherClass = startupLauncher.getClass();
-			if (launcherClass.isAnnotationPresent(Provider.class) && launcherClass.isAnnotationPresent(Launcher.class)) {
-				scannedClasses.add(launcherClass);
-				Launcher launcher = launcherClass.getAnnotation(Launcher.class);
-				if (registeredLaunchers.stream().anyMatch(launcherConfig ->
-						ObjectUtils.nullSafeEquals(launcherClass, launcherConfig.getLauncherClass()))) {
-					registeredLaunchers.replaceAll(launcherConfig -> {
-						if (ObjectUtils.nullSafeEquals(launcherClass, launcherConfig.getLauncherClass())
-								&& !ObjectUtils.nullSafeEquals(launcher.value(), launcherConfig.getStartupType())) {
-							launcherConfig.setStartupType(launcher.value());
-							modified.set(Boolean.TRUE);
-						}
-						return launcherConfig;
-					});
-				} else {
-					LauncherConfig launcherConfig = new LauncherConfig();
+	/**
+	 * <h3 class="en-US">Scan launcher classes from the service providers, must be invoked when holding the configure lock</h3>
+	 * <span class="en-US">Launcher classes were read from the service providers without instantiation.</span>
+	 * <h3 class="zh-CN">从服务提供者中扫描启动器类，必须在持有配置锁时调用</h3>
+	 * <span class="zh-CN">从服务提供者中读取启动器类而不创建实例对象</span>
+	 */
+	private void scan() {
+		try {
+			Set<String> scannedNames = new HashSet<>();
+			boolean modified = Boolean.FALSE;
+			this.serviceLoader.reload();
+			for (ServiceLoader.Provider<StartupLauncher> provider : this.serviceLoader.stream().toList()) {
+				Class<? extends StartupLauncher> launcherClass = provider.type();
+				if (!launcherClass.isAnnotationPresent(Provider.class) || !launcherClass.isAnnotationPresent(Launcher.class)) {
+					continue;
+				}
+				String className = launcherClass.getName();
+				scannedNames.add(className);
+				StartupType startupType = launcherClass.getAnnotation(Launcher.class).value();
+				LauncherConfig launcherConfig = this.launcherConfigs.get(className);
+				if (launcherConfig == null) {
+					launcherConfig = new LauncherConfig();
 
 					launcherConfig.setLauncherClass(launcherClass);
-					launcherConfig.setStartupType(launcher.value());
+					launcherConfig.setStartupType(startupType);
 
-					registeredLaunchers.add(launcherConfig);
-
-					modified.set(Boolean.TRUE);
+					this.launcherConfigs.put(className, launcherConfig);
+					modified = Boolean.TRUE;
+				} else if (!ObjectUtils.nullSafeEquals(startupType, launcherConfig.getStartupType())) {
+					launcherConfig.setStartupType(startupType);
+					modified = Boolean.TRUE;
 				}
 			}
-		});
-
-		if (registeredLaunchers.removeIf(launcherConfig ->
-				!scannedClasses.contains(launcherConfig.getLauncherClass()))) {
-			modified.set(Boolean.TRUE);
-		}
-		if (modified.get()) {
-			this.startupConfig.setRegisteredLaunchers(registeredLaunchers);
-			this.saveConfig();
+			if (this.launcherConfigs.keySet().retainAll(scannedNames)) {
+				modified = Boolean.TRUE;
+			}
+			if (modified) {
+				this.saveConfig();
+			}
+		} catch (ServiceConfigurationError e) {
+			LOGGER.error("Launcher_Scan_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
 		}
-
-		this.running = Boolean.FALSE;
 	}
 
+	/**
+	 * <h3 class="en-US">Save launcher configure information, must be invoked when holding the configure lock</h3>
+	 * <h3 class="zh-CN">保存启动器配置信息，必须在持有配置锁时调用</h3>
+	 */
 	private void saveConfig() {
+		this.startupConfig.setRegisteredLaunchers(new ArrayList<>(this.launcherConfigs.values()));
 		this.startupConfig.setLastModify(DateTimeUtils.currentUTCTimeMillis());
 		Optional.ofNullable(ConfigureManager.getInstance())
 				.ifPresent(configureManager -> configureManager.saveConfigure(this.startupConfig));
@@ -328,8 +565,11 @@ public final class StartupManager {
 	 * <h3 class="zh-CN">销毁所有已注册的启动器实例</h3>
 	 */
 	private void destroy() {
-		this.runningLaunchers.forEach(StartupLauncher::destroy);
-		this.runningLaunchers.clear();
 		this.scheduledExecutorService.shutdown();
+		this.startupExecutor.shutdownNow();
+		this.runningLaunchers.values().forEach(StartupLauncher::destroy);
+		this.runningLaunchers.clear();
+		this.startupTimes.clear();
+		ObjectUtils.unregisterMBean(this);
 	}
 }
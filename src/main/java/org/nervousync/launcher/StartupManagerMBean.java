@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.launcher;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">JMX monitoring interface of startup manager</h2>
+ * <h2 class="zh-CN">启动管理器的JMX监控接口</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:26:40 $
+ */
+public interface StartupManagerMBean {
+
+	/**
+	 * <h3 class="en-US">Obtain class names of running launchers</h3>
+	 * <h3 class="zh-CN">获取正在运行的启动器类名</h3>
+	 *
+	 * @return <span class="en-US">Class name list of running launchers</span>
+	 * <span class="zh-CN">正在运行的启动器类名列表</span>
+	 */
+	List<String> getRunningLaunchers();
+
+	/**
+	 * <h3 class="en-US">Obtain the last startup time of launchers</h3>
+	 * <h3 class="zh-CN">获取启动器最后一次启动的耗时</h3>
+	 *
+	 * @return <span class="en-US">Mapping of launcher class name and startup time in milliseconds</span>
+	 * <span class="zh-CN">启动器类名与启动耗时（毫秒）的映射</span>
+	 */
+	Map<String, Long> getStartupTimes();
+}
@@ -0,0 +1,557 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.mail.pool;
+
+import jakarta.mail.*;
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.nervousync.commons.Globals;
+import org.nervousync.mail.authenticator.DefaultAuthenticator;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Pool of authenticated mail server connections</h2>
+ * <span class="en-US">
+ *     Pools are registered by account and connection properties, the Session instance was shared in the pool.
+ *     Idle connections are checked before borrowed, the expired or disconnected connections will be closed.
+ *     Folders of IMAP store opened in read only mode are cached with the connection,
+ *     folders opened in read write mode are closed when the connection was released.
+ * </span>
+ * <h2 class="zh-CN">已认证的邮件服务器连接池</h2>
+ * <span class="zh-CN">
+ *     连接池按账户和连接属性注册，池中共享Session实例对象。借出前检查空闲连接，过期或已断开的连接将被关闭。
+ *     IMAP连接中以只读模式打开的文件夹随连接缓存，以读写模式打开的文件夹在连接归还时关闭。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:14:36 $
+ */
+public final class ConnectionPool {
+    /**
+     * <span class="en-US">Multilingual supported logger instance</span>
+     * <span class="zh-CN">多语言支持的日志对象</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ConnectionPool.class);
+    /**
+     * <span class="en-US">Maximum count of registered pools, the registry will be cleared when reached</span>
+     * <span class="zh-CN">最大注册连接池数量，达到后将清空注册表</span>
+     */
+    private static final int POOL_LIMIT = 64;
+    /**
+     * <span class="en-US">Maximum count of idle connections in each pool</span>
+     * <span class="zh-CN">每个连接池中的最大空闲连接数</span>
+     */
+    private static final int IDLE_LIMIT = 8;
+    /**
+     * <span class="en-US">Idle timeout of connection (Unit: milliseconds)</span>
+     * <span class="zh-CN">连接的空闲超时时间（单位：毫秒）</span>
+     */
+    private static final long IDLE_TIMEOUT = 5 * 60 * 1000L;
+    /**
+     * <span class="en-US">Registered pools</span>
+     * <span class="zh-CN">已注册的连接池</span>
+     */
+    private static final Map<PoolKey, ConnectionPool> REGISTERED_POOLS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Registry key of current pool</span>
+     * <span class="zh-CN">当前连接池的注册键值</span>
+     */
+    private final PoolKey poolKey;
+    /**
+     * <span class="en-US">Shared session instance</span>
+     * <span class="zh-CN">共享的Session实例对象</span>
+     */
+    private final Session session;
+    /**
+     * <span class="en-US">Idle connections, the last released connection at the head</span>
+     * <span class="zh-CN">空闲连接，最后归还的连接位于头部</span>
+     */
+    private final Deque<Connection<?>> idleConnections = new ConcurrentLinkedDeque<>();
+    /**
+     * <span class="en-US">Count of idle connections</span>
+     * <span class="zh-CN">空闲连接数</span>
+     */
+    private final AtomicInteger idleCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+    /**
+     * <span class="en-US">Count of created connections</span>
+     * <span class="zh-CN">已创建的连接数</span>
+     */
+    private final AtomicLong createdCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+    /**
+     * <span class="en-US">Count of reused connections</span>
+     * <span class="zh-CN">已复用的连接次数</span>
+     */
+    private final AtomicLong reusedCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+    /**
+     * <span class="en-US">Count of evicted connections</span>
+     * <span class="zh-CN">已回收的连接数</span>
+     */
+    private final AtomicLong evictedCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+
+    /**
+     * <h3 class="en-US">Private constructor for ConnectionPool</h3>
+     * <h3 class="zh-CN">邮件服务器连接池的私有构造方法</h3>
+     *
+     * @param poolKey <span class="en-US">Registry key of pool</span>
+     *                <span class="zh-CN">连接池的注册键值</span>
+     * @param debug   <span class="en-US">Session debug status</span>
+     *                <span class="zh-CN">Session调试状态</span>
+     */
+    private ConnectionPool(final PoolKey poolKey, final boolean debug) {
+        this.poolKey = poolKey;
+        Properties properties = new Properties();
+        properties.putAll(poolKey.properties());
+        this.session = Session.getInstance(properties, new DefaultAuthenticator(poolKey.userName(), poolKey.passWord()));
+        this.session.setDebug(debug);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve or create registered pool by given account and connection properties</h3>
+     * <h3 class="zh-CN">根据给定的账户和连接属性获取或创建已注册的连接池</h3>
+     *
+     * @param userName   <span class="en-US">Mail account username</span>
+     *                   <span class="zh-CN">邮件账户用户名</span>
+     * @param passWord   <span class="en-US">Mail account password</span>
+     *                   <span class="zh-CN">邮件账户密码</span>
+     * @param properties <span class="en-US">Connection properties</span>
+     *                   <span class="zh-CN">连接属性</span>
+     * @param debug      <span class="en-US">Session debug status</span>
+     *                   <span class="zh-CN">Session调试状态</span>
+     * @return <span class="en-US">Registered pool instance</span>
+     * <span class="zh-CN">已注册的连接池实例对象</span>
+     */
+    public static ConnectionPool retrieve(final String userName, final String passWord,
+                                          final Properties properties, final boolean debug) {
+        Map<String, String> propertyMap = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> propertyMap.put(key, properties.getProperty(key)));
+        PoolKey poolKey = new PoolKey(userName, passWord, Collections.unmodifiableMap(propertyMap));
+        ConnectionPool connectionPool = REGISTERED_POOLS.get(poolKey);
+        if (connectionPool != null) {
+            return connectionPool;
+        }
+        if (REGISTERED_POOLS.size() >= POOL_LIMIT) {
+            clear();
+        }
+        return REGISTERED_POOLS.computeIfAbsent(poolKey, key -> new ConnectionPool(key, debug));
+    }
+
+    /**
+     * <h3 class="en-US">Close expired and disconnected idle connections of all registered pools</h3>
+     * <h3 class="zh-CN">关闭所有已注册连接池中过期和已断开的空闲连接</h3>
+     */
+    public static void evictIdle() {
+        REGISTERED_POOLS.values().forEach(ConnectionPool::evict);
+    }
+
+    /**
+     * <h3 class="en-US">Remove all registered pools and close the idle connections</h3>
+     * <span class="en-US">The borrowed connections will be closed when released</span>
+     * <h3 class="zh-CN">移除所有已注册的连接池并关闭空闲连接</h3>
+     * <span class="zh-CN">已借出的连接将在归还时关闭</span>
+     */
+    public static void clear() {
+        List<ConnectionPool> poolList = new ArrayList<>(REGISTERED_POOLS.values());
+        REGISTERED_POOLS.clear();
+        poolList.forEach(ConnectionPool::closeIdle);
+    }
+
+    /**
+     * <h3 class="en-US">Statistics of registered pools</h3>
+     * <h3 class="zh-CN">已注册连接池的统计信息</h3>
+     *
+     * @return <span class="en-US">Statistics list</span>
+     * <span class="zh-CN">统计信息列表</span>
+     */
+    public static List<PoolStatistics> statistics() {
+        List<PoolStatistics> statisticsList = new ArrayList<>();
+        REGISTERED_POOLS.forEach((poolKey, connectionPool) ->
+                statisticsList.add(new PoolStatistics(poolKey.poolName(), connectionPool.createdCount.get(),
+                        connectionPool.reusedCount.get(), connectionPool.evictedCount.get(),
+                        connectionPool.idleCount.get())));
+        return statisticsList;
+    }
+
+    /**
+     * <h3 class="en-US">Borrow connected Store instance</h3>
+     * <h3 class="zh-CN">借出已连接的Store实例对象</h3>
+     *
+     * @param hostName <span class="en-US">Mail server host name</span>
+     *                 <span class="zh-CN">邮件服务器主机名</span>
+     * @param hostPort <span class="en-US">Mail server port</span>
+     *                 <span class="zh-CN">邮件服务器端口</span>
+     * @return <span class="en-US">Borrowed connection, close it to release the connection to the pool</span>
+     * <span class="zh-CN">借出的连接，关闭即归还到连接池</span>
+     * @throws MessagingException <span class="en-US">If connect failed</span>
+     *                            <span class="zh-CN">如果连接失败</span>
+     */
+    public Connection<Store> borrowStore(final String hostName, final int hostPort) throws MessagingException {
+        Connection<Store> connection = this.borrow(Store.class);
+        if (connection == null) {
+            Store store = this.session.getStore(this.session.getProperty("mail.store.protocol"));
+            store.connect(hostName, hostPort, this.poolKey.userName(), this.poolKey.passWord());
+            this.createdCount.incrementAndGet();
+            connection = new Connection<>(this, store);
+        }
+        return connection;
+    }
+
+    /**
+     * <h3 class="en-US">Borrow connected Transport instance</h3>
+     * <h3 class="zh-CN">借出已连接的Transport实例对象</h3>
+     *
+     * @return <span class="en-US">Borrowed connection, close it to release the connection to the pool</span>
+     * <span class="zh-CN">借出的连接，关闭即归还到连接池</span>
+     * @throws MessagingException <span class="en-US">If connect failed</span>
+     *                            <span class="zh-CN">如果连接失败</span>
+     */
+    public Connection<Transport> borrowTransport() throws MessagingException {
+        Connection<Transport> connection = this.borrow(Transport.class);
+        if (connection == null) {
+            Transport transport = this.session.getTransport("smtp");
+            transport.connect();
+            this.createdCount.incrementAndGet();
+            connection = new Connection<>(this, transport);
+        }
+        return connection;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for shared session instance</h3>
+     * <h3 class="zh-CN">共享的Session实例对象的Getter方法</h3>
+     *
+     * @return <span class="en-US">Shared session instance</span>
+     * <span class="zh-CN">共享的Session实例对象</span>
+     */
+    public Session getSession() {
+        return this.session;
+    }
+
+    /**
+     * <h3 class="en-US">Poll the healthy idle connection of given service type</h3>
+     * <h3 class="zh-CN">获取给定服务类型的可用空闲连接</h3>
+     *
+     * @param serviceClass <span class="en-US">Service class type</span>
+     *                     <span class="zh-CN">服务类型</span>
+     * @param <T>          <span class="en-US">Service type</span>
+     *                     <span class="zh-CN">服务类型</span>
+     * @return <span class="en-US">Idle connection or null if not found</span>
+     * <span class="zh-CN">空闲连接，未找到时返回null</span>
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Service> Connection<T> borrow(final Class<T> serviceClass) {
+        this.evict();
+        Connection<?> connection;
+        while ((connection = this.idleConnections.pollFirst()) != null) {
+            this.idleCount.decrementAndGet();
+            if (connection.expired() || !connection.service.isConnected()) {
+                this.evictedCount.incrementAndGet();
+                connection.disconnect();
+            } else if (serviceClass.isInstance(connection.service)) {
+                this.reusedCount.incrementAndGet();
+                return (Connection<T>) connection;
+            } else {
+                connection.disconnect();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <h3 class="en-US">Release connection to the pool</h3>
+     * <span class="en-US">Connection will be closed if pool was removed from registry or idle count reached limit</span>
+     * <h3 class="zh-CN">归还连接到连接池</h3>
+     * <span class="zh-CN">如果连接池已从注册表中移除或空闲连接数达到上限，连接将被关闭</span>
+     *
+     * @param connection <span class="en-US">Released connection</span>
+     *                   <span class="zh-CN">归还的连接</span>
+     */
+    private void release(final Connection<?> connection) {
+        connection.releaseFolders();
+        if (REGISTERED_POOLS.get(this.poolKey) == this) {
+            if (this.idleCount.incrementAndGet() <= IDLE_LIMIT) {
+                connection.lastUsed = System.currentTimeMillis();
+                this.idleConnections.offerFirst(connection);
+                if (REGISTERED_POOLS.get(this.poolKey) != this) {
+                    //  Pool was removed while releasing
+                    this.closeIdle();
+                }
+                return;
+            }
+            this.idleCount.decrementAndGet();
+        }
+        connection.disconnect();
+    }
+
+    /**
+     * <h3 class="en-US">Close expired idle connections</h3>
+     * <span class="en-US">Idle connections are ordered by released time, check from the tail</span>
+     * <h3 class="zh-CN">关闭过期的空闲连接</h3>
+     * <span class="zh-CN">空闲连接按归还时间排序，从尾部开始检查</span>
+     */
+    private void evict() {
+        Connection<?> connection;
+        while ((connection = this.idleConnections.peekLast()) != null && connection.expired()) {
+            if (this.idleConnections.removeLastOccurrence(connection)) {
+                this.idleCount.decrementAndGet();
+                this.evictedCount.incrementAndGet();
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Close all idle connections</h3>
+     * <h3 class="zh-CN">关闭所有空闲连接</h3>
+     */
+    private void closeIdle() {
+        Connection<?> connection;
+        while ((connection = this.idleConnections.pollFirst()) != null) {
+            this.idleCount.decrementAndGet();
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Borrowed connection</h2>
+     * <span class="en-US">Connection instance was used by one thread until released</span>
+     * <h2 class="zh-CN">借出的连接</h2>
+     * <span class="zh-CN">连接实例对象在归还前仅由一个线程使用</span>
+     *
+     * @param <T> <span class="en-US">Service type</span>
+     *            <span class="zh-CN">服务类型</span>
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:14:36 $
+     */
+    public static final class Connection<T extends Service> implements AutoCloseable {
+        /**
+         * <span class="en-US">Owner pool</span>
+         * <span class="zh-CN">所属的连接池</span>
+         */
+        private final ConnectionPool connectionPool;
+        /**
+         * <span class="en-US">Connected service instance</span>
+         * <span class="zh-CN">已连接的服务实例对象</span>
+         */
+        private final T service;
+        /**
+         * <span class="en-US">Opened folders, mapping key is folder name</span>
+         * <span class="zh-CN">已打开的文件夹，映射键值为文件夹名称</span>
+         */
+        private final Map<String, Folder> openedFolders = new HashMap<>();
+        /**
+         * <span class="en-US">Last released time</span>
+         * <span class="zh-CN">最后归还时间</span>
+         */
+        private long lastUsed;
+
+        /**
+         * <h3 class="en-US">Private constructor for Connection</h3>
+         * <h3 class="zh-CN">借出的连接的私有构造方法</h3>
+         *
+         * @param connectionPool <span class="en-US">Owner pool</span>
+         *                       <span class="zh-CN">所属的连接池</span>
+         * @param service        <span class="en-US">Connected service instance</span>
+         *                       <span class="zh-CN">已连接的服务实例对象</span>
+         */
+        private Connection(final ConnectionPool connectionPool, final T service) {
+            this.connectionPool = connectionPool;
+            this.service = service;
+            this.lastUsed = System.currentTimeMillis();
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for connected service instance</h3>
+         * <h3 class="zh-CN">已连接的服务实例对象的Getter方法</h3>
+         *
+         * @return <span class="en-US">Connected service instance</span>
+         * <span class="zh-CN">已连接的服务实例对象</span>
+         */
+        public T getService() {
+            return this.service;
+        }
+
+        /**
+         * <h3 class="en-US">Open folder by given folder name and mode</h3>
+         * <span class="en-US">The cached folder will be reused if it is still opened in the same mode</span>
+         * <h3 class="zh-CN">使用给定的模式打开给定名称的文件夹</h3>
+         * <span class="zh-CN">如果缓存的文件夹仍以相同模式打开，将复用该文件夹</span>
+         *
+         * @param readOnly   <span class="en-US">Read only status</span>
+         *                   <span class="zh-CN">只读模式状态</span>
+         * @param folderName <span class="en-US">folder name</span>
+         *                   <span class="zh-CN">文件夹名称</span>
+         * @return <span class="en-US">Opened Folder instance</span>
+         * <span class="zh-CN">打开的文件夹实例对象</span>
+         * @throws MessagingException <span class="en-US">If current service is not a store or open folder failed</span>
+         *                            <span class="zh-CN">如果当前服务不是Store或打开文件夹失败</span>
+         */
+        public Folder openFolder(final boolean readOnly, final String folderName) throws MessagingException {
+            if (!(this.service instanceof Store store)) {
+                throw new MessagingException("Folder is only available for store connection");
+            }
+            int openMode = readOnly ? Folder.READ_ONLY : Folder.READ_WRITE;
+            Folder folder = this.openedFolders.remove(folderName);
+            if (folder != null) {
+                if (folder.isOpen() && folder.getMode() == openMode) {
+                    this.openedFolders.put(folderName, folder);
+                    return folder;
+                }
+                closeFolder(folder);
+            }
+            folder = store.getFolder(folderName);
+            folder.open(openMode);
+            this.openedFolders.put(folderName, folder);
+            return folder;
+        }
+
+        /**
+         * <h3 class="en-US">Release current connection to the owner pool</h3>
+         * <h3 class="zh-CN">归还当前连接到所属的连接池</h3>
+         */
+        @Override
+        public void close() {
+            this.connectionPool.release(this);
+        }
+
+        /**
+         * <h3 class="en-US">Check current connection was expired</h3>
+         * <h3 class="zh-CN">检查当前连接是否已过期</h3>
+         *
+         * @return <span class="en-US">Check result</span>
+         * <span class="zh-CN">检查结果</span>
+         */
+        private boolean expired() {
+            return System.currentTimeMillis() - this.lastUsed > IDLE_TIMEOUT;
+        }
+
+        /**
+         * <h3 class="en-US">Close the folders which could not be cached</h3>
+         * <span class="en-US">
+         *     Only the folders of IMAP store opened in read only mode are cached,
+         *     close the other folders to expunge deleted messages and refresh the message list of POP3 folder
+         * </span>
+         * <h3 class="zh-CN">关闭不能缓存的文件夹</h3>
+         * <span class="zh-CN">仅缓存IMAP连接中以只读模式打开的文件夹，关闭其他文件夹以清除已删除的邮件并刷新POP3文件夹的邮件列表</span>
+         */
+        private void releaseFolders() {
+            Iterator<Folder> iterator = this.openedFolders.values().iterator();
+            while (iterator.hasNext()) {
+                Folder folder = iterator.next();
+                if (!(folder instanceof IMAPFolder) || !folder.isOpen() || folder.getMode() != Folder.READ_ONLY) {
+                    iterator.remove();
+                    closeFolder(folder);
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Close opened folders and disconnect the service</h3>
+         * <h3 class="zh-CN">关闭已打开的文件夹并断开服务连接</h3>
+         */
+        private void disconnect() {
+            this.openedFolders.values().forEach(Connection::closeFolder);
+            this.openedFolders.clear();
+            try {
+                this.service.close();
+            } catch (MessagingException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Close given folder and expunge deleted messages</h3>
+         * <h3 class="zh-CN">关闭给定的文件夹并清除已删除的邮件</h3>
+         *
+         * @param folder <span class="en-US">Folder instance</span>
+         *               <span class="zh-CN">文件夹实例对象</span>
+         */
+        private static void closeFolder(final Folder folder) {
+            try {
+                if (folder.isOpen()) {
+                    folder.close(folder.getMode() == Folder.READ_WRITE);
+                }
+            } catch (MessagingException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Statistics of registered pool</h2>
+     * <h2 class="zh-CN">已注册连接池的统计信息</h2>
+     *
+     * @param poolName     <span class="en-US">Pool name generated by configure</span>
+     *                     <span class="zh-CN">根据配置生成的连接池名称</span>
+     * @param createdCount <span class="en-US">Count of created connections</span>
+     *                     <span class="zh-CN">已创建的连接数</span>
+     * @param reusedCount  <span class="en-US">Count of reused connections</span>
+     *                     <span class="zh-CN">已复用的连接次数</span>
+     * @param evictedCount <span class="en-US">Count of evicted connections</span>
+     *                     <span class="zh-CN">已回收的连接数</span>
+     * @param idleCount    <span class="en-US">Count of idle connections</span>
+     *                     <span class="zh-CN">空闲连接数</span>
+     */
+    public record PoolStatistics(String poolName, long createdCount, long reusedCount, long evictedCount,
+                                 int idleCount) {
+    }
+
+    /**
+     * <h2 class="en-US">Registry key of pool</h2>
+     * <h2 class="zh-CN">连接池的注册键值</h2>
+     *
+     * @param userName   <span class="en-US">Mail account username</span>
+     *                   <span class="zh-CN">邮件账户用户名</span>
+     * @param passWord   <span class="en-US">Mail account password</span>
+     *                   <span class="zh-CN">邮件账户密码</span>
+     * @param properties <span class="en-US">Connection properties</span>
+     *                   <span class="zh-CN">连接属性</span>
+     */
+    private record PoolKey(String userName, String passWord, Map<String, String> properties) {
+        /**
+         * <h3 class="en-US">Generate pool name without sensitive information</h3>
+         * <h3 class="zh-CN">生成不包含敏感信息的连接池名称</h3>
+         *
+         * @return <span class="en-US">Generated pool name</span>
+         * <span class="zh-CN">生成的连接池名称</span>
+         */
+        String poolName() {
+            String protocol = this.properties.getOrDefault("mail.store.protocol", Globals.DEFAULT_VALUE_STRING);
+            String hostName = Globals.DEFAULT_VALUE_STRING;
+            for (Map.Entry<String, String> entry : this.properties.entrySet()) {
+                if (entry.getKey().endsWith(".host") && !entry.getKey().contains("proxy")) {
+                    hostName = entry.getValue();
+                    break;
+                }
+            }
+            return protocol + "://" + this.userName + "@" + hostName;
+        }
+
+        @Override
+        public String toString() {
+            return this.poolName();
+        }
+    }
+}
@@ -16,9 +16,7 @@
  */
 package org.nervousync.mail.protocol.impl;
 
-import jakarta.mail.Folder;
-import jakarta.mail.Message;
-import jakarta.mail.MessagingException;
+import jakarta.mail.*;
 import org.eclipse.angus.mail.pop3.POP3Folder;
 import org.nervousync.commons.Globals;
 import org.nervousync.proxy.ProxyConfig;
@@ -26,9 +24,7 @@ import org.nervousync.mail.operator.ReceiveOperator;
 import org.nervousync.mail.protocol.BaseProtocol;
 
 import java.io.Serial;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * <h2 class="en-US">Implements class of JavaMail POP3 protocol</h2>
@@ -44,6 +40,11 @@ public final class POP3Protocol extends BaseProtocol implements ReceiveOperator
 	 */
     @Serial
 	private static final long serialVersionUID = -8698112033277399242L;
+	/**
+	 * <span class="en-US">Mapping of UID string and message number, mapping key is opened folder instance</span>
+	 * <span class="zh-CN">唯一识别ID字符串与邮件序号的映射表，映射键值为已打开的文件夹实例对象</span>
+	 */
+	private transient Map<Folder, Map<String, Integer>> registeredNumbers;
     /**
      * <h3 class="en-US">Constructor method for POP3Protocol</h3>
      * <h3 class="zh-CN">POP3Protocol构造方法</h3>
@@ -100,10 +101,9 @@ public final class POP3Protocol extends BaseProtocol implements ReceiveOperator
 	@Override
 	public Message readMessage(Folder folder, String uid) throws MessagingException {
 		if (folder instanceof POP3Folder) {
-			for (Message msg : folder.getMessages()) {
-				if (((POP3Folder) folder).getUID(msg).equals(uid)) {
-					return msg;
-				}
+			Integer messageNumber = this.messageNumbers((POP3Folder) folder).get(uid);
+			if (messageNumber != null) {
+				return folder.getMessage(messageNumber);
 			}
 		}
 		return null;
@@ -128,13 +128,58 @@ public final class POP3Protocol extends BaseProtocol implements ReceiveOperator
 	public List<Message> readMessages(Folder folder, String... uidArrays) throws MessagingException {
 		List<Message> messageList = new ArrayList<>();
 		if (folder instanceof POP3Folder) {
-			List<String> uidList = Arrays.asList(uidArrays);
-			for (Message message : folder.getMessages()) {
-				if (uidList.contains(((POP3Folder)folder).getUID(message))) {
-					messageList.add(message);
-				}
+			Map<String, Integer> messageNumbers = this.messageNumbers((POP3Folder) folder);
+			TreeSet<Integer> numberSet = new TreeSet<>();
+			for (String uid : uidArrays) {
+				Optional.ofNullable(messageNumbers.get(uid)).ifPresent(numberSet::add);
+			}
+			for (Integer messageNumber : numberSet) {
+				messageList.add(folder.getMessage(messageNumber));
 			}
 		}
 		return messageList;
 	}
+    /**
+     * <h3 class="en-US">Read the mapping of UID string and message number of given opened folder</h3>
+     * <span class="en-US">
+     *     Message numbers of POP3 folder are not changed until the folder was closed,
+     *     the UID list was read by one UIDL command and the mapping was cached with the folder instance
+     * </span>
+     * <h3 class="zh-CN">读取给定的已打开文件夹中唯一识别ID字符串与邮件序号的映射表</h3>
+     * <span class="zh-CN">POP3文件夹的邮件序号在文件夹关闭前不会改变，唯一识别ID列表通过一次UIDL命令读取，映射表随文件夹实例对象缓存</span>
+     *
+     * @param folder    <span class="en-US">Opened POP3 folder instance</span>
+     *                  <span class="zh-CN">已打开的POP3文件夹实例对象</span>
+     *
+     * @return  <span class="en-US">Mapping of UID string and message number</span>
+     *          <span class="zh-CN">唯一识别ID字符串与邮件序号的映射表</span>
+     *
+     * @throws MessagingException
+     * <span class="en-US">If an error occurs when read UID list</span>
+     * <span class="zh-CN">当读取唯一识别ID列表时出现异常</span>
+     */
+	private Map<String, Integer> messageNumbers(final POP3Folder folder) throws MessagingException {
+		Map<Folder, Map<String, Integer>> registeredNumbers;
+		synchronized (this) {
+			if (this.registeredNumbers == null) {
+				this.registeredNumbers = new WeakHashMap<>();
+			}
+			registeredNumbers = this.registeredNumbers;
+		}
+		synchronized (registeredNumbers) {
+			Map<String, Integer> messageNumbers = registeredNumbers.get(folder);
+			if (messageNumbers == null) {
+				Message[] messages = folder.getMessages();
+				FetchProfile fetchProfile = new FetchProfile();
+				fetchProfile.add(UIDFolder.FetchProfileItem.UID);
+				folder.fetch(messages, fetchProfile);
+				messageNumbers = new HashMap<>(messages.length);
+				for (Message message : messages) {
+					messageNumbers.put(folder.getUID(message), message.getMessageNumber());
+				}
+				registeredNumbers.put(folder, messageNumbers);
+			}
+			return messageNumbers;
+		}
+	}
 }
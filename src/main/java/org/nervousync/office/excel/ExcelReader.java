@@ -20,8 +20,13 @@ package org.nervousync.office.excel;
 import org.nervousync.commons.Globals;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <h2 class="en-US">Excel file reader interface</h2>
@@ -87,6 +92,48 @@ public interface ExcelReader extends Closeable {
      */
     Map<String, List<List<String>>> read(final int beginRow, final int endRow);
 
+    /**
+     * <h3 class="en-US">Read data from all data sheets concurrently based on the given starting and ending row numbers</h3>
+     * <span class="en-US">Each data sheet was read by a task on the given executor, read sequentially if the executor is <code>null</code></span>
+     * <h3 class="zh-CN">根据给定的起始、终止行号并发读取所有数据表中的数据</h3>
+     * <span class="zh-CN">每个数据表由给定执行器上的一个任务读取，如果执行器为<code>null</code>则顺序读取</span>
+     *
+     * @param beginRow <span class="en-US">Begin row number</span>
+     *                 <span class="zh-CN">起始行号</span>
+     * @param endRow   <span class="en-US">End row number</span>
+     *                 <span class="zh-CN">终止行号</span>
+     * @param executor <span class="en-US">Executor to read data sheets</span>
+     *                 <span class="zh-CN">读取数据表使用的执行器</span>
+     * @return <span class="en-US">Mapping table of read data sheet name and data list</span>
+     * <span class="zh-CN">读取的数据表名和数据列表的映射表</span>
+     */
+    Map<String, List<List<String>>> read(final int beginRow, final int endRow, final Executor executor);
+
+    /**
+     * <h3 class="en-US">Read rows of all data sheets concurrently and pass to the consumer of each data sheet</h3>
+     * <span class="en-US">
+     *     The consumer factory was invoked once for each data sheet, data sheet will be skipped if the factory
+     *     returns <code>null</code>. Rows of the same data sheet were passed in order on the same thread,
+     *     consumers of different data sheets may be invoked concurrently.
+     * </span>
+     * <h3 class="zh-CN">并发读取所有数据表的数据行并传递给每个数据表的处理器</h3>
+     * <span class="zh-CN">
+     *     每个数据表调用一次处理器工厂，如果工厂返回<code>null</code>则跳过该数据表。
+     *     同一数据表的数据行在同一线程中按顺序传递，不同数据表的处理器可能被并发调用。
+     * </span>
+     *
+     * @param beginRow        <span class="en-US">Begin row number</span>
+     *                        <span class="zh-CN">起始行号</span>
+     * @param endRow          <span class="en-US">End row number</span>
+     *                        <span class="zh-CN">终止行号</span>
+     * @param consumerFactory <span class="en-US">Factory to create row data consumer by data sheet name</span>
+     *                        <span class="zh-CN">根据数据表名称创建行数据处理器的工厂</span>
+     * @param executor        <span class="en-US">Executor to read data sheets</span>
+     *                        <span class="zh-CN">读取数据表使用的执行器</span>
+     */
+    void readRows(final int beginRow, final int endRow,
+                  final Function<String, Consumer<List<String>>> consumerFactory, final Executor executor);
+
     /**
      * <h3 class="en-US">Read all data based on the given data sheet name</h3>
      * <h3 class="zh-CN">根据给定的数据表名称读取所有数据</h3>
@@ -115,4 +162,79 @@ public interface ExcelReader extends Closeable {
      */
     List<List<String>> read(final String sheetName, final int beginRow, final int endRow);
 
+    /**
+     * <h3 class="en-US">Read rows one by one based on the given data sheet name, starting and ending row numbers</h3>
+     * <span class="en-US">
+     *     Rows were not collected in memory, each row was passed to the given consumer as soon as it was parsed,
+     *     reading stops when the ending row number was reached.
+     * </span>
+     * <h3 class="zh-CN">根据给定的数据表名称和起始、终止行号逐行读取数据</h3>
+     * <span class="zh-CN">数据行不在内存中汇总，每行解析完成后立即传递给给定的处理器，到达终止行号后立即停止读取</span>
+     *
+     * @param sheetName   <span class="en-US">Data sheet name</span>
+     *                    <span class="zh-CN">数据表名称</span>
+     * @param beginRow    <span class="en-US">Begin row number</span>
+     *                    <span class="zh-CN">起始行号</span>
+     * @param endRow      <span class="en-US">End row number</span>
+     *                    <span class="zh-CN">终止行号</span>
+     * @param rowConsumer <span class="en-US">Row data consumer</span>
+     *                    <span class="zh-CN">行数据处理器</span>
+     */
+    void readRows(final String sheetName, final int beginRow, final int endRow,
+                  final Consumer<List<String>> rowConsumer);
+
+    /**
+     * <h3 class="en-US">Read rows and convert to object instances by given row mapper</h3>
+     * <span class="en-US">Row which mapped result is <code>null</code> will be ignored</span>
+     * <h3 class="zh-CN">读取数据行并使用给定的行转换器转换为对象实例</h3>
+     * <span class="zh-CN">转换结果为<code>null</code>的行将被忽略</span>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @param beginRow  <span class="en-US">Begin row number</span>
+     *                  <span class="zh-CN">起始行号</span>
+     * @param endRow    <span class="en-US">End row number</span>
+     *                  <span class="zh-CN">终止行号</span>
+     * @param rowMapper <span class="en-US">Row mapper</span>
+     *                  <span class="zh-CN">行转换器</span>
+     * @param <T>       <span class="en-US">Target object type</span>
+     *                  <span class="zh-CN">目标对象类型</span>
+     * @return <span class="en-US">Converted object instance list</span>
+     * <span class="zh-CN">转换后的对象实例列表</span>
+     */
+    default <T> List<T> readBeans(final String sheetName, final int beginRow, final int endRow,
+                                  final Function<List<String>, T> rowMapper) {
+        final List<T> beanList = new ArrayList<>();
+        this.readRows(sheetName, beginRow, endRow,
+                rowData -> Optional.ofNullable(rowMapper.apply(rowData)).ifPresent(beanList::add));
+        return beanList;
+    }
+
+    /**
+     * <h3 class="en-US">Read rows and convert to bean instances</h3>
+     * <span class="en-US">
+     *     The cell value of each column will be parsed and set to the field which name at the same index
+     *     of given field names, empty field name means ignore the column.
+     * </span>
+     * <h3 class="zh-CN">读取数据行并转换为实体类实例</h3>
+     * <span class="zh-CN">每列单元格的值将解析后设置到给定属性名数组中相同索引位置的属性，属性名为空表示忽略该列</span>
+     *
+     * @param sheetName  <span class="en-US">Data sheet name</span>
+     *                   <span class="zh-CN">数据表名称</span>
+     * @param beginRow   <span class="en-US">Begin row number</span>
+     *                   <span class="zh-CN">起始行号</span>
+     * @param endRow     <span class="en-US">End row number</span>
+     *                   <span class="zh-CN">终止行号</span>
+     * @param beanClass  <span class="en-US">Bean class</span>
+     *                   <span class="zh-CN">实体类</span>
+     * @param fieldNames <span class="en-US">Field names in column order</span>
+     *                   <span class="zh-CN">按列顺序排列的属性名</span>
+     * @param <T>        <span class="en-US">Bean type</span>
+     *                   <span class="zh-CN">实体类类型</span>
+     * @return <span class="en-US">Converted bean instance list</span>
+     * <span class="zh-CN">转换后的实体类实例列表</span>
+     */
+    <T> List<T> readBeans(final String sheetName, final int beginRow, final int endRow,
+                          final Class<T> beanClass, final String... fieldNames);
+
 }
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.office.excel;
+
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.Cell;
+import org.nervousync.utils.ClassUtils;
+import org.nervousync.utils.ReflectionUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">Column schema of data sheet for bulk writing</h2>
+ * <span class="en-US">
+ *     The cell writer of each column was bound to the value type when the column was defined,
+ *     so writing rows does not need to check the type of each cell value.
+ * </span>
+ * <h2 class="zh-CN">用于批量写入的数据表列定义</h2>
+ * <span class="zh-CN">每列的单元格写入方法在定义列时与数据类型绑定，写入数据行时无需检查每个单元格数据的类型</span>
+ *
+ * @param <T> <span class="en-US">Row data type</span>
+ *            <span class="zh-CN">行数据类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:48:12 $
+ */
+public final class SheetSchema<T> {
+
+    /**
+     * <span class="en-US">Default data format of date column</span>
+     * <span class="zh-CN">日期列的默认数据格式</span>
+     */
+    public static final String DEFAULT_DATE_FORMAT = BuiltinFormats.getBuiltinFormat(14);
+
+    /**
+     * <span class="en-US">Column define list</span>
+     * <span class="zh-CN">列定义列表</span>
+     */
+    private final List<Column<T>> columns = new ArrayList<>();
+
+    private SheetSchema() {
+    }
+
+    /**
+     * <h3 class="en-US">Create an empty schema</h3>
+     * <h3 class="zh-CN">创建空的列定义</h3>
+     *
+     * @param <T> <span class="en-US">Row data type</span>
+     *            <span class="zh-CN">行数据类型</span>
+     * @return <span class="en-US">Created schema instance</span>
+     * <span class="zh-CN">创建的列定义实例对象</span>
+     */
+    public static <T> SheetSchema<T> newSchema() {
+        return new SheetSchema<>();
+    }
+
+    /**
+     * <h3 class="en-US">Create schema by given bean class and field names</h3>
+     * <span class="en-US">
+     *     The field name was used as the column title, the column type was resolved by the field type:
+     *     number, date and boolean fields were written as typed cells, other fields were written as strings.
+     * </span>
+     * <h3 class="zh-CN">根据给定的实体类和属性名创建列定义</h3>
+     * <span class="zh-CN">属性名作为列标题，列类型根据属性类型确定：数字、日期和布尔属性写入为对应类型的单元格，其他属性写入为字符串</span>
+     *
+     * @param beanClass  <span class="en-US">Bean class</span>
+     *                   <span class="zh-CN">实体类</span>
+     * @param fieldNames <span class="en-US">Field names in column order</span>
+     *                   <span class="zh-CN">按列顺序排列的属性名</span>
+     * @param <T>        <span class="en-US">Bean type</span>
+     *                   <span class="zh-CN">实体类类型</span>
+     * @return <span class="en-US">Created schema instance</span>
+     * <span class="zh-CN">创建的列定义实例对象</span>
+     */
+    public static <T> SheetSchema<T> beanSchema(final Class<T> beanClass, final String... fieldNames) {
+        SheetSchema<T> sheetSchema = new SheetSchema<>();
+        for (String fieldName : fieldNames) {
+            Field field = ReflectionUtils.getFieldIfAvailable(beanClass, fieldName);
+            if (field == null) {
+                sheetSchema.stringColumn(fieldName, beanObject -> null);
+                continue;
+            }
+            ReflectionUtils.makeAccessible(field);
+            Class<?> fieldType = field.getType().isPrimitive()
+                    ? ClassUtils.primitiveWrapper(field.getType())
+                    : field.getType();
+            if (Number.class.isAssignableFrom(fieldType)) {
+                sheetSchema.numberColumn(fieldName,
+                        beanObject -> (Number) ReflectionUtils.getFieldValue(field, beanObject));
+            } else if (Date.class.isAssignableFrom(fieldType)) {
+                sheetSchema.dateColumn(fieldName,
+                        beanObject -> (Date) ReflectionUtils.getFieldValue(field, beanObject));
+            } else if (Boolean.class.equals(fieldType)) {
+                sheetSchema.booleanColumn(fieldName,
+                        beanObject -> (Boolean) ReflectionUtils.getFieldValue(field, beanObject));
+            } else {
+                sheetSchema.stringColumn(fieldName, beanObject ->
+                        Optional.ofNullable(ReflectionUtils.getFieldValue(field, beanObject))
+                                .map(Object::toString)
+                                .orElse(null));
+            }
+        }
+        return sheetSchema;
+    }
+
+    /**
+     * <h3 class="en-US">Add string column</h3>
+     * <h3 class="zh-CN">添加字符串列</h3>
+     *
+     * @param title       <span class="en-US">Column title</span>
+     *                    <span class="zh-CN">列标题</span>
+     * @param valueGetter <span class="en-US">Function to get cell value from row data</span>
+     *                    <span class="zh-CN">从行数据中获取单元格数据的方法</span>
+     * @return <span class="en-US">Current schema instance</span>
+     * <span class="zh-CN">当前列定义实例对象</span>
+     */
+    public SheetSchema<T> stringColumn(final String title, final Function<T, String> valueGetter) {
+        return this.addColumn(title, null, (cell, rowData) -> {
+            String cellValue = valueGetter.apply(rowData);
+            if (cellValue != null) {
+                cell.setCellValue(cellValue);
+            }
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Add number column using general data format</h3>
+     * <h3 class="zh-CN">添加使用常规数据格式的数字列</h3>
+     *
+     * @param title       <span class="en-US">Column title</span>
+     *                    <span class="zh-CN">列标题</span>
+     * @param valueGetter <span class="en-US">Function to get cell value from row data</span>
+     *                    <span class="zh-CN">从行数据中获取单元格数据的方法</span>
+     * @return <span class="en-US">Current schema instance</span>
+     * <span class="zh-CN">当前列定义实例对象</span>
+     */
+    public SheetSchema<T> numberColumn(final String title, final Function<T, ? extends Number> valueGetter) {
+        return this.numberColumn(title, null, valueGetter);
+    }
+
+    /**
+     * <h3 class="en-US">Add number column using given data format</h3>
+     * <h3 class="zh-CN">添加使用给定数据格式的数字列</h3>
+     *
+     * @param title       <span class="en-US">Column title</span>
+     *                    <span class="zh-CN">列标题</span>
+     * @param dataFormat  <span class="en-US">Data format string, e.g. #,##0.00</span>
+     *                    <span class="zh-CN">数据格式字符串，例如：#,##0.00</span>
+     * @param valueGetter <span class="en-US">Function to get cell value from row data</span>
+     *                    <span class="zh-CN">从行数据中获取单元格数据的方法</span>
+     * @return <span class="en-US">Current schema instance</span>
+     * <span class="zh-CN">当前列定义实例对象</span>
+     */
+    public SheetSchema<T> numberColumn(final String title, final String dataFormat,
+                                       final Function<T, ? extends Number> valueGetter) {
+        return this.addColumn(title, dataFormat, (cell, rowData) -> {
+            Number cellValue = valueGetter.apply(rowData);
+            if (cellValue != null) {
+                cell.setCellValue(cellValue.doubleValue());
+            }
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Add date column using default data format</h3>
+     * <h3 class="zh-CN">添加使用默认数据格式的日期列</h3>
+     *
+     * @param title       <span class="en-US">Column title</span>
+     *                    <span class="zh-CN">列标题</span>
+     * @param valueGetter <span class="en-US">Function to get cell value from row data</span>
+     *                    <span class="zh-CN">从行数据中获取单元格数据的方法</span>
+     * @return <span class="en-US">Current schema instance</span>
+     * <span class="zh-CN">当前列定义实例对象</span>
+     */
+    public SheetSchema<T> dateColumn(final String title, final Function<T, Date> valueGetter) {
+        return this.dateColumn(title, DEFAULT_DATE_FORMAT, valueGetter);
+    }
+
+    /**
+     * <h3 class="en-US">Add date column using given data format</h3>
+     * <h3 class="zh-CN">添加使用给定数据格式的日期列</h3>
+     *
+     * @param title       <span class="en-US">Column title</span>
+     *                    <span class="zh-CN">列标题</span>
+     * @param dataFormat  <span class="en-US">Data format string, e.g. yyyy-mm-dd hh:mm:ss</span>
+     *                    <span class="zh-CN">数据格式字符串，例如：yyyy-mm-dd hh:mm:ss</span>
+     * @param valueGetter <span class="en-US">Function to get cell value from row data</span>
+     *                    <span class="zh-CN">从行数据中获取单元格数据的方法</span>
+     * @return <span class="en-US">Current schema instance</span>
+     * <span class="zh-CN">当前列定义实例对象</span>
+     */
+    public SheetSchema<T> dateColumn(final String title, final String dataFormat,
+                                     final Function<T, Date> valueGetter) {
+        return this.addColumn(title, dataFormat, (cell, rowData) -> {
+            Date cellValue = valueGetter.apply(rowData);
+            if (cellValue != null) {
+                cell.setCellValue(cellValue);
+            }
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Add boolean column</h3>
+     * <h3 class="zh-CN">添加布尔列</h3>
+     *
+     * @param title       <span class="en-US">Column title</span>
+     *                    <span class="zh-CN">列标题</span>
+     * @param valueGetter <span class="en-US">Function to get cell value from row data</span>
+     *                    <span class="zh-CN">从行数据中获取单元格数据的方法</span>
+     * @return <span class="en-US">Current schema instance</span>
+     * <span class="zh-CN">当前列定义实例对象</span>
+     */
+    public SheetSchema<T> booleanColumn(final String title, final Function<T, Boolean> valueGetter) {
+        return this.addColumn(title, null, (cell, rowData) -> {
+            Boolean cellValue = valueGetter.apply(rowData);
+            if (cellValue != null) {
+                cell.setCellValue(cellValue);
+            }
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for column define list</h3>
+     * <h3 class="zh-CN">列定义列表的Getter方法</h3>
+     *
+     * @return <span class="en-US">Unmodifiable column define list</span>
+     * <span class="zh-CN">不可修改的列定义列表</span>
+     */
+    public List<Column<T>> getColumns() {
+        return Collections.unmodifiableList(this.columns);
+    }
+
+    /**
+     * <h3 class="en-US">Check whether any column has title</h3>
+     * <h3 class="zh-CN">检查是否有列定义了标题</h3>
+     *
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public boolean hasHeader() {
+        return this.columns.stream().anyMatch(column -> StringUtils.notBlank(column.title()));
+    }
+
+    private SheetSchema<T> addColumn(final String title, final String dataFormat,
+                                     final BiConsumer<Cell, T> cellWriter) {
+        this.columns.add(new Column<>(title, dataFormat, cellWriter));
+        return this;
+    }
+
+    /**
+     * <h2 class="en-US">Column define</h2>
+     * <h2 class="zh-CN">列定义</h2>
+     *
+     * @param title      <span class="en-US">Column title</span>
+     *                   <span class="zh-CN">列标题</span>
+     * @param dataFormat <span class="en-US">Data format string, <code>null</code> for general format</span>
+     *                   <span class="zh-CN">数据格式字符串，常规格式为<code>null</code></span>
+     * @param cellWriter <span class="en-US">Method to write cell value from row data</span>
+     *                   <span class="zh-CN">从行数据写入单元格数据的方法</span>
+     * @param <T>        <span class="en-US">Row data type</span>
+     *                   <span class="zh-CN">行数据类型</span>
+     */
+    public record Column<T>(String title, String dataFormat, BiConsumer<Cell, T> cellWriter) {
+    }
+}
@@ -18,6 +18,8 @@
 package org.nervousync.office.excel;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * <h2 class="en-US">Sheet data writer interface</h2>
@@ -47,4 +49,38 @@ public interface SheetWriter {
 	 *                <span class="zh-CN">写入的数据信息</span>
 	 */
 	void appendData(final List<Object> rowData);
+
+	/**
+	 * <h3 class="en-US">Append the given row data stream to the end of the current data sheet using given schema</h3>
+	 * <span class="en-US">The header row was written first if schema defined column titles and current data sheet is empty</span>
+	 * <h3 class="zh-CN">使用给定的列定义追加给定的行数据流到当前数据表末尾</h3>
+	 * <span class="zh-CN">如果列定义包含列标题并且当前数据表为空，首先写入标题行</span>
+	 *
+	 * @param sheetSchema <span class="en-US">Column schema</span>
+	 *                    <span class="zh-CN">列定义</span>
+	 * @param rowStream   <span class="en-US">Row data stream</span>
+	 *                    <span class="zh-CN">行数据流</span>
+	 * @param <T>         <span class="en-US">Row data type</span>
+	 *                    <span class="zh-CN">行数据类型</span>
+	 * @return <span class="en-US">Number of written data rows, not including header row</span>
+	 * <span class="zh-CN">写入的数据行数，不包括标题行</span>
+	 */
+	<T> int writeRows(final SheetSchema<T> sheetSchema, final Stream<T> rowStream);
+
+	/**
+	 * <h3 class="en-US">Append the row data generated by given supplier to the end of the current data sheet using given schema</h3>
+	 * <span class="en-US">Writing was finished when the supplier returns <code>null</code></span>
+	 * <h3 class="zh-CN">使用给定的列定义追加给定生成器生成的行数据到当前数据表末尾</h3>
+	 * <span class="zh-CN">当生成器返回<code>null</code>时结束写入</span>
+	 *
+	 * @param sheetSchema <span class="en-US">Column schema</span>
+	 *                    <span class="zh-CN">列定义</span>
+	 * @param rowSupplier <span class="en-US">Row data supplier</span>
+	 *                    <span class="zh-CN">行数据生成器</span>
+	 * @param <T>         <span class="en-US">Row data type</span>
+	 *                    <span class="zh-CN">行数据类型</span>
+	 * @return <span class="en-US">Number of written data rows, not including header row</span>
+	 * <span class="zh-CN">写入的数据行数，不包括标题行</span>
+	 */
+	<T> int writeRows(final SheetSchema<T> sheetSchema, final Supplier<T> rowSupplier);
 }
@@ -19,10 +19,15 @@ package org.nervousync.office.excel.core;
 
 import org.nervousync.commons.Globals;
 import org.nervousync.office.excel.ExcelReader;
-import org.nervousync.utils.CollectionUtils;
-import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.*;
 
+import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <h2 class="en-US">Excel file reader abstract class</h2>
@@ -105,11 +110,132 @@ public abstract class AbstractExcelReader implements ExcelReader {
      */
     @Override
     public final Map<String, List<List<String>>> read(int beginRow, int endRow) {
-        final Map<String, List<List<String>>> dataMap = new HashMap<>();
-        this.sheetNames.forEach(sheetName ->
+        return this.read(beginRow, endRow, null);
+    }
+
+    /**
+     * <h3 class="en-US">Read data from all data sheets concurrently based on the given starting and ending row numbers</h3>
+     * <h3 class="zh-CN">根据给定的起始、终止行号并发读取所有数据表中的数据</h3>
+     *
+     * @param beginRow <span class="en-US">Begin row number</span>
+     *                 <span class="zh-CN">起始行号</span>
+     * @param endRow   <span class="en-US">End row number</span>
+     *                 <span class="zh-CN">终止行号</span>
+     * @param executor <span class="en-US">Executor to read data sheets</span>
+     *                 <span class="zh-CN">读取数据表使用的执行器</span>
+     * @return <span class="en-US">Mapping table of read data sheet name and data list</span>
+     * <span class="zh-CN">读取的数据表名和数据列表的映射表</span>
+     */
+    @Override
+    public Map<String, List<List<String>>> read(final int beginRow, final int endRow, final Executor executor) {
+        final Map<String, List<List<String>>> dataMap = new ConcurrentHashMap<>();
+        this.processSheets(sheetName ->
                 Optional.of(read(sheetName, beginRow, endRow))
                         .filter(dataList -> !CollectionUtils.isEmpty(dataList))
-                        .ifPresent(dataList -> dataMap.put(sheetName, dataList)));
-        return dataMap;
+                        .ifPresent(dataList -> dataMap.put(sheetName, dataList)), executor);
+        return new HashMap<>(dataMap);
+    }
+
+    /**
+     * <h3 class="en-US">Read rows of all data sheets concurrently and pass to the consumer of each data sheet</h3>
+     * <h3 class="zh-CN">并发读取所有数据表的数据行并传递给每个数据表的处理器</h3>
+     *
+     * @param beginRow        <span class="en-US">Begin row number</span>
+     *                        <span class="zh-CN">起始行号</span>
+     * @param endRow          <span class="en-US">End row number</span>
+     *                        <span class="zh-CN">终止行号</span>
+     * @param consumerFactory <span class="en-US">Factory to create row data consumer by data sheet name</span>
+     *                        <span class="zh-CN">根据数据表名称创建行数据处理器的工厂</span>
+     * @param executor        <span class="en-US">Executor to read data sheets</span>
+     *                        <span class="zh-CN">读取数据表使用的执行器</span>
+     */
+    @Override
+    public void readRows(final int beginRow, final int endRow,
+                         final Function<String, Consumer<List<String>>> consumerFactory, final Executor executor) {
+        if (consumerFactory == null) {
+            return;
+        }
+        this.processSheets(sheetName ->
+                Optional.ofNullable(consumerFactory.apply(sheetName))
+                        .ifPresent(rowConsumer -> this.readRows(sheetName, beginRow, endRow, rowConsumer)), executor);
+    }
+
+    /**
+     * <h3 class="en-US">Read rows and convert to bean instances</h3>
+     * <h3 class="zh-CN">读取数据行并转换为实体类实例</h3>
+     *
+     * @param sheetName  <span class="en-US">Data sheet name</span>
+     *                   <span class="zh-CN">数据表名称</span>
+     * @param beginRow   <span class="en-US">Begin row number</span>
+     *                   <span class="zh-CN">起始行号</span>
+     * @param endRow     <span class="en-US">End row number</span>
+     *                   <span class="zh-CN">终止行号</span>
+     * @param beanClass  <span class="en-US">Bean class</span>
+     *                   <span class="zh-CN">实体类</span>
+     * @param fieldNames <span class="en-US">Field names in column order</span>
+     *                   <span class="zh-CN">按列顺序排列的属性名</span>
+     * @param <T>        <span class="en-US">Bean type</span>
+     *                   <span class="zh-CN">实体类类型</span>
+     * @return <span class="en-US">Converted bean instance list</span>
+     * <span class="zh-CN">转换后的实体类实例列表</span>
+     */
+    @Override
+    public final <T> List<T> readBeans(final String sheetName, final int beginRow, final int endRow,
+                                       final Class<T> beanClass, final String... fieldNames) {
+        if (beanClass == null || fieldNames == null || fieldNames.length == 0) {
+            return new ArrayList<>();
+        }
+        final Field[] fields = new Field[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (StringUtils.notBlank(fieldNames[i])) {
+                fields[i] = ReflectionUtils.getFieldIfAvailable(beanClass, fieldNames[i]);
+            }
+        }
+        return this.readBeans(sheetName, beginRow, endRow, rowData -> {
+            T beanObject = ObjectUtils.newInstance(beanClass);
+            if (beanObject == null) {
+                return null;
+            }
+            int columnCount = Math.min(rowData.size(), fields.length);
+            for (int i = 0; i < columnCount; i++) {
+                Field field = fields[i];
+                if (field == null) {
+                    continue;
+                }
+                String cellData = rowData.get(i);
+                Object fieldValue = String.class.equals(field.getType())
+                        ? cellData
+                        : ClassUtils.parseSimpleData(cellData, field.getType());
+                if (fieldValue != null) {
+                    ReflectionUtils.setField(field, beanObject, fieldValue);
+                }
+            }
+            return beanObject;
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Execute the given task for each data sheet</h3>
+     * <span class="en-US">
+     *     Tasks were submitted to the given executor and this method returns after all tasks were finished,
+     *     tasks were executed in current thread if the executor is <code>null</code>
+     * </span>
+     * <h3 class="zh-CN">为每个数据表执行给定的任务</h3>
+     * <span class="zh-CN">任务提交到给定的执行器，所有任务完成后此方法返回，如果执行器为<code>null</code>则在当前线程中执行任务</span>
+     *
+     * @param sheetTask <span class="en-US">Task to process data sheet by given name</span>
+     *                  <span class="zh-CN">处理给定名称数据表的任务</span>
+     * @param executor  <span class="en-US">Executor to execute tasks</span>
+     *                  <span class="zh-CN">执行任务的执行器</span>
+     */
+    protected final void processSheets(final Consumer<String> sheetTask, final Executor executor) {
+        if (executor == null || this.sheetNames.size() < 2) {
+            this.sheetNames.forEach(sheetTask);
+            return;
+        }
+        CompletableFuture.allOf(this.sheetNames.stream()
+                        .map(sheetName -> CompletableFuture.runAsync(() -> sheetTask.accept(sheetName), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
     }
 }
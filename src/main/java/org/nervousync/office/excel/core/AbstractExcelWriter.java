@@ -17,6 +17,7 @@
 
 package org.nervousync.office.excel.core;
 
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.utils.IOUtils;
@@ -24,6 +25,8 @@ import org.nervousync.utils.LoggerUtils;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Excel file writer abstract class</h2>
@@ -44,6 +47,11 @@ public abstract class AbstractExcelWriter implements ExcelWriter {
      * <span class="zh-CN">Excel工作簿实例对象</span>
      */
     protected final Workbook workbook;
+    /**
+     * <span class="en-US">Cell style cache, mapping key is data format string</span>
+     * <span class="zh-CN">单元格样式缓存，映射键为数据格式字符串</span>
+     */
+    private final Map<String, CellStyle> cellStyles = new ConcurrentHashMap<>();
 
     /**
      * <h3 class="en-US">Constructor method for excel writer</h3>
@@ -56,6 +64,31 @@ public abstract class AbstractExcelWriter implements ExcelWriter {
         this.workbook = workbook;
     }
 
+    /**
+     * <h3 class="en-US">Get the shared cell style of the given data format</h3>
+     * <span class="en-US">
+     *     The cell style was created once for each data format and shared by all sheet writers of current workbook,
+     *     avoid exceeding the maximum number of cell styles in the workbook.
+     * </span>
+     * <h3 class="zh-CN">获取给定数据格式的共享单元格样式</h3>
+     * <span class="zh-CN">每种数据格式的单元格样式只创建一次并由当前工作簿的所有数据写入器共享，避免超出工作簿单元格样式的最大数量</span>
+     *
+     * @param dataFormat <span class="en-US">Data format string</span>
+     *                   <span class="zh-CN">数据格式字符串</span>
+     * @return <span class="en-US">Cell style instance object, or <code>null</code> if data format is null</span>
+     * <span class="zh-CN">单元格样式实例对象，如果数据格式为<code>null</code>则返回<code>null</code></span>
+     */
+    protected final CellStyle cellStyle(final String dataFormat) {
+        if (dataFormat == null) {
+            return null;
+        }
+        return this.cellStyles.computeIfAbsent(dataFormat, format -> {
+            CellStyle cellStyle = this.workbook.createCellStyle();
+            cellStyle.setDataFormat(this.workbook.getCreationHelper().createDataFormat().getFormat(format));
+            return cellStyle;
+        });
+    }
+
     /**
      * <h3 class="en-US">Write data to the given output stream</h3>
      * <h3 class="zh-CN">将数据写入到给定的输出流中</h3>
@@ -76,6 +109,7 @@ public abstract class AbstractExcelWriter implements ExcelWriter {
      */
     @Override
     public final void close() {
+        this.cellStyles.clear();
         IOUtils.closeStream(this.workbook);
     }
 }
@@ -17,31 +17,36 @@
 
 package org.nervousync.office.excel.impl;
 
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.ss.usermodel.BuiltinFormats;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.util.CellReference;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFRichTextString;
 import org.nervousync.commons.Globals;
 import org.nervousync.office.excel.core.AbstractExcelReader;
-import org.nervousync.utils.IOUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 import org.xml.sax.helpers.DefaultHandler;
 
 import javax.xml.parsers.SAXParserFactory;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -54,24 +59,112 @@ import java.util.regex.Pattern;
  */
 public final class EventModelReaderImpl extends AbstractExcelReader {
 
+    /**
+     * <span class="en-US">Pattern to match cell reference of column A</span>
+     * <span class="zh-CN">用于匹配A列单元格引用的正则表达式</span>
+     */
+    private static final Pattern FIRST_COLUMN_PATTERN = Pattern.compile("^A([0-9]+)$");
+    /**
+     * <span class="en-US">Pattern to match row number of cell reference</span>
+     * <span class="zh-CN">用于匹配单元格引用中行号的正则表达式</span>
+     */
+    private static final Pattern ROW_PATTERN = Pattern.compile("\\d+");
+    /**
+     * <span class="en-US">Pattern to match column name of cell reference</span>
+     * <span class="zh-CN">用于匹配单元格引用中列名的正则表达式</span>
+     */
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("[a-zA-Z]+");
+    /**
+     * <span class="en-US">Shared strings part larger than this size (in bytes) will be indexed to temporary files</span>
+     * <span class="zh-CN">大于此大小（字节）的共享字符串数据将索引到临时文件中</span>
+     */
+    private static final long SHARED_STRINGS_INDEX_SIZE = 64L * 1024 * 1024;
+
     /**
      * <span class="en-US">Excel document package</span>
      * <span class="zh-CN">Excel文档数据包</span>
      */
     private final OPCPackage opcPackage;
+    /**
+     * <span class="en-US">XSSF reader instance, shared by all read operations</span>
+     * <span class="zh-CN">XSSF读取器实例对象，所有读取操作共用</span>
+     */
+    private final XSSFReader xssfReader;
+    /**
+     * <span class="en-US">SAX parser factory instance</span>
+     * <span class="zh-CN">SAX解析器工厂实例对象</span>
+     */
+    private final SAXParserFactory parserFactory;
+    /**
+     * <span class="en-US">Size limit of shared strings part to use indexed shared strings</span>
+     * <span class="zh-CN">使用索引共享字符串表的共享字符串数据大小限制</span>
+     */
+    private final long indexSize;
+    /**
+     * <span class="en-US">Styles table, initialized when first used</span>
+     * <span class="zh-CN">样式表，首次使用时初始化</span>
+     */
+    private StylesTable stylesTable;
+    /**
+     * <span class="en-US">Shared strings table, initialized when first used</span>
+     * <span class="zh-CN">共享字符串表，首次使用时初始化</span>
+     */
+    private SharedStrings sharedStrings;
 
     /**
      * <h3 class="en-US">Constructor method for event model reader</h3>
+     * <span class="en-US">Shared strings will be indexed to temporary files if the shared strings part is larger than 64MB</span>
      * <h3 class="zh-CN">读取器构造方法</h3>
+     * <span class="zh-CN">如果共享字符串数据大于64MB，则将共享字符串索引到临时文件中</span>
      *
      * @param filePath <span class="en-US">File storage path</span>
      *                 <span class="zh-CN">文件存储路径</span>
-     * @throws InvalidFormatException <span class="en-US">If the file is not in XLSX format</span>
-     *                                <span class="zh-CN">如果文件不是XLSX格式</span>
+     * @throws IOException        <span class="en-US">If an error occurs when read the file</span>
+     *                            <span class="zh-CN">如果读取文件时出错</span>
+     * @throws OpenXML4JException <span class="en-US">If the file is not in XLSX format</span>
+     *                            <span class="zh-CN">如果文件不是XLSX格式</span>
+     */
+    public EventModelReaderImpl(final String filePath) throws IOException, OpenXML4JException {
+        this(filePath, SHARED_STRINGS_INDEX_SIZE);
+    }
+
+    /**
+     * <h3 class="en-US">Constructor method for event model reader</h3>
+     * <span class="en-US">
+     *     Shared strings will be indexed to temporary files if the given flag is <code>true</code>,
+     *     otherwise shared strings will be indexed only if the shared strings part is larger than 64MB
+     * </span>
+     * <h3 class="zh-CN">读取器构造方法</h3>
+     * <span class="zh-CN">
+     *     如果给定的标识为<code>true</code>，则始终将共享字符串索引到临时文件中，否则仅当共享字符串数据大于64MB时进行索引
+     * </span>
+     *
+     * @param filePath             <span class="en-US">File storage path</span>
+     *                             <span class="zh-CN">文件存储路径</span>
+     * @param indexedSharedStrings <span class="en-US">Always index shared strings to temporary files</span>
+     *                             <span class="zh-CN">始终将共享字符串索引到临时文件中</span>
+     * @throws IOException        <span class="en-US">If an error occurs when read the file</span>
+     *                            <span class="zh-CN">如果读取文件时出错</span>
+     * @throws OpenXML4JException <span class="en-US">If the file is not in XLSX format</span>
+     *                            <span class="zh-CN">如果文件不是XLSX格式</span>
      */
-    public EventModelReaderImpl(final String filePath) throws InvalidFormatException {
+    public EventModelReaderImpl(final String filePath, final boolean indexedSharedStrings)
+            throws IOException, OpenXML4JException {
+        this(filePath, indexedSharedStrings ? Globals.DEFAULT_VALUE_LONG : SHARED_STRINGS_INDEX_SIZE);
+    }
+
+    private EventModelReaderImpl(final String filePath, final long indexSize) throws IOException, OpenXML4JException {
         super(filePath);
         this.opcPackage = OPCPackage.open(filePath, PackageAccess.READ);
+        try {
+            this.xssfReader = new XSSFReader(this.opcPackage);
+        } catch (IOException | OpenXML4JException | RuntimeException e) {
+            this.opcPackage.revert();
+            throw e;
+        }
+        this.xssfReader.setUseReadOnlySharedStringsTable(Boolean.TRUE);
+        this.parserFactory = SAXParserFactory.newInstance();
+        this.indexSize = indexSize;
         this.parseSheetNames();
     }
 
@@ -81,8 +174,7 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
      */
     private void parseSheetNames() {
         try {
-            XSSFReader xssfReader = new XSSFReader(this.opcPackage);
-            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) this.xssfReader.getSheetsData();
             while (iterator.hasNext()) {
                 try (InputStream ignored = iterator.next()) {
                     this.sheetNames.add(iterator.getSheetName());
@@ -97,7 +189,12 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
 
     /**
      * <h3 class="en-US">Get the maximum number of records based on the given data table name</h3>
+     * <span class="en-US">
+     *     Read the used range from the dimension element at the beginning of the sheet,
+     *     count the rows by parsing the whole sheet only if the dimension element does not exist.
+     * </span>
      * <h3 class="zh-CN">根据给定的数据表名称获取最大记录数</h3>
+     * <span class="zh-CN">从数据表开头的dimension元素中读取使用范围，仅当dimension元素不存在时解析整个数据表计算行数</span>
      *
      * @param sheetName <span class="en-US">Data sheet name</span>
      *                  <span class="zh-CN">数据表名称</span>
@@ -110,17 +207,14 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
             return Globals.DEFAULT_VALUE_INT;
         }
         try {
-            XSSFReader xssfReader = new XSSFReader(this.opcPackage);
-            XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
-            MaxRowHandler maxRowHandler = new MaxRowHandler();
-            xmlReader.setContentHandler(maxRowHandler);
-            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
-            while (iterator.hasNext()) {
-                try (InputStream inputStream = iterator.next()) {
-                    if (ObjectUtils.nullSafeEquals(iterator.getSheetName(), sheetName)) {
-                        xmlReader.parse(new InputSource(inputStream));
-                        return maxRowHandler.getMaxRow();
-                    }
+            DimensionHandler dimensionHandler = new DimensionHandler();
+            if (this.parseSheet(sheetName, dimensionHandler)) {
+                if (dimensionHandler.getMaxRow() != Globals.DEFAULT_VALUE_INT) {
+                    return dimensionHandler.getMaxRow();
+                }
+                MaxRowHandler maxRowHandler = new MaxRowHandler();
+                if (this.parseSheet(sheetName, maxRowHandler)) {
+                    return maxRowHandler.getMaxRow();
                 }
             }
         } catch (Exception e) {
@@ -149,37 +243,164 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName)) {
             return new ArrayList<>();
         }
-        InputStream inputStream = null;
         try {
-            XSSFReader xssfReader = new XSSFReader(this.opcPackage);
-            XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
-            SheetHandler sheetHandler =
-                    new SheetHandler(xssfReader.getStylesTable(), xssfReader.getSharedStringsTable(), beginRow, endRow);
-            xmlReader.setContentHandler(sheetHandler);
-            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
-            while (iterator.hasNext()) {
-                inputStream = iterator.next();
-                if (ObjectUtils.nullSafeEquals(iterator.getSheetName(), sheetName)) {
-                    xmlReader.parse(new InputSource(inputStream));
-                    return sheetHandler.getDataList();
-                }
+            List<List<String>> dataList = new ArrayList<>();
+            if (this.parseSheet(sheetName, this.sheetHandler(beginRow, endRow, dataList, dataList::add))) {
+                return dataList;
             }
         } catch (Exception e) {
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Stack_Message_Error", e);
             }
-        } finally {
-            IOUtils.closeStream(inputStream);
         }
         return new ArrayList<>();
     }
 
+    /**
+     * <h3 class="en-US">Read rows one by one based on the given data sheet name, starting and ending row numbers</h3>
+     * <span class="en-US">
+     *     Parsing stops as soon as the ending row was reached, merged regions were not filled in this mode
+     *     because the merge information was stored after all rows of the sheet.
+     * </span>
+     * <h3 class="zh-CN">根据给定的数据表名称和起始、终止行号逐行读取数据</h3>
+     * <span class="zh-CN">到达终止行后立即停止解析，由于合并信息存储在数据表所有行之后，此模式下不填充合并区域的数据</span>
+     *
+     * @param sheetName   <span class="en-US">Data sheet name</span>
+     *                    <span class="zh-CN">数据表名称</span>
+     * @param beginRow    <span class="en-US">Begin row number</span>
+     *                    <span class="zh-CN">起始行号</span>
+     * @param endRow      <span class="en-US">End row number</span>
+     *                    <span class="zh-CN">终止行号</span>
+     * @param rowConsumer <span class="en-US">Row data consumer</span>
+     *                    <span class="zh-CN">行数据处理器</span>
+     */
+    @Override
+    public void readRows(final String sheetName, final int beginRow, final int endRow,
+                         final Consumer<List<String>> rowConsumer) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName) || rowConsumer == null) {
+            return;
+        }
+        try {
+            this.parseSheet(sheetName, this.sheetHandler(beginRow, endRow, null, rowConsumer));
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Stack_Message_Error", e);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Create sheet data handler</h3>
+     * <h3 class="zh-CN">创建数据表数据处理器</h3>
+     *
+     * @param beginRow    <span class="en-US">Begin row number</span>
+     *                    <span class="zh-CN">起始行号</span>
+     * @param endRow      <span class="en-US">End row number</span>
+     *                    <span class="zh-CN">终止行号</span>
+     * @param dataList    <span class="en-US">Read data list, <code>null</code> for streaming mode</span>
+     *                    <span class="zh-CN">读取的数据列表，流模式时为<code>null</code></span>
+     * @param rowConsumer <span class="en-US">Row data consumer</span>
+     *                    <span class="zh-CN">行数据处理器</span>
+     * @return <span class="en-US">Created handler instance</span>
+     * <span class="zh-CN">创建的处理器实例对象</span>
+     * @throws Exception <span class="en-US">If an error occurs when read styles or shared strings</span>
+     *                   <span class="zh-CN">读取样式或共享字符串时出现异常</span>
+     */
+    private SheetHandler sheetHandler(final int beginRow, final int endRow, final List<List<String>> dataList,
+                                      final Consumer<List<String>> rowConsumer) throws Exception {
+        return new SheetHandler(this.stylesTable(), this.sharedStrings(), beginRow, endRow, dataList, rowConsumer);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve the styles table, parse it when first used</h3>
+     * <h3 class="zh-CN">获取样式表，首次使用时解析</h3>
+     *
+     * @return <span class="en-US">Styles table instance</span>
+     * <span class="zh-CN">样式表实例对象</span>
+     * @throws Exception <span class="en-US">If an error occurs when read styles</span>
+     *                   <span class="zh-CN">读取样式时出现异常</span>
+     */
+    private synchronized StylesTable stylesTable() throws Exception {
+        if (this.stylesTable == null) {
+            this.stylesTable = this.xssfReader.getStylesTable();
+        }
+        return this.stylesTable;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve the shared strings table, parse it when first used</h3>
+     * <span class="en-US">
+     *     Shared strings were indexed to temporary files if the part size reached the limit,
+     *     otherwise loaded into a read-only shared strings table.
+     * </span>
+     * <h3 class="zh-CN">获取共享字符串表，首次使用时解析</h3>
+     * <span class="zh-CN">如果数据大小达到限制则将共享字符串索引到临时文件中，否则加载到只读共享字符串表中</span>
+     *
+     * @return <span class="en-US">Shared strings table instance</span>
+     * <span class="zh-CN">共享字符串表实例对象</span>
+     * @throws Exception <span class="en-US">If an error occurs when read shared strings</span>
+     *                   <span class="zh-CN">读取共享字符串时出现异常</span>
+     */
+    private synchronized SharedStrings sharedStrings() throws Exception {
+        if (this.sharedStrings == null) {
+            List<PackagePart> packageParts =
+                    this.opcPackage.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+            if (!packageParts.isEmpty() && packageParts.get(0).getSize() >= this.indexSize) {
+                try (InputStream inputStream = packageParts.get(0).getInputStream()) {
+                    this.sharedStrings = new IndexedSharedStrings(inputStream, this.parserFactory);
+                }
+            } else {
+                this.sharedStrings = this.xssfReader.getSharedStringsTable();
+            }
+        }
+        return this.sharedStrings;
+    }
+
+    /**
+     * <h3 class="en-US">Parse the data sheet by given name using given handler</h3>
+     * <span class="en-US">The parsing was stopped normally if the handler throws ParseStopException</span>
+     * <h3 class="zh-CN">使用给定的处理器解析给定名称的数据表</h3>
+     * <span class="zh-CN">如果处理器抛出ParseStopException则正常结束解析</span>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @param handler   <span class="en-US">SAX event handler</span>
+     *                  <span class="zh-CN">SAX事件处理器</span>
+     * @return <span class="en-US"><code>true</code> if the data sheet was found and parsed</span>
+     * <span class="zh-CN">如果找到并解析了数据表则返回<code>true</code></span>
+     * @throws Exception <span class="en-US">If an error occurs when parse data sheet</span>
+     *                   <span class="zh-CN">解析数据表时出现异常</span>
+     */
+    private boolean parseSheet(final String sheetName, final DefaultHandler handler) throws Exception {
+        XMLReader xmlReader = this.parserFactory.newSAXParser().getXMLReader();
+        xmlReader.setContentHandler(handler);
+        XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) this.xssfReader.getSheetsData();
+        while (iterator.hasNext()) {
+            try (InputStream inputStream = iterator.next()) {
+                if (ObjectUtils.nullSafeEquals(iterator.getSheetName(), sheetName)) {
+                    try {
+                        xmlReader.parse(new InputSource(inputStream));
+                    } catch (ParseStopException ignored) {
+                    }
+                    return Boolean.TRUE;
+                }
+            }
+        }
+        return Boolean.FALSE;
+    }
+
     /**
      * <h3 class="en-US">Close current data reader</h3>
      * <h3 class="zh-CN">关闭当前数据读取器</h3>
      */
     @Override
     public void close() {
+        synchronized (this) {
+            if (this.sharedStrings instanceof IndexedSharedStrings indexedSharedStrings) {
+                indexedSharedStrings.close();
+            }
+            this.sharedStrings = null;
+        }
         this.opcPackage.revert();
     }
 
@@ -198,7 +419,7 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         public void startElement(final String uri, final String localName, final String name,
                                  final Attributes attributes) {
             if ("c".equals(name)) {
-                if (Pattern.compile("^A([0-9]+)$").matcher(attributes.getValue("r")).find()) {
+                if (FIRST_COLUMN_PATTERN.matcher(attributes.getValue("r")).find()) {
                     this.maxRow++;
                 }
             }
@@ -209,6 +430,67 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         }
     }
 
+    /**
+     * <h2 class="en-US">Data processor to read maximum number of rows from the dimension element</h2>
+     * <span class="en-US">Parsing stops at the dimension element or the beginning of sheet data</span>
+     * <h2 class="zh-CN">从dimension元素读取最大行数的数据处理器</h2>
+     * <span class="zh-CN">解析在dimension元素或数据表数据开始时停止</span>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:12:36 $
+     */
+    private static final class DimensionHandler extends DefaultHandler {
+
+        private int maxRow = Globals.DEFAULT_VALUE_INT;
+
+        @Override
+        public void startElement(final String uri, final String localName, final String name,
+                                 final Attributes attributes) throws SAXException {
+            if ("dimension".equals(name)) {
+                String[] itemRef = StringUtils.tokenizeToStringArray(attributes.getValue("ref"), ":");
+                // A single cell reference was written by some generators regardless of the used range
+                if (itemRef.length == 2) {
+                    Matcher matcher = ROW_PATTERN.matcher(itemRef[1]);
+                    if (matcher.find()) {
+                        this.maxRow = Integer.parseInt(matcher.group());
+                    }
+                }
+                throw new ParseStopException();
+            } else if ("sheetData".equals(name)) {
+                throw new ParseStopException();
+            }
+        }
+
+        public int getMaxRow() {
+            return this.maxRow;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Exception to stop parsing when the required data was read</h2>
+     * <h2 class="zh-CN">读取到所需数据后用于停止解析的异常</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:15:08 $
+     */
+    private static final class ParseStopException extends SAXException {
+        /**
+         * <span class="en-US">Serial version UID</span>
+         * <span class="zh-CN">序列化UID</span>
+         */
+        @Serial
+        private static final long serialVersionUID = -3362054197125490821L;
+
+        private ParseStopException() {
+            super("Parse stopped");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     /**
      * <h2 class="en-US">Data processor to read detailed information</h2>
      * <h2 class="zh-CN">读取详细信息的数据处理器</h2>
@@ -223,9 +505,10 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         private final DataFormatter dataFormatter;
         private final int beginRow;
         private final int endRow;
-        private String lastContents;
+        private final List<List<String>> dataList;
+        private final Consumer<List<String>> rowConsumer;
+        private final StringBuilder cellContents = new StringBuilder();
         private CellDataType dataType;
-        private List<List<String>> dataList;
         private List<String> rowData = new ArrayList<>();
         private short formatIndex = Globals.DEFAULT_VALUE_SHORT;
         private String formatInfo = Globals.DEFAULT_VALUE_STRING;
@@ -233,35 +516,19 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         private int currentRow = Globals.INITIALIZE_INT_VALUE;
 
         private SheetHandler(final StylesTable stylesTable, final SharedStrings sharedStrings,
-                             final int beginRow, final int endRow) {
+                             final int beginRow, final int endRow, final List<List<String>> dataList,
+                             final Consumer<List<String>> rowConsumer) {
             this.stylesTable = stylesTable;
             this.sharedStrings = sharedStrings;
             this.beginRow = beginRow;
             this.endRow = endRow;
+            this.dataList = dataList;
+            this.rowConsumer = rowConsumer;
             this.dataFormatter = new DataFormatter();
-            this.resetDataList();
-        }
-
-        /**
-         * Reset data list.
-         */
-        void resetDataList() {
-            this.dataList = new ArrayList<>();
-            this.currentCol = Globals.INITIALIZE_INT_VALUE;
-            this.currentRow = Globals.INITIALIZE_INT_VALUE;
-        }
-
-        /**
-         * Gets the data list.
-         *
-         * @return the dataList
-         */
-        public List<List<String>> getDataList() {
-            return dataList;
         }
 
         private String parseRow(final String string) {
-            Matcher matcher = Pattern.compile("\\d+").matcher(string);
+            Matcher matcher = ROW_PATTERN.matcher(string);
             if (matcher.find()) {
                 return matcher.group();
             }
@@ -269,7 +536,7 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         }
 
         private String parseColumn(final String string) {
-            Matcher matcher = Pattern.compile("[a-zA-Z]+").matcher(string);
+            Matcher matcher = COLUMN_PATTERN.matcher(string);
             if (matcher.find()) {
                 return matcher.group();
             }
@@ -284,14 +551,23 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
                 return;
             }
 
-            if (name.equals("c") || name.equals("f")) {
+            if (name.equals("c")) {
                 this.parseCellDataType(attributes);
-                this.currentCol++;
-            } else if (name.equalsIgnoreCase("mergeCell")) {
+                // Empty cells were not written, so locate the column by cell reference when it exists
+                String cellRef = attributes.getValue("r");
+                this.currentCol = StringUtils.isEmpty(cellRef)
+                        ? this.currentCol + 1
+                        : CellReference.convertColStringToIndex(this.parseColumn(cellRef)) + 1;
+            } else if (this.dataList != null && name.equalsIgnoreCase("mergeCell")) {
                 String mergeRef = attributes.getValue("ref");
                 String[] itemRef = StringUtils.tokenizeToStringArray(mergeRef, ":");
-                int beginRow = Integer.parseInt(this.parseRow(itemRef[0])) - 1;
-                int endRow = Integer.parseInt(this.parseRow(itemRef[1]));
+                int offset = Math.max(this.beginRow, Globals.INITIALIZE_INT_VALUE);
+                int beginRow = Integer.parseInt(this.parseRow(itemRef[0])) - 1 - offset;
+                int endRow = Math.min(Integer.parseInt(this.parseRow(itemRef[1])) - offset, this.dataList.size());
+                if (beginRow < 0 || beginRow >= endRow) {
+                    this.cellContents.setLength(0);
+                    return;
+                }
                 int beginColumn = CellReference.convertColStringToIndex(this.parseColumn(itemRef[0]));
                 int endColumn = CellReference.convertColStringToIndex(this.parseColumn(itemRef[1]));
                 String mergeData = this.dataList.get(beginRow).get(beginColumn);
@@ -310,11 +586,12 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
                     this.dataList.set(i, rowData);
                 }
             }
-            this.lastContents = "";
+            this.cellContents.setLength(0);
         }
 
         @Override
-        public void endElement(final String uri, final String localName, final String name) {
+        public void endElement(final String uri, final String localName, final String name)
+                throws SAXException {
             if ((this.beginRow != Globals.DEFAULT_VALUE_INT && this.currentRow < this.beginRow)
                     || (this.endRow != Globals.DEFAULT_VALUE_INT && this.currentRow >= this.endRow)) {
                 if (name.equals("row")) {
@@ -326,30 +603,28 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
 
             switch (name) {
                 case "v":
-                    XSSFRichTextString xssfRichTextString;
+                    String cellValue = this.cellContents.toString();
                     switch (this.dataType) {
                         case BOOLEAN:
-                            this.lastContents = (this.lastContents.charAt(0) == '0') ? "false" : "true";
+                            cellValue = (cellValue.charAt(0) == '0') ? "false" : "true";
                             break;
                         case ERROR:
-                            this.lastContents = "\"Error: " + this.lastContents + "\"";
+                            cellValue = "\"Error: " + cellValue + "\"";
                             break;
                         case INLINE_STRING:
-                            xssfRichTextString = new XSSFRichTextString(this.lastContents);
-                            this.lastContents = xssfRichTextString.toString();
+                            cellValue = new XSSFRichTextString(cellValue).toString();
                             break;
                         case SSTINDEX:
                             try {
-                                int index = Integer.parseInt(this.lastContents);
-                                xssfRichTextString = (XSSFRichTextString) this.sharedStrings.getItemAt(index);
-                                this.lastContents = xssfRichTextString.toString();
+                                int index = Integer.parseInt(cellValue);
+                                cellValue = this.sharedStrings.getItemAt(index).getString();
                             } catch (NumberFormatException ignored) {
                             }
                             break;
                         case NUMBER:
                             if (this.formatInfo != null) {
-                                this.lastContents =
-                                        this.dataFormatter.formatRawCellContents(Double.parseDouble(this.lastContents),
+                                cellValue =
+                                        this.dataFormatter.formatRawCellContents(Double.parseDouble(cellValue),
                                                 this.formatIndex, this.formatInfo);
                             }
                             break;
@@ -357,24 +632,36 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
                             break;
                     }
 
-                    while ((this.currentCol - this.rowData.size()) > 1) {
-                        this.rowData.add(Globals.DEFAULT_VALUE_STRING);
-                    }
-                    this.rowData.add(this.currentCol - 1, this.lastContents);
+                    this.cellValue(cellValue);
                     break;
                 case "t":
                     if (CellDataType.INLINE_STRING.equals(this.dataType)) {
-                        this.rowData.add(this.currentCol - 1, this.lastContents);
+                        this.cellValue(this.cellContents.toString());
                     }
                     break;
                 case "row":
                     while (this.rowData.size() < this.currentCol) {
                         this.rowData.add(Globals.DEFAULT_VALUE_STRING);
                     }
-                    this.dataList.add(this.rowData);
+                    this.rowConsumer.accept(this.rowData);
                     this.rowData = new ArrayList<>();
                     this.currentRow++;
                     this.currentCol = Globals.INITIALIZE_INT_VALUE;
+                    // Merged regions were stored after sheet data, continue parsing only when collecting all rows
+                    if (this.endRow != Globals.DEFAULT_VALUE_INT && this.currentRow >= this.endRow) {
+                        throw new ParseStopException();
+                    }
+            }
+        }
+
+        private void cellValue(final String cellValue) {
+            while (this.rowData.size() < this.currentCol - 1) {
+                this.rowData.add(Globals.DEFAULT_VALUE_STRING);
+            }
+            if (this.rowData.size() == this.currentCol - 1) {
+                this.rowData.add(cellValue);
+            } else {
+                this.rowData.set(this.currentCol - 1, cellValue);
             }
         }
 
@@ -383,7 +670,7 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
                     || (this.endRow != Globals.DEFAULT_VALUE_INT && this.currentRow >= this.endRow)) {
                 return;
             }
-            this.lastContents += new String(ch, start, length);
+            this.cellContents.append(ch, start, length);
         }
 
         private void parseCellDataType(final Attributes attributes) {
@@ -0,0 +1,537 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.office.excel.impl;
+
+import org.apache.poi.hssf.eventusermodel.*;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.*;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.nervousync.commons.Globals;
+import org.nervousync.office.excel.core.AbstractExcelReader;
+import org.nervousync.utils.FileUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">HSSF event-driven Excel file reader for reading files in XLS format</h2>
+ * <span class="en-US">
+ *     Records of the workbook stream were processed one by one, the workbook object model was never built.
+ *     All data sheets were stored in a single record stream, so reading multiple data sheets was finished
+ *     in one pass instead of using the executor.
+ * </span>
+ * <h2 class="zh-CN">HSSF事件驱动的Excel文件读取器，用于读取XLS格式的文件</h2>
+ * <span class="zh-CN">
+ *     逐条处理工作簿数据流中的记录，不构建工作簿对象模型。
+ *     所有数据表存储在同一个记录流中，因此读取多个数据表时一次遍历完成，不使用执行器。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:02:47 $
+ */
+public final class HSSFEventModelReaderImpl extends AbstractExcelReader {
+
+    /**
+     * <span class="en-US">Excel document file system</span>
+     * <span class="zh-CN">Excel文档文件系统</span>
+     */
+    private final POIFSFileSystem fileSystem;
+
+    /**
+     * <h3 class="en-US">Constructor method for HSSF event model reader</h3>
+     * <span class="en-US">Local file was read on demand, other resources were loaded into memory as raw bytes</span>
+     * <h3 class="zh-CN">读取器构造方法</h3>
+     * <span class="zh-CN">本地文件按需读取，其他资源以原始字节加载到内存中</span>
+     *
+     * @param filePath <span class="en-US">File storage path</span>
+     *                 <span class="zh-CN">文件存储路径</span>
+     * @throws IOException <span class="en-US">If the file does not exist or a reading error occurs</span>
+     *                     <span class="zh-CN">如果文件不存在或读取出错</span>
+     */
+    public HSSFEventModelReaderImpl(final String filePath) throws IOException {
+        super(filePath);
+        POIFSFileSystem fileSystem;
+        try {
+            fileSystem = new POIFSFileSystem(FileUtils.getFile(filePath), Boolean.TRUE);
+        } catch (FileNotFoundException e) {
+            try (InputStream inputStream = FileUtils.getURL(filePath).openStream()) {
+                fileSystem = new POIFSFileSystem(inputStream);
+            }
+        }
+        this.fileSystem = fileSystem;
+        try {
+            this.sheetNames.addAll(this.processRecords(new HashMap<>()));
+        } catch (HSSFUserException | RuntimeException e) {
+            this.fileSystem.close();
+            throw new IOException(e);
+        } catch (IOException e) {
+            this.fileSystem.close();
+            throw e;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Get the maximum number of records based on the given data table name</h3>
+     * <span class="en-US">Count the row records of the data sheet, cell values were not parsed</span>
+     * <h3 class="zh-CN">根据给定的数据表名称获取最大记录数</h3>
+     * <span class="zh-CN">统计数据表的行记录数，不解析单元格数据</span>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @return <span class="en-US">Maximum number of records read</span>
+     * <span class="zh-CN">读取的最大记录数</span>
+     */
+    @Override
+    public int maxRow(final String sheetName) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName)) {
+            return Globals.DEFAULT_VALUE_INT;
+        }
+        SheetTarget sheetTarget = new SheetTarget(Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+                null, null);
+        if (this.process(Map.of(sheetName, sheetTarget), Boolean.FALSE)) {
+            return sheetTarget.rowCount;
+        }
+        return Globals.DEFAULT_VALUE_INT;
+    }
+
+    /**
+     * <h3 class="en-US">Read data based on the given data sheet name, starting and ending row numbers</h3>
+     * <h3 class="zh-CN">根据给定的数据表名称和起始、终止行号读取数据</h3>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @param beginRow  <span class="en-US">Begin row number</span>
+     *                  <span class="zh-CN">起始行号</span>
+     * @param endRow    <span class="en-US">End row number</span>
+     *                  <span class="zh-CN">终止行号</span>
+     * @return <span class="en-US">Read data list</span>
+     * <span class="zh-CN">读取的数据列表</span>
+     */
+    @Override
+    public List<List<String>> read(final String sheetName, final int beginRow, final int endRow) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName)) {
+            return new ArrayList<>();
+        }
+        List<List<String>> dataList = new ArrayList<>();
+        if (this.process(Map.of(sheetName, new SheetTarget(beginRow, endRow, dataList, dataList::add)),
+                Boolean.TRUE)) {
+            return dataList;
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * <h3 class="en-US">Read rows one by one based on the given data sheet name, starting and ending row numbers</h3>
+     * <span class="en-US">Merged regions were not filled in this mode because the merge information was stored after all cells</span>
+     * <h3 class="zh-CN">根据给定的数据表名称和起始、终止行号逐行读取数据</h3>
+     * <span class="zh-CN">由于合并信息存储在所有单元格之后，此模式下不填充合并区域的数据</span>
+     *
+     * @param sheetName   <span class="en-US">Data sheet name</span>
+     *                    <span class="zh-CN">数据表名称</span>
+     * @param beginRow    <span class="en-US">Begin row number</span>
+     *                    <span class="zh-CN">起始行号</span>
+     * @param endRow      <span class="en-US">End row number</span>
+     *                    <span class="zh-CN">终止行号</span>
+     * @param rowConsumer <span class="en-US">Row data consumer</span>
+     *                    <span class="zh-CN">行数据处理器</span>
+     */
+    @Override
+    public void readRows(final String sheetName, final int beginRow, final int endRow,
+                         final Consumer<List<String>> rowConsumer) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName) || rowConsumer == null) {
+            return;
+        }
+        this.process(Map.of(sheetName, new SheetTarget(beginRow, endRow, null, rowConsumer)), Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Read data from all data sheets in one pass based on the given starting and ending row numbers</h3>
+     * <h3 class="zh-CN">根据给定的起始、终止行号一次遍历读取所有数据表中的数据</h3>
+     *
+     * @param beginRow <span class="en-US">Begin row number</span>
+     *                 <span class="zh-CN">起始行号</span>
+     * @param endRow   <span class="en-US">End row number</span>
+     *                 <span class="zh-CN">终止行号</span>
+     * @param executor <span class="en-US">Executor to read data sheets, not used by this reader</span>
+     *                 <span class="zh-CN">读取数据表使用的执行器，此读取器不使用</span>
+     * @return <span class="en-US">Mapping table of read data sheet name and data list</span>
+     * <span class="zh-CN">读取的数据表名和数据列表的映射表</span>
+     */
+    @Override
+    public Map<String, List<List<String>>> read(final int beginRow, final int endRow, final Executor executor) {
+        final Map<String, List<List<String>>> dataMap = new HashMap<>();
+        final Map<String, SheetTarget> sheetTargets = new HashMap<>();
+        this.sheetNames.forEach(sheetName -> {
+            List<List<String>> dataList = new ArrayList<>();
+            dataMap.put(sheetName, dataList);
+            sheetTargets.put(sheetName, new SheetTarget(beginRow, endRow, dataList, dataList::add));
+        });
+        if (!this.process(sheetTargets, Boolean.TRUE)) {
+            return new HashMap<>();
+        }
+        dataMap.values().removeIf(List::isEmpty);
+        return dataMap;
+    }
+
+    /**
+     * <h3 class="en-US">Read rows of all data sheets in one pass and pass to the consumer of each data sheet</h3>
+     * <h3 class="zh-CN">一次遍历读取所有数据表的数据行并传递给每个数据表的处理器</h3>
+     *
+     * @param beginRow        <span class="en-US">Begin row number</span>
+     *                        <span class="zh-CN">起始行号</span>
+     * @param endRow          <span class="en-US">End row number</span>
+     *                        <span class="zh-CN">终止行号</span>
+     * @param consumerFactory <span class="en-US">Factory to create row data consumer by data sheet name</span>
+     *                        <span class="zh-CN">根据数据表名称创建行数据处理器的工厂</span>
+     * @param executor        <span class="en-US">Executor to read data sheets, not used by this reader</span>
+     *                        <span class="zh-CN">读取数据表使用的执行器，此读取器不使用</span>
+     */
+    @Override
+    public void readRows(final int beginRow, final int endRow,
+                         final Function<String, Consumer<List<String>>> consumerFactory, final Executor executor) {
+        if (consumerFactory == null) {
+            return;
+        }
+        final Map<String, SheetTarget> sheetTargets = new HashMap<>();
+        this.sheetNames.forEach(sheetName ->
+                Optional.ofNullable(consumerFactory.apply(sheetName))
+                        .ifPresent(rowConsumer ->
+                                sheetTargets.put(sheetName, new SheetTarget(beginRow, endRow, null, rowConsumer))));
+        if (!sheetTargets.isEmpty()) {
+            this.process(sheetTargets, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Close current data reader</h3>
+     * <h3 class="zh-CN">关闭当前数据读取器</h3>
+     *
+     * @throws IOException <span class="en-US">If an exception occurs when closing the reader</span>
+     *                     <span class="zh-CN">如果关闭读取器时出现异常</span>
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileSystem.close();
+    }
+
+    /**
+     * <h3 class="en-US">Process the workbook records for given data sheets and log the exception</h3>
+     * <h3 class="zh-CN">为给定的数据表处理工作簿记录并记录异常信息</h3>
+     *
+     * @param sheetTargets <span class="en-US">Mapping table of data sheet name and read target</span>
+     *                     <span class="zh-CN">数据表名称和读取目标的映射表</span>
+     * @param parseCells   <span class="en-US">Parse cell values</span>
+     *                     <span class="zh-CN">解析单元格数据</span>
+     * @return <span class="en-US">Process result</span>
+     * <span class="zh-CN">处理结果</span>
+     */
+    private boolean process(final Map<String, SheetTarget> sheetTargets, final boolean parseCells) {
+        sheetTargets.values().forEach(sheetTarget -> sheetTarget.parseCells = parseCells);
+        try {
+            this.processRecords(sheetTargets);
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Stack_Message_Error", e);
+            }
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Process the workbook records for given data sheets</h3>
+     * <span class="en-US">
+     *     Processing stops after all given data sheets were read,
+     *     the file system was not thread-safe, so the records were processed by one thread at a time.
+     * </span>
+     * <h3 class="zh-CN">为给定的数据表处理工作簿记录</h3>
+     * <span class="zh-CN">所有给定的数据表读取完成后停止处理，文件系统不是线程安全的，因此同一时间仅由一个线程处理记录</span>
+     *
+     * @param sheetTargets <span class="en-US">Mapping table of data sheet name and read target</span>
+     *                     <span class="zh-CN">数据表名称和读取目标的映射表</span>
+     * @return <span class="en-US">Data sheet names in workbook order</span>
+     * <span class="zh-CN">按工作簿顺序排列的数据表名称</span>
+     * @throws IOException       <span class="en-US">If an error occurs when read the workbook stream</span>
+     *                           <span class="zh-CN">读取工作簿数据流时出现异常</span>
+     * @throws HSSFUserException <span class="en-US">If an error occurs when process records</span>
+     *                           <span class="zh-CN">处理记录时出现异常</span>
+     */
+    private synchronized List<String> processRecords(final Map<String, SheetTarget> sheetTargets)
+            throws IOException, HSSFUserException {
+        RecordHandler recordHandler = new RecordHandler(sheetTargets);
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(recordHandler);
+        new HSSFEventFactory().abortableProcessWorkbookEvents(request, this.fileSystem);
+        return recordHandler.sheetNames();
+    }
+
+    /**
+     * <h2 class="en-US">Read target of data sheet</h2>
+     * <h2 class="zh-CN">数据表的读取目标</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:10:25 $
+     */
+    private static final class SheetTarget {
+
+        private final int beginRow;
+        private final int endRow;
+        private final List<List<String>> dataList;
+        private final Consumer<List<String>> rowConsumer;
+        private boolean parseCells = Boolean.TRUE;
+        private boolean finished = Boolean.FALSE;
+        private int rowCount = Globals.INITIALIZE_INT_VALUE;
+
+        private SheetTarget(final int beginRow, final int endRow, final List<List<String>> dataList,
+                            final Consumer<List<String>> rowConsumer) {
+            this.beginRow = beginRow;
+            this.endRow = endRow;
+            this.dataList = dataList;
+            this.rowConsumer = rowConsumer;
+        }
+
+        private boolean inRange(final int rowIndex) {
+            return (this.beginRow == Globals.DEFAULT_VALUE_INT || rowIndex >= this.beginRow)
+                    && (this.endRow == Globals.DEFAULT_VALUE_INT || rowIndex < this.endRow);
+        }
+
+        /**
+         * <h3 class="en-US">Fill the merged regions in the read data list</h3>
+         * <h3 class="zh-CN">在读取的数据列表中填充合并区域</h3>
+         *
+         * @param mergeRegion <span class="en-US">Merged region</span>
+         *                    <span class="zh-CN">合并区域</span>
+         */
+        private void merge(final CellRangeAddress mergeRegion) {
+            int offset = Math.max(this.beginRow, Globals.INITIALIZE_INT_VALUE);
+            int firstRow = mergeRegion.getFirstRow() - offset;
+            int lastRow = Math.min(mergeRegion.getLastRow() - offset, this.dataList.size() - 1);
+            if (firstRow < 0 || firstRow > lastRow
+                    || this.dataList.get(firstRow).size() <= mergeRegion.getFirstColumn()) {
+                return;
+            }
+            String mergeData = this.dataList.get(firstRow).get(mergeRegion.getFirstColumn());
+            for (int i = firstRow; i <= lastRow; i++) {
+                List<String> rowData = this.dataList.get(i);
+                for (int j = mergeRegion.getFirstColumn(); j <= mergeRegion.getLastColumn(); j++) {
+                    while (rowData.size() <= j) {
+                        rowData.add(Globals.DEFAULT_VALUE_STRING);
+                    }
+                    rowData.set(j, mergeData);
+                }
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Data processor to read records of the workbook stream</h2>
+     * <h2 class="zh-CN">读取工作簿数据流记录的数据处理器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:14:39 $
+     */
+    private static final class RecordHandler extends AbortableHSSFListener {
+
+        private final Map<String, SheetTarget> sheetTargets;
+        private final HSSFListener recordListener;
+        private final FormatTrackingHSSFListener formatListener;
+        private final DataFormatter dataFormatter = new DataFormatter();
+        private final List<BoundSheetRecord> boundSheetRecords = new ArrayList<>();
+        private BoundSheetRecord[] orderedSheetRecords;
+        private SSTRecord sstRecord;
+        private SheetTarget currentTarget;
+        private List<String> rowData = new ArrayList<>();
+        private int sheetIndex = Globals.DEFAULT_VALUE_INT;
+        private int remainCount;
+        private int stringRow = Globals.DEFAULT_VALUE_INT;
+        private int stringColumn = Globals.DEFAULT_VALUE_INT;
+        private boolean stopped = Boolean.FALSE;
+
+        private RecordHandler(final Map<String, SheetTarget> sheetTargets) {
+            this.sheetTargets = sheetTargets;
+            this.remainCount = sheetTargets.size();
+            this.formatListener = new FormatTrackingHSSFListener(new CellHandler());
+            this.recordListener = new MissingRecordAwareHSSFListener(this.formatListener);
+        }
+
+        @Override
+        public short abortableProcessRecord(final Record record) {
+            this.recordListener.processRecord(record);
+            return this.stopped ? (short) 1 : 0;
+        }
+
+        private List<String> sheetNames() {
+            List<String> sheetNames = new ArrayList<>();
+            Arrays.stream(Optional.ofNullable(this.orderedSheetRecords)
+                            .orElseGet(() -> BoundSheetRecord.orderByBofPosition(this.boundSheetRecords)))
+                    .forEach(boundSheetRecord -> sheetNames.add(boundSheetRecord.getSheetname()));
+            return sheetNames;
+        }
+
+        private void finishSheet() {
+            if (this.currentTarget != null && !this.currentTarget.finished) {
+                this.currentTarget.finished = Boolean.TRUE;
+                this.remainCount--;
+            }
+            this.stopped = (this.remainCount == 0);
+        }
+
+        private void cellValue(final int rowIndex, final int columnIndex, final String cellValue) {
+            if (!this.currentTarget.inRange(rowIndex)) {
+                return;
+            }
+            while (this.rowData.size() < columnIndex) {
+                this.rowData.add(Globals.DEFAULT_VALUE_STRING);
+            }
+            if (this.rowData.size() == columnIndex) {
+                this.rowData.add(cellValue);
+            } else {
+                this.rowData.set(columnIndex, cellValue);
+            }
+        }
+
+        private String numberValue(final CellValueRecordInterface record, final double value) {
+            return this.dataFormatter.formatRawCellContents(value, this.formatListener.getFormatIndex(record),
+                    this.formatListener.getFormatString(record));
+        }
+
+        /**
+         * <h2 class="en-US">Data processor to read cell records</h2>
+         * <span class="en-US">Invoked after missing cells and rows were detected and formats were tracked</span>
+         * <h2 class="zh-CN">读取单元格记录的数据处理器</h2>
+         * <span class="zh-CN">在检测缺失的单元格和行并记录格式信息后调用</span>
+         *
+         * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+         * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:19:08 $
+         */
+        private final class CellHandler implements HSSFListener {
+
+            @Override
+            public void processRecord(final Record record) {
+                if (record instanceof BoundSheetRecord boundSheetRecord) {
+                    boundSheetRecords.add(boundSheetRecord);
+                } else if (record instanceof SSTRecord sst) {
+                    sstRecord = sst;
+                } else if (record instanceof BOFRecord bofRecord) {
+                    if (bofRecord.getType() == BOFRecord.TYPE_WORKSHEET) {
+                        if (orderedSheetRecords == null) {
+                            orderedSheetRecords = BoundSheetRecord.orderByBofPosition(boundSheetRecords);
+                        }
+                        sheetIndex++;
+                        currentTarget = (sheetIndex < orderedSheetRecords.length)
+                                ? sheetTargets.get(orderedSheetRecords[sheetIndex].getSheetname())
+                                : null;
+                        rowData = new ArrayList<>();
+                        stopped = (remainCount == 0);
+                    }
+                } else if (record instanceof EOFRecord) {
+                    if (currentTarget != null) {
+                        finishSheet();
+                        currentTarget = null;
+                    }
+                } else if (currentTarget != null && !currentTarget.finished) {
+                    this.processSheetRecord(record);
+                }
+            }
+
+            private void processSheetRecord(final Record record) {
+                if (record instanceof RowRecord) {
+                    currentTarget.rowCount++;
+                    return;
+                }
+                if (!currentTarget.parseCells) {
+                    return;
+                }
+                if (record instanceof MergeCellsRecord mergeCellsRecord) {
+                    if (currentTarget.dataList != null) {
+                        for (int i = 0; i < mergeCellsRecord.getNumAreas(); i++) {
+                            currentTarget.merge(mergeCellsRecord.getAreaAt(i));
+                        }
+                    }
+                } else if (record instanceof NumberRecord numberRecord) {
+                    cellValue(numberRecord.getRow(), numberRecord.getColumn(),
+                            numberValue(numberRecord, numberRecord.getValue()));
+                } else if (record instanceof LabelSSTRecord labelSSTRecord) {
+                    cellValue(labelSSTRecord.getRow(), labelSSTRecord.getColumn(),
+                            (sstRecord == null)
+                                    ? Globals.DEFAULT_VALUE_STRING
+                                    : sstRecord.getString(labelSSTRecord.getSSTIndex()).getString());
+                } else if (record instanceof LabelRecord labelRecord) {
+                    cellValue(labelRecord.getRow(), labelRecord.getColumn(), labelRecord.getValue());
+                } else if (record instanceof BoolErrRecord boolErrRecord) {
+                    cellValue(boolErrRecord.getRow(), boolErrRecord.getColumn(),
+                            boolErrRecord.isBoolean()
+                                    ? Boolean.toString(boolErrRecord.getBooleanValue())
+                                    : Globals.DEFAULT_VALUE_STRING);
+                } else if (record instanceof FormulaRecord formulaRecord) {
+                    this.processFormula(formulaRecord);
+                } else if (record instanceof StringRecord stringRecord) {
+                    if (stringColumn != Globals.DEFAULT_VALUE_INT) {
+                        cellValue(stringRow, stringColumn, stringRecord.getString());
+                        stringColumn = Globals.DEFAULT_VALUE_INT;
+                    }
+                } else if (record instanceof LastCellOfRowDummyRecord lastCellRecord) {
+                    this.processRowEnd(lastCellRecord.getRow());
+                }
+            }
+
+            private void processFormula(final FormulaRecord formulaRecord) {
+                if (formulaRecord.hasCachedResultString()) {
+                    // The cached string value was stored in the next string record
+                    stringRow = formulaRecord.getRow();
+                    stringColumn = formulaRecord.getColumn();
+                    return;
+                }
+                String cellValue;
+                CellType cellType = formulaRecord.getCachedResultTypeEnum();
+                switch (cellType) {
+                    case NUMERIC:
+                        cellValue = numberValue(formulaRecord, formulaRecord.getValue());
+                        break;
+                    case BOOLEAN:
+                        cellValue = Boolean.toString(formulaRecord.getCachedBooleanValue());
+                        break;
+                    default:
+                        cellValue = Globals.DEFAULT_VALUE_STRING;
+                        break;
+                }
+                cellValue(formulaRecord.getRow(), formulaRecord.getColumn(), cellValue);
+            }
+
+            private void processRowEnd(final int rowIndex) {
+                SheetTarget sheetTarget = currentTarget;
+                if (sheetTarget.inRange(rowIndex)) {
+                    sheetTarget.rowConsumer.accept(rowData);
+                    rowData = new ArrayList<>();
+                } else if (sheetTarget.endRow != Globals.DEFAULT_VALUE_INT && rowIndex >= sheetTarget.endRow) {
+                    finishSheet();
+                }
+            }
+        }
+    }
+}
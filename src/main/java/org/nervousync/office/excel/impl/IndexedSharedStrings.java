@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.office.excel.impl;
+
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.StringUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Read-only shared strings table stored in temporary files</h2>
+ * <span class="en-US">
+ *     The shared strings part was parsed once, each string was written to a data file and the beginning offset
+ *     was written to an index file, so only the recently used strings were kept in memory.
+ *     The temporary files were removed when the instance was closed.
+ * </span>
+ * <h2 class="zh-CN">存储在临时文件中的只读共享字符串表</h2>
+ * <span class="zh-CN">
+ *     共享字符串数据只解析一次，每个字符串写入数据文件，起始偏移量写入索引文件，内存中仅保留最近使用的字符串。
+ *     关闭实例对象时删除临时文件。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:08:26 $
+ */
+final class IndexedSharedStrings implements SharedStrings, Closeable {
+
+    /**
+     * <span class="en-US">Byte length of each offset in the index file</span>
+     * <span class="zh-CN">索引文件中每个偏移量的字节长度</span>
+     */
+    private static final int OFFSET_LENGTH = Long.BYTES;
+    /**
+     * <span class="en-US">Maximum number of cached strings, the cache was cleared when the limit was reached</span>
+     * <span class="zh-CN">缓存字符串的最大数量，达到上限时清空缓存</span>
+     */
+    private static final int CACHE_LIMIT = 4096;
+
+    /**
+     * <span class="en-US">Temporary data file path</span>
+     * <span class="zh-CN">临时数据文件路径</span>
+     */
+    private final Path dataPath;
+    /**
+     * <span class="en-US">Temporary index file path</span>
+     * <span class="zh-CN">临时索引文件路径</span>
+     */
+    private final Path indexPath;
+    /**
+     * <span class="en-US">Cached strings mapping, key is string index</span>
+     * <span class="zh-CN">缓存的字符串映射表，键为字符串索引</span>
+     */
+    private final Map<Integer, String> cachedStrings = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Data file channel</span>
+     * <span class="zh-CN">数据文件通道</span>
+     */
+    private FileChannel dataChannel;
+    /**
+     * <span class="en-US">Index file channel</span>
+     * <span class="zh-CN">索引文件通道</span>
+     */
+    private FileChannel indexChannel;
+    /**
+     * <span class="en-US">Total count of string references in the workbook</span>
+     * <span class="zh-CN">工作簿中字符串的引用总数</span>
+     */
+    private int count;
+    /**
+     * <span class="en-US">Count of unique strings</span>
+     * <span class="zh-CN">唯一字符串的数量</span>
+     */
+    private int uniqueCount;
+
+    /**
+     * <h3 class="en-US">Constructor method for indexed shared strings</h3>
+     * <h3 class="zh-CN">索引共享字符串表的构造方法</h3>
+     *
+     * @param inputStream   <span class="en-US">Input stream of shared strings part</span>
+     *                      <span class="zh-CN">共享字符串数据的输入流</span>
+     * @param parserFactory <span class="en-US">SAX parser factory</span>
+     *                      <span class="zh-CN">SAX解析器工厂</span>
+     * @throws IOException                  <span class="en-US">If an error occurs when read or write data</span>
+     *                                      <span class="zh-CN">读写数据时出现异常</span>
+     * @throws SAXException                 <span class="en-US">If the shared strings part is invalid</span>
+     *                                      <span class="zh-CN">共享字符串数据无效</span>
+     * @throws ParserConfigurationException <span class="en-US">If the SAX parser cannot be created</span>
+     *                                      <span class="zh-CN">无法创建SAX解析器</span>
+     */
+    IndexedSharedStrings(final InputStream inputStream, final SAXParserFactory parserFactory)
+            throws IOException, SAXException, ParserConfigurationException {
+        this.dataPath = Files.createTempFile("shared_strings", ".data");
+        this.indexPath = Files.createTempFile("shared_strings", ".index");
+        try {
+            try (DataOutputStream dataOutput = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(this.dataPath), Globals.DEFAULT_BUFFER_SIZE));
+                 DataOutputStream indexOutput = new DataOutputStream(
+                         new BufferedOutputStream(Files.newOutputStream(this.indexPath), Globals.DEFAULT_BUFFER_SIZE))) {
+                ItemHandler itemHandler = new ItemHandler(dataOutput, indexOutput);
+                XMLReader xmlReader = parserFactory.newSAXParser().getXMLReader();
+                xmlReader.setContentHandler(itemHandler);
+                xmlReader.parse(new InputSource(inputStream));
+                indexOutput.writeLong(itemHandler.dataOffset);
+                this.uniqueCount = itemHandler.itemCount;
+                this.count = Math.max(itemHandler.referenceCount, this.uniqueCount);
+            }
+            this.dataChannel = FileChannel.open(this.dataPath, StandardOpenOption.READ);
+            this.indexChannel = FileChannel.open(this.indexPath, StandardOpenOption.READ);
+        } catch (Exception e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read the string item at given index</h3>
+     * <h3 class="zh-CN">读取给定索引位置的字符串</h3>
+     *
+     * @param idx <span class="en-US">String index</span>
+     *            <span class="zh-CN">字符串索引</span>
+     * @return <span class="en-US">Read string instance</span>
+     * <span class="zh-CN">读取的字符串实例对象</span>
+     */
+    @Override
+    public RichTextString getItemAt(final int idx) {
+        if (idx < 0 || idx >= this.uniqueCount) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + this.uniqueCount);
+        }
+        String itemValue = this.cachedStrings.get(idx);
+        if (itemValue == null) {
+            try {
+                ByteBuffer offsetBuffer = this.readFully(this.indexChannel, (long) idx * OFFSET_LENGTH,
+                        OFFSET_LENGTH * 2);
+                long beginOffset = offsetBuffer.getLong();
+                int dataLength = (int) (offsetBuffer.getLong() - beginOffset);
+                ByteBuffer dataBuffer = this.readFully(this.dataChannel, beginOffset, dataLength);
+                itemValue = new String(dataBuffer.array(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (this.cachedStrings.size() >= CACHE_LIMIT) {
+                this.cachedStrings.clear();
+            }
+            this.cachedStrings.put(idx, itemValue);
+        }
+        return new XSSFRichTextString(itemValue);
+    }
+
+    /**
+     * <h3 class="en-US">Total count of string references in the workbook</h3>
+     * <h3 class="zh-CN">工作簿中字符串的引用总数</h3>
+     *
+     * @return <span class="en-US">Reference count</span>
+     * <span class="zh-CN">引用总数</span>
+     */
+    @Override
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * <h3 class="en-US">Count of unique strings</h3>
+     * <h3 class="zh-CN">唯一字符串的数量</h3>
+     *
+     * @return <span class="en-US">Unique strings count</span>
+     * <span class="zh-CN">唯一字符串的数量</span>
+     */
+    @Override
+    public int getUniqueCount() {
+        return this.uniqueCount;
+    }
+
+    /**
+     * <h3 class="en-US">Close file channels and remove temporary files</h3>
+     * <h3 class="zh-CN">关闭文件通道并删除临时文件</h3>
+     */
+    @Override
+    public void close() {
+        this.cachedStrings.clear();
+        closeChannel(this.dataChannel);
+        closeChannel(this.indexChannel);
+        try {
+            Files.deleteIfExists(this.dataPath);
+            Files.deleteIfExists(this.indexPath);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read given length of data from given position</h3>
+     * <span class="en-US">Positional read does not change the channel position, so it is safe for concurrent use</span>
+     * <h3 class="zh-CN">从给定位置读取给定长度的数据</h3>
+     * <span class="zh-CN">按位置读取不修改通道位置，可以安全地并发使用</span>
+     *
+     * @param fileChannel <span class="en-US">File channel</span>
+     *                    <span class="zh-CN">文件通道</span>
+     * @param position    <span class="en-US">Begin position</span>
+     *                    <span class="zh-CN">起始位置</span>
+     * @param length      <span class="en-US">Data length</span>
+     *                    <span class="zh-CN">数据长度</span>
+     * @return <span class="en-US">Data buffer ready to read</span>
+     * <span class="zh-CN">可读取的数据缓冲区</span>
+     * @throws IOException <span class="en-US">If an error occurs when read data or the file was truncated</span>
+     *                     <span class="zh-CN">读取数据时出现异常或文件被截断</span>
+     */
+    private ByteBuffer readFully(final FileChannel fileChannel, final long position, final int length)
+            throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(length);
+        while (byteBuffer.hasRemaining()) {
+            if (fileChannel.read(byteBuffer, position + byteBuffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return byteBuffer.flip();
+    }
+
+    private static void closeChannel(final FileChannel fileChannel) {
+        if (fileChannel != null) {
+            try {
+                fileChannel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Data processor to write string items to temporary files</h2>
+     * <span class="en-US">Text of phonetic runs was ignored</span>
+     * <h2 class="zh-CN">将字符串写入临时文件的数据处理器</h2>
+     * <span class="zh-CN">忽略注音文本</span>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:16:52 $
+     */
+    private static final class ItemHandler extends DefaultHandler {
+
+        private final DataOutputStream dataOutput;
+        private final DataOutputStream indexOutput;
+        private final StringBuilder itemContents = new StringBuilder();
+        private boolean inText = Boolean.FALSE;
+        private boolean inPhonetic = Boolean.FALSE;
+        private int itemCount = Globals.INITIALIZE_INT_VALUE;
+        private int referenceCount = Globals.INITIALIZE_INT_VALUE;
+        private long dataOffset = Globals.INITIALIZE_INT_VALUE;
+
+        private ItemHandler(final DataOutputStream dataOutput, final DataOutputStream indexOutput) {
+            this.dataOutput = dataOutput;
+            this.indexOutput = indexOutput;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String name,
+                                 final Attributes attributes) {
+            switch (name) {
+                case "sst":
+                    String countValue = attributes.getValue("count");
+                    if (StringUtils.notBlank(countValue)) {
+                        this.referenceCount = Integer.parseInt(countValue);
+                    }
+                    break;
+                case "si":
+                    this.itemContents.setLength(0);
+                    break;
+                case "rPh":
+                    this.inPhonetic = Boolean.TRUE;
+                    break;
+                case "t":
+                    this.inText = !this.inPhonetic;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String name) throws SAXException {
+            switch (name) {
+                case "si":
+                    try {
+                        byte[] itemData = this.itemContents.toString().getBytes(StandardCharsets.UTF_8);
+                        this.indexOutput.writeLong(this.dataOffset);
+                        this.dataOutput.write(itemData);
+                        this.dataOffset += itemData.length;
+                    } catch (IOException e) {
+                        throw new SAXException(e);
+                    }
+                    this.itemCount++;
+                    break;
+                case "rPh":
+                    this.inPhonetic = Boolean.FALSE;
+                    break;
+                case "t":
+                    this.inText = Boolean.FALSE;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (this.inText) {
+                this.itemContents.append(ch, start, length);
+            }
+        }
+    }
+}
@@ -19,11 +19,18 @@ package org.nervousync.office.excel.impl;
 
 import jakarta.annotation.Nonnull;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.nervousync.commons.Globals;
+import org.nervousync.office.excel.SheetSchema;
 import org.nervousync.office.excel.SheetWriter;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * <h2 class="en-US">Sheet data writer implementation class</h2>
@@ -39,28 +46,46 @@ public final class SheetWriterImpl implements SheetWriter {
 	 * <span class="zh-CN">数据表实例对象</span>
 	 */
 	private final Sheet sheet;
+	/**
+	 * <span class="en-US">Shared cell style provider, mapping data format string to cell style</span>
+	 * <span class="zh-CN">共享单元格样式提供者，将数据格式字符串映射为单元格样式</span>
+	 */
+	private final Function<String, CellStyle> styleProvider;
 	private final CellStyle dtStyle;
 	private final CellStyle doubleStyle;
+	/**
+	 * <span class="en-US">Last row number of template sheet, streaming sheet does not report the rows of template</span>
+	 * <span class="zh-CN">模板数据表的最后行号，流式数据表不会统计模板中的数据行</span>
+	 */
+	private final int templateLastRow;
 
 	/**
 	 * <h3 class="en-US">Constructor method of data table data writer implementation class</h3>
 	 * <h3 class="zh-CN">数据表数据写入器实现类的构造方法</h3>
 	 *
-	 * @param sheetName <span class="en-US">Data sheet name</span>
-	 *                  <span class="zh-CN">数据表名称</span>
-	 * @param workbook  <span class="en-US">Excel workbook instance object</span>
-	 *                  <span class="zh-CN">Excel工作簿实例对象</span>
+	 * @param sheetName     <span class="en-US">Data sheet name</span>
+	 *                      <span class="zh-CN">数据表名称</span>
+	 * @param workbook      <span class="en-US">Excel workbook instance object</span>
+	 *                      <span class="zh-CN">Excel工作簿实例对象</span>
+	 * @param styleProvider <span class="en-US">Shared cell style provider</span>
+	 *                      <span class="zh-CN">共享单元格样式提供者</span>
 	 */
-	SheetWriterImpl(final String sheetName, @Nonnull final Workbook workbook) {
+	SheetWriterImpl(final String sheetName, @Nonnull final Workbook workbook,
+	                @Nonnull final Function<String, CellStyle> styleProvider) {
 		Sheet sheet = workbook.getSheet(sheetName);
 		if (sheet == null) {
 			sheet = workbook.createSheet(sheetName);
 		}
 		this.sheet = sheet;
-		this.dtStyle = workbook.createCellStyle();
-		this.dtStyle.setDataFormat((short) 14);
-		this.doubleStyle = workbook.createCellStyle();
-		this.doubleStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+		if (workbook instanceof SXSSFWorkbook sxssfWorkbook) {
+			Sheet templateSheet = sxssfWorkbook.getXSSFWorkbook().getSheet(sheetName);
+			this.templateLastRow = (templateSheet == null) ? Globals.DEFAULT_VALUE_INT : templateSheet.getLastRowNum();
+		} else {
+			this.templateLastRow = Globals.DEFAULT_VALUE_INT;
+		}
+		this.styleProvider = styleProvider;
+		this.dtStyle = styleProvider.apply(SheetSchema.DEFAULT_DATE_FORMAT);
+		this.doubleStyle = styleProvider.apply("#,##0.00");
 	}
 
 	/**
@@ -74,17 +99,13 @@ public final class SheetWriterImpl implements SheetWriter {
 	 */
 	@Override
 	public void writeData(final int rowNum, final List<Object> rowData) {
-		Row row;
-		if (rowNum < this.sheet.getLastRowNum()) {
-			row = this.sheet.getRow(rowNum);
-		} else {
+		Row row = this.sheet.getRow(rowNum);
+		if (row == null) {
 			row = this.sheet.createRow(rowNum);
 		}
 		for (int i = 0; i < rowData.size(); i++) {
-			Cell cell;
-			if (i < row.getLastCellNum()) {
-				cell = row.getCell(i);
-			} else {
+			Cell cell = row.getCell(i);
+			if (cell == null) {
 				cell = row.createCell(i);
 			}
 			Object object = rowData.get(i);
@@ -115,6 +136,81 @@ public final class SheetWriterImpl implements SheetWriter {
 	 */
 	@Override
 	public void appendData(final List<Object> rowData) {
-		this.writeData(this.sheet.getLastRowNum() + 1, rowData);
+		this.writeData(this.lastRowNum() + 1, rowData);
+	}
+
+	/**
+	 * <h3 class="en-US">Append the given row data stream to the end of the current data sheet using given schema</h3>
+	 * <h3 class="zh-CN">使用给定的列定义追加给定的行数据流到当前数据表末尾</h3>
+	 *
+	 * @param sheetSchema <span class="en-US">Column schema</span>
+	 *                    <span class="zh-CN">列定义</span>
+	 * @param rowStream   <span class="en-US">Row data stream</span>
+	 *                    <span class="zh-CN">行数据流</span>
+	 * @param <T>         <span class="en-US">Row data type</span>
+	 *                    <span class="zh-CN">行数据类型</span>
+	 * @return <span class="en-US">Number of written data rows, not including header row</span>
+	 * <span class="zh-CN">写入的数据行数，不包括标题行</span>
+	 */
+	@Override
+	public <T> int writeRows(final SheetSchema<T> sheetSchema, final Stream<T> rowStream) {
+		List<SheetSchema.Column<T>> columns = sheetSchema.getColumns();
+		int columnCount = columns.size();
+		CellStyle[] cellStyles = new CellStyle[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			cellStyles[i] = this.styleProvider.apply(columns.get(i).dataFormat());
+		}
+		int rowNum = this.lastRowNum() + 1;
+		if (rowNum == 0 && sheetSchema.hasHeader()) {
+			Row headerRow = this.sheet.createRow(rowNum++);
+			for (int i = 0; i < columnCount; i++) {
+				String title = columns.get(i).title();
+				headerRow.createCell(i).setCellValue(title == null ? Globals.DEFAULT_VALUE_STRING : title);
+			}
+		}
+		int writeCount = 0;
+		Iterator<T> iterator = rowStream.iterator();
+		while (iterator.hasNext()) {
+			T rowData = iterator.next();
+			Row row = this.sheet.createRow(rowNum++);
+			for (int i = 0; i < columnCount; i++) {
+				Cell cell = row.createCell(i);
+				if (cellStyles[i] != null) {
+					cell.setCellStyle(cellStyles[i]);
+				}
+				columns.get(i).cellWriter().accept(cell, rowData);
+			}
+			writeCount++;
+		}
+		return writeCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Append the row data generated by given supplier to the end of the current data sheet using given schema</h3>
+	 * <h3 class="zh-CN">使用给定的列定义追加给定生成器生成的行数据到当前数据表末尾</h3>
+	 *
+	 * @param sheetSchema <span class="en-US">Column schema</span>
+	 *                    <span class="zh-CN">列定义</span>
+	 * @param rowSupplier <span class="en-US">Row data supplier</span>
+	 *                    <span class="zh-CN">行数据生成器</span>
+	 * @param <T>         <span class="en-US">Row data type</span>
+	 *                    <span class="zh-CN">行数据类型</span>
+	 * @return <span class="en-US">Number of written data rows, not including header row</span>
+	 * <span class="zh-CN">写入的数据行数，不包括标题行</span>
+	 */
+	@Override
+	public <T> int writeRows(final SheetSchema<T> sheetSchema, final Supplier<T> rowSupplier) {
+		return this.writeRows(sheetSchema, Stream.generate(rowSupplier).takeWhile(Objects::nonNull));
+	}
+
+	/**
+	 * <h3 class="en-US">Get the last row number of the current data sheet, including rows of template sheet</h3>
+	 * <h3 class="zh-CN">获取当前数据表的最后行号，包含模板数据表中的数据行</h3>
+	 *
+	 * @return <span class="en-US">Last row number, or -1 if current data sheet is empty</span>
+	 * <span class="zh-CN">最后行号，如果当前数据表为空则返回-1</span>
+	 */
+	private int lastRowNum() {
+		return Math.max(this.sheet.getLastRowNum(), this.templateLastRow);
 	}
 }
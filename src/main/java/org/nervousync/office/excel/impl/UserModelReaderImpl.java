@@ -27,10 +27,10 @@ import org.nervousync.utils.StringUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * <h2 class="en-US">Excel file reader for reading files in XLS format</h2>
@@ -116,22 +116,44 @@ public final class UserModelReaderImpl extends AbstractExcelReader {
             return new ArrayList<>();
         }
         List<List<String>> sheetList = new ArrayList<>();
+        this.readRows(sheetName, beginRow, endRow, sheetList::add);
+        return sheetList;
+    }
+
+    /**
+     * <h3 class="en-US">Read rows one by one based on the given data sheet name, starting and ending row numbers</h3>
+     * <h3 class="zh-CN">根据给定的数据表名称和起始、终止行号逐行读取数据</h3>
+     *
+     * @param sheetName   <span class="en-US">Data sheet name</span>
+     *                    <span class="zh-CN">数据表名称</span>
+     * @param beginRow    <span class="en-US">Begin row number</span>
+     *                    <span class="zh-CN">起始行号</span>
+     * @param endRow      <span class="en-US">End row number</span>
+     *                    <span class="zh-CN">终止行号</span>
+     * @param rowConsumer <span class="en-US">Row data consumer</span>
+     *                    <span class="zh-CN">行数据处理器</span>
+     */
+    @Override
+    public void readRows(final String sheetName, final int beginRow, final int endRow,
+                         final Consumer<List<String>> rowConsumer) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName) || rowConsumer == null) {
+            return;
+        }
         Sheet sheet = this.workbook.getSheet(sheetName);
 
         int beginIndex = Math.max(beginRow, Globals.INITIALIZE_INT_VALUE);
-        int endIndex = Math.min(endRow, sheet.getPhysicalNumberOfRows());
+        int endIndex = (endRow == Globals.DEFAULT_VALUE_INT)
+                ? sheet.getPhysicalNumberOfRows()
+                : Math.min(endRow, sheet.getPhysicalNumberOfRows());
 
         MergeData mergeData = new MergeData(sheet);
-        if (sheet.getPhysicalNumberOfRows() > beginRow) {
-            for (int i = beginIndex; i < endIndex; i++) {
-                List<String> rowList = processRowData(mergeData, sheet.getRow(i));
-                if (rowList == null) {
-                    continue;
-                }
-                sheetList.add(rowList);
+        for (int i = beginIndex; i < endIndex; i++) {
+            List<String> rowList = processRowData(mergeData, sheet.getRow(i));
+            if (rowList == null) {
+                continue;
             }
+            rowConsumer.accept(rowList);
         }
-        return sheetList;
     }
 
     /**
@@ -200,7 +222,7 @@ public final class UserModelReaderImpl extends AbstractExcelReader {
                 if (cellFormat.contains("#")) {
                     return new BigDecimal(String.valueOf(cellValue)).stripTrailingZeros().toPlainString();
                 } else {
-                    return DateTimeUtils.formatDate(cell.getDateCellValue(), DateTimeFormatter.ofPattern(cellFormat));
+                    return DateTimeUtils.formatDate(cell.getDateCellValue(), DateTimeUtils.formatter(cellFormat));
                 }
             case BOOLEAN:
                 return Boolean.toString(cell.getBooleanCellValue());
@@ -25,7 +25,6 @@ import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.StringUtils;
 
 import java.io.Serial;
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
@@ -62,7 +61,7 @@ public final class DateFormatTag extends TagSupport {
                 if (StringUtils.isEmpty(this.pattern)) {
                     jspWriter.write(DateTimeUtils.formatDate(this.date, this.pageContext.getRequest().getLocale()));
                 } else {
-                    jspWriter.write(DateTimeUtils.formatDate(this.date, DateTimeFormatter.ofPattern(this.pattern)));
+                    jspWriter.write(DateTimeUtils.formatDate(this.date, DateTimeUtils.formatter(this.pattern)));
                 }
             } catch (Exception e) {
                 throw new JspException(e);
@@ -26,7 +26,6 @@ import org.nervousync.utils.StringUtils;
 
 import java.io.Serial;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * <h2 class="en-US">Format UTC timestamp to local time output</h2>
@@ -64,7 +63,7 @@ public final class UTCFormatTag extends TagSupport {
                     if (StringUtils.isEmpty(this.pattern)) {
                         jspWriter.write(localDateTime.toString());
                     } else {
-                        jspWriter.write(localDateTime.format(DateTimeFormatter.ofPattern(this.pattern)));
+                        jspWriter.write(localDateTime.format(DateTimeUtils.formatter(this.pattern)));
                     }
                 }
             } catch (Exception e) {
@@ -27,6 +27,7 @@ import java.time.format.DateTimeParseException;
 import java.time.format.FormatStyle;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -60,6 +61,16 @@ public final class DateTimeUtils {
      * <span class="zh-CN">日期格式 EEE, dd-MMM-yyyy HH:mm:ss 'GMT' 的静态值</span>
      */
     public static final String COOKIE_DATETIME_PATTERN = "EEE, dd-MMM-yyyy HH:mm:ss 'GMT'";
+    /**
+     * <span class="en-US">Length of RFC 1123 formatted string, e.g. Sun, 06 Nov 1994 08:49:37 GMT</span>
+     * <span class="zh-CN">RFC 1123格式字符串的长度，例如：Sun, 06 Nov 1994 08:49:37 GMT</span>
+     */
+    public static final int RFC1123_LENGTH = 29;
+    /**
+     * <span class="en-US">Length of ISO8601 UTC formatted string, e.g. 1994-11-06T08:49:37Z</span>
+     * <span class="zh-CN">ISO8601 UTC格式字符串的长度，例如：1994-11-06T08:49:37Z</span>
+     */
+    public static final int ISO8601_LENGTH = 20;
 
     /**
      * <span class="en-US">Static DateTimeFormatter instance for date format yyyy/MM/dd</span>
@@ -93,6 +104,37 @@ public final class DateTimeUtils {
      * <span class="zh-CN">当前UTC时钟实例对象</span>
      */
     private static final UTCClock UTC_CLOCK = new UTCClock();
+    /**
+     * <span class="en-US">Maximum count of cached formatter instances</span>
+     * <span class="zh-CN">缓存的格式化实例对象最大数量</span>
+     */
+    private static final int FORMATTER_CACHE_LIMIT = 512;
+    /**
+     * <span class="en-US">Cached DateTimeFormatter instances, mapping key is pattern, locale and time zone</span>
+     * <span class="zh-CN">缓存的DateTimeFormatter实例对象，映射键值为格式字符串、地区和时区</span>
+     */
+    private static final Map<String, DateTimeFormatter> REGISTERED_FORMATTERS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Cached DateFormat prototype instances, mapping key is format type, styles and locale</span>
+     * <span class="zh-CN">缓存的DateFormat原型实例对象，映射键值为格式类型、风格代码和地区</span>
+     */
+    private static final Map<String, DateFormat> REGISTERED_DATE_FORMATS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Short day of week names used by RFC 1123, starting from Monday</span>
+     * <span class="zh-CN">RFC 1123使用的星期简称，从星期一开始</span>
+     */
+    private static final String[] RFC1123_DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    /**
+     * <span class="en-US">Short month names used by RFC 1123</span>
+     * <span class="zh-CN">RFC 1123使用的月份简称</span>
+     */
+    private static final String[] RFC1123_MONTH_NAMES =
+            {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    /**
+     * <span class="en-US">Milliseconds of one day</span>
+     * <span class="zh-CN">一天的毫秒数</span>
+     */
+    private static final long MILLISECONDS_PER_DAY = 24 * 60 * 60 * 1000L;
 
     /**
      * <h3 class="en-US">Private constructor for DateTimeUtils</h3>
@@ -138,8 +180,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串并以字符'Z'结尾</span>
      */
     public static String formatGMTDateForVCard() {
-        return ZonedDateTime.ofInstant(Instant.now(), ZoneId.of("+00:00"))
-                .format(DateTimeFormatter.ofPattern(DEFAULT_DATETIME_PATTERN_ISO8601 + "'Z'"));
+        return appendISO8601(new StringBuilder(ISO8601_LENGTH), System.currentTimeMillis()).toString();
     }
 
     /**
@@ -187,7 +228,7 @@ public final class DateTimeUtils {
             return null;
         }
         String datetimeFormat = StringUtils.isEmpty(format) ? DEFAULT_DATE_PATTERN : format;
-        return Date.from(LocalDate.parse(string, DateTimeFormatter.ofPattern(datetimeFormat))
+        return Date.from(LocalDate.parse(string, formatter(datetimeFormat))
                 .atStartOfDay(ZoneId.systemDefault()).toInstant());
     }
 
@@ -218,7 +259,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String lastModified(final Date date) {
-        return formatDate(date, DateTimeFormatter.ofPattern(LAST_MODIFIED_DATETIME_PATTERN));
+        return lastModified((date == null) ? System.currentTimeMillis() : date.getTime());
     }
 
     /**
@@ -231,7 +272,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String lastModified(final long timeMilliseconds) {
-        return formatDate(new Date(timeMilliseconds), DateTimeFormatter.ofPattern(LAST_MODIFIED_DATETIME_PATTERN));
+        return appendRFC1123(new StringBuilder(RFC1123_LENGTH), timeMilliseconds).toString();
     }
 
     /**
@@ -613,7 +654,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String formatDate(final Date date, final Locale locale, final int dateStyle) {
-        return DateFormat.getDateInstance(dateStyle, locale).format(date);
+        return dateFormat(Boolean.TRUE, Boolean.FALSE, dateStyle, Globals.DEFAULT_VALUE_INT, locale).format(date);
     }
 
     /**
@@ -647,7 +688,7 @@ public final class DateTimeUtils {
      *                        <span class="zh-CN">如果给定的字符串无法根据给定的区域设置和样式正确解析</span>
      */
     public static Date parseDate(final String string, final Locale locale, final int dateStyle) throws ParseException {
-        return DateFormat.getDateInstance(dateStyle, locale).parse(string);
+        return dateFormat(Boolean.TRUE, Boolean.FALSE, dateStyle, Globals.DEFAULT_VALUE_INT, locale).parse(string);
     }
 
     /**
@@ -681,8 +722,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String formatTime(final Date time, final Locale locale, final int timeStyle) {
-        DateFormat formatter = DateFormat.getTimeInstance(timeStyle, locale);
-        return formatter.format(time);
+        return dateFormat(Boolean.FALSE, Boolean.TRUE, Globals.DEFAULT_VALUE_INT, timeStyle, locale).format(time);
     }
 
     /**
@@ -716,7 +756,7 @@ public final class DateTimeUtils {
      *                        <span class="zh-CN">如果给定的字符串无法根据给定的区域设置和样式正确解析</span>
      */
     public static Date parseTime(final String string, final Locale locale, final int timeStyle) throws ParseException {
-        return DateFormat.getTimeInstance(timeStyle, locale).parse(string);
+        return dateFormat(Boolean.FALSE, Boolean.TRUE, Globals.DEFAULT_VALUE_INT, timeStyle, locale).parse(string);
     }
 
     /**
@@ -752,7 +792,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String formatDateTime(final Date date, final Locale locale, final int dateStyle, final int timeStyle) {
-        return DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale).format(date);
+        return dateFormat(Boolean.TRUE, Boolean.TRUE, dateStyle, timeStyle, locale).format(date);
     }
 
     /**
@@ -802,7 +842,7 @@ public final class DateTimeUtils {
      */
     public static Date parseDateTime(final String string, final Locale locale, final int dateStyle, final int timeStyle)
             throws ParseException {
-        return DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale).parse(string);
+        return dateFormat(Boolean.TRUE, Boolean.TRUE, dateStyle, timeStyle, locale).parse(string);
     }
 
     /**
@@ -851,12 +891,13 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String format(final Date date, final Locale locale, final String pattern) {
+        DateTimeFormatter dateTimeFormatter = formatter(pattern, locale);
         return Optional.ofNullable(date)
                 .map(Date::toInstant)
                 .map(instant -> instant.atZone(ZoneId.systemDefault()))
                 .map(ZonedDateTime::toLocalDateTime)
-                .map(localDateTime -> localDateTime.format(DateTimeFormatter.ofPattern(pattern, locale)))
-                .orElse(LocalDateTime.now().format(DateTimeFormatter.ofPattern(pattern, locale)));
+                .orElseGet(LocalDateTime::now)
+                .format(dateTimeFormatter);
     }
 
     /**
@@ -879,13 +920,219 @@ public final class DateTimeUtils {
         if (StringUtils.isEmpty(string)) {
             return null;
         }
-        return Optional.of(LocalDateTime.parse(string, DateTimeFormatter.ofPattern(pattern, locale)))
+        return Optional.of(LocalDateTime.parse(string, formatter(pattern, locale)))
                 .map(localDateTime -> localDateTime.atZone(ZoneId.systemDefault()))
                 .map(ChronoZonedDateTime::toInstant)
                 .map(Date::from)
                 .orElse(null);
     }
 
+    /**
+     * <h3 class="en-US">Retrieve cached DateTimeFormatter instance by given pattern string using default locale</h3>
+     * <h3 class="zh-CN">使用默认地区读取给定格式字符串对应的缓存DateTimeFormatter实例对象</h3>
+     *
+     * @param pattern <span class="en-US">Pattern string</span>
+     *                <span class="zh-CN">格式字符串</span>
+     * @return <span class="en-US">Cached DateTimeFormatter instance</span>
+     * <span class="zh-CN">缓存的DateTimeFormatter实例对象</span>
+     * @throws IllegalArgumentException <span class="en-US">if the pattern is invalid</span>
+     *                                  <span class="zh-CN">如果格式字符串无效</span>
+     */
+    public static DateTimeFormatter formatter(final String pattern) {
+        return formatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached DateTimeFormatter instance by given pattern string and locale</h3>
+     * <h3 class="zh-CN">读取给定格式字符串和地区对应的缓存DateTimeFormatter实例对象</h3>
+     *
+     * @param pattern <span class="en-US">Pattern string</span>
+     *                <span class="zh-CN">格式字符串</span>
+     * @param locale  <span class="en-US">locale instance</span>
+     *                <span class="zh-CN">地区实例对象</span>
+     * @return <span class="en-US">Cached DateTimeFormatter instance</span>
+     * <span class="zh-CN">缓存的DateTimeFormatter实例对象</span>
+     * @throws IllegalArgumentException <span class="en-US">if the pattern is invalid</span>
+     *                                  <span class="zh-CN">如果格式字符串无效</span>
+     */
+    public static DateTimeFormatter formatter(final String pattern, final Locale locale) {
+        return formatter(pattern, locale, null);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached DateTimeFormatter instance by given pattern string, locale and time zone</h3>
+     * <p class="en-US">
+     * DateTimeFormatter instances are immutable and thread-safe, the compiled instance will be cached and shared.
+     * The cache is bounded, all cached instances will be discarded when the limit is reached.
+     * </p>
+     * <h3 class="zh-CN">读取给定格式字符串、地区和时区对应的缓存DateTimeFormatter实例对象</h3>
+     * <p class="zh-CN">DateTimeFormatter实例对象是不可变且线程安全的，编译后的实例对象将被缓存并共享。缓存有数量上限，达到上限时将清空所有缓存的实例对象。</p>
+     *
+     * @param pattern <span class="en-US">Pattern string</span>
+     *                <span class="zh-CN">格式字符串</span>
+     * @param locale  <span class="en-US">locale instance</span>
+     *                <span class="zh-CN">地区实例对象</span>
+     * @param zoneId  <span class="en-US">Override time zone, <code>null</code> for not override</span>
+     *                <span class="zh-CN">覆盖的时区，<code>null</code>为不覆盖</span>
+     * @return <span class="en-US">Cached DateTimeFormatter instance</span>
+     * <span class="zh-CN">缓存的DateTimeFormatter实例对象</span>
+     * @throws IllegalArgumentException <span class="en-US">if the pattern is invalid</span>
+     *                                  <span class="zh-CN">如果格式字符串无效</span>
+     */
+    public static DateTimeFormatter formatter(final String pattern, final Locale locale, final ZoneId zoneId) {
+        Locale useLocale = (locale == null) ? Locale.getDefault(Locale.Category.FORMAT) : locale;
+        String cacheKey = pattern + "|" + useLocale.toLanguageTag() + "|" + ((zoneId == null) ? "" : zoneId.getId());
+        DateTimeFormatter dateTimeFormatter = REGISTERED_FORMATTERS.get(cacheKey);
+        if (dateTimeFormatter == null) {
+            if (REGISTERED_FORMATTERS.size() >= FORMATTER_CACHE_LIMIT) {
+                REGISTERED_FORMATTERS.clear();
+            }
+            dateTimeFormatter = REGISTERED_FORMATTERS.computeIfAbsent(cacheKey, key -> {
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, useLocale);
+                return (zoneId == null) ? formatter : formatter.withZone(zoneId);
+            });
+        }
+        return dateTimeFormatter;
+    }
+
+    /**
+     * <h3 class="en-US">Append RFC 1123 formatted GMT date time string of given milliseconds to the given string builder</h3>
+     * <p class="en-US">Format example: Sun, 06 Nov 1994 08:49:37 GMT, using for HTTP header: Last-Modified, Date, Expires</p>
+     * <h3 class="zh-CN">将给定毫秒数的RFC 1123格式GMT日期时间字符串追加到给定的字符串构建器</h3>
+     * <p class="zh-CN">格式示例：Sun, 06 Nov 1994 08:49:37 GMT，用于HTTP头：Last-Modified、Date、Expires</p>
+     *
+     * @param stringBuilder    <span class="en-US">String builder instance</span>
+     *                         <span class="zh-CN">字符串构建器实例对象</span>
+     * @param timeMilliseconds <span class="en-US">date time milliseconds</span>
+     *                         <span class="zh-CN">日期时间的毫秒数</span>
+     * @return <span class="en-US">Given string builder instance</span>
+     * <span class="zh-CN">给定的字符串构建器实例对象</span>
+     */
+    public static StringBuilder appendRFC1123(final StringBuilder stringBuilder, final long timeMilliseconds) {
+        long epochDay = Math.floorDiv(timeMilliseconds, MILLISECONDS_PER_DAY);
+        long civilDate = civilDate(epochDay);
+        int year = (int) (civilDate >> 16);
+        if (year < 0 || year > 9999) {
+            return stringBuilder.append(DateTimeFormatter.RFC_1123_DATE_TIME
+                    .format(Instant.ofEpochMilli(timeMilliseconds).atOffset(ZoneOffset.UTC)));
+        }
+        int secondOfDay = (int) (Math.floorMod(timeMilliseconds, MILLISECONDS_PER_DAY) / 1000L);
+        stringBuilder.append(RFC1123_DAY_NAMES[(int) Math.floorMod(epochDay + 3L, 7L)]).append(", ");
+        appendDigits(stringBuilder, (int) (civilDate & 0xFF), 2).append(' ')
+                .append(RFC1123_MONTH_NAMES[(int) ((civilDate >> 8) & 0xFF) - 1]).append(' ');
+        appendDigits(stringBuilder, year, 4).append(' ');
+        appendDigits(stringBuilder, secondOfDay / 3600, 2).append(':');
+        appendDigits(stringBuilder, (secondOfDay / 60) % 60, 2).append(':');
+        return appendDigits(stringBuilder, secondOfDay % 60, 2).append(" GMT");
+    }
+
+    /**
+     * <h3 class="en-US">Write RFC 1123 formatted GMT date time string of given milliseconds into the given data bytes</h3>
+     * <p class="en-US">Format example: Sun, 06 Nov 1994 08:49:37 GMT, data bytes are encoded by US-ASCII</p>
+     * <h3 class="zh-CN">将给定毫秒数的RFC 1123格式GMT日期时间字符串写入给定的二进制数组</h3>
+     * <p class="zh-CN">格式示例：Sun, 06 Nov 1994 08:49:37 GMT，使用US-ASCII编码</p>
+     *
+     * @param dataBytes        <span class="en-US">Target data bytes</span>
+     *                         <span class="zh-CN">目标二进制数组</span>
+     * @param offset           <span class="en-US">Write offset</span>
+     *                         <span class="zh-CN">写入起始位置</span>
+     * @param timeMilliseconds <span class="en-US">date time milliseconds</span>
+     *                         <span class="zh-CN">日期时间的毫秒数</span>
+     * @return <span class="en-US">Written bytes length</span>
+     * <span class="zh-CN">写入的字节长度</span>
+     * @throws IndexOutOfBoundsException <span class="en-US">if the data bytes has not enough space</span>
+     *                                   <span class="zh-CN">如果二进制数组没有足够的空间</span>
+     */
+    public static int writeRFC1123(final byte[] dataBytes, final int offset, final long timeMilliseconds) {
+        long epochDay = Math.floorDiv(timeMilliseconds, MILLISECONDS_PER_DAY);
+        long civilDate = civilDate(epochDay);
+        int year = (int) (civilDate >> 16);
+        if (year < 0 || year > 9999) {
+            return writeASCII(dataBytes, offset, appendRFC1123(new StringBuilder(), timeMilliseconds));
+        }
+        Objects.checkFromIndexSize(offset, RFC1123_LENGTH, dataBytes.length);
+        int secondOfDay = (int) (Math.floorMod(timeMilliseconds, MILLISECONDS_PER_DAY) / 1000L);
+        int position = writeASCII(dataBytes, offset, RFC1123_DAY_NAMES[(int) Math.floorMod(epochDay + 3L, 7L)]);
+        dataBytes[offset + position++] = ',';
+        dataBytes[offset + position++] = ' ';
+        position += writeDigits(dataBytes, offset + position, (int) (civilDate & 0xFF), 2);
+        dataBytes[offset + position++] = ' ';
+        position += writeASCII(dataBytes, offset + position,
+                RFC1123_MONTH_NAMES[(int) ((civilDate >> 8) & 0xFF) - 1]);
+        dataBytes[offset + position++] = ' ';
+        position += writeDigits(dataBytes, offset + position, year, 4);
+        dataBytes[offset + position++] = ' ';
+        position += writeTime(dataBytes, offset + position, secondOfDay);
+        return position + writeASCII(dataBytes, offset + position, " GMT");
+    }
+
+    /**
+     * <h3 class="en-US">Append ISO8601 formatted UTC date time string of given milliseconds to the given string builder</h3>
+     * <p class="en-US">Format example: 1994-11-06T08:49:37Z</p>
+     * <h3 class="zh-CN">将给定毫秒数的ISO8601格式UTC日期时间字符串追加到给定的字符串构建器</h3>
+     * <p class="zh-CN">格式示例：1994-11-06T08:49:37Z</p>
+     *
+     * @param stringBuilder    <span class="en-US">String builder instance</span>
+     *                         <span class="zh-CN">字符串构建器实例对象</span>
+     * @param timeMilliseconds <span class="en-US">date time milliseconds</span>
+     *                         <span class="zh-CN">日期时间的毫秒数</span>
+     * @return <span class="en-US">Given string builder instance</span>
+     * <span class="zh-CN">给定的字符串构建器实例对象</span>
+     */
+    public static StringBuilder appendISO8601(final StringBuilder stringBuilder, final long timeMilliseconds) {
+        long epochDay = Math.floorDiv(timeMilliseconds, MILLISECONDS_PER_DAY);
+        long civilDate = civilDate(epochDay);
+        int year = (int) (civilDate >> 16);
+        if (year < 0 || year > 9999) {
+            return stringBuilder.append(DEFAULT_ISO8601_PATTERN
+                    .format(Instant.ofEpochMilli(timeMilliseconds).atOffset(ZoneOffset.UTC))).append('Z');
+        }
+        int secondOfDay = (int) (Math.floorMod(timeMilliseconds, MILLISECONDS_PER_DAY) / 1000L);
+        appendDigits(stringBuilder, year, 4).append('-');
+        appendDigits(stringBuilder, (int) ((civilDate >> 8) & 0xFF), 2).append('-');
+        appendDigits(stringBuilder, (int) (civilDate & 0xFF), 2).append('T');
+        appendDigits(stringBuilder, secondOfDay / 3600, 2).append(':');
+        appendDigits(stringBuilder, (secondOfDay / 60) % 60, 2).append(':');
+        return appendDigits(stringBuilder, secondOfDay % 60, 2).append('Z');
+    }
+
+    /**
+     * <h3 class="en-US">Write ISO8601 formatted UTC date time string of given milliseconds into the given data bytes</h3>
+     * <p class="en-US">Format example: 1994-11-06T08:49:37Z, data bytes are encoded by US-ASCII</p>
+     * <h3 class="zh-CN">将给定毫秒数的ISO8601格式UTC日期时间字符串写入给定的二进制数组</h3>
+     * <p class="zh-CN">格式示例：1994-11-06T08:49:37Z，使用US-ASCII编码</p>
+     *
+     * @param dataBytes        <span class="en-US">Target data bytes</span>
+     *                         <span class="zh-CN">目标二进制数组</span>
+     * @param offset           <span class="en-US">Write offset</span>
+     *                         <span class="zh-CN">写入起始位置</span>
+     * @param timeMilliseconds <span class="en-US">date time milliseconds</span>
+     *                         <span class="zh-CN">日期时间的毫秒数</span>
+     * @return <span class="en-US">Written bytes length</span>
+     * <span class="zh-CN">写入的字节长度</span>
+     * @throws IndexOutOfBoundsException <span class="en-US">if the data bytes has not enough space</span>
+     *                                   <span class="zh-CN">如果二进制数组没有足够的空间</span>
+     */
+    public static int writeISO8601(final byte[] dataBytes, final int offset, final long timeMilliseconds) {
+        long epochDay = Math.floorDiv(timeMilliseconds, MILLISECONDS_PER_DAY);
+        long civilDate = civilDate(epochDay);
+        int year = (int) (civilDate >> 16);
+        if (year < 0 || year > 9999) {
+            return writeASCII(dataBytes, offset, appendISO8601(new StringBuilder(), timeMilliseconds));
+        }
+        Objects.checkFromIndexSize(offset, ISO8601_LENGTH, dataBytes.length);
+        int secondOfDay = (int) (Math.floorMod(timeMilliseconds, MILLISECONDS_PER_DAY) / 1000L);
+        int position = writeDigits(dataBytes, offset, year, 4);
+        dataBytes[offset + position++] = '-';
+        position += writeDigits(dataBytes, offset + position, (int) ((civilDate >> 8) & 0xFF), 2);
+        dataBytes[offset + position++] = '-';
+        position += writeDigits(dataBytes, offset + position, (int) (civilDate & 0xFF), 2);
+        dataBytes[offset + position++] = 'T';
+        position += writeTime(dataBytes, offset + position, secondOfDay);
+        dataBytes[offset + position++] = 'Z';
+        return position;
+    }
+
     /**
      * <h3 class="en-US">Check current year is leap year</h3>
      * <h3 class="zh-CN">检查当前年份是否为闰年</h3>
@@ -920,8 +1167,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String getCurrentMonthFirstDay(final String pattern) {
-        return LocalDateTime.now().with(TemporalAdjusters.firstDayOfMonth())
-                .format(DateTimeFormatter.ofPattern(pattern));
+        return LocalDateTime.now().with(TemporalAdjusters.firstDayOfMonth()).format(formatter(pattern));
     }
 
     /**
@@ -934,8 +1180,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String getCurrentMonthLastDay(final String pattern) {
-        return LocalDateTime.now().with(TemporalAdjusters.lastDayOfMonth())
-                .format(DateTimeFormatter.ofPattern(pattern));
+        return LocalDateTime.now().with(TemporalAdjusters.lastDayOfMonth()).format(formatter(pattern));
     }
 
     /**
@@ -958,6 +1203,161 @@ public final class DateTimeUtils {
         return dayCount;
     }
 
+    /**
+     * <h3 class="en-US">Retrieve DateFormat instance by given styles and locale</h3>
+     * <p class="en-US">DateFormat is not thread-safe, so the cached prototype instance will be cloned for each call</p>
+     * <h3 class="zh-CN">根据给定的风格代码和地区读取DateFormat实例对象</h3>
+     * <p class="zh-CN">DateFormat不是线程安全的，所以每次调用时将复制缓存的原型实例对象</p>
+     *
+     * @param formatDate <span class="en-US">Format date part</span>
+     *                   <span class="zh-CN">格式化日期部分</span>
+     * @param formatTime <span class="en-US">Format time part</span>
+     *                   <span class="zh-CN">格式化时间部分</span>
+     * @param dateStyle  <span class="en-US">date style code</span>
+     *                   <span class="zh-CN">日期风格代码</span>
+     * @param timeStyle  <span class="en-US">time style code</span>
+     *                   <span class="zh-CN">时间风格代码</span>
+     * @param locale     <span class="en-US">locale instance</span>
+     *                   <span class="zh-CN">地区实例对象</span>
+     * @return <span class="en-US">DateFormat instance</span>
+     * <span class="zh-CN">DateFormat实例对象</span>
+     */
+    private static DateFormat dateFormat(final boolean formatDate, final boolean formatTime,
+                                         final int dateStyle, final int timeStyle, final Locale locale) {
+        String cacheKey = (formatDate ? dateStyle : "-") + "|" + (formatTime ? timeStyle : "-") + "|" + locale;
+        DateFormat dateFormat = REGISTERED_DATE_FORMATS.get(cacheKey);
+        if (dateFormat == null) {
+            if (REGISTERED_DATE_FORMATS.size() >= FORMATTER_CACHE_LIMIT) {
+                REGISTERED_DATE_FORMATS.clear();
+            }
+            dateFormat = REGISTERED_DATE_FORMATS.computeIfAbsent(cacheKey, key -> {
+                if (formatDate && formatTime) {
+                    return DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale);
+                }
+                return formatDate
+                        ? DateFormat.getDateInstance(dateStyle, locale)
+                        : DateFormat.getTimeInstance(timeStyle, locale);
+            });
+        }
+        return (DateFormat) dateFormat.clone();
+    }
+
+    /**
+     * <h3 class="en-US">Convert epoch day to civil date</h3>
+     * <p class="en-US">Returns packed value: year in the high bits, month in bits 8-15 and day of month in bits 0-7</p>
+     * <h3 class="zh-CN">转换纪元日为公历日期</h3>
+     * <p class="zh-CN">返回打包的值：高位为年份，第8-15位为月份，第0-7位为日期</p>
+     *
+     * @param epochDay <span class="en-US">Days since 1970-01-01</span>
+     *                 <span class="zh-CN">自1970-01-01起的天数</span>
+     * @return <span class="en-US">Packed civil date</span>
+     * <span class="zh-CN">打包的公历日期</span>
+     */
+    private static long civilDate(final long epochDay) {
+        long dayValue = epochDay + 719468L;
+        long era = Math.floorDiv(dayValue, 146097L);
+        long dayOfEra = dayValue - era * 146097L;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460L + dayOfEra / 36524L - dayOfEra / 146096L) / 365L;
+        long dayOfYear = dayOfEra - (365L * yearOfEra + yearOfEra / 4L - yearOfEra / 100L);
+        long monthPosition = (5L * dayOfYear + 2L) / 153L;
+        long day = dayOfYear - (153L * monthPosition + 2L) / 5L + 1L;
+        long month = monthPosition < 10L ? monthPosition + 3L : monthPosition - 9L;
+        long year = yearOfEra + era * 400L + (month <= 2L ? 1L : 0L);
+        return (year << 16) | (month << 8) | day;
+    }
+
+    /**
+     * <h3 class="en-US">Append zero padded digits to the given string builder</h3>
+     * <h3 class="zh-CN">追加补零的数字到给定的字符串构建器</h3>
+     *
+     * @param stringBuilder <span class="en-US">String builder instance</span>
+     *                      <span class="zh-CN">字符串构建器实例对象</span>
+     * @param value         <span class="en-US">Value</span>
+     *                      <span class="zh-CN">数值</span>
+     * @param width         <span class="en-US">Digits width</span>
+     *                      <span class="zh-CN">数字宽度</span>
+     * @return <span class="en-US">Given string builder instance</span>
+     * <span class="zh-CN">给定的字符串构建器实例对象</span>
+     */
+    private static StringBuilder appendDigits(final StringBuilder stringBuilder, final int value, final int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            stringBuilder.append((char) ('0' + (value / divisor) % 10));
+        }
+        return stringBuilder;
+    }
+
+    /**
+     * <h3 class="en-US">Write zero padded digits into the given data bytes</h3>
+     * <h3 class="zh-CN">写入补零的数字到给定的二进制数组</h3>
+     *
+     * @param dataBytes <span class="en-US">Target data bytes</span>
+     *                  <span class="zh-CN">目标二进制数组</span>
+     * @param offset    <span class="en-US">Write offset</span>
+     *                  <span class="zh-CN">写入起始位置</span>
+     * @param value     <span class="en-US">Value</span>
+     *                  <span class="zh-CN">数值</span>
+     * @param width     <span class="en-US">Digits width</span>
+     *                  <span class="zh-CN">数字宽度</span>
+     * @return <span class="en-US">Written bytes length</span>
+     * <span class="zh-CN">写入的字节长度</span>
+     */
+    private static int writeDigits(final byte[] dataBytes, final int offset, final int value, final int width) {
+        int current = value;
+        for (int i = width - 1; i >= 0; i--) {
+            dataBytes[offset + i] = (byte) ('0' + current % 10);
+            current /= 10;
+        }
+        return width;
+    }
+
+    /**
+     * <h3 class="en-US">Write time string HH:mm:ss into the given data bytes</h3>
+     * <h3 class="zh-CN">写入时间字符串HH:mm:ss到给定的二进制数组</h3>
+     *
+     * @param dataBytes   <span class="en-US">Target data bytes</span>
+     *                    <span class="zh-CN">目标二进制数组</span>
+     * @param offset      <span class="en-US">Write offset</span>
+     *                    <span class="zh-CN">写入起始位置</span>
+     * @param secondOfDay <span class="en-US">Second of day</span>
+     *                    <span class="zh-CN">当天的秒数</span>
+     * @return <span class="en-US">Written bytes length</span>
+     * <span class="zh-CN">写入的字节长度</span>
+     */
+    private static int writeTime(final byte[] dataBytes, final int offset, final int secondOfDay) {
+        writeDigits(dataBytes, offset, secondOfDay / 3600, 2);
+        dataBytes[offset + 2] = ':';
+        writeDigits(dataBytes, offset + 3, (secondOfDay / 60) % 60, 2);
+        dataBytes[offset + 5] = ':';
+        writeDigits(dataBytes, offset + 6, secondOfDay % 60, 2);
+        return 8;
+    }
+
+    /**
+     * <h3 class="en-US">Write US-ASCII characters into the given data bytes</h3>
+     * <h3 class="zh-CN">写入US-ASCII字符到给定的二进制数组</h3>
+     *
+     * @param dataBytes    <span class="en-US">Target data bytes</span>
+     *                     <span class="zh-CN">目标二进制数组</span>
+     * @param offset       <span class="en-US">Write offset</span>
+     *                     <span class="zh-CN">写入起始位置</span>
+     * @param charSequence <span class="en-US">Character sequence</span>
+     *                     <span class="zh-CN">字符序列</span>
+     * @return <span class="en-US">Written bytes length</span>
+     * <span class="zh-CN">写入的字节长度</span>
+     */
+    private static int writeASCII(final byte[] dataBytes, final int offset, final CharSequence charSequence) {
+        int length = charSequence.length();
+        Objects.checkFromIndexSize(offset, length, dataBytes.length);
+        for (int i = 0; i < length; i++) {
+            dataBytes[offset + i] = (byte) charSequence.charAt(i);
+        }
+        return length;
+    }
+
     /**
      * <h3 class="en-US">Get default time zone string</h3>
      * <h3 class="zh-CN">读取默认的时区并转换为字符串</h3>
@@ -29,16 +29,28 @@ import org.nervousync.beans.path.TargetPath;
 import org.nervousync.beans.xml.files.SegmentationBlock;
 import org.nervousync.beans.xml.files.SegmentationInfo;
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.io.ArchiveCache;
+import org.nervousync.commons.io.FileWalker;
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.zip.ZipFile;
 
 import java.io.*;
 import java.net.*;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Stream;
 import java.util.zip.CRC32;
 
 /**
@@ -157,6 +169,24 @@ public final class FileUtils {
      */
     public static final String MIME_TYPE_YAML = "application/x-yaml";
 
+    /**
+     * <span class="en-US">Default worker count of directory copy</span>
+     * <span class="zh-CN">文件夹复制的默认工作线程数</span>
+     */
+    public static final int DEFAULT_COPY_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * <span class="en-US">Maximum bytes count of each FileChannel.transferTo invoke, progress will be reported after each transfer</span>
+     * <span class="zh-CN">每次调用FileChannel.transferTo的最大字节数，每次传输后报告进度</span>
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * <span class="en-US">Buffer size of copy when samba file was involved</span>
+     * <span class="zh-CN">涉及samba文件时复制使用的缓冲区大小</span>
+     */
+    private static final int SAMBA_BUFFER_SIZE = 1024 * 1024;
+
     /**
      * <h3 class="en-US">Private constructor for BeanUtils</h3>
      * <h3 class="zh-CN">JavaBean工具集的私有构造函数</h3>
@@ -412,10 +442,10 @@ public final class FileUtils {
             } else {
                 try {
 	                inputStream = switch (StringUtils.getFilenameExtension(targetPath.getFilePath())) {
-		                case URL_PROTOCOL_JAR -> openInputStream(new JarFile(getFile(targetPath.getFilePath())),
-				                targetPath.getEntryPath());
-		                case URL_PROTOCOL_ZIP -> openInputStream(ZipFile.openZipFile(targetPath.getFilePath()),
-				                targetPath.getEntryPath());
+		                case URL_PROTOCOL_JAR -> ArchiveCache.acquireJar(getFile(targetPath.getFilePath()))
+				                .transferInputStream(targetPath.getEntryPath());
+		                case URL_PROTOCOL_ZIP -> ArchiveCache.acquireZip(getFile(targetPath.getFilePath()))
+				                .transferInputStream(targetPath.getEntryPath());
 		                default -> null;
 	                };
                 } catch (ZipException e) {
@@ -687,8 +717,8 @@ public final class FileUtils {
      */
     public static List<String> listJarEntry(final String filePath) {
         List<String> entryList = new ArrayList<>();
-        try (JarFile jarFile = new JarFile(getFile(filePath))) {
-            Enumeration<JarEntry> enumeration = jarFile.entries();
+        try (ArchiveCache.Handle handle = ArchiveCache.acquireJar(getFile(filePath))) {
+            Enumeration<JarEntry> enumeration = handle.jarFile().entries();
             while (enumeration.hasMoreElements()) {
                 JarEntry jarEntry = enumeration.nextElement();
                 if (!jarEntry.isDirectory()) {
@@ -715,7 +745,8 @@ public final class FileUtils {
      * <span class="zh-CN">条目资源路径文件内容</span>
      */
     public static String readJarEntryInfo(final String filePath, final String entryPath) {
-        try (JarFile jarFile = new JarFile(getFile(filePath))) {
+        try (ArchiveCache.Handle handle = ArchiveCache.acquireJar(getFile(filePath))) {
+            JarFile jarFile = handle.jarFile();
             JarEntry packageEntry = jarFile.getJarEntry(entryPath);
             if (packageEntry != null) {
                 return IOUtils.readContent(jarFile.getInputStream(packageEntry));
@@ -760,7 +791,8 @@ public final class FileUtils {
      */
     public static byte[] readJarEntryBytes(final String filePath, final String entryPath,
                                            final int offset, final int length) {
-        try (JarFile jarFile = new JarFile(getFile(filePath))) {
+        try (ArchiveCache.Handle handle = ArchiveCache.acquireJar(getFile(filePath))) {
+            JarFile jarFile = handle.jarFile();
             JarEntry packageEntry = jarFile.getJarEntry(entryPath);
             if (packageEntry != null) {
                 return IOUtils.readBytes(jarFile.getInputStream(packageEntry), offset, length);
@@ -810,9 +842,9 @@ public final class FileUtils {
         if (targetPath.getFilePath().toLowerCase().endsWith(URL_PROTOCOL_JAR)) {
             return FileUtils.readJarEntryBytes(targetPath.getFilePath(), targetPath.getEntryPath());
         } else if (targetPath.getFilePath().toLowerCase().endsWith(URL_PROTOCOL_ZIP)) {
-            try {
-                return ZipFile.openZipFile(targetPath.getFilePath()).readEntry(targetPath.getEntryPath());
-            } catch (ZipException ignored) {
+            try (ArchiveCache.Handle handle = ArchiveCache.acquireZip(getFile(targetPath.getFilePath()))) {
+                return handle.zipFile().readEntry(targetPath.getEntryPath());
+            } catch (IOException | ZipException ignored) {
                 return new byte[0];
             }
         } else {
@@ -1537,35 +1569,20 @@ public final class FileUtils {
     public static void listFiles(final File file, final FilenameFilter filter, List<String> fileList,
                                  final boolean readHiddenFiles, final boolean includeRootFolder,
                                  final boolean iterateChildFolder) {
-        if (fileList == null) {
-            fileList = new ArrayList<>();
+        if (fileList == null || file == null) {
+            return;
         }
-
-        if (file.isDirectory()) {
-            if (includeRootFolder) {
-                fileList.add(file.getAbsolutePath());
-            }
-            File[] childFiles = file.listFiles();
-            if (childFiles != null) {
-                for (File childFile : childFiles) {
-                    if (childFile.isDirectory()) {
-                        if (iterateChildFolder) {
-                            FileUtils.listFiles(childFile, filter, fileList, readHiddenFiles,
-                                    includeRootFolder, Boolean.TRUE);
-                        }
-                    } else {
-                        if (!readHiddenFiles && file.isHidden()) {
-                            continue;
-                        }
-                        if (filter == null || filter.accept(childFile.getParentFile(), childFile.getName())) {
-                            String filePath = childFile.getAbsolutePath();
-                            if (!fileList.contains(filePath)) {
-                                fileList.add(filePath);
-                            }
-                        }
-                    }
-                }
-            }
+        Set<String> existsPaths = new HashSet<>(fileList);
+        final List<String> resultList = fileList;
+        try (Stream<Path> pathStream = FileWalker.newWalker(file.toPath())
+                .maxDepth(iterateChildFolder ? Integer.MAX_VALUE : 1)
+                .readHiddenFiles(readHiddenFiles)
+                .includeDirectories(includeRootFolder)
+                .filter(filter)
+                .stream()) {
+            pathStream.map(path -> path.toAbsolutePath().toString())
+                    .filter(existsPaths::add)
+                    .forEach(resultList::add);
         }
     }
 
@@ -1859,10 +1876,12 @@ public final class FileUtils {
     public static List<String> listFilesByRegex(final String filePath, final String fileNameRegex,
                                                 final boolean readHiddenFiles, final boolean includeRootFolder,
                                                 final boolean iterateChildFolder) throws FileNotFoundException {
-        List<String> fileList = new ArrayList<>();
-        FileUtils.listFiles(FileUtils.getFile(filePath), new FilenameRegexFilter(fileNameRegex),
-                fileList, readHiddenFiles, includeRootFolder, iterateChildFolder);
-        return fileList;
+        return FileWalker.newWalker(FileUtils.getFile(filePath).toPath())
+                .maxDepth(iterateChildFolder ? Integer.MAX_VALUE : 1)
+                .readHiddenFiles(readHiddenFiles)
+                .includeDirectories(includeRootFolder)
+                .regex(fileNameRegex)
+                .list();
     }
 
     /**
@@ -1912,6 +1931,7 @@ public final class FileUtils {
             FileOutputStream fileOutputStream = null;
             try {
                 File destFile = FileUtils.getFile(filePath);
+                ArchiveCache.invalidate(destFile);
                 File folder = destFile.getParentFile();
                 if (folder.exists() || folder.mkdirs()) {
                     fileOutputStream = new FileOutputStream(destFile);
@@ -1973,6 +1993,7 @@ public final class FileUtils {
                 outputStream = new SmbFileOutputStream(smbFile);
             } else {
                 File destFile = FileUtils.getFile(filePath);
+                ArchiveCache.invalidate(destFile);
                 File folder = destFile.getParentFile();
                 if (folder.exists() || folder.mkdirs()) {
                     outputStream = new FileOutputStream(destFile);
@@ -2057,6 +2078,7 @@ public final class FileUtils {
                 smbFile = new SmbFile(filePath, new BaseContext(new PropertyConfiguration(properties)));
                 outputStream = new SmbFileOutputStream(smbFile);
             } else {
+                ArchiveCache.invalidate(new File(filePath));
                 outputStream = new FileOutputStream(filePath);
             }
             outputStreamWriter = new OutputStreamWriter(outputStream, encoding);
@@ -2165,6 +2187,7 @@ public final class FileUtils {
         }
 
         if (file.exists()) {
+            ArchiveCache.invalidate(file);
             if (file.isDirectory()) {
                 return FileUtils.removeDir(file);
             } else {
@@ -2352,6 +2375,9 @@ public final class FileUtils {
     public static boolean moveFile(final String originalPath, final CIFSContext originalContext,
                                    final String targetPath, final CIFSContext targetContext,
                                    boolean override) {
+        if (FileUtils.renameLocal(originalPath, targetPath, override)) {
+            return Boolean.TRUE;
+        }
         if (FileUtils.isExists(originalPath) && FileUtils.canRead(originalPath)) {
             if (override || !FileUtils.isExists(targetPath)) {
                 try {
@@ -2375,6 +2401,63 @@ public final class FileUtils {
         return Boolean.FALSE;
     }
 
+    /**
+     * <h3 class="en-US">Rename local file or directory to target path</h3>
+     * <span class="en-US">
+     *     Only works when both paths are local paths, directory will be renamed only if target path not exists.
+     *     Returns <code>Boolean.FALSE</code> if the file system cannot rename it, the caller should copy and remove instead.
+     * </span>
+     * <h3 class="zh-CN">重命名本地文件或文件夹到目标路径</h3>
+     * <span class="zh-CN">
+     *     仅当两个路径都是本地路径时有效，文件夹仅在目标路径不存在时重命名。
+     *     如果文件系统无法重命名则返回<code>Boolean.FALSE</code>，调用者应改为复制并删除。
+     * </span>
+     *
+     * @param originalPath <span class="en-US">Original path</span>
+     *                     <span class="zh-CN">原文件地址</span>
+     * @param targetPath   <span class="en-US">Target path</span>
+     *                     <span class="zh-CN">目标文件地址</span>
+     * @param override     <span class="en-US">Override target if exists</span>
+     *                     <span class="zh-CN">覆盖目标文件</span>
+     * @return <span class="en-US"><code>Boolean.TRUE</code> for renamed and <code>Boolean.FALSE</code> for not renamed</span>
+     * <span class="zh-CN">已重命名返回<code>Boolean.TRUE</code>，未重命名返回<code>Boolean.FALSE</code></span>
+     */
+    private static boolean renameLocal(final String originalPath, final String targetPath, final boolean override) {
+        if (StringUtils.isEmpty(originalPath) || StringUtils.isEmpty(targetPath)
+                || originalPath.startsWith(Globals.SAMBA_PROTOCOL) || targetPath.startsWith(Globals.SAMBA_PROTOCOL)) {
+            return Boolean.FALSE;
+        }
+        try {
+            Path originalFile = FileUtils.getFile(originalPath).toPath();
+            Path targetFile = FileUtils.getFile(targetPath).toPath();
+            ArchiveCache.invalidate(originalFile.toFile());
+            ArchiveCache.invalidate(targetFile.toFile());
+            if (Files.isDirectory(originalFile)) {
+                if (Files.exists(targetFile)) {
+                    return Boolean.FALSE;
+                }
+                Path parentPath = targetFile.toAbsolutePath().getParent();
+                if (parentPath != null) {
+                    Files.createDirectories(parentPath);
+                }
+                Files.move(originalFile, targetFile);
+            } else if (Files.isRegularFile(originalFile) && Files.isReadable(originalFile)) {
+                if (override) {
+                    Files.move(originalFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+                } else if (Files.exists(targetFile)) {
+                    return Boolean.FALSE;
+                } else {
+                    Files.move(originalFile, targetFile);
+                }
+            } else {
+                return Boolean.FALSE;
+            }
+            return Boolean.TRUE;
+        } catch (IOException | SecurityException e) {
+            return Boolean.FALSE;
+        }
+    }
+
     /**
      * <h3 class="en-US">Move directory from samba folder to target folder</h3>
      * <h3 class="zh-CN">从原samba文件夹地址移动到目标文件夹地址</h3>
@@ -2494,6 +2577,9 @@ public final class FileUtils {
                 || StringUtils.isEmpty(targetPath)) {
             return Boolean.FALSE;
         }
+        if (FileUtils.renameLocal(originalPath, targetPath, override)) {
+            return Boolean.TRUE;
+        }
         if (FileUtils.copy(originalPath, originalContext, targetPath, targetContext, override)) {
             return FileUtils.removeDir(originalPath, originalContext);
         }
@@ -2826,6 +2912,63 @@ public final class FileUtils {
     public static boolean copy(final String originalPath, final CIFSContext originalContext,
                                final String targetPath, final CIFSContext targetContext,
                                final boolean override) {
+        return FileUtils.copy(originalPath, originalContext, targetPath, targetContext, override,
+                DEFAULT_COPY_PARALLELISM, null);
+    }
+
+    /**
+     * <h3 class="en-US">Copy file from base path to target path and report progress</h3>
+     * <h3 class="zh-CN">从原文件地址复制到目标文件地址并报告进度</h3>
+     *
+     * @param originalPath <span class="en-US">Original path</span>
+     *                     <span class="zh-CN">原文件地址</span>
+     * @param targetPath   <span class="en-US">Target path</span>
+     *                     <span class="zh-CN">目标文件地址</span>
+     * @param override     <span class="en-US">Override target if exists</span>
+     *                     <span class="zh-CN">覆盖目标文件</span>
+     * @param copyProgress <span class="en-US">Copy progress callback instance</span>
+     *                     <span class="zh-CN">复制进度回调实例对象</span>
+     * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
+     * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
+     */
+    public static boolean copy(final String originalPath, final String targetPath, final boolean override,
+                               final CopyProgress copyProgress) {
+        return FileUtils.copy(originalPath, null, targetPath, null, override,
+                DEFAULT_COPY_PARALLELISM, copyProgress);
+    }
+
+    /**
+     * <h3 class="en-US">Copy file from base samba path to target samba path</h3>
+     * <span class="en-US">
+     *     Local files were copied by FileChannel.transferTo, the operating system can copy data without user space buffer.
+     *     Directory files were copied by a bounded worker pool, the directory structure was created by current thread.
+     * </span>
+     * <h3 class="zh-CN">从原samba文件地址复制到目标samba文件地址</h3>
+     * <span class="zh-CN">
+     *     本地文件使用FileChannel.transferTo复制，操作系统可以在不使用用户空间缓冲区的情况下复制数据。
+     *     文件夹中的文件使用有界工作线程池复制，文件夹结构由当前线程创建。
+     * </span>
+     *
+     * @param originalPath    <span class="en-US">Original path</span>
+     *                        <span class="zh-CN">原文件地址</span>
+     * @param originalContext <span class="en-US">the original cifs context</span>
+     *                        <span class="zh-CN">原文件CIFS上下文配置信息</span>
+     * @param targetPath      <span class="en-US">Target path</span>
+     *                        <span class="zh-CN">目标文件地址</span>
+     * @param targetContext   <span class="en-US">the target cifs context</span>
+     *                        <span class="zh-CN">目标文件CIFS上下文配置信息</span>
+     * @param override        <span class="en-US">Override target if exists</span>
+     *                        <span class="zh-CN">覆盖目标文件</span>
+     * @param parallelism     <span class="en-US">Worker count of directory copy, 1 for copy in current thread</span>
+     *                        <span class="zh-CN">文件夹复制的工作线程数，1为在当前线程中复制</span>
+     * @param copyProgress    <span class="en-US">Copy progress callback instance, may be <code>null</code></span>
+     *                        <span class="zh-CN">复制进度回调实例对象，可以为<code>null</code></span>
+     * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
+     * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
+     */
+    public static boolean copy(final String originalPath, final CIFSContext originalContext,
+                               final String targetPath, final CIFSContext targetContext,
+                               final boolean override, final int parallelism, final CopyProgress copyProgress) {
         if (StringUtils.isEmpty(originalPath) || StringUtils.isEmpty(targetPath)) {
             return Boolean.FALSE;
         }
@@ -2851,9 +2994,12 @@ public final class FileUtils {
                 target = FileUtils.getFile(targetPath);
             }
             if (directory) {
-                return FileUtils.processDirectory(original, target, override);
+                try (CopyContext copyContext = new CopyContext(override, parallelism, copyProgress)) {
+                    boolean processResult = FileUtils.processDirectory(original, target, copyContext);
+                    return copyContext.awaitCompleted() && processResult;
+                }
             } else {
-                return FileUtils.processFile(original, target, override);
+                return FileUtils.processFile(original, target, new CopyContext(override, 1, copyProgress));
             }
         } catch (Exception e) {
             LOGGER.error("Copy_Directory_Error");
@@ -2900,7 +3046,9 @@ public final class FileUtils {
             return FileUtils.removeDir(FileUtils.getFile(directoryPath, cifsContext));
         } else {
             try {
-                return FileUtils.removeDir(FileUtils.getFile(directoryPath));
+                File directory = FileUtils.getFile(directoryPath);
+                ArchiveCache.invalidate(directory);
+                return FileUtils.removeDir(directory);
             } catch (Exception e) {
                 LOGGER.error("Remove_Directory_Error");
                 if (LOGGER.isDebugEnabled()) {
@@ -3068,19 +3216,21 @@ public final class FileUtils {
      */
     public static int readEntryLength(final String filePath, final String entryPath) {
         InputStream inputStream = null;
-        JarFile jarFile = null;
         try {
             if (filePath.endsWith(URL_PROTOCOL_JAR)) {
-                jarFile = new JarFile(getFile(filePath));
-                JarEntry packageEntry = jarFile.getJarEntry(entryPath);
+                try (ArchiveCache.Handle handle = ArchiveCache.acquireJar(getFile(filePath))) {
+                    JarFile jarFile = handle.jarFile();
+                    JarEntry packageEntry = jarFile.getJarEntry(entryPath);
 
-                if (packageEntry != null) {
-                    inputStream = jarFile.getInputStream(jarFile.getJarEntry(entryPath));
-                    return inputStream.available();
+                    if (packageEntry != null) {
+                        inputStream = jarFile.getInputStream(packageEntry);
+                        return inputStream.available();
+                    }
                 }
             } else if (filePath.endsWith(URL_PROTOCOL_ZIP)) {
-                ZipFile zipFile = ZipFile.openZipFile(filePath);
-                return zipFile.readEntryLength(entryPath);
+                try (ArchiveCache.Handle handle = ArchiveCache.acquireZip(getFile(filePath))) {
+                    return handle.zipFile().readEntryLength(entryPath);
+                }
             }
         } catch (Exception e) {
             LOGGER.error("Entry_Length_Load_Error");
@@ -3089,7 +3239,6 @@ public final class FileUtils {
             }
         } finally {
             IOUtils.closeStream(inputStream);
-            IOUtils.closeStream(jarFile);
         }
         return Globals.DEFAULT_VALUE_INT;
     }
@@ -3111,30 +3260,26 @@ public final class FileUtils {
         }
 
         if (filePath.toLowerCase().endsWith(URL_PROTOCOL_JAR)) {
-            JarFile jarFile = null;
-            try {
-                jarFile = new JarFile(getFile(filePath));
-                return jarFile.getJarEntry(entryPath) != null;
+            try (ArchiveCache.Handle handle = ArchiveCache.acquireJar(getFile(filePath))) {
+                return handle.jarFile().getJarEntry(entryPath) != null;
             } catch (Exception e) {
                 LOGGER.error("Entry_Content_Load_Error");
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Stack_Message_Error", e);
                 }
-            } finally {
-                if (jarFile != null) {
-                    try {
-                        jarFile.close();
-                    } catch (Exception e) {
-                        LOGGER.error("Archive_Close_File_Error");
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debug("Stack_Message_Error", e);
-                        }
-                    }
-                }
             }
         } else if (filePath.toLowerCase().endsWith(URL_PROTOCOL_ZIP)) {
-            ZipFile zipFile = ZipFile.openZipFile(filePath);
-            return zipFile.isEntryExists(entryPath);
+            if (!FileUtils.isExists(filePath)) {
+                return Boolean.FALSE;
+            }
+            try (ArchiveCache.Handle handle = ArchiveCache.acquireZip(getFile(filePath))) {
+                return handle.zipFile().isEntryExists(entryPath);
+            } catch (IOException e) {
+                LOGGER.error("Entry_Content_Load_Error");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
         }
         return Boolean.FALSE;
     }
@@ -3628,39 +3773,6 @@ public final class FileUtils {
         return Boolean.TRUE;
     }
 
-    /**
-     * <h2 class="en-US">Implements class for FileFilter by check path using regex string</h2>
-     * <h2 class="zh-CN">使用正则表达式匹配路径的FileFilter实现类</h2>
-     *
-     * @param fileNameRegex <span class="en-US">Regex string</span>
-     *                      <span class="zh-CN">正则表达式</span>
-     */
-        private record FilenameRegexFilter(String fileNameRegex) implements FilenameFilter {
-        /**
-         * <h3 class="en-US">Constructor for FilenameRegexFilter</h3>
-         * <h3 class="zh-CN">正则表达式匹配路径过滤器的构造方法</h3>
-         *
-         * @param fileNameRegex <span class="en-US">Regex string</span>
-         *                      <span class="zh-CN">正则表达式</span>
-         */
-        private FilenameRegexFilter {
-        }
-
-            /**
-             * (Non-Javadoc)
-             *
-             * @see FileFilter#accept(File)
-             */
-            public boolean accept(File dir, String name) {
-                if (this.fileNameRegex != null && dir != null && dir.isDirectory()
-                        && dir.exists() && name != null) {
-                    String fileName = StringUtils.getFilename(name);
-                    return StringUtils.matches(fileName, this.fileNameRegex);
-                }
-                return Boolean.FALSE;
-            }
-        }
-
     /**
      * <h2 class="en-US">Implements class for FileFilter by check file extension name</h2>
      * <h2 class="zh-CN">检查文件扩展名的FileFilter实现类</h2>
@@ -3718,69 +3830,248 @@ public final class FileUtils {
     }
 
     /**
-     * <h3 class="en-US">Move file from base samba path to target samba path</h3>
-     * <h3 class="zh-CN">从原samba文件地址移动到目标samba文件地址</h3>
+     * <h2 class="en-US">Copy progress callback</h2>
+     * <span class="en-US">The callback may be invoked by several worker threads when copy directory in parallel</span>
+     * <h2 class="zh-CN">复制进度回调</h2>
+     * <span class="zh-CN">并行复制文件夹时，回调可能被多个工作线程调用</span>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:06:21 $
+     */
+    @FunctionalInterface
+    public interface CopyProgress {
+        /**
+         * <h3 class="en-US">Report copy progress</h3>
+         * <h3 class="zh-CN">报告复制进度</h3>
+         *
+         * @param targetPath  <span class="en-US">Target file path of current transfer</span>
+         *                    <span class="zh-CN">当前传输的目标文件路径</span>
+         * @param totalBytes  <span class="en-US">Total copied bytes of current copy operation</span>
+         *                    <span class="zh-CN">当前复制操作已复制的总字节数</span>
+         * @param totalFiles  <span class="en-US">Total completed files of current copy operation</span>
+         *                    <span class="zh-CN">当前复制操作已完成的文件总数</span>
+         */
+        void progress(final String targetPath, final long totalBytes, final long totalFiles);
+    }
+
+    /**
+     * <h2 class="en-US">Copy operation context</h2>
+     * <span class="en-US">Hold the override flag, the bounded worker pool and the progress counters of one copy operation</span>
+     * <h2 class="zh-CN">复制操作上下文</h2>
+     * <span class="zh-CN">保存一次复制操作的覆盖标记、有界工作线程池和进度计数器</span>
+     */
+    private static final class CopyContext implements AutoCloseable {
+        /**
+         * <span class="en-US">Override target if exists</span>
+         * <span class="zh-CN">覆盖目标文件</span>
+         */
+        private final boolean override;
+        /**
+         * <span class="en-US">Worker pool, <code>null</code> for copy in current thread</span>
+         * <span class="zh-CN">工作线程池，<code>null</code>为在当前线程中复制</span>
+         */
+        private final ExecutorService executorService;
+        /**
+         * <span class="en-US">Copy progress callback instance</span>
+         * <span class="zh-CN">复制进度回调实例对象</span>
+         */
+        private final CopyProgress copyProgress;
+        /**
+         * <span class="en-US">Submitted copy tasks</span>
+         * <span class="zh-CN">已提交的复制任务</span>
+         */
+        private final List<Future<Boolean>> copyTasks = new ArrayList<>();
+        /**
+         * <span class="en-US">Total copied bytes</span>
+         * <span class="zh-CN">已复制的总字节数</span>
+         */
+        private final AtomicLong totalBytes = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+        /**
+         * <span class="en-US">Total completed files</span>
+         * <span class="zh-CN">已完成的文件总数</span>
+         */
+        private final AtomicLong totalFiles = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+
+        /**
+         * <h3 class="en-US">Constructor for CopyContext</h3>
+         * <h3 class="zh-CN">复制操作上下文的构造方法</h3>
+         *
+         * @param override     <span class="en-US">Override target if exists</span>
+         *                     <span class="zh-CN">覆盖目标文件</span>
+         * @param parallelism  <span class="en-US">Worker count, 1 for copy in current thread</span>
+         *                     <span class="zh-CN">工作线程数，1为在当前线程中复制</span>
+         * @param copyProgress <span class="en-US">Copy progress callback instance</span>
+         *                     <span class="zh-CN">复制进度回调实例对象</span>
+         */
+        CopyContext(final boolean override, final int parallelism, final CopyProgress copyProgress) {
+            this.override = override;
+            this.executorService = (parallelism > 1) ? Executors.newFixedThreadPool(parallelism) : null;
+            this.copyProgress = copyProgress;
+        }
+
+        /**
+         * <h3 class="en-US">Submit file copy task, execute in current thread if worker pool not exists</h3>
+         * <h3 class="zh-CN">提交文件复制任务，如果工作线程池不存在则在当前线程中执行</h3>
+         *
+         * @param originalFile <span class="en-US">Original file instance</span>
+         *                     <span class="zh-CN">原文件实例对象</span>
+         * @param targetFile   <span class="en-US">Target file instance</span>
+         *                     <span class="zh-CN">目标文件实例对象</span>
+         * @return <span class="en-US">Copy result, always <code>Boolean.TRUE</code> if task was submitted to worker pool</span>
+         * <span class="zh-CN">复制结果，如果任务已提交到工作线程池则始终返回<code>Boolean.TRUE</code></span>
+         */
+        boolean submit(final Object originalFile, final Object targetFile) {
+            if (this.executorService == null) {
+                return FileUtils.processFile(originalFile, targetFile, this);
+            }
+            this.copyTasks.add(this.executorService.submit(() -> FileUtils.processFile(originalFile, targetFile, this)));
+            return Boolean.TRUE;
+        }
+
+        /**
+         * <h3 class="en-US">Wait for all submitted copy tasks completed</h3>
+         * <h3 class="zh-CN">等待所有已提交的复制任务完成</h3>
+         *
+         * @return <span class="en-US"><code>Boolean.TRUE</code> if all tasks succeeded</span>
+         * <span class="zh-CN">所有任务都成功时返回<code>Boolean.TRUE</code></span>
+         */
+        boolean awaitCompleted() {
+            boolean processResult = Boolean.TRUE;
+            for (Future<Boolean> copyTask : this.copyTasks) {
+                try {
+                    processResult &= copyTask.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Boolean.FALSE;
+                } catch (ExecutionException e) {
+                    LOGGER.error("Copy_Files_Error");
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e.getCause());
+                    }
+                    processResult = Boolean.FALSE;
+                }
+            }
+            return processResult;
+        }
+
+        /**
+         * <h3 class="en-US">Record transferred bytes</h3>
+         * <h3 class="zh-CN">记录已传输的字节数</h3>
+         *
+         * @param targetPath <span class="en-US">Target file path</span>
+         *                   <span class="zh-CN">目标文件路径</span>
+         * @param byteCount  <span class="en-US">Transferred bytes count</span>
+         *                   <span class="zh-CN">已传输的字节数</span>
+         */
+        void transferred(final String targetPath, final long byteCount) {
+            long copiedBytes = this.totalBytes.addAndGet(byteCount);
+            if (this.copyProgress != null) {
+                this.copyProgress.progress(targetPath, copiedBytes, this.totalFiles.get());
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Record completed file</h3>
+         * <h3 class="zh-CN">记录已完成的文件</h3>
+         *
+         * @param targetPath <span class="en-US">Target file path</span>
+         *                   <span class="zh-CN">目标文件路径</span>
+         */
+        void completed(final String targetPath) {
+            long copiedFiles = this.totalFiles.incrementAndGet();
+            if (this.copyProgress != null) {
+                this.copyProgress.progress(targetPath, this.totalBytes.get(), copiedFiles);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (this.executorService != null) {
+                this.executorService.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Copy file from base samba path to target samba path</h3>
+     * <span class="en-US">
+     *     Local to local copy using FileChannel.transferTo, otherwise using streams with large buffer
+     * </span>
+     * <h3 class="zh-CN">从原samba文件地址复制到目标samba文件地址</h3>
+     * <span class="zh-CN">
+     *     本地到本地的复制使用FileChannel.transferTo，否则使用大缓冲区的流复制
+     * </span>
      *
      * @param originalFile <span class="en-US">Original file instance</span>
      *                     <span class="zh-CN">原文件实例对象</span>
      * @param targetFile   <span class="en-US">Target file instance</span>
      *                     <span class="zh-CN">目标文件实例对象</span>
-     * @param override     <span class="en-US">Override target if exists</span>
-     *                     <span class="zh-CN">覆盖目标文件</span>
+     * @param copyContext  <span class="en-US">Copy operation context</span>
+     *                     <span class="zh-CN">复制操作上下文</span>
      * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
      * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
      */
-    private static boolean processFile(final Object originalFile, final Object targetFile, final boolean override) {
+    private static boolean processFile(final Object originalFile, final Object targetFile,
+                                       final CopyContext copyContext) {
         if (originalFile == null || targetFile == null) {
             return Boolean.FALSE;
         }
 
         try {
+            String targetPath;
             if (targetFile instanceof SmbFile) {
-                if (!override && ((SmbFile) targetFile).exists()) {
+                if (!copyContext.override && ((SmbFile) targetFile).exists()) {
                     return Boolean.FALSE;
                 }
-                try (InputStream inputStream = (originalFile instanceof SmbFile)
-                        ? new SmbFileInputStream((SmbFile) originalFile) : new FileInputStream((File) originalFile);
-                     OutputStream outputStream = new SmbFileOutputStream((SmbFile) targetFile)) {
-                    int readLength;
-                    byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
-
-                    while ((readLength = inputStream.read(readBuffer)) != -1) {
-                        outputStream.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
+                targetPath = ((SmbFile) targetFile).getPath();
+            } else {
+                if (!copyContext.override && ((File) targetFile).exists()) {
+                    return Boolean.FALSE;
+                }
+                ArchiveCache.invalidate((File) targetFile);
+                targetPath = ((File) targetFile).getAbsolutePath();
+            }
+            if (originalFile instanceof File && targetFile instanceof File) {
+                try (FileChannel inputChannel = FileChannel.open(((File) originalFile).toPath(),
+                        StandardOpenOption.READ);
+                     FileChannel outputChannel = FileChannel.open(((File) targetFile).toPath(),
+                             StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                             StandardOpenOption.TRUNCATE_EXISTING)) {
+                    long fileSize = inputChannel.size();
+                    long position = Globals.INITIALIZE_INT_VALUE;
+                    while (position < fileSize) {
+                        long transferCount = inputChannel.transferTo(position,
+                                Math.min(TRANSFER_CHUNK_SIZE, fileSize - position), outputChannel);
+                        if (transferCount <= 0) {
+                            break;
+                        }
+                        position += transferCount;
+                        copyContext.transferred(targetPath, transferCount);
                     }
-                    return Boolean.TRUE;
-                } catch (Exception e) {
-                    LOGGER.error("Copy_Files_Error");
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("Stack_Message_Error", e);
+                    if (position < fileSize) {
+                        //  Source file was truncated while copying, the target file is incomplete
+                        LOGGER.error("Copy_Files_Error");
+                        return Boolean.FALSE;
                     }
-                    return Boolean.FALSE;
                 }
             } else {
-                if (!override && ((File) targetFile).exists()) {
-                    return Boolean.FALSE;
-                }
                 try (InputStream inputStream = (originalFile instanceof SmbFile)
                         ? new SmbFileInputStream((SmbFile) originalFile) : new FileInputStream((File) originalFile);
-                     OutputStream outputStream = new FileOutputStream((File) targetFile)) {
+                     OutputStream outputStream = (targetFile instanceof SmbFile)
+                             ? new SmbFileOutputStream((SmbFile) targetFile) : new FileOutputStream((File) targetFile)) {
                     int readLength;
-                    byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
+                    byte[] readBuffer = new byte[SAMBA_BUFFER_SIZE];
 
                     while ((readLength = inputStream.read(readBuffer)) != -1) {
                         outputStream.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
+                        copyContext.transferred(targetPath, readLength);
                     }
-                    return Boolean.TRUE;
-                } catch (Exception e) {
-                    LOGGER.error("Copy_Files_Error");
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("Stack_Message_Error", e);
-                    }
-                    return Boolean.FALSE;
                 }
             }
+            copyContext.completed(targetPath);
+            return Boolean.TRUE;
         } catch (Exception e) {
-            LOGGER.error("Move_Files_Error");
+            LOGGER.error("Copy_Files_Error");
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Stack_Message_Error", e);
             }
@@ -3790,19 +4081,21 @@ public final class FileUtils {
 
     /**
      * <h3 class="en-US">Move file from base path to target path</h3>
+     * <span class="en-US">Child directories were created in current thread, child files were submitted to copy context</span>
      * <h3 class="zh-CN">从原文件地址移动到目标文件地址</h3>
+     * <span class="zh-CN">子文件夹在当前线程中创建，子文件提交到复制上下文</span>
      *
      * @param originalDirectory <span class="en-US">Original folder instance</span>
      *                          <span class="zh-CN">原文件夹实例对象</span>
      * @param targetDirectory   <span class="en-US">Target folder instance</span>
      *                          <span class="zh-CN">目标文件夹实例对象</span>
-     * @param override          <span class="en-US">Override target if exists</span>
-     *                          <span class="zh-CN">覆盖目标文件</span>
+     * @param copyContext       <span class="en-US">Copy operation context</span>
+     *                          <span class="zh-CN">复制操作上下文</span>
      * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
      * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
      */
     private static boolean processDirectory(final Object originalDirectory, final Object targetDirectory,
-                                            final boolean override) {
+                                            final CopyContext copyContext) {
         if (originalDirectory == null || targetDirectory == null) {
             return Boolean.FALSE;
         }
@@ -3834,9 +4127,9 @@ public final class FileUtils {
                         childFile = FileUtils.getFile(childPath);
                     }
                     if (tempFile.isDirectory()) {
-                        processResult &= FileUtils.processDirectory(tempFile, childFile, override);
+                        processResult &= FileUtils.processDirectory(tempFile, childFile, copyContext);
                     } else if (tempFile.isFile()) {
-                        processResult &= FileUtils.processFile(tempFile, childFile, override);
+                        processResult &= copyContext.submit(tempFile, childFile);
                     }
                 }
             } else {
@@ -3853,9 +4146,9 @@ public final class FileUtils {
                             childFile = FileUtils.getFile(childPath);
                         }
                         if (basicFileAttributes.isDirectory()) {
-                            processResult &= FileUtils.processDirectory(tempFile, childFile, override);
+                            processResult &= FileUtils.processDirectory(tempFile, childFile, copyContext);
                         } else if (basicFileAttributes.isRegularFile()) {
-                            processResult &= FileUtils.processFile(tempFile, childFile, override);
+                            processResult &= copyContext.submit(tempFile, childFile);
                         }
                     }
                 }
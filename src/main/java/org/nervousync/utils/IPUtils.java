@@ -463,7 +463,7 @@ public final class IPUtils {
             ipv6Address.insert(0, SPLIT_CHARACTER_IPV6 + calcInteger.and(ff).toString(16));
             calcInteger = calcInteger.shiftRight(16);
         }
-        return ipv6Address.substring(1).replaceFirst(RegexGlobals.IPV6_COMPRESS_REGEX, SPLIT_COMBO_CHARACTER_IPV6);
+        return RegexGlobals.IPV6_COMPRESS_PATTERN.matcher(ipv6Address.substring(1)).replaceFirst(SPLIT_COMBO_CHARACTER_IPV6);
     }
 
     /**
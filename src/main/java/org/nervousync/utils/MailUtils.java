@@ -49,9 +49,9 @@ import org.nervousync.commons.Globals;
 import org.nervousync.enumerations.mail.MailProtocol;
 import org.nervousync.exceptions.mail.MailException;
 import org.nervousync.mail.MailObject;
-import org.nervousync.mail.authenticator.DefaultAuthenticator;
 import org.nervousync.mail.config.MailConfig;
 import org.nervousync.mail.operator.ReceiveOperator;
+import org.nervousync.mail.pool.ConnectionPool;
 import org.nervousync.mail.operator.SendOperator;
 import org.nervousync.mail.protocol.impl.IMAPProtocol;
 import org.nervousync.mail.protocol.impl.POP3Protocol;
@@ -60,11 +60,20 @@ import org.nervousync.mail.protocol.impl.SMTPProtocol;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <h2 class="en-US">E-Mail Utilities</h2>
@@ -92,6 +101,48 @@ import java.util.*;
  * @version $Revision: 1.1.5 $ $Date: Jul 31, 2012 20:54:04 $
  */
 public final class MailUtils {
+    /**
+     * <span class="en-US">Default maximum count of parallel connections when sending E-Mails in bulk</span>
+     * <span class="zh-CN">批量发送电子邮件时的默认最大并行连接数</span>
+     */
+    private static final int SEND_CONNECTION_LIMIT = 4;
+    /**
+     * <span class="en-US">Default page size of streaming mail iterator</span>
+     * <span class="zh-CN">流式邮件迭代器的默认分页大小</span>
+     */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    /**
+     * <span class="en-US">Buffer size of attachment streaming</span>
+     * <span class="zh-CN">附件流式读写的缓冲区大小</span>
+     */
+    private static final int ATTACHMENT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * <span class="en-US">Maximum count of buffers waiting to write for each attachment</span>
+     * <span class="zh-CN">每个附件等待写入的最大缓冲区数量</span>
+     */
+    private static final int ATTACHMENT_QUEUE_SIZE = 4;
+    /**
+     * <span class="en-US">Maximum count of recorded attachment content hashes, the records will be cleared when reached</span>
+     * <span class="zh-CN">最大记录的附件内容散列值数量，达到后将清空记录</span>
+     */
+    private static final int ATTACHMENT_HASH_LIMIT = 1024;
+    /**
+     * <span class="en-US">Count of threads of default attachment writer executor</span>
+     * <span class="zh-CN">默认附件写入执行器的线程数</span>
+     */
+    private static final int ATTACHMENT_WRITER_THREADS = 4;
+    /**
+     * <span class="en-US">Fetch profile for prefetching UID of messages</span>
+     * <span class="zh-CN">用于预读取邮件唯一标识的获取配置</span>
+     */
+    private static final FetchProfile UID_PROFILE = fetchProfile(UIDFolder.FetchProfileItem.UID);
+    /**
+     * <span class="en-US">Fetch profile for prefetching UID, envelope, flags and content information of messages</span>
+     * <span class="zh-CN">用于预读取邮件唯一标识、信封、标记和内容信息的获取配置</span>
+     */
+    private static final FetchProfile MESSAGE_PROFILE = fetchProfile(UIDFolder.FetchProfileItem.UID,
+            FetchProfile.Item.ENVELOPE, FetchProfile.Item.FLAGS, FetchProfile.Item.CONTENT_INFO);
+
     /**
      * <h3 class="en-US">Private constructor for MailUtils</h3>
      * <h3 class="zh-CN">电子邮件工具集的私有构造方法</h3>
@@ -164,15 +215,25 @@ public final class MailUtils {
          */
         private final String storagePath;
         /**
-         * <span class="en-US">x509 certificate Using for email signature verify</span>
-         * <span class="zh-CN">x509证书用于电子邮件签名验证</span>
+         * <span class="en-US">Message signer using for email signature, null if certificate or private key not configured</span>
+         * <span class="zh-CN">用于电子邮件签名的签名器，未配置证书或私有密钥时为null</span>
          */
-        private final X509Certificate x509Certificate;
+        private final MessageSigner messageSigner;
         /**
-         * <span class="en-US">private key Using for email signature</span>
-         * <span class="zh-CN">私有密钥用于电子邮件签名</span>
+         * <span class="en-US">Saved attachment file path, mapping key is SHA-256 hash of file content</span>
+         * <span class="zh-CN">已保存的附件文件路径，映射键值为文件内容的SHA-256散列值</span>
          */
-        private final PrivateKey privateKey;
+        private final Map<String, String> savedAttachments = new ConcurrentHashMap<>();
+        /**
+         * <span class="en-US">Executor of attachment writers, null for default executor</span>
+         * <span class="zh-CN">附件写入器的执行器，为null时使用默认执行器</span>
+         */
+        private volatile Executor attachmentExecutor = null;
+        /**
+         * <span class="en-US">Size limit of attachment file (Unit: bytes), -1 for unlimited</span>
+         * <span class="zh-CN">附件文件的大小限制（单位：字节），-1为不限制</span>
+         */
+        private volatile long attachmentLimit = Globals.DEFAULT_VALUE_LONG;
 
         /**
          * <h3 class="en-US">Private constructor for E-Mail Agent</h3>
@@ -210,12 +271,38 @@ public final class MailUtils {
                 }
             }
             this.storagePath = mailConfig.getStoragePath();
-            this.x509Certificate = StringUtils.notBlank(mailConfig.getCertificate())
+            X509Certificate x509Certificate = StringUtils.notBlank(mailConfig.getCertificate())
                     ? CertificateUtils.x509(StringUtils.base64Decode(mailConfig.getCertificate()))
                     : null;
-            this.privateKey = StringUtils.notBlank(mailConfig.getPrivateKey())
+            PrivateKey privateKey = StringUtils.notBlank(mailConfig.getPrivateKey())
                     ? CertificateUtils.privateKey("RSA", StringUtils.base64Decode(mailConfig.getPrivateKey()))
                     : null;
+            this.messageSigner = (x509Certificate != null && privateKey != null)
+                    ? new MessageSigner(x509Certificate, privateKey)
+                    : null;
+        }
+
+        /**
+         * <h3 class="en-US">Configure attachment writer executor and size limit</h3>
+         * <span class="en-US">
+         *     Attachments are decoded on the reading thread and written to disk by the executor,
+         *     the given executor must not run the task in the caller thread.
+         *     Attachments larger than the size limit will be skipped.
+         * </span>
+         * <h3 class="zh-CN">配置附件写入执行器和大小限制</h3>
+         * <span class="zh-CN">附件在读取线程中解码并由执行器写入磁盘，给定的执行器不能在调用者线程中运行任务。超过大小限制的附件将被跳过。</span>
+         *
+         * @param executor  <span class="en-US">Executor of attachment writers, null for default executor</span>
+         *                  <span class="zh-CN">附件写入器的执行器，为null时使用默认执行器</span>
+         * @param sizeLimit <span class="en-US">Size limit of attachment file (Unit: bytes), -1 for unlimited</span>
+         *                  <span class="zh-CN">附件文件的大小限制（单位：字节），-1为不限制</span>
+         * @return <span class="en-US">Current agent instance</span>
+         * <span class="zh-CN">当前代理实例对象</span>
+         */
+        public Agent attachmentConfig(final Executor executor, final long sizeLimit) {
+            this.attachmentExecutor = executor;
+            this.attachmentLimit = (sizeLimit > 0) ? sizeLimit : Globals.DEFAULT_VALUE_LONG;
+            return this;
         }
 
         /**
@@ -233,17 +320,11 @@ public final class MailUtils {
                 return Boolean.FALSE;
             }
             try {
-                Properties properties = this.sendOperator.readConfig(this.sendConfig);
-                if (StringUtils.notBlank(this.userName)) {
-                    properties.setProperty("mail.smtp.from", this.userName);
+                ConnectionPool connectionPool = this.sendPool();
+                MimeMessage mimeMessage = this.convertMessage(connectionPool.getSession(), mailObject);
+                try (ConnectionPool.Connection<Transport> connection = connectionPool.borrowTransport()) {
+                    connection.getService().sendMessage(mimeMessage, mimeMessage.getAllRecipients());
                 }
-                Session session =
-                        Session.getDefaultInstance(properties, new DefaultAuthenticator(this.userName, this.passWord));
-                session.setDebug(this.logger.isDebugEnabled());
-                if (StringUtils.isEmpty(mailObject.getSendAddress())) {
-                    mailObject.setSendAddress(this.userName);
-                }
-                Transport.send(convert(session, mailObject, this.x509Certificate, this.privateKey));
                 return Boolean.TRUE;
             } catch (MessagingException | MailException e) {
                 this.logger.error("Send_Mail_Error");
@@ -254,6 +335,135 @@ public final class MailUtils {
             }
         }
 
+        /**
+         * <h3 class="en-US">Send E-Mails in bulk</h3>
+         * <span class="en-US">Using at most 4 parallel connections, see sendMails(Collection, int, Executor)</span>
+         * <h3 class="zh-CN">批量发送电子邮件</h3>
+         * <span class="zh-CN">最多使用4个并行连接，参见sendMails(Collection, int, Executor)</span>
+         *
+         * @param mailObjects <span class="en-US">E-Mail object collection</span>
+         *                    <span class="zh-CN">电子邮件信息集合</span>
+         * @return <span class="en-US">Send report</span>
+         * <span class="zh-CN">发送报告</span>
+         */
+        public SendReport sendMails(final Collection<MailObject> mailObjects) {
+            return this.sendMails(mailObjects, SEND_CONNECTION_LIMIT, null);
+        }
+
+        /**
+         * <h3 class="en-US">Send E-Mails in bulk</h3>
+         * <span class="en-US">
+         *     Each worker keeps one SMTP transport opened and sends the messages one after another over it,
+         *     the transport will be replaced if it was disconnected. Workers except the first one are running
+         *     by given executor, a temporary thread pool will be used if executor is null.
+         * </span>
+         * <h3 class="zh-CN">批量发送电子邮件</h3>
+         * <span class="zh-CN">
+         *     每个工作者保持一个打开的SMTP连接并依次发送邮件，连接断开时将被替换。
+         *     除第一个工作者外，其他工作者使用给定的执行器运行，执行器为null时使用临时线程池。
+         * </span>
+         *
+         * @param mailObjects     <span class="en-US">E-Mail object collection</span>
+         *                        <span class="zh-CN">电子邮件信息集合</span>
+         * @param connectionLimit <span class="en-US">Maximum count of parallel connections</span>
+         *                        <span class="zh-CN">最大并行连接数</span>
+         * @param executor        <span class="en-US">Executor of workers</span>
+         *                        <span class="zh-CN">工作者使用的执行器</span>
+         * @return <span class="en-US">Send report, outcomes are ordered by the iteration order of given collection</span>
+         * <span class="zh-CN">发送报告，发送结果按照给定集合的迭代顺序排列</span>
+         */
+        public SendReport sendMails(final Collection<MailObject> mailObjects, final int connectionLimit,
+                                    final Executor executor) {
+            long beginTime = System.currentTimeMillis();
+            if (mailObjects == null || mailObjects.isEmpty()) {
+                return new SendReport(Collections.emptyList(), Globals.INITIALIZE_INT_VALUE,
+                        Globals.INITIALIZE_INT_VALUE, Globals.INITIALIZE_INT_VALUE);
+            }
+            List<MailObject> mailList = new ArrayList<>(mailObjects);
+            SendOutcome[] sendOutcomes = new SendOutcome[mailList.size()];
+            if (this.sendOperator == null) {
+                //	Not config send server
+                for (int i = 0; i < sendOutcomes.length; i++) {
+                    sendOutcomes[i] = new SendOutcome(i, mailList.get(i), Boolean.FALSE, null);
+                }
+                return new SendReport(Arrays.asList(sendOutcomes), Globals.INITIALIZE_INT_VALUE,
+                        Globals.INITIALIZE_INT_VALUE, System.currentTimeMillis() - beginTime);
+            }
+
+            ConnectionPool connectionPool = this.sendPool();
+            AtomicInteger sendIndex = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+            AtomicInteger connectionCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+            int workerCount = Math.max(1, Math.min(connectionLimit, mailList.size()));
+            ExecutorService executorService =
+                    (executor == null && workerCount > 1) ? Executors.newFixedThreadPool(workerCount - 1) : null;
+            try {
+                List<CompletableFuture<Void>> futureList = new ArrayList<>();
+                for (int i = 1; i < workerCount; i++) {
+                    futureList.add(CompletableFuture.runAsync(() ->
+                                    this.sendWorker(connectionPool, mailList, sendIndex, sendOutcomes, connectionCount),
+                            executorService == null ? executor : executorService));
+                }
+                this.sendWorker(connectionPool, mailList, sendIndex, sendOutcomes, connectionCount);
+                futureList.forEach(CompletableFuture::join);
+            } finally {
+                if (executorService != null) {
+                    executorService.shutdown();
+                }
+            }
+            return new SendReport(Arrays.asList(sendOutcomes), workerCount, connectionCount.get(),
+                    System.currentTimeMillis() - beginTime);
+        }
+
+        /**
+         * <h3 class="en-US">Send E-Mails by current worker until all messages were taken</h3>
+         * <h3 class="zh-CN">当前工作者发送电子邮件直到所有邮件均已被领取</h3>
+         *
+         * @param connectionPool  <span class="en-US">Connection pool of send server</span>
+         *                        <span class="zh-CN">发送服务器的连接池</span>
+         * @param mailList        <span class="en-US">E-Mail object list</span>
+         *                        <span class="zh-CN">电子邮件信息列表</span>
+         * @param sendIndex       <span class="en-US">Index of next message</span>
+         *                        <span class="zh-CN">下一封邮件的索引</span>
+         * @param sendOutcomes    <span class="en-US">Send outcome array</span>
+         *                        <span class="zh-CN">发送结果数组</span>
+         * @param connectionCount <span class="en-US">Count of used connections</span>
+         *                        <span class="zh-CN">已使用的连接数</span>
+         */
+        private void sendWorker(final ConnectionPool connectionPool, final List<MailObject> mailList,
+                                final AtomicInteger sendIndex, final SendOutcome[] sendOutcomes,
+                                final AtomicInteger connectionCount) {
+            ConnectionPool.Connection<Transport> connection = null;
+            int index;
+            try {
+                while ((index = sendIndex.getAndIncrement()) < mailList.size()) {
+                    MailObject mailObject = mailList.get(index);
+                    try {
+                        MimeMessage mimeMessage = this.convertMessage(connectionPool.getSession(), mailObject);
+                        if (connection != null && !connection.getService().isConnected()) {
+                            connection.close();
+                            connection = null;
+                        }
+                        if (connection == null) {
+                            connection = connectionPool.borrowTransport();
+                            connectionCount.incrementAndGet();
+                        }
+                        connection.getService().sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                        sendOutcomes[index] = new SendOutcome(index, mailObject, Boolean.TRUE, null);
+                    } catch (Exception e) {
+                        this.logger.error("Send_Mail_Error");
+                        if (this.logger.isDebugEnabled()) {
+                            this.logger.debug("Stack_Message_Error", e);
+                        }
+                        sendOutcomes[index] = new SendOutcome(index, mailObject, Boolean.FALSE, e);
+                    }
+                }
+            } finally {
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+        }
+
         /**
          * <h3 class="en-US">Read folder name list from default folder</h3>
          * <h3 class="zh-CN">从默认文件夹中读取包含的文件夹名称列表</h3>
@@ -263,8 +473,8 @@ public final class MailUtils {
          */
         public List<String> folderList() {
             List<String> folderList = new ArrayList<>();
-            try (Store store = connect()) {
-                Folder defaultFolder = store.getDefaultFolder();
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder defaultFolder = connection.getService().getDefaultFolder();
                 if (defaultFolder != null) {
                     for (Folder folder : defaultFolder.list()) {
                         folderList.add(folder.getFullName());
@@ -304,7 +514,8 @@ public final class MailUtils {
                 //	Not configs receive server
                 return Globals.DEFAULT_VALUE_INT;
             }
-            try (Store store = connect(); Folder folder = openReadOnlyFolder(store, folderName)) {
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder folder = connection.openFolder(Boolean.TRUE, folderName);
                 if (folder.exists() && folder.isOpen()) {
                     return folder.getMessageCount();
                 }
@@ -359,7 +570,8 @@ public final class MailUtils {
                 return Collections.emptyList();
             }
 
-            try (Store store = connect(); Folder folder = openReadOnlyFolder(store, folderName)) {
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder folder = connection.openFolder(Boolean.TRUE, folderName);
                 if (!folder.exists() || !folder.isOpen()) {
                     return Collections.emptyList();
                 }
@@ -368,7 +580,13 @@ public final class MailUtils {
                 List<String> mailList = new ArrayList<>();
                 int start = Math.max(1, begin);
                 int stop = (end < 0) ? totalCount : Math.min(totalCount, end);
-                for (Message message : folder.getMessages(start, stop)) {
+                if (start > stop) {
+                    return mailList;
+                }
+                Message[] messages = folder.getMessages(start, stop);
+                //  Read UID of all messages in one round trip
+                folder.fetch(messages, UID_PROFILE);
+                for (Message message : messages) {
                     mailList.add(this.receiveOperator.readUID(folder, message));
                 }
                 return mailList;
@@ -381,6 +599,71 @@ public final class MailUtils {
             return Collections.emptyList();
         }
 
+        /**
+         * <h3 class="en-US">Read mail information stream from given folder name</h3>
+         * <span class="en-US">Messages are prefetched by page of 100 messages, see mailStream(String, int, boolean)</span>
+         * <h3 class="zh-CN">读取给定文件夹中的邮件信息流</h3>
+         * <span class="zh-CN">邮件按每页100封预读取，参见mailStream(String, int, boolean)</span>
+         *
+         * @param folderName <span class="en-US">folder name</span>
+         *                   <span class="zh-CN">文件夹名称</span>
+         * @return <span class="en-US">Read MailObject instance stream</span>
+         * <span class="zh-CN">读取的电子邮件信息实例对象流</span>
+         */
+        public Stream<MailObject> mailStream(final String folderName) {
+            return this.mailStream(folderName, DEFAULT_PAGE_SIZE, Boolean.FALSE);
+        }
+
+        /**
+         * <h3 class="en-US">Read mail information stream from given folder name</h3>
+         * <span class="en-US">
+         *     The UID, envelope, flags and content information of messages are prefetched page by page,
+         *     the iterator only holds one page of messages. The store connection was borrowed until the stream closed,
+         *     the returned stream must be closed after used.
+         * </span>
+         * <h3 class="zh-CN">读取给定文件夹中的邮件信息流</h3>
+         * <span class="zh-CN">
+         *     按页预读取邮件的唯一标识、信封、标记和内容信息，迭代器仅持有一页邮件。Store连接在数据流关闭前保持借出，返回的数据流使用后必须关闭。
+         * </span>
+         *
+         * @param folderName <span class="en-US">folder name</span>
+         *                   <span class="zh-CN">文件夹名称</span>
+         * @param pageSize   <span class="en-US">Count of messages prefetched in one round trip</span>
+         *                   <span class="zh-CN">一次预读取的邮件数量</span>
+         * @param detail     <span class="en-US">Read detail status</span>
+         *                   <span class="zh-CN">读取全部信息状态</span>
+         * @return <span class="en-US">Read MailObject instance stream</span>
+         * <span class="zh-CN">读取的电子邮件信息实例对象流</span>
+         */
+        public Stream<MailObject> mailStream(final String folderName, final int pageSize, final boolean detail) {
+            if (this.receiveOperator == null) {
+                return Stream.empty();
+            }
+            ConnectionPool.Connection<Store> connection = null;
+            try {
+                connection = this.connect();
+                Folder folder = connection.openFolder(Boolean.TRUE, folderName);
+                if (!folder.exists() || !folder.isOpen()) {
+                    connection.close();
+                    return Stream.empty();
+                }
+                MessageIterator messageIterator =
+                        new MessageIterator(folder, Math.max(1, pageSize), detail);
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(messageIterator,
+                                Spliterator.ORDERED | Spliterator.NONNULL), Boolean.FALSE)
+                        .onClose(connection::close);
+            } catch (Exception e) {
+                this.logger.error("Receive_Mail_Error");
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Stack_Message_Error", e);
+                }
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+            return Stream.empty();
+        }
+
         /**
          * <h3 class="en-US">Read mail information from given folder name and UID</h3>
          * <h3 class="zh-CN">根据给定的文件夹名和邮件唯一标识读取邮件信息</h3>
@@ -413,7 +696,8 @@ public final class MailUtils {
             if (this.receiveOperator == null) {
                 return null;
             }
-            try (Store store = connect(); Folder folder = openReadOnlyFolder(store, folderName)) {
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder folder = connection.openFolder(Boolean.TRUE, folderName);
                 if (!folder.exists() || !folder.isOpen()) {
                     return null;
                 }
@@ -449,12 +733,14 @@ public final class MailUtils {
                 return mailList;
             }
 
-            try (Store store = connect(); Folder folder = openReadOnlyFolder(store, folderName)) {
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder folder = connection.openFolder(Boolean.TRUE, folderName);
                 if (!folder.exists() || !folder.isOpen()) {
                     return mailList;
                 }
-                this.receiveOperator.readMessages(folder, uidArrays)
-                        .forEach(message ->
+                List<Message> messageList = this.receiveOperator.readMessages(folder, uidArrays);
+                folder.fetch(messageList.toArray(new Message[0]), MESSAGE_PROFILE);
+                messageList.forEach(message ->
                                 Optional.ofNullable(receiveMessage((MimeMessage) message, Boolean.FALSE))
                                         .ifPresent(mailList::add));
             } catch (Exception e) {
@@ -543,8 +829,9 @@ public final class MailUtils {
             if (this.receiveOperator == null) {
                 return Boolean.FALSE;
             }
-            try (Store store = connect(); Folder folder = openFolder(store, Boolean.FALSE, folderName);
-                 Folder inbox = openFolder(store, Boolean.FALSE, Globals.DEFAULT_EMAIL_FOLDER_INBOX)) {
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder folder = connection.openFolder(Boolean.FALSE, folderName);
+                Folder inbox = connection.openFolder(Boolean.FALSE, Globals.DEFAULT_EMAIL_FOLDER_INBOX);
                 if (!folder.exists() || !folder.isOpen()) {
                     return Boolean.FALSE;
                 }
@@ -610,8 +897,8 @@ public final class MailUtils {
             if (this.receiveOperator == null) {
                 return Boolean.FALSE;
             }
-            try (Store store = connect(); Folder folder = openFolder(store, Boolean.FALSE, folderName)) {
-
+            try (ConnectionPool.Connection<Store> connection = this.connect()) {
+                Folder folder = connection.openFolder(Boolean.FALSE, folderName);
                 if (!folder.exists() || !folder.isOpen()) {
                     return Boolean.FALSE;
                 }
@@ -632,25 +919,61 @@ public final class MailUtils {
         }
 
         /**
-         * <h3 class="en-US">Connect to mail server</h3>
-         * <h3 class="zh-CN">连接到电子邮件服务器</h3>
+         * <h3 class="en-US">Retrieve connection pool of send server</h3>
+         * <h3 class="zh-CN">获取发送服务器的连接池</h3>
          *
-         * @return <span class="en-US">Store instance</span>
-         * <span class="zh-CN">Store实例对象</span>
-         * @throws MessagingException <span class="en-US">If connect failed</span>
-         *                            <span class="zh-CN">如果连接失败</span>
+         * @return <span class="en-US">Registered pool instance</span>
+         * <span class="zh-CN">已注册的连接池实例对象</span>
          */
-        private Store connect() throws MessagingException {
-            Properties properties = this.receiveOperator.readConfig(this.receiveConfig);
-            Session session =
-                    Session.getInstance(properties, new DefaultAuthenticator(this.userName, this.passWord));
-            session.setDebug(this.logger.isDebugEnabled());
+        private ConnectionPool sendPool() {
+            Properties properties = this.sendOperator.readConfig(this.sendConfig);
+            if (StringUtils.notBlank(this.userName)) {
+                properties.setProperty("mail.smtp.from", this.userName);
+            }
+            return ConnectionPool.retrieve(this.userName, this.passWord, properties, this.logger.isDebugEnabled());
+        }
 
-            Store store = session.getStore(properties.getProperty("mail.store.protocol"));
+        /**
+         * <h3 class="en-US">Convert MailObject instance to MimeMessage instance ready to send</h3>
+         * <h3 class="zh-CN">转换电子邮件信息实例对象为可发送的电子邮件MIME信息实例对象</h3>
+         *
+         * @param session    <span class="en-US">Current session</span>
+         *                   <span class="zh-CN">当前的事务链接</span>
+         * @param mailObject <span class="en-US">E-Mail object</span>
+         *                   <span class="zh-CN">电子邮件信息</span>
+         * @return <span class="en-US">Converted MimeMessage instance</span>
+         * <span class="zh-CN">转换后的电子邮件MIME信息实例对象</span>
+         * @throws MailException      <span class="en-US">If an error occurs when process convert</span>
+         *                            <span class="zh-CN">当转换数据时出现异常</span>
+         * @throws MessagingException <span class="en-US">If an error occurs when process convert</span>
+         *                            <span class="zh-CN">当转换数据时出现异常</span>
+         */
+        private MimeMessage convertMessage(final Session session, final MailObject mailObject)
+                throws MailException, MessagingException {
+            if (StringUtils.isEmpty(mailObject.getSendAddress())) {
+                mailObject.setSendAddress(this.userName);
+            }
+            MimeMessage mimeMessage = convert(session, mailObject,
+                    this.messageSigner == null ? null : this.messageSigner.signedGenerator());
+            mimeMessage.saveChanges();
+            return mimeMessage;
+        }
 
-            store.connect(this.receiveConfig.getHostName(), this.receiveConfig.getHostPort(),
-                    this.userName, this.passWord);
-            return store;
+        /**
+         * <h3 class="en-US">Borrow connected store from the connection pool</h3>
+         * <span class="en-US">Close the returned connection to release it to the pool</span>
+         * <h3 class="zh-CN">从连接池借出已连接的Store</h3>
+         * <span class="zh-CN">关闭返回的连接即归还到连接池</span>
+         *
+         * @return <span class="en-US">Borrowed store connection</span>
+         * <span class="zh-CN">借出的Store连接</span>
+         * @throws MessagingException <span class="en-US">If connect failed</span>
+         *                            <span class="zh-CN">如果连接失败</span>
+         */
+        private ConnectionPool.Connection<Store> connect() throws MessagingException {
+            return ConnectionPool.retrieve(this.userName, this.passWord,
+                            this.receiveOperator.readConfig(this.receiveConfig), this.logger.isDebugEnabled())
+                    .borrowStore(this.receiveConfig.getHostName(), this.receiveConfig.getHostPort());
         }
 
         /**
@@ -665,6 +988,10 @@ public final class MailUtils {
         @SuppressWarnings("unchecked")
         private boolean verifyMessage(final MimeMessage mimeMessage) {
             try {
+                if (!mimeMessage.isMimeType("multipart/signed") && !mimeMessage.isMimeType("application/pkcs7-mime")) {
+                    //  Not signed message, avoid copying the whole message content
+                    return Boolean.TRUE;
+                }
                 MimeMessage signedMessage = new MimeMessage(mimeMessage);
                 SMIMESignedParser signedParser;
                 if (signedMessage.isMimeType("multipart/signed")) {
@@ -774,7 +1101,7 @@ public final class MailUtils {
                     mailObject.setContent(contentBuffer.toString());
                     mailObject.setContentType(mimeMessage.getContentType());
 
-                    mailObject.setAttachFiles(getMailAttachment(mimeMessage));
+                    mailObject.setAttachFiles(this.saveAttachments(mimeMessage));
                 }
 
                 return mailObject;
@@ -788,8 +1115,13 @@ public final class MailUtils {
         }
 
         /**
-         * <h3 class="en-US">Read attachment files from given part of e-mail MIME information</h3>
-         * <h3 class="zh-CN">从给定的电子邮件MIME信息中读取附件文件</h3>
+         * <h3 class="en-US">Save attachment files of given part of e-mail MIME information to storage path</h3>
+         * <span class="en-US">
+         *     Attachment with the same content as a saved one returns the saved file path,
+         *     attachment with the same file name but different content was saved to a new file name.
+         * </span>
+         * <h3 class="zh-CN">将给定的电子邮件MIME信息中的附件文件保存到存储路径</h3>
+         * <span class="zh-CN">与已保存附件内容相同的附件返回已保存的文件路径，文件名相同但内容不同的附件保存为新的文件名。</span>
          *
          * @param part <span class="en-US">part of e-mail MIME information</span>
          *             <span class="zh-CN">电子邮件MIME信息</span>
@@ -800,32 +1132,52 @@ public final class MailUtils {
          * @throws IOException        <span class="en-US">If an error occurs when save file to local</span>
          *                            <span class="zh-CN">当写入数据到本地文件时出现异常</span>
          */
-        private List<String> getMailAttachment(final Part part) throws MessagingException, IOException {
-            List<String> saveFiles = new ArrayList<>();
+        public List<String> saveAttachments(final Part part) throws MessagingException, IOException {
             if (StringUtils.isEmpty(this.storagePath)) {
                 throw new IOException("Save attach file path error! ");
             }
+            List<CompletableFuture<String>> saveFutures = new ArrayList<>();
+            this.readAttachments(part, saveFutures);
+            List<String> saveFiles = new ArrayList<>();
+            saveFutures.forEach(saveFuture -> Optional.ofNullable(saveFuture.join()).ifPresent(saveFiles::add));
+            return saveFiles;
+        }
+
+        /**
+         * <h3 class="en-US">Read attachment files from given multipart of e-mail MIME information</h3>
+         * <h3 class="zh-CN">从给定的电子邮件MIME多段信息中读取附件文件</h3>
+         *
+         * @param part        <span class="en-US">part of e-mail MIME information</span>
+         *                    <span class="zh-CN">电子邮件MIME信息</span>
+         * @param saveFutures <span class="en-US">Future list of saved file path</span>
+         *                    <span class="zh-CN">已保存文件路径的异步结果列表</span>
+         * @throws MessagingException <span class="en-US">If an error occurs when process read</span>
+         *                            <span class="zh-CN">当读取信息时出现异常</span>
+         * @throws IOException        <span class="en-US">If an error occurs when read content</span>
+         *                            <span class="zh-CN">当读取内容时出现异常</span>
+         */
+        private void readAttachments(final Part part, final List<CompletableFuture<String>> saveFutures)
+                throws MessagingException, IOException {
             if (part.isMimeType(Globals.DEFAULT_CONTENT_TYPE_MULTIPART)) {
                 Multipart multipart = (Multipart) part.getContent();
                 int count = multipart.getCount();
                 for (int i = 0; i < count; i++) {
                     Optional.ofNullable(multipart.getBodyPart(i))
-                            .ifPresent(bodyPart -> this.readBodyPart(bodyPart, saveFiles));
+                            .ifPresent(bodyPart -> this.readBodyPart(bodyPart, saveFutures));
                 }
             }
-            return saveFiles;
         }
 
         /**
          * <h3 class="en-US">Read attachment files from given body part of MIME information</h3>
          * <h3 class="zh-CN">从给定的电子邮件MIME信息体中读取附件文件</h3>
          *
-         * @param bodyPart  <span class="en-US">body part of MIME information</span>
-         *                  <span class="zh-CN">电子邮件MIME信息体</span>
-         * @param saveFiles <span class="en-US">Saved file path list</span>
-         *                  <span class="zh-CN">已保存的文件路径列表</span>
+         * @param bodyPart    <span class="en-US">body part of MIME information</span>
+         *                    <span class="zh-CN">电子邮件MIME信息体</span>
+         * @param saveFutures <span class="en-US">Future list of saved file path</span>
+         *                    <span class="zh-CN">已保存文件路径的异步结果列表</span>
          */
-        private void readBodyPart(final Part bodyPart, final List<String> saveFiles) {
+        private void readBodyPart(final Part bodyPart, final List<CompletableFuture<String>> saveFutures) {
             try {
                 if (bodyPart.getHeader("Content-ID") != null
                         && bodyPart.getHeader("Content-ID").length > 0) {
@@ -838,13 +1190,10 @@ public final class MailUtils {
                         String savePath = this.storagePath + Globals.DEFAULT_PAGE_SEPARATOR
                                 + MimeUtility.decodeText(bodyPart.getFileName());
                         if (!savePath.toLowerCase().endsWith("p7s")) {
-                            boolean saveFile = FileUtils.saveFile(bodyPart.getInputStream(), savePath);
-                            if (saveFile) {
-                                saveFiles.add(savePath);
-                            }
+                            saveFutures.add(this.saveAttachment(bodyPart, savePath));
                         }
                     } else if (bodyPart.isMimeType(Globals.DEFAULT_CONTENT_TYPE_MULTIPART)) {
-                        saveFiles.addAll(getMailAttachment(bodyPart));
+                        this.readAttachments(bodyPart, saveFutures);
                     }
                 }
             } catch (MessagingException | IOException e) {
@@ -854,6 +1203,605 @@ public final class MailUtils {
                 }
             }
         }
+
+        /**
+         * <h3 class="en-US">Decode attachment data and send to the attachment writer</h3>
+         * <span class="en-US">
+         *     Data was read by large buffer in current thread, the writer running by executor writes the buffers
+         *     to temporary file and calculates the content hash. The reading thread only blocks when the writer queue
+         *     was full, and does not wait for the file to be written.
+         *     Samba target path was saved by FileUtils in current thread, because the temporary file cannot be moved to it.
+         * </span>
+         * <h3 class="zh-CN">解码附件数据并发送到附件写入器</h3>
+         * <span class="zh-CN">
+         *     在当前线程中使用大缓冲区读取数据，由执行器运行的写入器将缓冲区写入临时文件并计算内容散列值。读取线程仅在写入队列已满时阻塞，不等待文件写入完成。
+         *     Samba目标路径由FileUtils在当前线程中保存，因为临时文件无法移动到该路径。
+         * </span>
+         *
+         * @param bodyPart <span class="en-US">body part of MIME information</span>
+         *                 <span class="zh-CN">电子邮件MIME信息体</span>
+         * @param savePath <span class="en-US">Target file path</span>
+         *                 <span class="zh-CN">目标文件路径</span>
+         * @return <span class="en-US">Future of saved file path, result is null if save failed or size exceeds limit</span>
+         * <span class="zh-CN">已保存文件路径的异步结果，保存失败或大小超过限制时结果为null</span>
+         * @throws MessagingException <span class="en-US">If an error occurs when read body part</span>
+         *                            <span class="zh-CN">当读取信息体时出现异常</span>
+         * @throws IOException        <span class="en-US">If an error occurs when read data or create temporary file</span>
+         *                            <span class="zh-CN">当读取数据或创建临时文件时出现异常</span>
+         */
+        private CompletableFuture<String> saveAttachment(final Part bodyPart, final String savePath)
+                throws MessagingException, IOException {
+            if (savePath.startsWith(Globals.SAMBA_PROTOCOL)) {
+                try (InputStream inputStream = bodyPart.getInputStream()) {
+                    return CompletableFuture.completedFuture(
+                            FileUtils.saveFile(inputStream, savePath) ? savePath : null);
+                }
+            }
+            Path targetPath = Paths.get(savePath);
+            Path parentPath = Files.createDirectories(targetPath.toAbsolutePath().getParent());
+            Path tempPath = Files.createTempFile(parentPath, ".attachment", ".tmp");
+            AttachmentWriter attachmentWriter =
+                    new AttachmentWriter(tempPath, targetPath, this.savedAttachments, this.logger);
+            CompletableFuture<String> saveFuture;
+            try {
+                saveFuture = CompletableFuture.supplyAsync(attachmentWriter::write,
+                        Optional.ofNullable(this.attachmentExecutor).orElseGet(MailUtils::attachmentExecutor));
+            } catch (RuntimeException e) {
+                Files.deleteIfExists(tempPath);
+                throw e;
+            }
+            long sizeLimit = this.attachmentLimit;
+            long totalSize = Globals.INITIALIZE_INT_VALUE;
+            boolean completed = Boolean.FALSE;
+            try (InputStream inputStream = bodyPart.getInputStream()) {
+                ByteBuffer byteBuffer = attachmentWriter.buffer();
+                int readLength;
+                while ((readLength = inputStream.read(byteBuffer.array(),
+                        byteBuffer.position(), byteBuffer.remaining())) != Globals.DEFAULT_VALUE_INT) {
+                    totalSize += readLength;
+                    if (sizeLimit > 0 && totalSize > sizeLimit) {
+                        this.logger.warn("Attachment_Size_Exceed_Mail_Warn", savePath, sizeLimit);
+                        return saveFuture;
+                    }
+                    byteBuffer.position(byteBuffer.position() + readLength);
+                    if (!byteBuffer.hasRemaining()) {
+                        if (!attachmentWriter.offer(byteBuffer.flip(), saveFuture)) {
+                            return saveFuture;
+                        }
+                        byteBuffer = attachmentWriter.buffer();
+                    }
+                }
+                completed = attachmentWriter.offer(byteBuffer.flip(), saveFuture);
+            } finally {
+                attachmentWriter.finish(completed);
+            }
+            return saveFuture;
+        }
+
+        /**
+         * <h2 class="en-US">Paged message iterator</h2>
+         * <span class="en-US">Messages are read from the folder page by page, each page was prefetched in one round trip</span>
+         * <h2 class="zh-CN">分页邮件迭代器</h2>
+         * <span class="zh-CN">按页从文件夹中读取邮件，每页邮件通过一次请求预读取</span>
+         *
+         * @author Steven Wee     <a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+         * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:05:37 $
+         */
+        private final class MessageIterator implements Iterator<MailObject> {
+            /**
+             * <span class="en-US">Opened folder instance</span>
+             * <span class="zh-CN">已打开的文件夹实例对象</span>
+             */
+            private final Folder folder;
+            /**
+             * <span class="en-US">Count of messages in one page</span>
+             * <span class="zh-CN">每页的邮件数量</span>
+             */
+            private final int pageSize;
+            /**
+             * <span class="en-US">Read detail status</span>
+             * <span class="zh-CN">读取全部信息状态</span>
+             */
+            private final boolean detail;
+            /**
+             * <span class="en-US">Count of messages when iterator created</span>
+             * <span class="zh-CN">迭代器创建时的邮件数量</span>
+             */
+            private final int totalCount;
+            /**
+             * <span class="en-US">Messages of current page</span>
+             * <span class="zh-CN">当前页的邮件</span>
+             */
+            private final Deque<Message> pageMessages = new ArrayDeque<>();
+            /**
+             * <span class="en-US">Message number of next page begin</span>
+             * <span class="zh-CN">下一页起始的邮件序号</span>
+             */
+            private int nextNumber = 1;
+            /**
+             * <span class="en-US">Next MailObject instance</span>
+             * <span class="zh-CN">下一个电子邮件信息实例对象</span>
+             */
+            private MailObject nextObject = null;
+
+            /**
+             * <h3 class="en-US">Constructor for MessageIterator</h3>
+             * <h3 class="zh-CN">分页邮件迭代器的构造方法</h3>
+             *
+             * @param folder   <span class="en-US">Opened folder instance</span>
+             *                 <span class="zh-CN">已打开的文件夹实例对象</span>
+             * @param pageSize <span class="en-US">Count of messages in one page</span>
+             *                 <span class="zh-CN">每页的邮件数量</span>
+             * @param detail   <span class="en-US">Read detail status</span>
+             *                 <span class="zh-CN">读取全部信息状态</span>
+             * @throws MessagingException <span class="en-US">If an error occurs when read message count</span>
+             *                            <span class="zh-CN">当读取邮件数量时出现异常</span>
+             */
+            MessageIterator(final Folder folder, final int pageSize, final boolean detail) throws MessagingException {
+                this.folder = folder;
+                this.pageSize = pageSize;
+                this.detail = detail;
+                this.totalCount = folder.getMessageCount();
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (this.nextObject == null) {
+                    if (this.pageMessages.isEmpty() && !this.nextPage()) {
+                        return Boolean.FALSE;
+                    }
+                    Message message = this.pageMessages.pollFirst();
+                    if (message instanceof MimeMessage) {
+                        this.nextObject = receiveMessage((MimeMessage) message, this.detail);
+                    }
+                }
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public MailObject next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                MailObject mailObject = this.nextObject;
+                this.nextObject = null;
+                return mailObject;
+            }
+
+            /**
+             * <h3 class="en-US">Read and prefetch next page of messages</h3>
+             * <h3 class="zh-CN">读取并预读取下一页邮件</h3>
+             *
+             * @return <span class="en-US">Read result, false if no more messages or read failed</span>
+             * <span class="zh-CN">读取结果，没有更多邮件或读取失败时返回false</span>
+             */
+            private boolean nextPage() {
+                if (this.nextNumber > this.totalCount) {
+                    return Boolean.FALSE;
+                }
+                int endNumber = Math.min(this.totalCount, this.nextNumber + this.pageSize - 1);
+                try {
+                    Message[] messages = this.folder.getMessages(this.nextNumber, endNumber);
+                    this.folder.fetch(messages, MESSAGE_PROFILE);
+                    Collections.addAll(this.pageMessages, messages);
+                    this.nextNumber = endNumber + 1;
+                    return Boolean.TRUE;
+                } catch (MessagingException e) {
+                    logger.error("Receive_Mail_Error");
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Stack_Message_Error", e);
+                    }
+                    this.nextNumber = this.totalCount + 1;
+                    return Boolean.FALSE;
+                }
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Send report of bulk E-Mails</h2>
+     * <h2 class="zh-CN">批量电子邮件的发送报告</h2>
+     *
+     * @param outcomes        <span class="en-US">Send outcome list</span>
+     *                        <span class="zh-CN">发送结果列表</span>
+     * @param workerCount     <span class="en-US">Count of parallel workers</span>
+     *                        <span class="zh-CN">并行工作者数量</span>
+     * @param connectionCount <span class="en-US">Count of used connections</span>
+     *                        <span class="zh-CN">已使用的连接数</span>
+     * @param elapsedTime     <span class="en-US">Elapsed time (Unit: milliseconds)</span>
+     *                        <span class="zh-CN">耗时（单位：毫秒）</span>
+     */
+    public record SendReport(List<SendOutcome> outcomes, int workerCount, int connectionCount, long elapsedTime) {
+        /**
+         * <h3 class="en-US">Count of sent messages</h3>
+         * <h3 class="zh-CN">发送成功的邮件数量</h3>
+         *
+         * @return <span class="en-US">Count of sent messages</span>
+         * <span class="zh-CN">发送成功的邮件数量</span>
+         */
+        public long successCount() {
+            return this.outcomes.stream().filter(SendOutcome::success).count();
+        }
+
+        /**
+         * <h3 class="en-US">Count of failed messages</h3>
+         * <h3 class="zh-CN">发送失败的邮件数量</h3>
+         *
+         * @return <span class="en-US">Count of failed messages</span>
+         * <span class="zh-CN">发送失败的邮件数量</span>
+         */
+        public long failedCount() {
+            return this.outcomes.size() - this.successCount();
+        }
+
+        /**
+         * <h3 class="en-US">Throughput of sent messages (Unit: messages per second)</h3>
+         * <h3 class="zh-CN">发送成功的邮件吞吐量（单位：封每秒）</h3>
+         *
+         * @return <span class="en-US">Throughput value</span>
+         * <span class="zh-CN">吞吐量数值</span>
+         */
+        public double throughput() {
+            return this.successCount() * 1000D / Math.max(1L, this.elapsedTime);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Send outcome of E-Mail</h2>
+     * <h2 class="zh-CN">电子邮件的发送结果</h2>
+     *
+     * @param index      <span class="en-US">Index in the given collection</span>
+     *                   <span class="zh-CN">在给定集合中的索引</span>
+     * @param mailObject <span class="en-US">E-Mail object</span>
+     *                   <span class="zh-CN">电子邮件信息</span>
+     * @param success    <span class="en-US">Send result</span>
+     *                   <span class="zh-CN">发送结果</span>
+     * @param cause      <span class="en-US">Failed cause, null if succeeded or send server not configured</span>
+     *                   <span class="zh-CN">失败原因，发送成功或未配置发送服务器时为null</span>
+     */
+    public record SendOutcome(int index, MailObject mailObject, boolean success, Exception cause) {
+    }
+
+    /**
+     * <h2 class="en-US">E-Mail message signer</h2>
+     * <span class="en-US">
+     *     The signed attributes and certificate store are prepared once,
+     *     the signed generator is not thread safe, so it was created once for each thread and reused
+     * </span>
+     * <h2 class="zh-CN">电子邮件签名器</h2>
+     * <span class="zh-CN">签名属性和证书库仅准备一次，签名生成器非线程安全，每个线程创建一次并复用</span>
+     *
+     * @author Steven Wee     <a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:47:15 $
+     */
+    private static final class MessageSigner {
+        /**
+         * <span class="en-US">x509 certificate Using for email signature</span>
+         * <span class="zh-CN">x509证书用于电子邮件签名</span>
+         */
+        private final X509Certificate x509Certificate;
+        /**
+         * <span class="en-US">private key Using for email signature</span>
+         * <span class="zh-CN">私有密钥用于电子邮件签名</span>
+         */
+        private final PrivateKey privateKey;
+        /**
+         * <span class="en-US">Signed generator of each thread</span>
+         * <span class="zh-CN">每个线程的签名生成器</span>
+         */
+        private final ThreadLocal<SMIMESignedGenerator> signedGenerators = new ThreadLocal<>();
+        /**
+         * <span class="en-US">Prepared signed attributes</span>
+         * <span class="zh-CN">已准备的签名属性</span>
+         */
+        private AttributeTable signedAttributes;
+        /**
+         * <span class="en-US">Prepared certificate store</span>
+         * <span class="zh-CN">已准备的证书库</span>
+         */
+        private JcaCertStore certStore;
+
+        /**
+         * <h3 class="en-US">Constructor for MessageSigner</h3>
+         * <h3 class="zh-CN">电子邮件签名器的构造方法</h3>
+         *
+         * @param x509Certificate <span class="en-US">x509 certificate</span>
+         *                        <span class="zh-CN">x509证书</span>
+         * @param privateKey      <span class="en-US">private key</span>
+         *                        <span class="zh-CN">私有密钥</span>
+         */
+        MessageSigner(final X509Certificate x509Certificate, final PrivateKey privateKey) {
+            this.x509Certificate = x509Certificate;
+            this.privateKey = privateKey;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve signed generator of current thread</h3>
+         * <h3 class="zh-CN">获取当前线程的签名生成器</h3>
+         *
+         * @return <span class="en-US">Signed generator instance</span>
+         * <span class="zh-CN">签名生成器实例对象</span>
+         * @throws MailException <span class="en-US">If an error occurs when create signed generator</span>
+         *                       <span class="zh-CN">当创建签名生成器时出现异常</span>
+         */
+        SMIMESignedGenerator signedGenerator() throws MailException {
+            SMIMESignedGenerator generator = this.signedGenerators.get();
+            if (generator == null) {
+                try {
+                    this.prepare();
+                    SignerInfoGenerator signerInfoGenerator = new JcaSimpleSignerInfoGeneratorBuilder()
+                            .setProvider("BC")
+                            .setSignedAttributeGenerator(this.signedAttributes)
+                            .build("SHA1withRSA", this.privateKey, this.x509Certificate);
+                    generator = new SMIMESignedGenerator();
+                    generator.addSignerInfoGenerator(signerInfoGenerator);
+                    generator.addCertificates(this.certStore);
+                } catch (CertificateEncodingException | CertificateParsingException | OperatorCreationException e) {
+                    throw new MailException(0x0000000E0007L, "Signature_Mail_Error", e);
+                }
+                this.signedGenerators.set(generator);
+            }
+            return generator;
+        }
+
+        /**
+         * <h3 class="en-US">Prepare signed attributes and certificate store</h3>
+         * <h3 class="zh-CN">准备签名属性和证书库</h3>
+         *
+         * @throws CertificateEncodingException <span class="en-US">If certificate could not be encoded</span>
+         *                                      <span class="zh-CN">如果证书无法编码</span>
+         * @throws CertificateParsingException  <span class="en-US">If certificate could not be parsed</span>
+         *                                      <span class="zh-CN">如果证书无法解析</span>
+         */
+        private synchronized void prepare() throws CertificateEncodingException, CertificateParsingException {
+            if (this.certStore != null) {
+                return;
+            }
+            //  Generate signature attribute
+            ASN1EncodableVector signatureAttribute = new ASN1EncodableVector();
+            SMIMECapabilityVector capabilityVector = new SMIMECapabilityVector();
+            capabilityVector.addCapability(SMIMECapability.aES256_CBC);
+            capabilityVector.addCapability(SMIMECapability.dES_CBC);
+            capabilityVector.addCapability(SMIMECapability.rC2_CBC, 128);
+            signatureAttribute.add(new SMIMECapabilitiesAttribute(capabilityVector));
+            signatureAttribute.add(new SMIMEEncryptionKeyPreferenceAttribute(
+                    SMIMEUtil.createIssuerAndSerialNumberFor(this.x509Certificate)));
+            this.signedAttributes = new AttributeTable(signatureAttribute);
+            this.certStore = new JcaCertStore(Collections.singletonList(this.x509Certificate));
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Attachment writer</h2>
+     * <span class="en-US">
+     *     Write the buffers sent by reading thread to temporary file, and move the file to target path when finished.
+     *     If the file with the same content hash was saved and still exists, the temporary file will be removed
+     *     and the saved file path will be returned.
+     * </span>
+     * <h2 class="zh-CN">附件写入器</h2>
+     * <span class="zh-CN">
+     *     将读取线程发送的缓冲区写入临时文件，完成后将文件移动到目标路径。如果已保存过相同内容散列值的文件且文件仍然存在，将删除临时文件并返回已保存的文件路径。
+     * </span>
+     *
+     * @author Steven Wee     <a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:34:08 $
+     */
+    private static final class AttachmentWriter {
+        /**
+         * <span class="en-US">Marker buffer of data end</span>
+         * <span class="zh-CN">数据结束的标记缓冲区</span>
+         */
+        private static final ByteBuffer END_OF_DATA = ByteBuffer.allocate(0);
+        /**
+         * <span class="en-US">Marker buffer of aborted</span>
+         * <span class="zh-CN">已中止的标记缓冲区</span>
+         */
+        private static final ByteBuffer ABORT_DATA = ByteBuffer.allocate(0);
+        /**
+         * <span class="en-US">Temporary file path</span>
+         * <span class="zh-CN">临时文件路径</span>
+         */
+        private final Path tempPath;
+        /**
+         * <span class="en-US">Target file path</span>
+         * <span class="zh-CN">目标文件路径</span>
+         */
+        private final Path targetPath;
+        /**
+         * <span class="en-US">Saved attachment file path, mapping key is SHA-256 hash of file content</span>
+         * <span class="zh-CN">已保存的附件文件路径，映射键值为文件内容的SHA-256散列值</span>
+         */
+        private final Map<String, String> savedAttachments;
+        /**
+         * <span class="en-US">Logger instance of owner agent</span>
+         * <span class="zh-CN">所属代理的日志实例</span>
+         */
+        private final LoggerUtils.Logger logger;
+        /**
+         * <span class="en-US">Buffers waiting to write</span>
+         * <span class="zh-CN">等待写入的缓冲区</span>
+         */
+        private final BlockingQueue<ByteBuffer> dataQueue = new ArrayBlockingQueue<>(ATTACHMENT_QUEUE_SIZE);
+        /**
+         * <span class="en-US">Written buffers could be reused</span>
+         * <span class="zh-CN">可复用的已写入缓冲区</span>
+         */
+        private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+
+        /**
+         * <h3 class="en-US">Constructor for AttachmentWriter</h3>
+         * <h3 class="zh-CN">附件写入器的构造方法</h3>
+         *
+         * @param tempPath         <span class="en-US">Temporary file path</span>
+         *                         <span class="zh-CN">临时文件路径</span>
+         * @param targetPath       <span class="en-US">Target file path</span>
+         *                         <span class="zh-CN">目标文件路径</span>
+         * @param savedAttachments <span class="en-US">Saved attachment file path mapping</span>
+         *                         <span class="zh-CN">已保存的附件文件路径映射表</span>
+         * @param logger           <span class="en-US">Logger instance of owner agent</span>
+         *                         <span class="zh-CN">所属代理的日志实例</span>
+         */
+        AttachmentWriter(final Path tempPath, final Path targetPath, final Map<String, String> savedAttachments,
+                         final LoggerUtils.Logger logger) {
+            this.tempPath = tempPath;
+            this.targetPath = targetPath;
+            this.savedAttachments = savedAttachments;
+            this.logger = logger;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve empty buffer for reading</h3>
+         * <h3 class="zh-CN">获取用于读取的空缓冲区</h3>
+         *
+         * @return <span class="en-US">Empty buffer</span>
+         * <span class="zh-CN">空缓冲区</span>
+         */
+        ByteBuffer buffer() {
+            return Optional.ofNullable(this.freeBuffers.poll())
+                    .orElseGet(() -> ByteBuffer.allocate(ATTACHMENT_BUFFER_SIZE));
+        }
+
+        /**
+         * <h3 class="en-US">Send buffer to writer, wait if the queue was full</h3>
+         * <h3 class="zh-CN">发送缓冲区到写入器，队列已满时等待</h3>
+         *
+         * @param byteBuffer <span class="en-US">Buffer ready to write</span>
+         *                   <span class="zh-CN">待写入的缓冲区</span>
+         * @param saveFuture <span class="en-US">Future of writer</span>
+         *                   <span class="zh-CN">写入器的异步结果</span>
+         * @return <span class="en-US">Send result, false if writer was stopped or current thread was interrupted</span>
+         * <span class="zh-CN">发送结果，写入器已停止或当前线程被中断时返回false</span>
+         */
+        boolean offer(final ByteBuffer byteBuffer, final CompletableFuture<String> saveFuture) {
+            if (!byteBuffer.hasRemaining()) {
+                return Boolean.TRUE;
+            }
+            try {
+                while (!this.dataQueue.offer(byteBuffer, 100L, TimeUnit.MILLISECONDS)) {
+                    if (saveFuture.isDone()) {
+                        return Boolean.FALSE;
+                    }
+                }
+                return Boolean.TRUE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Boolean.FALSE;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Notify writer that reading was finished</h3>
+         * <h3 class="zh-CN">通知写入器读取已结束</h3>
+         *
+         * @param completed <span class="en-US">All data was read, false to abort the writer</span>
+         *                  <span class="zh-CN">已读取全部数据，为false时中止写入器</span>
+         */
+        void finish(final boolean completed) {
+            if (!completed) {
+                //  Writer will not take more buffers, drop the waiting data and leave room for the marker
+                this.dataQueue.clear();
+            }
+            ByteBuffer markBuffer = completed ? END_OF_DATA : ABORT_DATA;
+            try {
+                this.dataQueue.put(markBuffer);
+            } catch (InterruptedException e) {
+                this.dataQueue.clear();
+                this.dataQueue.offer(ABORT_DATA);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Write buffers to temporary file and move to target path</h3>
+         * <h3 class="zh-CN">将缓冲区写入临时文件并移动到目标路径</h3>
+         *
+         * @return <span class="en-US">Saved file path, null if aborted or write failed</span>
+         * <span class="zh-CN">已保存的文件路径，中止或写入失败时返回null</span>
+         */
+        String write() {
+            try {
+                MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                long fileSize = Globals.INITIALIZE_INT_VALUE;
+                try (FileChannel fileChannel = FileChannel.open(this.tempPath, StandardOpenOption.WRITE)) {
+                    while (true) {
+                        ByteBuffer byteBuffer = this.dataQueue.take();
+                        if (byteBuffer == ABORT_DATA) {
+                            return null;
+                        }
+                        if (byteBuffer == END_OF_DATA) {
+                            break;
+                        }
+                        messageDigest.update(byteBuffer.array(), byteBuffer.position(), byteBuffer.remaining());
+                        fileSize += byteBuffer.remaining();
+                        while (byteBuffer.hasRemaining()) {
+                            fileChannel.write(byteBuffer);
+                        }
+                        this.freeBuffers.offer(byteBuffer.clear());
+                    }
+                }
+                String contentHash = ConvertUtils.toHex(messageDigest.digest());
+                String savedPath = this.savedAttachments.get(contentHash);
+                if (savedPath != null) {
+                    Path savedFile = Paths.get(savedPath);
+                    if (Files.isRegularFile(savedFile) && Files.size(savedFile) == fileSize) {
+                        return savedPath;
+                    }
+                    this.savedAttachments.remove(contentHash, savedPath);
+                }
+                Path savedFile = this.moveTo();
+                if (this.savedAttachments.size() >= ATTACHMENT_HASH_LIMIT) {
+                    this.savedAttachments.clear();
+                }
+                String filePath = savedFile.toString();
+                this.savedAttachments.put(contentHash, filePath);
+                return filePath;
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                this.logger.error("Attachment_Receive_Mail_Error");
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Stack_Message_Error", e);
+                }
+                return null;
+            } finally {
+                this.dataQueue.clear();
+                try {
+                    Files.deleteIfExists(this.tempPath);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Move temporary file to target path, never replace the existing file</h3>
+         * <span class="en-US">
+         *     If the target file exists, an index was appended to the file name until an unused path was found,
+         *     so the saved file mapped by content hash will not be overwritten.
+         * </span>
+         * <h3 class="zh-CN">将临时文件移动到目标路径，不替换已存在的文件</h3>
+         * <span class="zh-CN">如果目标文件已存在，在文件名后追加序号直到找到未使用的路径，因此按内容散列值映射的已保存文件不会被覆盖。</span>
+         *
+         * @return <span class="en-US">Saved file path</span>
+         * <span class="zh-CN">已保存的文件路径</span>
+         * @throws IOException <span class="en-US">If an error occurs when move file</span>
+         *                     <span class="zh-CN">当移动文件时出现异常</span>
+         */
+        private Path moveTo() throws IOException {
+            String fileName = this.targetPath.getFileName().toString();
+            int position = fileName.lastIndexOf('.');
+            String baseName = (position > 0) ? fileName.substring(0, position) : fileName;
+            String extension = (position > 0) ? fileName.substring(position) : Globals.DEFAULT_VALUE_STRING;
+            Path savePath = this.targetPath;
+            int index = 0;
+            while (true) {
+                try {
+                    return Files.move(this.tempPath, savePath);
+                } catch (FileAlreadyExistsException e) {
+                    savePath = this.targetPath.resolveSibling(baseName + "_" + (++index) + extension);
+                }
+            }
+        }
     }
 
     /**
@@ -864,10 +1812,8 @@ public final class MailUtils {
      *                        <span class="zh-CN">当前的事务链接</span>
      * @param mailObject      <span class="en-US">Read MailObject instance</span>
      *                        <span class="zh-CN">读取的电子邮件信息实例对象</span>
-     * @param x509Certificate <span class="en-US">x509 certificate</span>
-     *                        <span class="zh-CN">x509证书</span>
-     * @param privateKey      <span class="en-US">private key</span>
-     *                        <span class="zh-CN">私有密钥</span>
+     * @param generator       <span class="en-US">Prepared signed generator, null for unsigned message</span>
+     *                        <span class="zh-CN">已准备的签名生成器，不签名时为null</span>
      * @return <span class="en-US">Converted MimeMessage instance</span>
      * <span class="zh-CN">转换后的电子邮件MIME信息实例对象</span>
      * @throws MailException      <span class="en-US">If an error occurs when process convert</span>
@@ -876,7 +1822,7 @@ public final class MailUtils {
      *                            <span class="zh-CN">当转换数据时出现异常</span>
      */
     private static MimeMessage convert(final Session session, final MailObject mailObject,
-                                       final X509Certificate x509Certificate, final PrivateKey privateKey)
+                                       final SMIMESignedGenerator generator)
             throws MailException, MessagingException {
         MimeMessage message = new MimeMessage(session);
 
@@ -937,34 +1883,12 @@ public final class MailUtils {
             mimeMultipart.addBodyPart(mimeBodyPart, mimeMultipart.getCount());
         }
 
-        if (x509Certificate != null && privateKey != null) {
+        if (generator != null) {
             message.setContent(mimeMultipart);
             try {
-                //  Generate signature attribute
-                ASN1EncodableVector signatureAttribute = new ASN1EncodableVector();
-                SMIMECapabilityVector capabilityVector = new SMIMECapabilityVector();
-                capabilityVector.addCapability(SMIMECapability.aES256_CBC);
-                capabilityVector.addCapability(SMIMECapability.dES_CBC);
-                capabilityVector.addCapability(SMIMECapability.rC2_CBC, 128);
-                signatureAttribute.add(new SMIMECapabilitiesAttribute(capabilityVector));
-                signatureAttribute.add(new SMIMEEncryptionKeyPreferenceAttribute(SMIMEUtil.createIssuerAndSerialNumberFor(x509Certificate)));
-
-                List<X509Certificate> certificateList = Collections.singletonList(x509Certificate);
-                JcaCertStore certStore = new JcaCertStore(certificateList);
-
-                SignerInfoGenerator signerInfoGenerator = new JcaSimpleSignerInfoGeneratorBuilder()
-                        .setProvider("BC")
-                        .setSignedAttributeGenerator(new AttributeTable(signatureAttribute))
-                        .build("SHA1withRSA", privateKey, x509Certificate);
-
-                SMIMESignedGenerator generator = new SMIMESignedGenerator();
-                generator.addSignerInfoGenerator(signerInfoGenerator);
-                generator.addCertificates(certStore);
-
                 MimeMultipart signedMimeMultipart = generator.generate(message);
                 message.setContent(signedMimeMultipart, signedMimeMultipart.getContentType());
-            } catch (CertificateEncodingException | CertificateParsingException | OperatorCreationException |
-                     SMIMEException e) {
+            } catch (SMIMEException e) {
                 throw new MailException(0x0000000E0007L, "Signature_Mail_Error", e);
             }
         } else {
@@ -1004,43 +1928,52 @@ public final class MailUtils {
     }
 
     /**
-     * <h3 class="en-US">Open folder from Store instance by given folder name in read only mode</h3>
-     * <h3 class="zh-CN">在只读模式中打开给定的Store实例对象中的文件夹</h3>
+     * <h3 class="en-US">Retrieve default attachment writer executor</h3>
+     * <span class="en-US">Executor was created when first used, the threads are daemon threads</span>
+     * <h3 class="zh-CN">获取默认附件写入执行器</h3>
+     * <span class="zh-CN">执行器在首次使用时创建，线程为守护线程</span>
      *
-     * @param store      <span class="en-US">Store instance</span>
-     *                   <span class="zh-CN">Store实例对象</span>
-     * @param folderName <span class="en-US">folder name</span>
-     *                   <span class="zh-CN">文件夹名称</span>
-     * @return <span class="en-US">Opened Folder instance</span>
-     * <span class="zh-CN">打开的文件夹实例对象</span>
-     * @throws MessagingException <span class="en-US">If an error occurs when process open</span>
-     *                            <span class="zh-CN">当读取数据时出现异常</span>
+     * @return <span class="en-US">Default attachment writer executor</span>
+     * <span class="zh-CN">默认附件写入执行器</span>
+     */
+    private static ExecutorService attachmentExecutor() {
+        return AttachmentExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * <h2 class="en-US">Holder of default attachment writer executor</h2>
+     * <span class="en-US">The executor was created when the holder class initialized by first use</span>
+     * <h2 class="zh-CN">默认附件写入执行器的持有类</h2>
+     * <span class="zh-CN">执行器在首次使用时持有类初始化时创建</span>
      */
-    private static Folder openReadOnlyFolder(final Store store, final String folderName)
-            throws MessagingException {
-        return openFolder(store, Boolean.TRUE, folderName);
+    private static final class AttachmentExecutorHolder {
+        /**
+         * <span class="en-US">Default attachment writer executor</span>
+         * <span class="zh-CN">默认附件写入执行器</span>
+         */
+        private static final ExecutorService EXECUTOR =
+                Executors.newFixedThreadPool(ATTACHMENT_WRITER_THREADS, runnable -> {
+                    Thread thread = new Thread(runnable, "MailAttachmentWriter");
+                    thread.setDaemon(Boolean.TRUE);
+                    return thread;
+                });
     }
 
     /**
-     * <h3 class="en-US">Open folder from Store instance by given folder name and mode</h3>
-     * <h3 class="zh-CN">使用给定的模式中打开给定的Store实例对象中的文件夹</h3>
+     * <h3 class="en-US">Generate fetch profile by given items</h3>
+     * <h3 class="zh-CN">根据给定的获取项生成获取配置</h3>
      *
-     * @param store      <span class="en-US">Store instance</span>
-     *                   <span class="zh-CN">Store实例对象</span>
-     * @param readOnly   <span class="en-US">Read only status</span>
-     *                   <span class="zh-CN">只读模式状态</span>
-     * @param folderName <span class="en-US">folder name</span>
-     *                   <span class="zh-CN">文件夹名称</span>
-     * @return <span class="en-US">Opened Folder instance</span>
-     * <span class="zh-CN">打开的文件夹实例对象</span>
-     * @throws MessagingException <span class="en-US">If an error occurs when process open</span>
-     *                            <span class="zh-CN">当读取数据时出现异常</span>
+     * @param items <span class="en-US">Fetch items</span>
+     *              <span class="zh-CN">获取项</span>
+     * @return <span class="en-US">Generated FetchProfile instance</span>
+     * <span class="zh-CN">生成的获取配置实例对象</span>
      */
-    private static Folder openFolder(final Store store, final boolean readOnly, final String folderName)
-            throws MessagingException {
-        Folder folder = store.getFolder(folderName);
-        folder.open(readOnly ? Folder.READ_ONLY : Folder.READ_WRITE);
-        return folder;
+    private static FetchProfile fetchProfile(final FetchProfile.Item... items) {
+        FetchProfile fetchProfile = new FetchProfile();
+        for (FetchProfile.Item item : items) {
+            fetchProfile.add(item);
+        }
+        return fetchProfile;
     }
 
     /**
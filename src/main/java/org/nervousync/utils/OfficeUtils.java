@@ -18,7 +18,7 @@
 package org.nervousync.utils;
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -28,7 +28,7 @@ import org.nervousync.office.excel.ExcelReader;
 import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.office.excel.impl.EventModelReaderImpl;
 import org.nervousync.office.excel.impl.ExcelWriterImpl;
-import org.nervousync.office.excel.impl.UserModelReaderImpl;
+import org.nervousync.office.excel.impl.HSSFEventModelReaderImpl;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -36,6 +36,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <h2 class="en-US">Office Utilities</h2>
@@ -164,6 +167,61 @@ public final class OfficeUtils {
 		}
 	}
 
+	/**
+	 * <h3 class="en-US">Read data from all data sheets concurrently based on the given file path, starting and ending row numbers</h3>
+	 * <span class="en-US">Each data sheet was read by a task on the given executor, read sequentially if the executor is <code>null</code></span>
+	 * <h3 class="zh-CN">根据给定的文件地址、起始、终止行号并发读取所有数据表中的数据</h3>
+	 * <span class="zh-CN">每个数据表由给定执行器上的一个任务读取，如果执行器为<code>null</code>则顺序读取</span>
+	 *
+	 * @param filePath <span class="en-US">File storage path</span>
+	 *                 <span class="zh-CN">文件存储路径</span>
+	 * @param beginRow <span class="en-US">Begin row number</span>
+	 *                 <span class="zh-CN">起始行号</span>
+	 * @param endRow   <span class="en-US">End row number</span>
+	 *                 <span class="zh-CN">终止行号</span>
+	 * @param executor <span class="en-US">Executor to read data sheets</span>
+	 *                 <span class="zh-CN">读取数据表使用的执行器</span>
+	 * @return <span class="en-US">Mapping table of read data sheet name and data list</span>
+	 * <span class="zh-CN">读取的数据表名和数据列表的映射表</span>
+	 */
+	public static Map<String, List<List<String>>> readExcel(final String filePath, final int beginRow, final int endRow,
+	                                                        final Executor executor) {
+		try (ExcelReader excelReader = newReader(filePath)) {
+			return excelReader.read(beginRow, endRow, executor);
+		} catch (Exception e) {
+			return new HashMap<>();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Read rows of all data sheets concurrently and pass to the consumer of each data sheet</h3>
+	 * <span class="en-US">Rows were not collected in memory, consumers of different data sheets may be invoked concurrently</span>
+	 * <h3 class="zh-CN">并发读取所有数据表的数据行并传递给每个数据表的处理器</h3>
+	 * <span class="zh-CN">数据行不在内存中汇总，不同数据表的处理器可能被并发调用</span>
+	 *
+	 * @param filePath        <span class="en-US">File storage path</span>
+	 *                        <span class="zh-CN">文件存储路径</span>
+	 * @param beginRow        <span class="en-US">Begin row number</span>
+	 *                        <span class="zh-CN">起始行号</span>
+	 * @param endRow          <span class="en-US">End row number</span>
+	 *                        <span class="zh-CN">终止行号</span>
+	 * @param consumerFactory <span class="en-US">Factory to create row data consumer by data sheet name</span>
+	 *                        <span class="zh-CN">根据数据表名称创建行数据处理器的工厂</span>
+	 * @param executor        <span class="en-US">Executor to read data sheets</span>
+	 *                        <span class="zh-CN">读取数据表使用的执行器</span>
+	 */
+	public static void readRows(final String filePath, final int beginRow, final int endRow,
+	                            final Function<String, Consumer<List<String>>> consumerFactory,
+	                            final Executor executor) {
+		try (ExcelReader excelReader = newReader(filePath)) {
+			excelReader.readRows(beginRow, endRow, consumerFactory, executor);
+		} catch (Exception e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
 	/**
 	 * <h3 class="en-US">Read data based on the given file path, data sheet name</h3>
 	 * <h3 class="zh-CN">根据给定的文件地址、数据表名称读取数据</h3>
@@ -207,6 +265,64 @@ public final class OfficeUtils {
 		}
 	}
 
+	/**
+	 * <h3 class="en-US">Read rows one by one based on the given file path, data sheet name, starting and ending row numbers</h3>
+	 * <span class="en-US">Rows were not collected in memory, reading stops when the ending row number was reached</span>
+	 * <h3 class="zh-CN">根据给定的文件地址、数据表名称和起始、终止行号逐行读取数据</h3>
+	 * <span class="zh-CN">数据行不在内存中汇总，到达终止行号后立即停止读取</span>
+	 *
+	 * @param filePath    <span class="en-US">File storage path</span>
+	 *                    <span class="zh-CN">文件存储路径</span>
+	 * @param sheetName   <span class="en-US">Data sheet name</span>
+	 *                    <span class="zh-CN">数据表名称</span>
+	 * @param beginRow    <span class="en-US">Begin row number</span>
+	 *                    <span class="zh-CN">起始行号</span>
+	 * @param endRow      <span class="en-US">End row number</span>
+	 *                    <span class="zh-CN">终止行号</span>
+	 * @param rowConsumer <span class="en-US">Row data consumer</span>
+	 *                    <span class="zh-CN">行数据处理器</span>
+	 */
+	public static void readRows(final String filePath, final String sheetName, final int beginRow, final int endRow,
+	                            final Consumer<List<String>> rowConsumer) {
+		try (ExcelReader excelReader = newReader(filePath)) {
+			excelReader.readRows(sheetName, beginRow, endRow, rowConsumer);
+		} catch (Exception e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Read rows based on the given file path, data sheet name, starting and ending row numbers, and convert to bean instances</h3>
+	 * <h3 class="zh-CN">根据给定的文件地址、数据表名称和起始、终止行号读取数据行并转换为实体类实例</h3>
+	 *
+	 * @param filePath   <span class="en-US">File storage path</span>
+	 *                   <span class="zh-CN">文件存储路径</span>
+	 * @param sheetName  <span class="en-US">Data sheet name</span>
+	 *                   <span class="zh-CN">数据表名称</span>
+	 * @param beginRow   <span class="en-US">Begin row number</span>
+	 *                   <span class="zh-CN">起始行号</span>
+	 * @param endRow     <span class="en-US">End row number</span>
+	 *                   <span class="zh-CN">终止行号</span>
+	 * @param beanClass  <span class="en-US">Bean class</span>
+	 *                   <span class="zh-CN">实体类</span>
+	 * @param fieldNames <span class="en-US">Field names in column order</span>
+	 *                   <span class="zh-CN">按列顺序排列的属性名</span>
+	 * @param <T>        <span class="en-US">Bean type</span>
+	 *                   <span class="zh-CN">实体类类型</span>
+	 * @return <span class="en-US">Converted bean instance list</span>
+	 * <span class="zh-CN">转换后的实体类实例列表</span>
+	 */
+	public static <T> List<T> readBeans(final String filePath, final String sheetName, final int beginRow,
+	                                    final int endRow, final Class<T> beanClass, final String... fieldNames) {
+		try (ExcelReader excelReader = newReader(filePath)) {
+			return excelReader.readBeans(sheetName, beginRow, endRow, beanClass, fieldNames);
+		} catch (Exception e) {
+			return new ArrayList<>();
+		}
+	}
+
 	/**
 	 * <h3 class="en-US">Generate an Excel workbook writer instance object based on the given file address</h3>
 	 * <h3 class="zh-CN">根据给定文件地址生成Excel工作簿写入器实例对象</h3>
@@ -222,6 +338,31 @@ public final class OfficeUtils {
 		return new ExcelWriterImpl(filePath);
 	}
 
+	/**
+	 * <h3 class="en-US">Generate a streaming Excel workbook writer instance object based on the given file address</h3>
+	 * <span class="en-US">
+	 *     Only the last given number of rows were kept in memory when writing xlsx file,
+	 *     the data of existing xlsx file was used as template, and new rows can only be appended after the existing rows.
+	 * </span>
+	 * <h3 class="zh-CN">根据给定文件地址生成流式Excel工作簿写入器实例对象</h3>
+	 * <span class="zh-CN">写入xlsx文件时内存中仅保留最后给定数量的数据行，已存在的xlsx文件数据作为模板，新数据行只能追加在已有数据行之后</span>
+	 *
+	 * @param filePath          <span class="en-US">File storage path</span>
+	 *                          <span class="zh-CN">文件存储路径</span>
+	 * @param windowSize        <span class="en-US">Number of rows kept in memory</span>
+	 *                          <span class="zh-CN">内存中保留的数据行数</span>
+	 * @param compressTempFiles <span class="en-US">Compress the temporary files</span>
+	 *                          <span class="zh-CN">压缩临时文件</span>
+	 * @return <span class="en-US">Excel writer instance object</span>
+	 * <span class="zh-CN">Excel写入器实例对象</span>
+	 * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
+	 *                              <span class="zh-CN">如果文件格式不正确</span>
+	 */
+	public static ExcelWriter newWriter(final String filePath, final int windowSize, final boolean compressTempFiles)
+			throws DataInvalidException {
+		return new ExcelWriterImpl(filePath, windowSize, compressTempFiles);
+	}
+
 	/**
 	 * <h3 class="en-US">Open the Excel workbook at the given address</h3>
 	 * <h3 class="zh-CN">打开给定地址的Excel工作簿</h3>
@@ -251,6 +392,32 @@ public final class OfficeUtils {
 		throw new DataInvalidException(0x000000AE0002L, "Office_Excel_File_Not_Exists", filePath);
 	}
 
+	/**
+	 * <h3 class="en-US">Open the Excel workbook at the given address in streaming mode</h3>
+	 * <span class="en-US">The xlsx workbook was wrapped as template of streaming workbook, the xls workbook was opened directly</span>
+	 * <h3 class="zh-CN">以流模式打开给定地址的Excel工作簿</h3>
+	 * <span class="zh-CN">xlsx工作簿被包装为流式工作簿的模板，xls工作簿直接打开</span>
+	 *
+	 * @param filePath          <span class="en-US">File storage path</span>
+	 *                          <span class="zh-CN">文件存储路径</span>
+	 * @param windowSize        <span class="en-US">Number of rows kept in memory</span>
+	 *                          <span class="zh-CN">内存中保留的数据行数</span>
+	 * @param compressTempFiles <span class="en-US">Compress the temporary files</span>
+	 *                          <span class="zh-CN">压缩临时文件</span>
+	 * @return <span class="en-US">Workbook instance object</span>
+	 * <span class="zh-CN">工作簿实例对象</span>
+	 * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
+	 *                              <span class="zh-CN">如果文件格式不正确</span>
+	 */
+	public static Workbook openWorkbook(final String filePath, final int windowSize, final boolean compressTempFiles)
+			throws DataInvalidException {
+		Workbook workbook = openWorkbook(filePath);
+		if (workbook instanceof XSSFWorkbook xssfWorkbook) {
+			return new SXSSFWorkbook(xssfWorkbook, windowSize, compressTempFiles);
+		}
+		return workbook;
+	}
+
 	/**
 	 * <h3 class="en-US">Create a new Excel workbook</h3>
 	 * <h3 class="zh-CN">创建新的Excel工作簿</h3>
@@ -271,6 +438,31 @@ public final class OfficeUtils {
 		};
 	}
 
+	/**
+	 * <h3 class="en-US">Create a new Excel workbook using given streaming settings</h3>
+	 * <h3 class="zh-CN">使用给定的流式设置创建新的Excel工作簿</h3>
+	 *
+	 * @param filePath          <span class="en-US">File storage path</span>
+	 *                          <span class="zh-CN">文件存储路径</span>
+	 * @param windowSize        <span class="en-US">Number of rows kept in memory</span>
+	 *                          <span class="zh-CN">内存中保留的数据行数</span>
+	 * @param compressTempFiles <span class="en-US">Compress the temporary files</span>
+	 *                          <span class="zh-CN">压缩临时文件</span>
+	 * @return <span class="en-US">Workbook instance object</span>
+	 * <span class="zh-CN">工作簿实例对象</span>
+	 * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
+	 *                              <span class="zh-CN">如果文件格式不正确</span>
+	 */
+	public static Workbook createWorkbook(final String filePath, final int windowSize, final boolean compressTempFiles)
+			throws DataInvalidException {
+		String fileExtName = StringUtils.getFilenameExtension(filePath).toLowerCase();
+		return switch (fileExtName) {
+			case EXCEL_FILE_EXT_NAME_2003 -> new HSSFWorkbook();
+			case EXCEL_FILE_EXT_NAME_2007 -> new SXSSFWorkbook(null, windowSize, compressTempFiles);
+			default -> throw new DataInvalidException(0x000000AE0001L, "Office_Ext_Name_Invalid", fileExtName);
+		};
+	}
+
 	/**
 	 * <h3 class="en-US">Generate an Excel workbook reader instance object based on the given file address</h3>
 	 * <h3 class="zh-CN">根据给定文件地址生成Excel工作簿读取器实例对象</h3>
@@ -281,16 +473,16 @@ public final class OfficeUtils {
 	 * <span class="zh-CN">Excel读取器实例对象</span>
 	 * @throws IOException            <span class="en-US">If an exception occurs while reading the file</span>
 	 *                                <span class="zh-CN">如果读取文件时出现异常</span>
-	 * @throws InvalidFormatException <span class="en-US">If the file format is incorrect</span>
+	 * @throws OpenXML4JException     <span class="en-US">If the file format is incorrect</span>
 	 *                                <span class="zh-CN">如果文件格式不正确</span>
 	 * @throws DataInvalidException   <span class="en-US">If the file format is incorrect</span>
 	 *                                <span class="zh-CN">如果文件格式不正确</span>
 	 */
 	private static ExcelReader newReader(final String filePath)
-			throws IOException, InvalidFormatException, DataInvalidException {
+			throws IOException, OpenXML4JException, DataInvalidException {
 		String fileExtName = StringUtils.getFilenameExtension(filePath).toLowerCase();
 		return switch (fileExtName) {
-			case EXCEL_FILE_EXT_NAME_2003 -> new UserModelReaderImpl(filePath);
+			case EXCEL_FILE_EXT_NAME_2003 -> new HSSFEventModelReaderImpl(filePath);
 			case EXCEL_FILE_EXT_NAME_2007 -> new EventModelReaderImpl(filePath);
 			default -> throw new DataInvalidException(0x000000AE0001L, "Office_Ext_Name_Invalid", fileExtName);
 		};
@@ -21,6 +21,8 @@ import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.exceptions.zip.ZipException;
 
 import java.io.UnsupportedEncodingException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
@@ -52,6 +54,78 @@ public final class RawUtils {
      * <span class="zh-CN">默认的数组起始下标</span>
      */
     private static final int DEFAULT_INDEX = 0;
+    /**
+     * <span class="en-US">VarHandle for read/write short value in big endian data bytes</span>
+     * <span class="zh-CN">用于在大端字节数组中读写short数值的VarHandle</span>
+     */
+    private static final VarHandle SHORT_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write short value in little endian data bytes</span>
+     * <span class="zh-CN">用于在小端字节数组中读写short数值的VarHandle</span>
+     */
+    private static final VarHandle SHORT_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write int value in big endian data bytes</span>
+     * <span class="zh-CN">用于在大端字节数组中读写int数值的VarHandle</span>
+     */
+    private static final VarHandle INT_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write int value in little endian data bytes</span>
+     * <span class="zh-CN">用于在小端字节数组中读写int数值的VarHandle</span>
+     */
+    private static final VarHandle INT_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write long value in big endian data bytes</span>
+     * <span class="zh-CN">用于在大端字节数组中读写long数值的VarHandle</span>
+     */
+    private static final VarHandle LONG_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write long value in little endian data bytes</span>
+     * <span class="zh-CN">用于在小端字节数组中读写long数值的VarHandle</span>
+     */
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write short value in big endian byte buffer</span>
+     * <span class="zh-CN">用于在大端字节缓冲区中读写short数值的VarHandle</span>
+     */
+    private static final VarHandle BUFFER_SHORT_BIG_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write short value in little endian byte buffer</span>
+     * <span class="zh-CN">用于在小端字节缓冲区中读写short数值的VarHandle</span>
+     */
+    private static final VarHandle BUFFER_SHORT_LITTLE_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write int value in big endian byte buffer</span>
+     * <span class="zh-CN">用于在大端字节缓冲区中读写int数值的VarHandle</span>
+     */
+    private static final VarHandle BUFFER_INT_BIG_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write int value in little endian byte buffer</span>
+     * <span class="zh-CN">用于在小端字节缓冲区中读写int数值的VarHandle</span>
+     */
+    private static final VarHandle BUFFER_INT_LITTLE_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write long value in big endian byte buffer</span>
+     * <span class="zh-CN">用于在大端字节缓冲区中读写long数值的VarHandle</span>
+     */
+    private static final VarHandle BUFFER_LONG_BIG_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">VarHandle for read/write long value in little endian byte buffer</span>
+     * <span class="zh-CN">用于在小端字节缓冲区中读写long数值的VarHandle</span>
+     */
+    private static final VarHandle BUFFER_LONG_LITTLE_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
     /**
      * <h3 class="en-US">Private constructor for RawUtils</h3>
@@ -197,7 +271,10 @@ public final class RawUtils {
      */
     public static short readShort(final byte[] dataBytes, final int position, final ByteOrder byteOrder)
             throws DataInvalidException {
-        return (short) readNumber(dataBytes, position, byteOrder, 2);
+        checkBounds(dataBytes, position, Short.BYTES);
+        return ByteOrder.LITTLE_ENDIAN.equals(byteOrder)
+                ? (short) SHORT_LITTLE_ENDIAN.get(dataBytes, position)
+                : (short) SHORT_BIG_ENDIAN.get(dataBytes, position);
     }
 
     /**
@@ -268,7 +345,12 @@ public final class RawUtils {
      */
     public static void writeShort(final byte[] dataBytes, final int position,
                                   final ByteOrder byteOrder, final short value) throws DataInvalidException {
-        writeNumber(dataBytes, position, Short.SIZE, byteOrder, value);
+        checkBounds(dataBytes, position, Short.BYTES);
+        if (ByteOrder.LITTLE_ENDIAN.equals(byteOrder)) {
+            SHORT_LITTLE_ENDIAN.set(dataBytes, position, value);
+        } else {
+            SHORT_BIG_ENDIAN.set(dataBytes, position, value);
+        }
     }
 
     /**
@@ -337,7 +419,10 @@ public final class RawUtils {
      */
     public static int readInt(final byte[] dataBytes, final int position, final ByteOrder byteOrder)
             throws DataInvalidException {
-        return (int) readNumber(dataBytes, position, byteOrder, 4);
+        checkBounds(dataBytes, position, Integer.BYTES);
+        return ByteOrder.LITTLE_ENDIAN.equals(byteOrder)
+                ? (int) INT_LITTLE_ENDIAN.get(dataBytes, position)
+                : (int) INT_BIG_ENDIAN.get(dataBytes, position);
     }
 
     /**
@@ -408,7 +493,12 @@ public final class RawUtils {
      */
     public static void writeInt(final byte[] dataBytes, final int position,
                                 final ByteOrder byteOrder, final int value) throws DataInvalidException {
-        writeNumber(dataBytes, position, Integer.SIZE, byteOrder, value);
+        checkBounds(dataBytes, position, Integer.BYTES);
+        if (ByteOrder.LITTLE_ENDIAN.equals(byteOrder)) {
+            INT_LITTLE_ENDIAN.set(dataBytes, position, value);
+        } else {
+            INT_BIG_ENDIAN.set(dataBytes, position, value);
+        }
     }
 
     /**
@@ -477,7 +567,10 @@ public final class RawUtils {
      */
     public static long readLong(final byte[] dataBytes, final int position, final ByteOrder byteOrder)
             throws DataInvalidException {
-        return (long) readNumber(dataBytes, position, byteOrder, 8);
+        checkBounds(dataBytes, position, Long.BYTES);
+        return ByteOrder.LITTLE_ENDIAN.equals(byteOrder)
+                ? (long) LONG_LITTLE_ENDIAN.get(dataBytes, position)
+                : (long) LONG_BIG_ENDIAN.get(dataBytes, position);
     }
 
     /**
@@ -548,7 +641,12 @@ public final class RawUtils {
      */
     public static void writeLong(final byte[] dataBytes, final int position,
                                  final ByteOrder byteOrder, final long value) throws DataInvalidException {
-        writeNumber(dataBytes, position, Long.SIZE, byteOrder, value);
+        checkBounds(dataBytes, position, Long.BYTES);
+        if (ByteOrder.LITTLE_ENDIAN.equals(byteOrder)) {
+            LONG_LITTLE_ENDIAN.set(dataBytes, position, value);
+        } else {
+            LONG_BIG_ENDIAN.set(dataBytes, position, value);
+        }
     }
 
     /**
@@ -904,6 +1002,162 @@ public final class RawUtils {
         }
     }
 
+    /**
+     * <h3 class="en-US">Read short from byte buffer at given absolute position</h3>
+     * <p class="en-US">The position and byte order of byte buffer will not be modified</p>
+     * <h3 class="zh-CN">从字节缓冲区的给定绝对位置读取short类型的数据</h3>
+     * <p class="zh-CN">不会修改字节缓冲区的位置和字节顺序</p>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
+     * @param byteOrder  <span class="en-US">Byte order type</span>
+     *                   <span class="zh-CN">大端/小端</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数值</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
+     */
+    public static short readShort(final ByteBuffer byteBuffer, final int position, final ByteOrder byteOrder)
+            throws DataInvalidException {
+        checkBounds(byteBuffer, position, Short.BYTES);
+        return ByteOrder.LITTLE_ENDIAN.equals(byteOrder)
+                ? (short) BUFFER_SHORT_LITTLE_ENDIAN.get(byteBuffer, position)
+                : (short) BUFFER_SHORT_BIG_ENDIAN.get(byteBuffer, position);
+    }
+
+    /**
+     * <h3 class="en-US">Write short into byte buffer at given absolute position</h3>
+     * <p class="en-US">The position and byte order of byte buffer will not be modified</p>
+     * <h3 class="zh-CN">向字节缓冲区的给定绝对位置写入short类型的数据</h3>
+     * <p class="zh-CN">不会修改字节缓冲区的位置和字节顺序</p>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
+     * @param byteOrder  <span class="en-US">Byte order type</span>
+     *                   <span class="zh-CN">大端/小端</span>
+     * @param value      <span class="en-US">Write value</span>
+     *                   <span class="zh-CN">写入的数据</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
+     */
+    public static void writeShort(final ByteBuffer byteBuffer, final int position, final ByteOrder byteOrder,
+                                  final short value) throws DataInvalidException {
+        checkBounds(byteBuffer, position, Short.BYTES);
+        if (ByteOrder.LITTLE_ENDIAN.equals(byteOrder)) {
+            BUFFER_SHORT_LITTLE_ENDIAN.set(byteBuffer, position, value);
+        } else {
+            BUFFER_SHORT_BIG_ENDIAN.set(byteBuffer, position, value);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read int from byte buffer at given absolute position</h3>
+     * <p class="en-US">The position and byte order of byte buffer will not be modified</p>
+     * <h3 class="zh-CN">从字节缓冲区的给定绝对位置读取int类型的数据</h3>
+     * <p class="zh-CN">不会修改字节缓冲区的位置和字节顺序</p>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
+     * @param byteOrder  <span class="en-US">Byte order type</span>
+     *                   <span class="zh-CN">大端/小端</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数值</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
+     */
+    public static int readInt(final ByteBuffer byteBuffer, final int position, final ByteOrder byteOrder)
+            throws DataInvalidException {
+        checkBounds(byteBuffer, position, Integer.BYTES);
+        return ByteOrder.LITTLE_ENDIAN.equals(byteOrder)
+                ? (int) BUFFER_INT_LITTLE_ENDIAN.get(byteBuffer, position)
+                : (int) BUFFER_INT_BIG_ENDIAN.get(byteBuffer, position);
+    }
+
+    /**
+     * <h3 class="en-US">Write int into byte buffer at given absolute position</h3>
+     * <p class="en-US">The position and byte order of byte buffer will not be modified</p>
+     * <h3 class="zh-CN">向字节缓冲区的给定绝对位置写入int类型的数据</h3>
+     * <p class="zh-CN">不会修改字节缓冲区的位置和字节顺序</p>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
+     * @param byteOrder  <span class="en-US">Byte order type</span>
+     *                   <span class="zh-CN">大端/小端</span>
+     * @param value      <span class="en-US">Write value</span>
+     *                   <span class="zh-CN">写入的数据</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
+     */
+    public static void writeInt(final ByteBuffer byteBuffer, final int position, final ByteOrder byteOrder,
+                                  final int value) throws DataInvalidException {
+        checkBounds(byteBuffer, position, Integer.BYTES);
+        if (ByteOrder.LITTLE_ENDIAN.equals(byteOrder)) {
+            BUFFER_INT_LITTLE_ENDIAN.set(byteBuffer, position, value);
+        } else {
+            BUFFER_INT_BIG_ENDIAN.set(byteBuffer, position, value);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read long from byte buffer at given absolute position</h3>
+     * <p class="en-US">The position and byte order of byte buffer will not be modified</p>
+     * <h3 class="zh-CN">从字节缓冲区的给定绝对位置读取long类型的数据</h3>
+     * <p class="zh-CN">不会修改字节缓冲区的位置和字节顺序</p>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
+     * @param byteOrder  <span class="en-US">Byte order type</span>
+     *                   <span class="zh-CN">大端/小端</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数值</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
+     */
+    public static long readLong(final ByteBuffer byteBuffer, final int position, final ByteOrder byteOrder)
+            throws DataInvalidException {
+        checkBounds(byteBuffer, position, Long.BYTES);
+        return ByteOrder.LITTLE_ENDIAN.equals(byteOrder)
+                ? (long) BUFFER_LONG_LITTLE_ENDIAN.get(byteBuffer, position)
+                : (long) BUFFER_LONG_BIG_ENDIAN.get(byteBuffer, position);
+    }
+
+    /**
+     * <h3 class="en-US">Write long into byte buffer at given absolute position</h3>
+     * <p class="en-US">The position and byte order of byte buffer will not be modified</p>
+     * <h3 class="zh-CN">向字节缓冲区的给定绝对位置写入long类型的数据</h3>
+     * <p class="zh-CN">不会修改字节缓冲区的位置和字节顺序</p>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
+     * @param byteOrder  <span class="en-US">Byte order type</span>
+     *                   <span class="zh-CN">大端/小端</span>
+     * @param value      <span class="en-US">Write value</span>
+     *                   <span class="zh-CN">写入的数据</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
+     */
+    public static void writeLong(final ByteBuffer byteBuffer, final int position, final ByteOrder byteOrder,
+                                  final long value) throws DataInvalidException {
+        checkBounds(byteBuffer, position, Long.BYTES);
+        if (ByteOrder.LITTLE_ENDIAN.equals(byteOrder)) {
+            BUFFER_LONG_LITTLE_ENDIAN.set(byteBuffer, position, value);
+        } else {
+            BUFFER_LONG_BIG_ENDIAN.set(byteBuffer, position, value);
+        }
+    }
+
     /**
      * <h3 class="en-US">Convert char array to binary data bytes</h3>
      * <h3 class="zh-CN">转换字节数组为二进制数组</h3>
@@ -953,7 +1207,7 @@ public final class RawUtils {
 
         int calValue = 0;
         for (int i = 0; i < bitArray.length; i++) {
-            calValue += (int) (Math.pow(2, i) * bitArray[i]);
+            calValue |= bitArray[i] << i;
         }
         return (byte) calValue;
     }
@@ -1003,77 +1257,44 @@ public final class RawUtils {
     }
 
     /**
-     * <h3 class="en-US">Write number into binary data bytes</h3>
-     * <h3 class="zh-CN">向二进制数组中写入数值类型的数据</h3>
+     * <h3 class="en-US">Check the data bytes has enough space to read/write data</h3>
+     * <h3 class="zh-CN">检查二进制数组是否有足够的空间读写数据</h3>
      *
-     * @param dataBytes <span class="en-US">Binary data bytes</span>
-     *                  <span class="zh-CN">二进制字节数组</span>
-     * @param position  <span class="en-US">Begin position of data bytes</span>
-     *                  <span class="zh-CN">字节数组的起始下标</span>
-     * @param dataSize  <span class="en-US">Data bytes length</span>
-     *                  <span class="zh-CN">写入的数据长度</span>
-     * @param byteOrder <span class="en-US">Byte order type</span>
-     *                  <span class="zh-CN">大端/小端</span>
-     * @param value     <span class="en-US">Write value</span>
-     *                  <span class="zh-CN">写入的数据</span>
+     * @param dataBytes  <span class="en-US">Binary data bytes</span>
+     *                   <span class="zh-CN">二进制字节数组</span>
+     * @param position   <span class="en-US">Begin position of data bytes</span>
+     *                   <span class="zh-CN">字节数组的起始下标</span>
+     * @param dataLength <span class="en-US">Data bytes length</span>
+     *                   <span class="zh-CN">读写的数据长度</span>
      * @throws DataInvalidException <span class="en-US">If array index out of bounds</span>
      *                              <span class="zh-CN">如果数组下标越界</span>
      */
-    private static void writeNumber(final byte[] dataBytes, final int position, final int dataSize,
-                                    final ByteOrder byteOrder, final Object value) throws DataInvalidException {
-        if (dataSize % Byte.SIZE != 0) {
-            throw new DataInvalidException(0x000000130005L, "Data_Size_Invalid_Raw_Error");
-        }
-        int dataLength = dataSize / Byte.SIZE;
-        if (dataBytes.length < (position + dataLength)) {
+    private static void checkBounds(final byte[] dataBytes, final int position, final int dataLength)
+            throws DataInvalidException {
+        if (position < 0 || dataBytes.length - dataLength < position) {
             throw new DataInvalidException(0x000000130001L, "Out_Of_Index_Raw_Error",
                     dataBytes.length, position, dataLength);
         }
-        final ByteBuffer byteBuffer = initBuffer(dataBytes, position, dataLength, byteOrder);
-        switch (dataSize) {
-            case Short.SIZE:
-                byteBuffer.putShort((short) value);
-                break;
-            case Integer.SIZE:
-                byteBuffer.putInt((int) value);
-                break;
-            case Long.SIZE:
-                byteBuffer.putLong((long) value);
-                break;
-            default:
-                throw new DataInvalidException(0x000000130006L, "Data_Size_Unknown_Raw_Error");
-        }
     }
 
     /**
-     * <h3 class="en-US">Read number from binary data bytes</h3>
-     * <h3 class="zh-CN">从二进制数组中读取数值类型的数据</h3>
+     * <h3 class="en-US">Check the byte buffer has enough space to read/write data</h3>
+     * <h3 class="zh-CN">检查字节缓冲区是否有足够的空间读写数据</h3>
      *
-     * @param dataBytes  <span class="en-US">Binary data bytes</span>
-     *                   <span class="zh-CN">二进制字节数组</span>
-     * @param position   <span class="en-US">Begin position of data bytes</span>
-     *                   <span class="zh-CN">字节数组的起始下标</span>
-     * @param byteOrder  <span class="en-US">Byte order type</span>
-     *                   <span class="zh-CN">大端/小端</span>
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @param position   <span class="en-US">Absolute position of byte buffer</span>
+     *                   <span class="zh-CN">字节缓冲区的绝对下标</span>
      * @param dataLength <span class="en-US">Data bytes length</span>
-     *                   <span class="zh-CN">读取的数据长度</span>
-     * @return <span class="en-US">Read value</span>
-     * <span class="zh-CN">读取的数值</span>
-     * @throws DataInvalidException <span class="en-US">If array index out of bounds</span>
-     *                              <span class="zh-CN">如果数组下标越界</span>
+     *                   <span class="zh-CN">读写的数据长度</span>
+     * @throws DataInvalidException <span class="en-US">If buffer index out of bounds</span>
+     *                              <span class="zh-CN">如果缓冲区下标越界</span>
      */
-    private static Object readNumber(final byte[] dataBytes, final int position, final ByteOrder byteOrder,
-                                     final int dataLength) throws DataInvalidException {
-        if (dataBytes.length < (position + dataLength)) {
+    private static void checkBounds(final ByteBuffer byteBuffer, final int position, final int dataLength)
+            throws DataInvalidException {
+        if (position < 0 || byteBuffer.limit() - dataLength < position) {
             throw new DataInvalidException(0x000000130001L, "Out_Of_Index_Raw_Error",
-                    dataBytes.length, position, 8);
+                    byteBuffer.limit(), position, dataLength);
         }
-        final ByteBuffer byteBuffer = initBuffer(dataBytes, position, dataLength, byteOrder);
-	    return switch (dataLength) {
-		    case 2 -> byteBuffer.getShort();
-		    case 4 -> byteBuffer.getInt();
-		    case 8 -> byteBuffer.getLong();
-		    default -> throw new DataInvalidException(0x000000130006L, "Data_Size_Unknown_Raw_Error");
-	    };
     }
 }
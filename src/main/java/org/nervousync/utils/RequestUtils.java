@@ -23,29 +23,31 @@ import jakarta.ws.rs.*;
 import org.nervousync.beans.servlet.request.RequestAttribute;
 import org.nervousync.beans.servlet.request.RequestInfo;
 import org.nervousync.beans.servlet.response.ResponseInfo;
+import org.nervousync.beans.servlet.response.ResponseStream;
 import org.nervousync.commons.Globals;
 import org.nervousync.enumerations.web.HttpMethodOption;
+import org.nervousync.http.client.ClientRegistry;
+import org.nervousync.http.client.RequestBatch;
 import org.nervousync.http.cookie.CookieEntity;
 import org.nervousync.http.entity.HttpEntity;
-import org.nervousync.http.security.GeneX509TrustManager;
 import org.nervousync.proxy.ProxyConfig;
 
 import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.KeyManager;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
 import java.io.*;
 import java.lang.reflect.Method;
 import java.net.*;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
-import java.security.SecureRandom;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.cert.*;
-import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -119,6 +121,11 @@ public final class RequestUtils {
      * <span class="zh-CN">HTTP-to-HTTPS跳转的属性名</span>
      */
     private static final String STOWED_REQUEST_ATTRIBS = "ssl.redirect.attrib.stowed";
+    /**
+     * <span class="en-US">Suffix of validator file for resumable download</span>
+     * <span class="zh-CN">断点续传验证信息文件的后缀</span>
+     */
+    private static final String VALIDATOR_FILE_SUFFIX = ".validator";
 
     /**
      * <h3 class="en-US">Private constructor for RequestUtils</h3>
@@ -295,6 +302,275 @@ public final class RequestUtils {
      * <span class="zh-CN">解析的目标类型实例对象，如果请求失败则返回<code>null</code></span>
      */
     public static <T> T sendRequest(final RequestInfo requestInfo, final Class<T> targetClass) {
+        HttpRequest httpRequest = generateRequest(requestInfo);
+        if (httpRequest == null) {
+            return null;
+        }
+        try {
+            return parseResponse(ClientRegistry.send(requestInfo, httpRequest, new ResponseContentHandler())
+                    .body()
+                    .get(), targetClass);
+        } catch (IOException | InterruptedException e) {
+            LOGGER.error("Send_Request_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Send request asynchronously and parse response data to given target class instance</h3>
+     * <span class="en-US">
+     *     The response body was buffered by the client without blocking the caller thread,
+     *     cancel the returned future will cancel the running request.
+     * </span>
+     * <h3 class="zh-CN">异步发送请求并解析返回数据为给定的目标类型</h3>
+     * <span class="zh-CN">响应体由客户端缓存，不会阻塞调用线程，取消返回的异步结果将取消运行中的请求。</span>
+     *
+     * @param <T>         <span class="en-US">target type class</span>
+     *                    <span class="zh-CN">目标类型</span>
+     * @param requestInfo <span class="en-US">Request info</span>
+     *                    <span class="zh-CN">请求信息</span>
+     * @param targetClass <span class="en-US">target type class</span>
+     *                    <span class="zh-CN">目标类型</span>
+     * @return <span class="en-US">Future of parsed target type class instance, completed with <code>null</code> if generate request failed</span>
+     * <span class="zh-CN">解析的目标类型实例对象的异步结果，如果生成请求失败则结果为<code>null</code></span>
+     */
+    public static <T> CompletableFuture<T> sendRequestAsync(final RequestInfo requestInfo, final Class<T> targetClass) {
+        HttpRequest httpRequest = generateRequest(requestInfo);
+        if (httpRequest == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<HttpResponse<ResponseInfo>> responseFuture =
+                ClientRegistry.sendAsync(requestInfo, httpRequest, new ResponseBufferHandler());
+        return ClientRegistry.linkCancel(
+                responseFuture.thenApply(httpResponse -> parseResponse(httpResponse.body(), targetClass)),
+                responseFuture);
+    }
+
+    /**
+     * <h3 class="en-US">Send requests asynchronously using default concurrent limit and without host rate limit</h3>
+     * <h3 class="zh-CN">使用默认并发限制且不限制主机请求频率异步发送批量请求</h3>
+     *
+     * @param <T>          <span class="en-US">target type class</span>
+     *                     <span class="zh-CN">目标类型</span>
+     * @param requestInfos <span class="en-US">Request info list</span>
+     *                     <span class="zh-CN">请求信息列表</span>
+     * @param targetClass  <span class="en-US">target type class</span>
+     *                     <span class="zh-CN">目标类型</span>
+     * @return <span class="en-US">Started batch request dispatcher</span>
+     * <span class="zh-CN">已开始的批量请求调度器</span>
+     */
+    public static <T> RequestBatch<T> sendBatch(final Collection<RequestInfo> requestInfos,
+                                                final Class<T> targetClass) {
+        return sendBatch(requestInfos, targetClass, RequestBatch.DEFAULT_CONCURRENCY, Globals.INITIALIZE_INT_VALUE);
+    }
+
+    /**
+     * <h3 class="en-US">Send requests asynchronously using given concurrent limit and host rate limit</h3>
+     * <h3 class="zh-CN">使用给定的并发限制和主机请求频率限制异步发送批量请求</h3>
+     *
+     * @param <T>              <span class="en-US">target type class</span>
+     *                         <span class="zh-CN">目标类型</span>
+     * @param requestInfos     <span class="en-US">Request info list</span>
+     *                         <span class="zh-CN">请求信息列表</span>
+     * @param targetClass      <span class="en-US">target type class</span>
+     *                         <span class="zh-CN">目标类型</span>
+     * @param concurrency      <span class="en-US">Maximum concurrent requests</span>
+     *                         <span class="zh-CN">最大并发请求数</span>
+     * @param permitsPerSecond <span class="en-US">Maximum request permits per second of each host, 0 for unlimited</span>
+     *                         <span class="zh-CN">每个主机每秒最大请求数，0为不限制</span>
+     * @return <span class="en-US">Started batch request dispatcher</span>
+     * <span class="zh-CN">已开始的批量请求调度器</span>
+     */
+    public static <T> RequestBatch<T> sendBatch(final Collection<RequestInfo> requestInfos, final Class<T> targetClass,
+                                                final int concurrency, final int permitsPerSecond) {
+        return RequestBatch.execute(requestInfo -> sendRequestAsync(requestInfo, targetClass),
+                requestInfos, concurrency, permitsPerSecond);
+    }
+
+    /**
+     * <h3 class="en-US">Send request and open the response body as stream</h3>
+     * <span class="en-US">The response body was not buffered in memory, the returned instance must be closed after used</span>
+     * <h3 class="zh-CN">发送请求并以数据流形式打开响应体</h3>
+     * <span class="zh-CN">响应体不在内存中缓存，返回的实例对象使用后必须关闭</span>
+     *
+     * @param requestInfo <span class="en-US">Request info</span>
+     *                    <span class="zh-CN">请求信息</span>
+     * @return <span class="en-US">Streaming response instance or <code>null</code> if an error occurs</span>
+     * <span class="zh-CN">流式响应实例对象，如果请求失败则返回<code>null</code></span>
+     */
+    public static ResponseStream openStream(final RequestInfo requestInfo) {
+        HttpRequest httpRequest = generateRequest(requestInfo);
+        if (httpRequest == null) {
+            return null;
+        }
+        try {
+            HttpResponse<InputStream> httpResponse =
+                    ClientRegistry.send(requestInfo, httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+            return new ResponseStream(new StreamResponseInfo(httpResponse), httpResponse.body());
+        } catch (IOException | InterruptedException e) {
+            LOGGER.error("Send_Request_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Send request and save the response body to target path directly</h3>
+     * <span class="en-US">
+     *     The validator (ETag or Last-Modified) of the response is stored in a ".validator" file next to the target
+     *     file until the download completes. If the target file exists and the validator is stored, request the
+     *     remaining data using "Range" and "If-Range" header and append to the target file, the target file will be
+     *     downloaded from the beginning if the remote resource was changed, the validator is missing or the server
+     *     does not support range requests.
+     * </span>
+     * <h3 class="zh-CN">发送请求并将响应体直接保存到目标路径</h3>
+     * <span class="zh-CN">
+     *     响应的验证信息（ETag或Last-Modified）在下载完成前保存在目标文件旁的".validator"文件中。
+     *     如果目标文件已存在且验证信息已保存，使用"Range"和"If-Range"请求头请求剩余数据并追加到目标文件，
+     *     如果远程资源已变更、验证信息不存在或服务器不支持范围请求，则从头开始下载目标文件。
+     * </span>
+     *
+     * @param requestInfo <span class="en-US">Request info</span>
+     *                    <span class="zh-CN">请求信息</span>
+     * @param targetPath  <span class="en-US">Target file path</span>
+     *                    <span class="zh-CN">目标文件路径</span>
+     * @return <span class="en-US">Download result</span>
+     * <span class="zh-CN">下载结果</span>
+     */
+    public static boolean download(final RequestInfo requestInfo, final Path targetPath) {
+        HttpRequest httpRequest = generateRequest(requestInfo);
+        if (httpRequest == null) {
+            return Boolean.FALSE;
+        }
+        try {
+            Path validatorPath = targetPath.resolveSibling(targetPath.getFileName() + VALIDATOR_FILE_SUFFIX);
+            long existsLength = Files.isRegularFile(targetPath) ? Files.size(targetPath) : 0L;
+            String validator = (existsLength > 0L && Files.isRegularFile(validatorPath))
+                    ? Files.readString(validatorPath).trim()
+                    : Globals.DEFAULT_VALUE_STRING;
+            if (validator.isEmpty()) {
+                existsLength = 0L;
+            }
+            if (targetPath.getParent() != null) {
+                Files.createDirectories(targetPath.getParent());
+            }
+            HttpRequest.Builder requestBuilder =
+                    HttpRequest.newBuilder(httpRequest, (name, value) ->
+                            !"Accept-Encoding".equalsIgnoreCase(name) && !"Range".equalsIgnoreCase(name)
+                                    && !"If-Range".equalsIgnoreCase(name));
+            requestBuilder.setHeader("Accept-Encoding", "identity");
+            if (existsLength > 0L) {
+                requestBuilder.setHeader("Range", "bytes=" + existsLength + "-");
+                requestBuilder.setHeader("If-Range", validator);
+            }
+            HttpResponse<Path> httpResponse = ClientRegistry.send(requestInfo, requestBuilder.build(),
+                    new DownloadHandler(targetPath, validatorPath, existsLength));
+            boolean result = switch (httpResponse.statusCode()) {
+                case HttpURLConnection.HTTP_OK -> Boolean.TRUE;
+                case HttpURLConnection.HTTP_PARTIAL -> rangeStart(httpResponse.headers()) == existsLength;
+                case 416 -> existsLength > 0L && rangeLength(httpResponse.headers()) == existsLength;
+                default -> Boolean.FALSE;
+            };
+            if (result) {
+                Files.deleteIfExists(validatorPath);
+            }
+            return result;
+        } catch (IOException | InterruptedException e) {
+            LOGGER.error("Send_Request_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Parse start position from the response header "Content-Range"</h3>
+     * <h3 class="zh-CN">从响应头"Content-Range"中解析起始位置</h3>
+     *
+     * @param httpHeaders <span class="en-US">Response headers</span>
+     *                    <span class="zh-CN">响应头信息</span>
+     * @return <span class="en-US">Start position or -1 if header not exists or invalid</span>
+     * <span class="zh-CN">起始位置，如果响应头不存在或无效则返回-1</span>
+     */
+    private static long rangeStart(final HttpHeaders httpHeaders) {
+        return httpHeaders.firstValue("Content-Range")
+                .filter(contentRange -> contentRange.startsWith("bytes ") && contentRange.indexOf('-') > 6)
+                .map(contentRange -> {
+                    try {
+                        return Long.parseLong(contentRange.substring(6, contentRange.indexOf('-')).trim());
+                    } catch (NumberFormatException e) {
+                        return (long) Globals.DEFAULT_VALUE_INT;
+                    }
+                })
+                .orElse((long) Globals.DEFAULT_VALUE_INT);
+    }
+
+    /**
+     * <h3 class="en-US">Parse complete length from the response header "Content-Range" of unsatisfied range</h3>
+     * <h3 class="zh-CN">从无法满足范围的响应头"Content-Range"中解析完整长度</h3>
+     *
+     * @param httpHeaders <span class="en-US">Response headers</span>
+     *                    <span class="zh-CN">响应头信息</span>
+     * @return <span class="en-US">Complete length or -1 if header not exists or invalid</span>
+     * <span class="zh-CN">完整长度，如果响应头不存在或无效则返回-1</span>
+     */
+    private static long rangeLength(final HttpHeaders httpHeaders) {
+        return httpHeaders.firstValue("Content-Range")
+                .filter(contentRange -> contentRange.startsWith("bytes */"))
+                .map(contentRange -> {
+                    try {
+                        return Long.parseLong(contentRange.substring(8).trim());
+                    } catch (NumberFormatException e) {
+                        return (long) Globals.DEFAULT_VALUE_INT;
+                    }
+                })
+                .orElse((long) Globals.DEFAULT_VALUE_INT);
+    }
+
+    /**
+     * <h3 class="en-US">Parse response information to given target class instance</h3>
+     * <h3 class="zh-CN">解析响应信息为给定的目标类型实例对象</h3>
+     *
+     * @param <T>          <span class="en-US">target type class</span>
+     *                     <span class="zh-CN">目标类型</span>
+     * @param responseInfo <span class="en-US">Response information</span>
+     *                     <span class="zh-CN">响应信息</span>
+     * @param targetClass  <span class="en-US">target type class</span>
+     *                     <span class="zh-CN">目标类型</span>
+     * @return <span class="en-US">Parsed target type class instance or <code>null</code> if response information is null</span>
+     * <span class="zh-CN">解析的目标类型实例对象，如果响应信息为空则返回<code>null</code></span>
+     */
+    private static <T> T parseResponse(final ResponseInfo responseInfo, final Class<T> targetClass) {
+        return Optional.ofNullable(responseInfo)
+                .map(response -> {
+                    if (ResponseInfo.class.equals(targetClass)) {
+                        return targetClass.cast(response);
+                    }
+                    if (targetClass.isArray() || ClassUtils.isAssignable(targetClass, Collection.class)) {
+                        return targetClass.cast(response.parseList(ClassUtils.componentType(targetClass)));
+                    } else {
+                        return response.parseObject(targetClass);
+                    }
+                })
+                .orElse(null);
+    }
+
+    /**
+     * <h3 class="en-US">Generate request instance by given request information</h3>
+     * <h3 class="zh-CN">根据给定的请求信息生成请求实例对象</h3>
+     *
+     * @param requestInfo <span class="en-US">Request info</span>
+     *                    <span class="zh-CN">请求信息</span>
+     * @return <span class="en-US">Generated request instance or <code>null</code> if an error occurs</span>
+     * <span class="zh-CN">生成的请求实例对象，如果生成失败则返回<code>null</code></span>
+     */
+    private static HttpRequest generateRequest(final RequestInfo requestInfo) {
         HttpRequest.Builder requestBuilder = HttpRequest.newBuilder();
         HttpEntity httpEntity = null;
         switch (requestInfo.getMethodOption()) {
@@ -307,10 +583,9 @@ public final class RequestUtils {
                     requestBuilder.POST(HttpRequest.BodyPublishers.ofByteArray(requestInfo.getPostData()));
                 } else {
                     try {
-                        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
                         httpEntity = generateEntity(requestInfo.getParameters(), requestInfo.getUploadParam());
-                        httpEntity.writeData(requestInfo.getCharset(), byteArrayOutputStream);
-                        requestBuilder.POST(HttpRequest.BodyPublishers.ofByteArray(byteArrayOutputStream.toByteArray()));
+                        requestBuilder.POST(httpEntity.generatePublisher(requestInfo.getCharset(),
+                                requestInfo.isChunkedUpload(), requestInfo.getUploadProgress()));
                     } catch (IOException e) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debug("Process_Data_Request_Error", e);
@@ -324,10 +599,9 @@ public final class RequestUtils {
                     requestBuilder.PUT(HttpRequest.BodyPublishers.ofByteArray(requestInfo.getPostData()));
                 } else {
                     try {
-                        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
                         httpEntity = generateEntity(requestInfo.getParameters(), requestInfo.getUploadParam());
-                        httpEntity.writeData(requestInfo.getCharset(), byteArrayOutputStream);
-                        requestBuilder.PUT(HttpRequest.BodyPublishers.ofByteArray(byteArrayOutputStream.toByteArray()));
+                        requestBuilder.PUT(httpEntity.generatePublisher(requestInfo.getCharset(),
+                                requestInfo.isChunkedUpload(), requestInfo.getUploadProgress()));
                     } catch (IOException e) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debug("Process_Data_Request_Error", e);
@@ -382,16 +656,8 @@ public final class RequestUtils {
             requestBuilder.setHeader("Cookie", cookie);
         }
 
-        HttpClient.Builder clientBuilder = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_2)
-                .followRedirects(HttpClient.Redirect.NORMAL);
-        if (requestInfo.getTimeOut() > 0) {
-            clientBuilder.connectTimeout(Duration.ofSeconds(requestInfo.getTimeOut()));
-        }
-
         if (requestInfo.getProxyInfo() != null) {
             ProxyConfig proxyConfig = requestInfo.getProxyInfo();
-            clientBuilder.proxy(ProxySelector.of(new InetSocketAddress(proxyConfig.getProxyAddress(), proxyConfig.getProxyPort())));
             if (StringUtils.notBlank(proxyConfig.getUserName())) {
                 String authentication = proxyConfig.getUserName() + ":";
                 if (StringUtils.notBlank(proxyConfig.getPassword())) {
@@ -403,46 +669,7 @@ public final class RequestUtils {
             }
         }
 
-        if (requestInfo.getTrustCertInfos() != null && !requestInfo.getTrustCertInfos().isEmpty()) {
-            try {
-                System.setProperty("jdk.internal.httpclient.disableHostnameVerification", Boolean.TRUE.toString());
-                SSLContext sslContext = SSLContext.getInstance("TLS");
-                GeneX509TrustManager x509TrustManager =
-                        GeneX509TrustManager.newInstance(requestInfo.getPassPhrase(), requestInfo.getTrustCertInfos());
-                sslContext.init(new KeyManager[0], new TrustManager[]{x509TrustManager}, new SecureRandom());
-                clientBuilder.sslContext(sslContext);
-            } catch (Exception e) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("Process_SSL_Certificate_Request_Error", e);
-                }
-            }
-        }
-
-        try {
-            return Optional.ofNullable(clientBuilder.build()
-                            .send(requestBuilder.build(), new ResponseContentHandler())
-                            .body()
-                            .get())
-                    .map(responseInfo -> {
-                        if (ResponseInfo.class.equals(targetClass)) {
-                            return targetClass.cast(responseInfo);
-                        }
-                        if (targetClass.isArray() || ClassUtils.isAssignable(targetClass, Collection.class)) {
-                            return targetClass.cast(responseInfo.parseList(ClassUtils.componentType(targetClass)));
-                        } else {
-                            return responseInfo.parseObject(targetClass);
-                        }
-                    })
-                    .orElse(null);
-        } catch (IOException | InterruptedException e) {
-            LOGGER.error("Send_Request_Error");
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return null;
-        } finally {
-            System.clearProperty("jdk.internal.httpclient.disableHostnameVerification");
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -1070,4 +1297,149 @@ public final class RequestUtils {
                     inputStream -> () -> new ResponseInfo(responseInfo, inputStream));
         }
     }
+
+    /**
+     * <h2 class="en-US">Response body buffer handler</h2>
+     * <span class="en-US">Buffer the response body without blocking and convert to ResponseInfo instance</span>
+     * <h2 class="zh-CN">响应体缓存处理器</h2>
+     * <span class="zh-CN">非阻塞缓存响应体并转换为ResponseInfo实例对象</span>
+     */
+    private static final class ResponseBufferHandler implements HttpResponse.BodyHandler<ResponseInfo> {
+        /**
+         * <h3 class="en-US">Constructor for ResponseBufferHandler</h3>
+         * <h3 class="zh-CN">响应体缓存处理器的构造方法</h3>
+         */
+        ResponseBufferHandler() {
+        }
+
+        /**
+         * (Non-Javadoc)
+         *
+         * @see HttpResponse.BodyHandler#apply(HttpResponse.ResponseInfo)
+         */
+        public HttpResponse.BodySubscriber<ResponseInfo> apply(HttpResponse.ResponseInfo responseInfo) {
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                    dataBytes -> new ResponseInfo(responseInfo, new ByteArrayInputStream(dataBytes)));
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Download body handler</h2>
+     * <span class="en-US">
+     *     Append the partial content to target file, overwrite target file for complete content and store the
+     *     validator of the response, discard the response body for other status codes or mismatched content range.
+     * </span>
+     * <h2 class="zh-CN">下载响应体处理器</h2>
+     * <span class="zh-CN">
+     *     部分内容追加到目标文件，完整内容覆盖目标文件并保存响应的验证信息，其他状态码或内容范围不匹配时丢弃响应体。
+     * </span>
+     */
+    private static final class DownloadHandler implements HttpResponse.BodyHandler<Path> {
+        /**
+         * <span class="en-US">Target file path</span>
+         * <span class="zh-CN">目标文件路径</span>
+         */
+        private final Path targetPath;
+        /**
+         * <span class="en-US">Validator file path</span>
+         * <span class="zh-CN">验证信息文件路径</span>
+         */
+        private final Path validatorPath;
+        /**
+         * <span class="en-US">Exists length of target file</span>
+         * <span class="zh-CN">目标文件已存在的长度</span>
+         */
+        private final long existsLength;
+
+        /**
+         * <h3 class="en-US">Constructor for DownloadHandler</h3>
+         * <h3 class="zh-CN">下载响应体处理器的构造方法</h3>
+         *
+         * @param targetPath    <span class="en-US">Target file path</span>
+         *                      <span class="zh-CN">目标文件路径</span>
+         * @param validatorPath <span class="en-US">Validator file path</span>
+         *                      <span class="zh-CN">验证信息文件路径</span>
+         * @param existsLength  <span class="en-US">Exists length of target file</span>
+         *                      <span class="zh-CN">目标文件已存在的长度</span>
+         */
+        DownloadHandler(final Path targetPath, final Path validatorPath, final long existsLength) {
+            this.targetPath = targetPath;
+            this.validatorPath = validatorPath;
+            this.existsLength = existsLength;
+        }
+
+        /**
+         * (Non-Javadoc)
+         *
+         * @see HttpResponse.BodyHandler#apply(HttpResponse.ResponseInfo)
+         */
+        public HttpResponse.BodySubscriber<Path> apply(HttpResponse.ResponseInfo responseInfo) {
+            return switch (responseInfo.statusCode()) {
+                case HttpURLConnection.HTTP_OK -> {
+                    this.storeValidator(responseInfo.headers());
+                    yield HttpResponse.BodySubscribers.ofFile(this.targetPath,
+                            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                }
+                case HttpURLConnection.HTTP_PARTIAL -> (rangeStart(responseInfo.headers()) == this.existsLength)
+                        ? HttpResponse.BodySubscribers.ofFile(this.targetPath,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                        : HttpResponse.BodySubscribers.replacing(this.targetPath);
+                default -> HttpResponse.BodySubscribers.replacing(this.targetPath);
+            };
+        }
+
+        /**
+         * <h3 class="en-US">Store the validator of complete content</h3>
+         * <span class="en-US">
+         *     Strong ETag is preferred because weak ETag is not allowed in "If-Range" header,
+         *     the stored validator will be removed if the response does not contain any validator.
+         * </span>
+         * <h3 class="zh-CN">保存完整内容的验证信息</h3>
+         * <span class="zh-CN">优先使用强ETag，因为"If-Range"请求头不允许使用弱ETag，如果响应不包含任何验证信息则删除已保存的验证信息。</span>
+         *
+         * @param httpHeaders <span class="en-US">Response headers</span>
+         *                    <span class="zh-CN">响应头信息</span>
+         */
+        private void storeValidator(final HttpHeaders httpHeaders) {
+            String validator = httpHeaders.firstValue("ETag")
+                    .filter(eTag -> !eTag.startsWith("W/"))
+                    .or(() -> httpHeaders.firstValue("Last-Modified"))
+                    .orElse(Globals.DEFAULT_VALUE_STRING);
+            try {
+                if (validator.isEmpty()) {
+                    Files.deleteIfExists(this.validatorPath);
+                } else {
+                    Files.writeString(this.validatorPath, validator);
+                }
+            } catch (IOException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Response information wrapper of received response</h2>
+     * <h2 class="zh-CN">已接收响应的响应信息包装器</h2>
+     *
+     * @param httpResponse <span class="en-US">Received response instance</span>
+     *                     <span class="zh-CN">已接收的响应实例对象</span>
+     */
+    private record StreamResponseInfo(HttpResponse<?> httpResponse) implements HttpResponse.ResponseInfo {
+        @Override
+        public int statusCode() {
+            return this.httpResponse.statusCode();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return this.httpResponse.headers();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return this.httpResponse.version();
+        }
+    }
 }
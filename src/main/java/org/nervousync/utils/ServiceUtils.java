@@ -35,13 +35,18 @@ import org.nervousync.exceptions.beans.network.NetworkInfoException;
 import org.nervousync.exceptions.services.ServiceException;
 
 import javax.xml.namespace.QName;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Cleaner;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Service utilities</h2>
@@ -66,6 +71,31 @@ public final class ServiceUtils {
 	 * <span class="zh-CN">多语言支持的日志对象</span>
 	 */
 	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ServiceUtils.class);
+	/**
+	 * <span class="en-US">Cleaner for closing the client built by given client builder when the proxy was unreachable</span>
+	 * <span class="zh-CN">用于在代理不可达时关闭由给定客户端构建器构建的客户端的清理器</span>
+	 */
+	private static final Cleaner CLIENT_CLEANER = Cleaner.create();
+	/**
+	 * <span class="en-US">Maximum count of cached service models and SOAP port pools</span>
+	 * <span class="zh-CN">缓存的服务模型和SOAP端口池的最大数量</span>
+	 */
+	private static final int CACHE_LIMIT = 64;
+	/**
+	 * <span class="en-US">Registered local WSDL snapshots, mapping remote WSDL location to snapshot URL</span>
+	 * <span class="zh-CN">已注册的本地WSDL快照，映射远程WSDL地址到快照地址</span>
+	 */
+	private static final Map<String, URL> REGISTERED_SNAPSHOTS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Cached service models</span>
+	 * <span class="zh-CN">缓存的服务模型</span>
+	 */
+	private static final Map<ServiceKey, Service> REGISTERED_SERVICES = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">SOAP port pools, the ports in pool were confined to the thread which created them</span>
+	 * <span class="zh-CN">SOAP端口池，池中的端口仅限创建它们的线程使用</span>
+	 */
+	private static final Map<PortKey, PortPool> REGISTERED_PORTS = new ConcurrentHashMap<>();
 
 	/**
 	 * <h3 class="en-US">Private constructor for ServiceUtils</h3>
@@ -139,7 +169,20 @@ public final class ServiceUtils {
 
 	/**
 	 * <h3 class="en-US">Generate SOAP Client instance</h3>
+	 * <span class="en-US">
+	 *     Service model was cached by WSDL location and service name, the generated port was confined to current thread
+	 *     and reused by the following invocations with the same configure information.
+	 *     The request context of reused port was reset to the state when the port was created,
+	 *     so the modifications of previous caller were not leaked to the following invocations.
+	 *     When the port pools reached the cache limit, the pools without living thread were removed first,
+	 *     otherwise the least recently used pool was removed.
+	 * </span>
 	 * <h3 class="zh-CN">生成SOAP请求客户端</h3>
+	 * <span class="zh-CN">
+	 *     服务模型根据WSDL地址和服务名称缓存，生成的端口仅限当前线程使用，并在使用相同配置信息的后续调用中复用。
+	 *     复用的端口的请求上下文会被重置为端口创建时的状态，之前调用者的修改不会影响后续调用。
+	 *     端口池数量达到缓存上限时，优先移除没有存活线程的端口池，否则移除最近最少使用的端口池。
+	 * </span>
 	 *
 	 * @param <T>              <span class="en-US">End point interface</span>
 	 *                         <span class="zh-CN">Web服务的接口</span>
@@ -185,18 +228,155 @@ public final class ServiceUtils {
 			serviceName = serviceInterface.getSimpleName() + "Service";
 		}
 
-		Service service = Service.create(wsdlLocation, new QName(namespaceURI, serviceName));
-		if (handlerResolver != null) {
-			service.setHandlerResolver(handlerResolver);
+		QName serviceQName = new QName(namespaceURI, serviceName);
+		ServiceKey serviceKey = new ServiceKey(wsdlLocation.toString(), serviceQName, handlerResolver);
+		PortKey portKey = new PortKey(serviceKey, serviceInterface,
+				(configMap == null) ? Map.of() : Collections.unmodifiableMap(new HashMap<>(configMap)));
+		PortPool portPool = portPool(portKey);
+		PortHolder portHolder = portPool.retrieve();
+		if (portHolder != null) {
+			Map<String, Object> requestContext = ((BindingProvider) portHolder.port()).getRequestContext();
+			requestContext.clear();
+			requestContext.putAll(portHolder.requestContext());
+			return serviceInterface.cast(portHolder.port());
+		}
+		Service service = REGISTERED_SERVICES.get(serviceKey);
+		if (service == null) {
+			service = createService(serviceKey);
+			Service existsService = REGISTERED_SERVICES.putIfAbsent(serviceKey, service);
+			if (existsService != null) {
+				service = existsService;
+			}
 		}
+		T createdPort;
+		synchronized (service) {
+			createdPort = service.getPort(serviceQName, serviceInterface);
+		}
+		Map<String, Object> requestContext = ((BindingProvider) createdPort).getRequestContext();
+		requestContext.putAll(portKey.configMap());
+		portPool.register(new PortHolder(createdPort, Collections.unmodifiableMap(new HashMap<>(requestContext))));
+		return createdPort;
+	}
 
-		T port = service.getPort(new QName(namespaceURI, serviceName), serviceInterface);
+	/**
+	 * <h3 class="en-US">Retrieve SOAP port pool by given port key</h3>
+	 * <span class="en-US">
+	 *     If the port pools reached the cache limit, remove the pools without living thread,
+	 *     and remove the least recently used pool if no pool was removed.
+	 * </span>
+	 * <h3 class="zh-CN">根据给定的端口键值获取SOAP端口池</h3>
+	 * <span class="zh-CN">如果端口池数量达到缓存上限，移除没有存活线程的端口池，如果没有端口池被移除则移除最近最少使用的端口池。</span>
+	 *
+	 * @param portKey <span class="en-US">Cache key of SOAP port pool</span>
+	 *                <span class="zh-CN">SOAP端口池的缓存键值</span>
+	 * @return <span class="en-US">Registered SOAP port pool</span>
+	 * <span class="zh-CN">已注册的SOAP端口池</span>
+	 */
+	private static PortPool portPool(final PortKey portKey) {
+		PortPool portPool = REGISTERED_PORTS.get(portKey);
+		if (portPool != null) {
+			return portPool;
+		}
+		if (REGISTERED_PORTS.size() >= CACHE_LIMIT) {
+			REGISTERED_PORTS.values().removeIf(PortPool::isEmpty);
+		}
+		if (REGISTERED_PORTS.size() >= CACHE_LIMIT) {
+			REGISTERED_PORTS.entrySet()
+					.stream()
+					.min(Comparator.comparingLong(entry -> entry.getValue().lastAccess()))
+					.ifPresent(entry -> REGISTERED_PORTS.remove(entry.getKey(), entry.getValue()));
+		}
+		return REGISTERED_PORTS.computeIfAbsent(portKey, key -> new PortPool());
+	}
 
-		if (configMap != null) {
-			configMap.forEach((key, value) -> ((BindingProvider) port).getRequestContext().put(key, value));
+	/**
+	 * <h3 class="en-US">Register local snapshot of WSDL document</h3>
+	 * <span class="en-US">
+	 *     If the snapshot file does not exist, the WSDL document will be downloaded from given web service location
+	 *     and save to snapshot location. Service model of the WSDL was parsed from local snapshot after registered.
+	 *     The snapshot location could be a "classpath:" pseudo URL for WSDL document shipped with application.
+	 * </span>
+	 * <h3 class="zh-CN">注册WSDL文档的本地快照</h3>
+	 * <span class="zh-CN">
+	 *     如果快照文件不存在，将从给定的Web服务地址下载WSDL文档并保存到快照地址。注册后将从本地快照解析WSDL的服务模型。
+	 *     快照地址可以使用"classpath:"伪地址以使用应用程序附带的WSDL文档。
+	 * </span>
+	 *
+	 * @param serviceLocation  <span class="en-US">Web service location</span>
+	 *                         <span class="zh-CN">Web服务地址</span>
+	 * @param serviceInterface <span class="en-US">End point interface</span>
+	 *                         <span class="zh-CN">Web服务的接口</span>
+	 * @param snapshotLocation <span class="en-US">Local snapshot location</span>
+	 *                         <span class="zh-CN">本地快照地址</span>
+	 * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
+	 * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
+	 */
+	public static boolean registerSnapshot(final String serviceLocation, final Class<?> serviceInterface,
+	                                       final String snapshotLocation) {
+		if (StringUtils.isEmpty(serviceLocation) || StringUtils.isEmpty(snapshotLocation)
+				|| !serviceInterface.isAnnotationPresent(WebServiceClient.class)) {
+			return Boolean.FALSE;
+		}
+		try {
+			URL wsdlLocation = new URL(serviceLocation + Globals.DEFAULT_RESOURCE_SEPARATOR
+					+ serviceInterface.getAnnotation(WebServiceClient.class).wsdlLocation());
+			if (!snapshotLocation.startsWith(FileUtils.CLASSPATH_URL_PREFIX) && !FileUtils.isExists(snapshotLocation)) {
+				try (InputStream inputStream = wsdlLocation.openStream()) {
+					if (!FileUtils.saveFile(inputStream, snapshotLocation)) {
+						return Boolean.FALSE;
+					}
+				}
+			}
+			REGISTERED_SNAPSHOTS.put(wsdlLocation.toString(), FileUtils.getURL(snapshotLocation));
+			REGISTERED_SERVICES.keySet().removeIf(serviceKey -> serviceKey.wsdlLocation().equals(wsdlLocation.toString()));
+			REGISTERED_PORTS.keySet().removeIf(portKey ->
+					portKey.serviceKey().wsdlLocation().equals(wsdlLocation.toString()));
+			return Boolean.TRUE;
+		} catch (IOException e) {
+			LOGGER.error("Register_Snapshot_Service_Error", serviceLocation);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return Boolean.FALSE;
 		}
+	}
 
-		return service.getPort(new QName(namespaceURI, serviceName), serviceInterface);
+	/**
+	 * <h3 class="en-US">Clear cached service models, SOAP ports and registered WSDL snapshots</h3>
+	 * <h3 class="zh-CN">清除缓存的服务模型、SOAP端口和已注册的WSDL快照</h3>
+	 */
+	public static void clearSOAPCache() {
+		REGISTERED_PORTS.clear();
+		REGISTERED_SERVICES.clear();
+		REGISTERED_SNAPSHOTS.clear();
+	}
+
+	/**
+	 * <h3 class="en-US">Create service instance by given service key</h3>
+	 * <span class="en-US">Parse the registered local snapshot instead of remote WSDL document if exists</span>
+	 * <h3 class="zh-CN">根据给定的服务键值创建服务实例对象</h3>
+	 * <span class="zh-CN">如果存在已注册的本地快照，则解析本地快照而不是远程WSDL文档</span>
+	 *
+	 * @param serviceKey <span class="en-US">Service key</span>
+	 *                   <span class="zh-CN">服务键值</span>
+	 * @return <span class="en-US">Created service instance</span>
+	 * <span class="zh-CN">创建的服务实例对象</span>
+	 * @throws MalformedURLException <span class="en-US">if WSDL location is invalid</span>
+	 *                               <span class="zh-CN">如果WSDL地址无效</span>
+	 */
+	private static Service createService(final ServiceKey serviceKey) throws MalformedURLException {
+		URL wsdlLocation = REGISTERED_SNAPSHOTS.get(serviceKey.wsdlLocation());
+		if (wsdlLocation == null) {
+			wsdlLocation = new URL(serviceKey.wsdlLocation());
+		}
+		if (REGISTERED_SERVICES.size() >= CACHE_LIMIT) {
+			REGISTERED_SERVICES.clear();
+		}
+		Service service = Service.create(wsdlLocation, serviceKey.serviceName());
+		if (serviceKey.handlerResolver() != null) {
+			service.setHandlerResolver(serviceKey.handlerResolver());
+		}
+		return service;
 	}
 
 	/**
@@ -292,7 +472,7 @@ public final class ServiceUtils {
 		if (serviceInterface.isAnnotationPresent(Path.class)) {
 			servicePath += serviceInterface.getAnnotation(Path.class).value();
 		}
-		return ObjectUtils.newInstance(serviceInterface, new RestfulInterceptor(servicePath, clientBuilder, headerMap));
+		return ObjectUtils.newInstance(serviceInterface, new RestfulInterceptor(servicePath, clientBuilder, serviceInterface, headerMap));
 	}
 
 	/**
@@ -312,39 +492,111 @@ public final class ServiceUtils {
 		return newValues;
 	}
 
+	/**
+	 * <h3 class="en-US">Convert parameter value to string</h3>
+	 * <span class="en-US">Convert by the adapter of data transfer configure, or use the string value if no adapter configured</span>
+	 * <h3 class="zh-CN">转换参数值为字符串</h3>
+	 * <span class="zh-CN">使用数据转换配置的转换器进行转换，如果未配置转换器则使用字符串值</span>
+	 *
+	 * @param transferConfig <span class="en-US">Data transfer configure</span>
+	 *                       <span class="zh-CN">数据转换配置信息</span>
+	 * @param paramValue     <span class="en-US">Parameter value</span>
+	 *                       <span class="zh-CN">参数值</span>
+	 * @return <span class="en-US">Converted string or <code>null</code> if parameter value is null</span>
+	 * <span class="zh-CN">转换后的字符串，如果参数值为空则返回<code>null</code></span>
+	 */
+	private static String marshal(final TransferConfig transferConfig, final Object paramValue) {
+		if (paramValue == null) {
+			return null;
+		}
+		return Optional.ofNullable(transferConfig.marshal(paramValue)).orElseGet(paramValue::toString);
+	}
+
+	/**
+	 * <h2 class="en-US">Holder of shared client instance for proxies without client builder</h2>
+	 * <span class="en-US">The client was created when first used, and closed when system shutdown</span>
+	 * <h2 class="zh-CN">未指定客户端构建器的代理共享的客户端实例对象持有类</h2>
+	 * <span class="zh-CN">客户端在首次使用时创建，在系统退出时关闭</span>
+	 */
+	private static final class DefaultClientHolder {
+		/**
+		 * <span class="en-US">Shared client instance</span>
+		 * <span class="zh-CN">共享的客户端实例对象</span>
+		 */
+		private static final Client CLIENT = ClientBuilder.newClient();
+
+		static {
+			Runtime.getRuntime().addShutdownHook(new Thread(CLIENT::close));
+		}
+	}
+
 	/**
 	 * <h2 class="en-US">Restful service interceptor invocation handler</h2>
+	 * <span class="en-US">
+	 *     The invocation plans of interface methods were compiled when the proxy was created,
+	 *     the client instance was reused by all invocations and the request headers were copied for each invocation.
+	 *     The client built by given client builder was closed when the proxy was unreachable.
+	 * </span>
 	 * <h2 class="zh-CN">Restful服务拦截器调用处理程序</h2>
+	 * <span class="zh-CN">
+	 *     接口方法的调用计划在创建代理时编译，所有调用复用客户端实例，每次调用复制请求头信息。
+	 *     由给定客户端构建器构建的客户端在代理不可达时关闭。
+	 * </span>
 	 *
-	 * @param requestPath   <span class="en-US">Request path</span>
-	 *                      <span class="zh-CN">请求地址</span>
-	 * @param clientBuilder <span class="en-US">Client builder instance object</span>
-	 *                      <span class="zh-CN">客户端构建器</span>
-	 * @param headerMap     <span class="en-US">Request header information map</span>
-	 *                      <span class="zh-CN">请求头部信息映射</span>
 	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
-	 * @version $Revision: 1.0.0 $ $Date: Jan 13, 2020 16:28:15 $
+	 * @version $Revision: 1.1.0 $ $Date: Jan 13, 2020 16:28:15 $
 	 */
-	private record RestfulInterceptor(String requestPath, ClientBuilder clientBuilder, Map<String, String> headerMap)
-			implements InvocationHandler {
+	private static final class RestfulInterceptor implements InvocationHandler {
+		/**
+		 * <span class="en-US">Request path</span>
+		 * <span class="zh-CN">请求地址</span>
+		 */
+		private final String requestPath;
+		/**
+		 * <span class="en-US">Client instance</span>
+		 * <span class="zh-CN">客户端实例对象</span>
+		 */
+		private final Client client;
+		/**
+		 * <span class="en-US">Request header information map</span>
+		 * <span class="zh-CN">请求头部信息映射</span>
+		 */
+		private final Map<String, String> headerMap;
+		/**
+		 * <span class="en-US">Compiled invocation plans of interface methods</span>
+		 * <span class="zh-CN">已编译的接口方法调用计划</span>
+		 */
+		private final Map<Method, InvocationPlan> invocationPlans = new ConcurrentHashMap<>();
+
 		/**
 		 * <h3 class="en-US">Constructor for RestfulInterceptor</h3>
 		 * <h3 class="zh-CN">Restful服务拦截器的构造方法</h3>
 		 *
-		 * @param requestPath   <span class="en-US">Request path</span>
-		 *                      <span class="zh-CN">请求地址</span>
-		 * @param clientBuilder <span class="en-US">Client builder instance object</span>
-		 *                      <span class="zh-CN">客户端构建器</span>
-		 * @param headerMap     <span class="en-US">Request header information map</span>
-		 *                      <span class="zh-CN">请求头部信息映射</span>
+		 * @param requestPath      <span class="en-US">Request path</span>
+		 *                         <span class="zh-CN">请求地址</span>
+		 * @param clientBuilder    <span class="en-US">Client builder instance object</span>
+		 *                         <span class="zh-CN">客户端构建器</span>
+		 * @param serviceInterface <span class="en-US">End point interface</span>
+		 *                         <span class="zh-CN">Web服务的接口</span>
+		 * @param headerMap        <span class="en-US">Request header information map</span>
+		 *                         <span class="zh-CN">请求头部信息映射</span>
 		 */
 		RestfulInterceptor(final String requestPath, final ClientBuilder clientBuilder,
-		                   final Map<String, String> headerMap) {
+		                   final Class<?> serviceInterface, final Map<String, String> headerMap) {
 			this.requestPath = requestPath;
-			this.clientBuilder = (clientBuilder == null) ? ClientBuilder.newBuilder() : clientBuilder;
-			this.headerMap = new HashMap<>();
-			if (headerMap != null) {
-				this.headerMap.putAll(headerMap);
+			if (clientBuilder == null) {
+				this.client = DefaultClientHolder.CLIENT;
+			} else {
+				this.client = clientBuilder.build();
+				CLIENT_CLEANER.register(this, this.client::close);
+			}
+			this.headerMap = (headerMap == null) ? Map.of() : Map.copyOf(headerMap);
+			for (Method method : serviceInterface.getMethods()) {
+				try {
+					this.invocationPlans.put(method, this.compile(method));
+				} catch (NetworkInfoException ignored) {
+					// Methods which can not be compiled will throw the exception when invoked
+				}
 			}
 		}
 
@@ -363,186 +615,206 @@ public final class ServiceUtils {
 		}
 
 		/**
-		 * (Non-Javadoc)
+		 * <h3 class="en-US">Compile invocation plan of given method</h3>
+		 * <h3 class="zh-CN">编译给定方法的调用计划</h3>
 		 *
-		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 * @param method <span class="en-US">Interface method instance</span>
+		 *               <span class="zh-CN">接口方法实例对象</span>
+		 * @return <span class="en-US">Compiled invocation plan</span>
+		 * <span class="zh-CN">编译的调用计划</span>
+		 * @throws NetworkInfoException <span class="en-US">If the HTTP method or request path of method is unknown</span>
+		 *                              <span class="zh-CN">如果方法的HTTP请求方法或请求路径未知</span>
 		 */
-		@Override
-		public Object invoke(final Object o, final Method method, final Object[] objects) throws Throwable {
+		private InvocationPlan compile(final Method method) throws NetworkInfoException {
 			HttpMethodOption methodOption = RequestUtils.httpMethodOption(method);
 			if (HttpMethodOption.UNKNOWN.equals(methodOption)) {
 				throw new NetworkInfoException(0x0000001A0003L, "Unknown_Http_Method");
 			}
 			String servicePath = this.servicePath(method);
+			String[] consumeTypes = method.isAnnotationPresent(Consumes.class)
+					? method.getAnnotation(Consumes.class).value()
+					: new String[0];
+			String[] acceptTypes = method.isAnnotationPresent(Produces.class)
+					? method.getAnnotation(Produces.class).value()
+					: new String[]{"*/*"};
 
+			List<ParameterPlan> parameterPlans = new ArrayList<>();
 			Annotation[][] annotations = method.getParameterAnnotations();
-			Class<?>[] parameterClasses = method.getParameterTypes();
+			for (int i = 0; i < annotations.length; i++) {
+				DataTransfer dataTransfer = null;
+				boolean beanParam = Boolean.FALSE;
+				Map<ParameterType, String> parameterNames = new EnumMap<>(ParameterType.class);
+				for (Annotation annotation : annotations[i]) {
+					if (annotation instanceof DataTransfer transfer) {
+						dataTransfer = transfer;
+					} else if (annotation instanceof BeanParam) {
+						beanParam = Boolean.TRUE;
+					} else if (annotation instanceof MatrixParam matrixParam) {
+						parameterNames.put(ParameterType.MATRIX, matrixParam.value());
+					} else if (annotation instanceof QueryParam queryParam) {
+						parameterNames.put(ParameterType.QUERY, queryParam.value());
+					} else if (annotation instanceof FormParam formParam) {
+						parameterNames.put(ParameterType.FORM, formParam.value());
+					} else if (annotation instanceof PathParam pathParam) {
+						parameterNames.put(ParameterType.PATH, pathParam.value());
+					} else if (annotation instanceof HeaderParam headerParam) {
+						parameterNames.put(ParameterType.HEADER, headerParam.value());
+					}
+				}
+				TransferConfig transferConfig = new TransferConfig(dataTransfer);
+				if (beanParam) {
+					parameterPlans.add(new ParameterPlan(i, ParameterType.BEAN, null, transferConfig));
+				} else if (parameterNames.containsKey(ParameterType.MATRIX)) {
+					parameterPlans.add(new ParameterPlan(i, ParameterType.MATRIX,
+							parameterNames.get(ParameterType.MATRIX), transferConfig));
+				} else {
+					int index = i;
+					parameterNames.forEach((parameterType, paramName) -> {
+						if (StringUtils.notBlank(paramName)) {
+							parameterPlans.add(new ParameterPlan(index, parameterType, paramName, transferConfig));
+						}
+					});
+				}
+			}
+			return new InvocationPlan(methodOption, servicePath, consumeTypes, acceptTypes,
+					annotations.length, List.copyOf(parameterPlans));
+		}
 
-			if (objects.length != parameterClasses.length) {
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(final Object o, final Method method, final Object[] objects) throws Throwable {
+			InvocationPlan invocationPlan = this.invocationPlans.get(method);
+			if (invocationPlan == null) {
+				invocationPlan = this.compile(method);
+				this.invocationPlans.put(method, invocationPlan);
+			}
+			Object[] arguments = (objects == null) ? new Object[0] : objects;
+			if (arguments.length != invocationPlan.parameterCount()) {
 				throw new Exception("Mismatch arguments");
 			}
 
+			String servicePath = invocationPlan.servicePath();
+			Map<String, String> headers = new HashMap<>(this.headerMap);
 			Map<String, String> formParameters = new HashMap<>();
 			Map<String, String> queryParameters = new HashMap<>();
 			Map<String, String[]> matrixParameters = new HashMap<>();
 
-			String[] mediaTypes = method.isAnnotationPresent(Consumes.class)
-					? method.getAnnotation(Consumes.class).value()
-					: new String[0];
-
-			for (int i = 0; i < objects.length; i++) {
-				Object paramObj = objects[i];
+			for (ParameterPlan parameterPlan : invocationPlan.parameterPlans()) {
+				Object paramObj = arguments[parameterPlan.index()];
 				if (paramObj == null) {
 					continue;
 				}
-				TransferConfig transferConfig =
-						Arrays.stream(annotations[i])
-								.filter(annotation -> annotation.annotationType().equals(DataTransfer.class))
-								.findFirst()
-								.map(annotation -> new TransferConfig((DataTransfer) annotation))
-								.orElse(new TransferConfig(null));
-				if (Arrays.stream(annotations[i])
-						.anyMatch(annotation -> annotation.annotationType().equals(BeanParam.class))) {
-					BeanParameter beanParameter = new BeanParameter(paramObj, mediaTypes, transferConfig);
-					this.headerMap.putAll(beanParameter.getHeaders());
-					for (Map.Entry<String, String> entry : beanParameter.getPaths().entrySet()) {
-						if (StringUtils.isEmpty(entry.getKey()) || entry.getValue() == null) {
-							throw new ServiceException(0x0000000F0001L);
-						}
-						String pathKey = "{" + entry.getKey() + "}";
-						if (servicePath.indexOf(pathKey) > 0) {
-							servicePath = StringUtils.replace(servicePath, pathKey,
-									URLEncoder.encode(entry.getValue(), Globals.DEFAULT_ENCODING));
-						}
-					}
-					formParameters.putAll(beanParameter.getFormParameters());
-					queryParameters.putAll(beanParameter.getQueryParameters());
-					matrixParameters.putAll(beanParameter.getMatrixParameters());
-				} else if (Arrays.stream(annotations[i])
-						.anyMatch(annotation -> annotation.annotationType().equals(MatrixParam.class))) {
-					Arrays.stream(annotations[i])
-							.filter(annotation -> annotation.annotationType().equals(MatrixParam.class))
-							.findFirst()
-							.map(annotation -> ((MatrixParam) annotation).value())
-							.ifPresent(paramName -> {
-								if (paramObj.getClass().isArray()) {
-									Arrays.asList((Object[]) paramObj).forEach(itemValue -> {
-										String paramValue = transferConfig.marshal(itemValue);
-										matrixParameters.put(paramName,
-												appendValue(matrixParameters.getOrDefault(paramName, new String[0]),
-														paramValue));
-									});
-								} else if (List.class.isAssignableFrom(paramObj.getClass())) {
-									((List<?>) paramObj).forEach(itemValue -> {
-										String paramValue = transferConfig.marshal(itemValue);
-										matrixParameters.put(paramName,
-												appendValue(matrixParameters.getOrDefault(paramName, new String[0]),
-														paramValue));
-									});
-								} else {
-									String paramValue = transferConfig.marshal(paramObj);
-									matrixParameters.put(paramName,
-											appendValue(matrixParameters.getOrDefault(paramName, new String[0]),
-													paramValue));
-								}
-							});
-				} else {
-					String paramValue = transferConfig.marshal(paramObj);
-					if (Arrays.stream(annotations[i])
-							.anyMatch(annotation -> annotation.annotationType().equals(QueryParam.class))) {
-						String paramName =
-								Arrays.stream(annotations[i]).filter(annotation ->
-												annotation.annotationType().equals(QueryParam.class))
-										.findFirst()
-										.map(annotation -> ((QueryParam) annotation).value())
-										.orElse(Globals.DEFAULT_VALUE_STRING);
-						if (StringUtils.notBlank(paramName)) {
-							queryParameters.put(paramName, paramValue);
+				TransferConfig transferConfig = parameterPlan.transferConfig();
+				String paramName = parameterPlan.paramName();
+				switch (parameterPlan.parameterType()) {
+					case BEAN -> {
+						BeanParameter beanParameter =
+								new BeanParameter(paramObj, invocationPlan.consumeTypes(), transferConfig);
+						headers.putAll(beanParameter.getHeaders());
+						for (Map.Entry<String, String> entry : beanParameter.getPaths().entrySet()) {
+							if (StringUtils.isEmpty(entry.getKey()) || entry.getValue() == null) {
+								throw new ServiceException(0x0000000F0001L);
+							}
+							servicePath = replacePath(servicePath, entry.getKey(), entry.getValue());
 						}
+						formParameters.putAll(beanParameter.getFormParameters());
+						queryParameters.putAll(beanParameter.getQueryParameters());
+						matrixParameters.putAll(beanParameter.getMatrixParameters());
 					}
-
-					if (Arrays.stream(annotations[i])
-							.anyMatch(annotation -> annotation.annotationType().equals(FormParam.class))) {
-						String paramName =
-								Arrays.stream(annotations[i]).filter(annotation ->
-												annotation.annotationType().equals(FormParam.class))
-										.findFirst()
-										.map(annotation -> ((FormParam) annotation).value())
-										.orElse(Globals.DEFAULT_VALUE_STRING);
-						if (StringUtils.notBlank(paramName)) {
-							queryParameters.put(paramName, paramValue);
+					case MATRIX -> {
+						List<?> itemValues;
+						if (paramObj.getClass().isArray()) {
+							itemValues = Arrays.asList((Object[]) paramObj);
+						} else if (paramObj instanceof List<?> listValue) {
+							itemValues = listValue;
+						} else {
+							itemValues = List.of(paramObj);
 						}
-					}
-
-					if (Arrays.stream(annotations[i])
-							.anyMatch(annotation -> annotation.annotationType().equals(PathParam.class))) {
-						String paramName =
-								Arrays.stream(annotations[i]).filter(annotation ->
-												annotation.annotationType().equals(PathParam.class))
-										.findFirst()
-										.map(annotation -> ((PathParam) annotation).value())
-										.orElse(Globals.DEFAULT_VALUE_STRING);
-						if (StringUtils.notBlank(paramName)) {
-							if (StringUtils.isEmpty(paramValue)) {
-								throw new ServiceException(0x0000000F0001L);
-							}
-							String pathKey = "{" + paramName + "}";
-							if (servicePath.indexOf(pathKey) > 0) {
-								servicePath = StringUtils.replace(servicePath, pathKey,
-										URLEncoder.encode(paramValue, Globals.DEFAULT_ENCODING));
-							}
+						for (Object itemValue : itemValues) {
+							matrixParameters.put(paramName,
+									appendValue(matrixParameters.getOrDefault(paramName, new String[0]),
+											marshal(transferConfig, itemValue)));
 						}
 					}
-
-					if (Arrays.stream(annotations[i])
-							.anyMatch(annotation -> annotation.annotationType().equals(HeaderParam.class))) {
-						String paramName =
-								Arrays.stream(annotations[i]).filter(annotation ->
-												annotation.annotationType().equals(HeaderParam.class))
-										.findFirst()
-										.map(annotation -> ((HeaderParam) annotation).value())
-										.orElse(Globals.DEFAULT_VALUE_STRING);
-						if (StringUtils.notBlank(paramName)) {
-							this.headerMap.put(paramName, paramValue);
+					case QUERY -> queryParameters.put(paramName, marshal(transferConfig, paramObj));
+					case FORM -> formParameters.put(paramName, marshal(transferConfig, paramObj));
+					case PATH -> {
+						String paramValue = marshal(transferConfig, paramObj);
+						if (StringUtils.isEmpty(paramValue)) {
+							throw new ServiceException(0x0000000F0001L);
 						}
+						servicePath = replacePath(servicePath, paramName, paramValue);
 					}
+					case HEADER -> headers.put(paramName, marshal(transferConfig, paramObj));
 				}
 			}
 
 			Form form = null;
-			if (HttpMethodOption.POST.equals(methodOption)
-					|| HttpMethodOption.PUT.equals(methodOption)
-					|| HttpMethodOption.PATCH.equals(methodOption)) {
+			if (HttpMethodOption.POST.equals(invocationPlan.methodOption())
+					|| HttpMethodOption.PUT.equals(invocationPlan.methodOption())
+					|| HttpMethodOption.PATCH.equals(invocationPlan.methodOption())) {
 				form = new Form();
-				formParameters.forEach(form::param);
+				for (Map.Entry<String, String> entry : formParameters.entrySet()) {
+					if (entry.getValue() != null) {
+						form.param(entry.getKey(), entry.getValue());
+					}
+				}
 			}
 
-			try (Client client = this.clientBuilder.build()) {
-				WebTarget webTarget = client.target(servicePath);
-				queryParameters.forEach(webTarget::queryParam);
-				matrixParameters.forEach(webTarget::matrixParam);
-				String[] acceptTypes = method.isAnnotationPresent(Produces.class)
-						? method.getAnnotation(Produces.class).value()
-						: new String[]{"*/*"};
-				if (LOGGER.isDebugEnabled()) {
-					LOGGER.debug("Accept data types: {}", String.join(",", acceptTypes));
-				}
-				Invocation.Builder builder = webTarget.request(acceptTypes);
-				if (method.isAnnotationPresent(Consumes.class)) {
-					builder.accept(method.getAnnotation(Consumes.class).value());
+			WebTarget webTarget = this.client.target(servicePath);
+			for (Map.Entry<String, String> entry : queryParameters.entrySet()) {
+				if (entry.getValue() != null) {
+					webTarget = webTarget.queryParam(entry.getKey(), entry.getValue());
 				}
-				this.headerMap.forEach(builder::header);
-				if (LOGGER.isDebugEnabled()) {
-					LOGGER.debug("Service request path: {}", servicePath);
-					LOGGER.debug("Request headers: {}",
-							StringUtils.objectToString(this.headerMap, StringUtils.StringType.JSON, Boolean.TRUE));
-					LOGGER.debug("Request parameters: {}",
-							StringUtils.objectToString(queryParameters, StringUtils.StringType.JSON, Boolean.TRUE));
-					LOGGER.debug("Request matrix parameters: {}",
-							StringUtils.objectToString(matrixParameters, StringUtils.StringType.JSON, Boolean.TRUE));
-				}
-				return this.execute(methodOption, builder, form, method);
 			}
+			for (Map.Entry<String, String[]> entry : matrixParameters.entrySet()) {
+				webTarget = webTarget.matrixParam(entry.getKey(), (Object[]) entry.getValue());
+			}
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Accept data types: {}", String.join(",", invocationPlan.acceptTypes()));
+			}
+			Invocation.Builder builder = webTarget.request(invocationPlan.acceptTypes());
+			if (invocationPlan.consumeTypes().length > 0) {
+				builder.accept(invocationPlan.consumeTypes());
+			}
+			headers.forEach(builder::header);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Service request path: {}", servicePath);
+				LOGGER.debug("Request headers: {}",
+						StringUtils.objectToString(headers, StringUtils.StringType.JSON, Boolean.TRUE));
+				LOGGER.debug("Request parameters: {}",
+						StringUtils.objectToString(queryParameters, StringUtils.StringType.JSON, Boolean.TRUE));
+				LOGGER.debug("Request matrix parameters: {}",
+						StringUtils.objectToString(matrixParameters, StringUtils.StringType.JSON, Boolean.TRUE));
+			}
+			return this.execute(invocationPlan.methodOption(), builder, form, method);
+		}
+
+		/**
+		 * <h3 class="en-US">Replace path parameter in service path</h3>
+		 * <h3 class="zh-CN">替换服务地址中的路径参数</h3>
+		 *
+		 * @param servicePath <span class="en-US">Service path</span>
+		 *                    <span class="zh-CN">服务地址</span>
+		 * @param paramName   <span class="en-US">Path parameter name</span>
+		 *                    <span class="zh-CN">路径参数名</span>
+		 * @param paramValue  <span class="en-US">Path parameter value</span>
+		 *                    <span class="zh-CN">路径参数值</span>
+		 * @return <span class="en-US">Replaced service path</span>
+		 * <span class="zh-CN">替换后的服务地址</span>
+		 */
+		private static String replacePath(final String servicePath, final String paramName,
+		                                  final String paramValue) {
+			String pathKey = "{" + paramName + "}";
+			if (servicePath.indexOf(pathKey) > 0) {
+				return StringUtils.replace(servicePath, pathKey,
+						URLEncoder.encode(paramValue, StandardCharsets.UTF_8));
+			}
+			return servicePath;
 		}
 
 		/**
@@ -683,6 +955,159 @@ public final class ServiceUtils {
 		}
 	}
 
+	/**
+	 * <h2 class="en-US">Cache key of service model</h2>
+	 * <h2 class="zh-CN">服务模型的缓存键值</h2>
+	 *
+	 * @param wsdlLocation    <span class="en-US">WSDL location</span>
+	 *                        <span class="zh-CN">WSDL地址</span>
+	 * @param serviceName     <span class="en-US">Qualified service name</span>
+	 *                        <span class="zh-CN">服务的限定名称</span>
+	 * @param handlerResolver <span class="en-US">Custom handler resolver instance</span>
+	 *                        <span class="zh-CN">自定义的处理器实例对象</span>
+	 */
+	private record ServiceKey(String wsdlLocation, QName serviceName, HandlerResolver handlerResolver) {
+	}
+
+	/**
+	 * <h2 class="en-US">Cache key of SOAP port pool</h2>
+	 * <h2 class="zh-CN">SOAP端口池的缓存键值</h2>
+	 *
+	 * @param serviceKey       <span class="en-US">Cache key of service model</span>
+	 *                         <span class="zh-CN">服务模型的缓存键值</span>
+	 * @param serviceInterface <span class="en-US">End point interface</span>
+	 *                         <span class="zh-CN">Web服务的接口</span>
+	 * @param configMap        <span class="en-US">Request context configure information map</span>
+	 *                         <span class="zh-CN">请求上下文配置信息映射表</span>
+	 */
+	private record PortKey(ServiceKey serviceKey, Class<?> serviceInterface, Map<String, Object> configMap) {
+	}
+
+	/**
+	 * <h2 class="en-US">Cached SOAP port and its initial request context</h2>
+	 * <h2 class="zh-CN">缓存的SOAP端口及其初始请求上下文</h2>
+	 *
+	 * @param port           <span class="en-US">Generated port instance</span>
+	 *                       <span class="zh-CN">生成的端口实例对象</span>
+	 * @param requestContext <span class="en-US">Request context when the port was created</span>
+	 *                       <span class="zh-CN">端口创建时的请求上下文</span>
+	 */
+	private record PortHolder(Object port, Map<String, Object> requestContext) {
+	}
+
+	/**
+	 * <h2 class="en-US">SOAP port pool</h2>
+	 * <span class="en-US">
+	 *     The ports were mapped by the thread which created them, the thread was weak referenced,
+	 *     so the ports of terminated threads were released and no port was retained by the thread after pool removed.
+	 * </span>
+	 * <h2 class="zh-CN">SOAP端口池</h2>
+	 * <span class="zh-CN">端口根据创建它们的线程进行映射，线程为弱引用，已终止线程的端口会被释放，端口池被移除后线程不会持有任何端口。</span>
+	 */
+	private static final class PortPool {
+		/**
+		 * <span class="en-US">Cached ports, mapping creator thread to port</span>
+		 * <span class="zh-CN">缓存的端口，映射创建线程到端口</span>
+		 */
+		private final Map<Thread, PortHolder> threadPorts = Collections.synchronizedMap(new WeakHashMap<>());
+		/**
+		 * <span class="en-US">Last access time of current pool</span>
+		 * <span class="zh-CN">当前端口池的最后访问时间</span>
+		 */
+		private volatile long lastAccess = System.nanoTime();
+
+		/**
+		 * <h3 class="en-US">Retrieve the port of current thread</h3>
+		 * <h3 class="zh-CN">获取当前线程的端口</h3>
+		 *
+		 * @return <span class="en-US">Cached port or <code>null</code> if not exists</span>
+		 * <span class="zh-CN">缓存的端口，如果不存在则返回<code>null</code></span>
+		 */
+		PortHolder retrieve() {
+			this.lastAccess = System.nanoTime();
+			return this.threadPorts.get(Thread.currentThread());
+		}
+
+		/**
+		 * <h3 class="en-US">Register the port of current thread</h3>
+		 * <h3 class="zh-CN">注册当前线程的端口</h3>
+		 *
+		 * @param portHolder <span class="en-US">Generated port and its initial request context</span>
+		 *                   <span class="zh-CN">生成的端口及其初始请求上下文</span>
+		 */
+		void register(final PortHolder portHolder) {
+			this.threadPorts.put(Thread.currentThread(), portHolder);
+		}
+
+		/**
+		 * <h3 class="en-US">Check current pool has port of living thread</h3>
+		 * <h3 class="zh-CN">检查当前端口池是否包含存活线程的端口</h3>
+		 *
+		 * @return <span class="en-US"><code>Boolean.TRUE</code> if no port of living thread</span>
+		 * <span class="zh-CN">如果没有存活线程的端口返回<code>Boolean.TRUE</code></span>
+		 */
+		boolean isEmpty() {
+			return this.threadPorts.isEmpty();
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve last access time</h3>
+		 * <h3 class="zh-CN">获取最后访问时间</h3>
+		 *
+		 * @return <span class="en-US">Last access time</span>
+		 * <span class="zh-CN">最后访问时间</span>
+		 */
+		long lastAccess() {
+			return this.lastAccess;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Parameter type of Restful service method</h2>
+	 * <h2 class="zh-CN">Restful服务方法的参数类型</h2>
+	 */
+	private enum ParameterType {
+		BEAN, MATRIX, QUERY, FORM, PATH, HEADER
+	}
+
+	/**
+	 * <h2 class="en-US">Compiled invocation plan of Restful service method</h2>
+	 * <h2 class="zh-CN">Restful服务方法的已编译调用计划</h2>
+	 *
+	 * @param methodOption   <span class="en-US">HTTP method option Enumerations</span>
+	 *                       <span class="zh-CN">HTTP请求方法枚举</span>
+	 * @param servicePath    <span class="en-US">Service path template</span>
+	 *                       <span class="zh-CN">服务地址模板</span>
+	 * @param consumeTypes   <span class="en-US">Request media types array</span>
+	 *                       <span class="zh-CN">请求数据类型数组</span>
+	 * @param acceptTypes    <span class="en-US">Accept media types array</span>
+	 *                       <span class="zh-CN">接受的数据类型数组</span>
+	 * @param parameterCount <span class="en-US">Count of method parameters</span>
+	 *                       <span class="zh-CN">方法参数个数</span>
+	 * @param parameterPlans <span class="en-US">Parameter plan list</span>
+	 *                       <span class="zh-CN">参数计划列表</span>
+	 */
+	private record InvocationPlan(HttpMethodOption methodOption, String servicePath, String[] consumeTypes,
+	                              String[] acceptTypes, int parameterCount, List<ParameterPlan> parameterPlans) {
+	}
+
+	/**
+	 * <h2 class="en-US">Compiled plan of Restful service method parameter</h2>
+	 * <h2 class="zh-CN">Restful服务方法参数的已编译计划</h2>
+	 *
+	 * @param index          <span class="en-US">Parameter index</span>
+	 *                       <span class="zh-CN">参数索引</span>
+	 * @param parameterType  <span class="en-US">Parameter type</span>
+	 *                       <span class="zh-CN">参数类型</span>
+	 * @param paramName      <span class="en-US">Parameter name</span>
+	 *                       <span class="zh-CN">参数名</span>
+	 * @param transferConfig <span class="en-US">Data transfer configure</span>
+	 *                       <span class="zh-CN">数据转换配置信息</span>
+	 */
+	private record ParameterPlan(int index, ParameterType parameterType, String paramName,
+	                             TransferConfig transferConfig) {
+	}
+
 	/**
 	 * <h2 class="en-US">JavaBean parameter define</h2>
 	 * <h2 class="zh-CN">JavaBean参数定义</h2>
@@ -740,7 +1165,7 @@ public final class ServiceUtils {
 					this.headers.putAll(beanParameter.getHeaders());
 					this.paths.putAll(beanParameter.getPaths());
 				} else {
-					String stringValue = transferConfig.marshal(fieldValue);
+					String stringValue = marshal(transferConfig, fieldValue);
 					if (field.isAnnotationPresent(QueryParam.class)) {
 						this.queryParameters.put(field.getAnnotation(QueryParam.class).value(), stringValue);
 					} else if (field.isAnnotationPresent(FormParam.class)) {
@@ -752,7 +1177,7 @@ public final class ServiceUtils {
 					} else if (field.isAnnotationPresent(HeaderParam.class)) {
 						this.headers.put(field.getAnnotation(HeaderParam.class).value(), stringValue);
 					} else if (field.isAnnotationPresent(PathParam.class)) {
-						this.paths.put(field.getAnnotation(HeaderParam.class).value(), stringValue);
+						this.paths.put(field.getAnnotation(PathParam.class).value(), stringValue);
 					}
 				}
 			});
@@ -16,10 +16,12 @@
  */
 package org.nervousync.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
@@ -48,16 +50,13 @@ import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.XMLStreamWriter;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import java.io.*;
@@ -67,8 +66,17 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <h2 class="en-US">String utilities</h2>
@@ -102,6 +110,109 @@ import java.util.regex.Pattern;
  * @version $Revision: 1.2.0 $ $Date: Jan 13, 2010 15:53:41 $
  */
 public final class StringUtils {
+	/**
+	 * <span class="en-US">Maximum count of pooled marshaller/unmarshaller instances for each class</span>
+	 * <span class="zh-CN">每个类缓存的编组器/解组器实例对象的最大数量</span>
+	 */
+	private static final int POOL_LIMIT = 16;
+	/**
+	 * <span class="en-US">Maximum count of cached object readers and JAXB contexts</span>
+	 * <span class="zh-CN">缓存的对象读取器和JAXB上下文的最大数量</span>
+	 */
+	private static final int CACHE_LIMIT = 256;
+	/**
+	 * <span class="en-US">Shared object mapper instance for JSON data</span>
+	 * <span class="zh-CN">JSON数据共享的对象映射器实例对象</span>
+	 */
+	private static final ObjectMapper JSON_MAPPER =
+			new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+					.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	/**
+	 * <span class="en-US">Shared object mapper instance for YAML data</span>
+	 * <span class="zh-CN">YAML数据共享的对象映射器实例对象</span>
+	 */
+	private static final ObjectMapper YAML_MAPPER =
+			new ObjectMapper(new YAMLFactory().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER))
+					.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+					.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	/**
+	 * <span class="en-US">
+	 *     Registered object writer instances, key is string type and format output status,
+	 *     only JSON and YAML were supported, so at most four writers were cached
+	 * </span>
+	 * <span class="zh-CN">已注册的对象写入器实例对象，键值为字符串类型和格式化输出状态，仅支持JSON和YAML，因此最多缓存四个写入器</span>
+	 */
+	private static final Map<String, ObjectWriter> REGISTERED_WRITERS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Registered object reader instances, cleared when reached the cache limit</span>
+	 * <span class="zh-CN">已注册的对象读取器实例对象，达到缓存上限时清空</span>
+	 */
+	private static final Map<ReaderKey, ObjectReader> REGISTERED_READERS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">
+	 *     Registered JAXB context instances, cleared with pooled marshaller and unmarshaller instances
+	 *     when reached the cache limit
+	 * </span>
+	 * <span class="zh-CN">已注册的JAXB上下文实例对象，达到缓存上限时与缓存的编组器和解组器实例对象一同清空</span>
+	 */
+	private static final Map<Class<?>, JAXBContext> REGISTERED_CONTEXTS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Pooled marshaller instances</span>
+	 * <span class="zh-CN">缓存的编组器实例对象</span>
+	 */
+	private static final Map<Class<?>, Queue<Marshaller>> REGISTERED_MARSHALLERS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Pooled unmarshaller instances</span>
+	 * <span class="zh-CN">缓存的解组器实例对象</span>
+	 */
+	private static final Map<Class<?>, Queue<Unmarshaller>> REGISTERED_UNMARSHALLERS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Shared XML output factory instance</span>
+	 * <span class="zh-CN">共享的XML输出工厂实例对象</span>
+	 */
+	private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+	/**
+	 * <span class="en-US">Shared XML input factory instance, DTD and external entities were disabled</span>
+	 * <span class="zh-CN">共享的XML输入工厂实例对象，已禁用DTD和外部实体</span>
+	 */
+	private static final XMLInputFactory XML_INPUT_FACTORY = secureInputFactory();
+	/**
+	 * <span class="en-US">Maximum count of cached compiled patterns</span>
+	 * <span class="zh-CN">缓存的正则表达式编译结果的最大数量</span>
+	 */
+	private static final int PATTERN_LIMIT = 512;
+	/**
+	 * <span class="en-US">Precompiled patterns defined in RegexGlobals</span>
+	 * <span class="zh-CN">RegexGlobals中定义的预编译正则表达式</span>
+	 */
+	private static final Map<String, Pattern> PRECOMPILED_PATTERNS = Map.ofEntries(
+			Map.entry(RegexGlobals.EMAIL_ADDRESS, RegexGlobals.EMAIL_ADDRESS_PATTERN),
+			Map.entry(RegexGlobals.BASE64, RegexGlobals.BASE64_PATTERN),
+			Map.entry(RegexGlobals.UUID, RegexGlobals.UUID_PATTERN),
+			Map.entry(RegexGlobals.MD5_VALUE, RegexGlobals.MD5_VALUE_PATTERN),
+			Map.entry(RegexGlobals.XML, RegexGlobals.XML_PATTERN),
+			Map.entry(RegexGlobals.LUHN, RegexGlobals.LUHN_PATTERN),
+			Map.entry(RegexGlobals.CHN_ID_Card, RegexGlobals.CHN_ID_Card_PATTERN),
+			Map.entry(RegexGlobals.CHN_Social_Credit, RegexGlobals.CHN_Social_Credit_PATTERN),
+			Map.entry(RegexGlobals.IPV4_REGEX, RegexGlobals.IPV4_PATTERN),
+			Map.entry(RegexGlobals.IPV6_REGEX, RegexGlobals.IPV6_PATTERN),
+			Map.entry(RegexGlobals.IPV6_COMPRESS_REGEX, RegexGlobals.IPV6_COMPRESS_PATTERN),
+			Map.entry(RegexGlobals.PHONE_NUMBER, RegexGlobals.PHONE_NUMBER_PATTERN));
+	/**
+	 * <span class="en-US">Cached compiled patterns</span>
+	 * <span class="zh-CN">缓存的正则表达式编译结果</span>
+	 */
+	private static final Map<String, Pattern> REGISTERED_PATTERNS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Hit count of compiled pattern cache</span>
+	 * <span class="zh-CN">正则表达式编译缓存的命中次数</span>
+	 */
+	private static final AtomicLong PATTERN_HIT_COUNT = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Miss count of compiled pattern cache</span>
+	 * <span class="zh-CN">正则表达式编译缓存的未命中次数</span>
+	 */
+	private static final AtomicLong PATTERN_MISS_COUNT = new AtomicLong(0L);
 	/**
 	 * <span class="en-US">Multilingual supported logger instance</span>
 	 * <span class="zh-CN">多语言支持的日志对象</span>
@@ -488,7 +599,7 @@ public final class StringUtils {
 	 */
 	@Deprecated
 	public static boolean isMD5(final String string) {
-		return StringUtils.notBlank(string) && StringUtils.matches(string.toLowerCase(), RegexGlobals.MD5_VALUE);
+		return StringUtils.notBlank(string) && RegexGlobals.MD5_VALUE_PATTERN.matcher(string.toLowerCase()).matches();
 	}
 
 	/**
@@ -501,7 +612,7 @@ public final class StringUtils {
 	 * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
 	 */
 	public static boolean isUUID(final String string) {
-		return StringUtils.notBlank(string) && StringUtils.matches(string.toLowerCase(), RegexGlobals.UUID);
+		return StringUtils.notBlank(string) && RegexGlobals.UUID_PATTERN.matcher(string.toLowerCase()).matches();
 	}
 
 	/**
@@ -514,7 +625,7 @@ public final class StringUtils {
 	 * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
 	 */
 	public static boolean isXML(final String string) {
-		return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.XML);
+		return StringUtils.notBlank(string) && RegexGlobals.XML_PATTERN.matcher(string).matches();
 	}
 
 	/**
@@ -568,7 +679,7 @@ public final class StringUtils {
 	 * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
 	 */
 	public static boolean isPhoneNumber(final String string) {
-		return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.PHONE_NUMBER);
+		return StringUtils.notBlank(string) && RegexGlobals.PHONE_NUMBER_PATTERN.matcher(string).matches();
 	}
 
 	/**
@@ -581,7 +692,7 @@ public final class StringUtils {
 	 * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
 	 */
 	public static boolean isEMail(final String string) {
-		return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.EMAIL_ADDRESS);
+		return StringUtils.notBlank(string) && RegexGlobals.EMAIL_ADDRESS_PATTERN.matcher(string).matches();
 	}
 
 	/**
@@ -2109,63 +2220,19 @@ public final class StringUtils {
 	 */
 	public static String objectToString(final Object object, final StringType stringType, final boolean formatOutput,
 	                                    final boolean outputFragment, final String encoding) {
-		ObjectMapper objectMapper;
 		switch (stringType) {
 			case XML:
-				StringWriter stringWriter = null;
-				try {
-					String characterEncoding = StringUtils.isEmpty(encoding) ? Globals.DEFAULT_ENCODING : encoding;
-					stringWriter = new StringWriter();
-					XMLStreamWriter xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(stringWriter);
-					CDataStreamWriter streamWriter = new CDataStreamWriter(xmlWriter);
-
-					JAXBContext jaxbContext = JAXBContext.newInstance(object.getClass());
-					Marshaller marshaller = jaxbContext.createMarshaller();
-					marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatOutput);
-					marshaller.setProperty(Marshaller.JAXB_ENCODING, characterEncoding);
-					marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
-
-					marshaller.marshal(object, streamWriter);
-
-					streamWriter.flush();
-					streamWriter.close();
-
-					if (formatOutput) {
-						Transformer transformer = TransformerFactory.newInstance().newTransformer();
-						transformer.setOutputProperty(OutputKeys.ENCODING, characterEncoding);
-						transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-						transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-						transformer.setOutputProperty("{https://xml.apache.org/xslt}indent-amount", "4");
-
-						String xml = stringWriter.toString();
-						stringWriter = new StringWriter();
-
-						transformer.transform(new StreamSource(new StringReader(xml)), new StreamResult(stringWriter));
-					}
-
-					StringBuilder stringBuilder = new StringBuilder();
-					if (outputFragment) {
-						stringBuilder.append(StringUtils.replace(FRAGMENT_TEMPLATE, "{}", characterEncoding));
-						if (formatOutput) {
-							stringBuilder.append(FileUtils.LF);
-						}
-					}
-					stringBuilder.append(stringWriter);
-					return stringBuilder.toString();
+				try (StringWriter stringWriter = new StringWriter()) {
+					marshalXml(object, stringWriter, formatOutput, outputFragment, encoding);
+					return stringWriter.toString();
 				} catch (Exception e) {
 					if (LOGGER.isDebugEnabled()) {
 						LOGGER.debug("Stack_Message_Error", e);
 					}
 					return Globals.DEFAULT_VALUE_STRING;
-				} finally {
-					IOUtils.closeStream(stringWriter);
 				}
 			case JSON:
-				objectMapper = new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-				break;
 			case YAML:
-				objectMapper = new ObjectMapper(new YAMLFactory().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER))
-						.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 				break;
 			case SERIALIZABLE:
 				return StringUtils.base64Encode(ConvertUtils.toByteArray(object));
@@ -2173,9 +2240,7 @@ public final class StringUtils {
 				return Globals.DEFAULT_VALUE_STRING;
 		}
 		try {
-			return formatOutput
-					? objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(object)
-					: objectMapper.writeValueAsString(object);
+			return objectWriter(stringType, formatOutput).writeValueAsString(object);
 		} catch (JsonProcessingException e) {
 			LOGGER.error("Convert_String_Error");
 			if (LOGGER.isDebugEnabled()) {
@@ -2185,6 +2250,129 @@ public final class StringUtils {
 		return Globals.DEFAULT_VALUE_STRING;
 	}
 
+	/**
+	 * <h3 class="en-US">Write the JavaBean object to the given output stream</h3>
+	 * <span class="en-US">The data was written to the output stream directly, the output stream will not be closed</span>
+	 * <h3 class="zh-CN">将JavaBean实例对象写入到给定的输出流</h3>
+	 * <span class="zh-CN">数据直接写入到输出流，输出流不会被关闭</span>
+	 *
+	 * @param object       <span class="en-US">JavaBean object</span>
+	 *                     <span class="zh-CN">JavaBean实例对象</span>
+	 * @param stringType   <span class="en-US">Target string type</span>
+	 *                     <span class="zh-CN">目标字符串类型</span>
+	 * @param outputStream <span class="en-US">Target output stream</span>
+	 *                     <span class="zh-CN">目标输出流</span>
+	 * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
+	 * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
+	 */
+	public static boolean writeTo(final Object object, final StringType stringType, final OutputStream outputStream) {
+		return writeTo(object, stringType, outputStream, Boolean.FALSE, Boolean.TRUE, Globals.DEFAULT_ENCODING);
+	}
+
+	/**
+	 * <h3 class="en-US">Write the JavaBean object to the given output stream</h3>
+	 * <span class="en-US">The data was written to the output stream directly, the output stream will not be closed</span>
+	 * <h3 class="zh-CN">将JavaBean实例对象写入到给定的输出流</h3>
+	 * <span class="zh-CN">数据直接写入到输出流，输出流不会被关闭</span>
+	 *
+	 * @param object         <span class="en-US">JavaBean object</span>
+	 *                       <span class="zh-CN">JavaBean实例对象</span>
+	 * @param stringType     <span class="en-US">Target string type</span>
+	 *                       <span class="zh-CN">目标字符串类型</span>
+	 * @param outputStream   <span class="en-US">Target output stream</span>
+	 *                       <span class="zh-CN">目标输出流</span>
+	 * @param formatOutput   <span class="en-US">format output string</span>
+	 *                       <span class="zh-CN">格式化输出字符串</span>
+	 * @param outputFragment <span class="en-US">output XML declaration</span>
+	 *                       <span class="zh-CN">输出XML声明</span>
+	 * @param encoding       <span class="en-US">Character encoding</span>
+	 *                       <span class="zh-CN">字符集编码</span>
+	 * @return <span class="en-US"><code>Boolean.TRUE</code> for success and <code>Boolean.FALSE</code> for error</span>
+	 * <span class="zh-CN">成功返回<code>Boolean.TRUE</code>，失败返回<code>Boolean.FALSE</code></span>
+	 */
+	public static boolean writeTo(final Object object, final StringType stringType, final OutputStream outputStream,
+	                              final boolean formatOutput, final boolean outputFragment, final String encoding) {
+		if (object == null || outputStream == null) {
+			return Boolean.FALSE;
+		}
+		String characterEncoding = StringUtils.isEmpty(encoding) ? Globals.DEFAULT_ENCODING : encoding;
+		try {
+			switch (stringType) {
+				case XML:
+					Writer writer = new OutputStreamWriter(outputStream, characterEncoding);
+					marshalXml(object, writer, formatOutput, outputFragment, characterEncoding);
+					writer.flush();
+					break;
+				case JSON:
+				case YAML:
+					objectWriter(stringType, formatOutput).writeValue(outputStream, object);
+					break;
+				case SERIALIZABLE:
+					outputStream.write(StringUtils.base64Encode(ConvertUtils.toByteArray(object))
+							.getBytes(characterEncoding));
+					break;
+				default:
+					return Boolean.FALSE;
+			}
+			outputStream.flush();
+			return Boolean.TRUE;
+		} catch (Exception e) {
+			LOGGER.error("Convert_String_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return Boolean.FALSE;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Marshal the JavaBean object as XML to the given writer</h3>
+	 * <span class="en-US">The elements were indented by the stream writer in the same pass if format output was enabled</span>
+	 * <h3 class="zh-CN">将JavaBean实例对象编组为XML并写入到给定的写入器</h3>
+	 * <span class="zh-CN">如果启用格式化输出，元素由流写入器在同一次处理中缩进</span>
+	 *
+	 * @param object         <span class="en-US">JavaBean object</span>
+	 *                       <span class="zh-CN">JavaBean实例对象</span>
+	 * @param writer         <span class="en-US">Target writer</span>
+	 *                       <span class="zh-CN">目标写入器</span>
+	 * @param formatOutput   <span class="en-US">format output string</span>
+	 *                       <span class="zh-CN">格式化输出字符串</span>
+	 * @param outputFragment <span class="en-US">output XML declaration</span>
+	 *                       <span class="zh-CN">输出XML声明</span>
+	 * @param encoding       <span class="en-US">Character encoding</span>
+	 *                       <span class="zh-CN">字符集编码</span>
+	 * @throws IOException        <span class="en-US">If an error occurs when write XML declaration</span>
+	 *                            <span class="zh-CN">如果写入XML声明时出现异常</span>
+	 * @throws JAXBException      <span class="en-US">If an error occurs when marshal object</span>
+	 *                            <span class="zh-CN">如果编组对象时出现异常</span>
+	 * @throws XMLStreamException <span class="en-US">If an error occurs when write XML data</span>
+	 *                            <span class="zh-CN">如果写入XML数据时出现异常</span>
+	 */
+	private static void marshalXml(final Object object, final Writer writer, final boolean formatOutput,
+	                               final boolean outputFragment, final String encoding)
+			throws IOException, JAXBException, XMLStreamException {
+		String characterEncoding = StringUtils.isEmpty(encoding) ? Globals.DEFAULT_ENCODING : encoding;
+		if (outputFragment) {
+			writer.write(StringUtils.replace(FRAGMENT_TEMPLATE, "{}", characterEncoding));
+			if (formatOutput) {
+				writer.write(FileUtils.LF);
+			}
+		}
+		CDataStreamWriter streamWriter =
+				new CDataStreamWriter(XML_OUTPUT_FACTORY.createXMLStreamWriter(writer), formatOutput);
+
+		Marshaller marshaller = borrowMarshaller(object.getClass());
+		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+		marshaller.setProperty(Marshaller.JAXB_ENCODING, characterEncoding);
+		marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+
+		marshaller.marshal(object, streamWriter);
+		releaseMarshaller(object.getClass(), marshaller);
+
+		streamWriter.flush();
+		streamWriter.close();
+	}
+
 	/**
 	 * <h3 class="en-US">Parse string to target JavaBean instance. </h3>
 	 * <h3 class="zh-CN">解析字符串为目标JavaBean实例对象</h3>
@@ -2256,7 +2444,7 @@ public final class StringUtils {
 			case '<' -> stringToObject(string, StringType.XML, encoding, beanClass, schemaPaths);
 			case '{' -> stringToObject(string, StringType.JSON, encoding, beanClass, schemaPaths);
 			default -> stringToObject(string,
-					StringUtils.matches(string, RegexGlobals.BASE64) ? StringType.SERIALIZABLE : StringType.YAML,
+					RegexGlobals.BASE64_PATTERN.matcher(string).matches() ? StringType.SERIALIZABLE : StringType.YAML,
 					encoding, beanClass, schemaPaths);
 		};
 	}
@@ -2354,9 +2542,115 @@ public final class StringUtils {
 	 *                     <span class="zh-CN">如果从输入流中读取数据时出现异常</span>
 	 */
 	public static <T> List<T> streamToList(final InputStream inputStream, final Class<T> beanClass) throws IOException {
-		ObjectMapper objectMapper = new ObjectMapper();
-		JavaType javaType = objectMapper.getTypeFactory().constructParametricType(ArrayList.class, beanClass);
-		return objectMapper.readValue(inputStream, javaType);
+		JavaType javaType = JSON_MAPPER.getTypeFactory().constructCollectionType(ArrayList.class, beanClass);
+		return objectReader(StringType.JSON, javaType).readValue(inputStream);
+	}
+
+	/**
+	 * <h3 class="en-US">Parse content of input stream incrementally to the JavaBean instance stream</h3>
+	 * <span class="en-US">
+	 *     Only the elements requested by the stream consumer were read from the input stream,
+	 *     JSON/YAML arrays were parsed by the streaming parser and XML collections were parsed by StAX reader,
+	 *     the child elements of root element were unmarshalled one at a time.
+	 *     Close the returned stream will close the input stream.
+	 * </span>
+	 * <h3 class="zh-CN">增量解析输入流中的内容为JavaBean实例对象流</h3>
+	 * <span class="zh-CN">
+	 *     仅读取数据流消费者请求的元素，JSON/YAML数组使用流式解析器解析，XML集合使用StAX读取器解析，
+	 *     根元素的子元素逐个解组。关闭返回的数据流将关闭输入流。
+	 * </span>
+	 *
+	 * @param <T>         <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @param inputStream <span class="en-US">Input stream instance</span>
+	 *                    <span class="zh-CN">输入流对象实例</span>
+	 * @param stringType  <span class="en-US">The string type, supported XML, JSON and YAML</span>
+	 *                    <span class="zh-CN">字符串类型，支持XML、JSON和YAML</span>
+	 * @param beanClass   <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @return <span class="en-US">JavaBean instance stream</span>
+	 * <span class="zh-CN">JavaBean实例对象流</span>
+	 * @throws IOException <span class="en-US">If an error occurs when read data from input stream</span>
+	 *                     <span class="zh-CN">如果从输入流中读取数据时出现异常</span>
+	 */
+	public static <T> Stream<T> parseStream(final InputStream inputStream, final StringType stringType,
+	                                        final Class<T> beanClass) throws IOException {
+		Iterator<T> iterator = parseIterator(inputStream, stringType, beanClass);
+		return StreamSupport.stream(
+						Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+						Boolean.FALSE)
+				.onClose(() -> IOUtils.closeStream((Closeable) iterator));
+	}
+
+	/**
+	 * <h3 class="en-US">Parse content of input stream incrementally to the chunk stream of JavaBean instances</h3>
+	 * <span class="en-US">
+	 *     Each chunk contains at most the given count of instances, the chunks could be processed by parallel stream,
+	 *     the next chunk was read from the input stream when a worker requests it, so at most one chunk was buffered
+	 *     for each worker. The chunks were not ordered in parallel mode.
+	 *     Close the returned stream will close the input stream.
+	 * </span>
+	 * <h3 class="zh-CN">增量解析输入流中的内容为JavaBean实例对象分块流</h3>
+	 * <span class="zh-CN">每个分块最多包含给定数量的实例对象，分块可以使用并行流处理，工作线程请求时才从输入流读取下一个分块，因此每个工作线程最多缓冲一个分块。并行模式下分块无序。关闭返回的数据流将关闭输入流。</span>
+	 *
+	 * @param <T>         <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @param inputStream <span class="en-US">Input stream instance</span>
+	 *                    <span class="zh-CN">输入流对象实例</span>
+	 * @param stringType  <span class="en-US">The string type, supported XML, JSON and YAML</span>
+	 *                    <span class="zh-CN">字符串类型，支持XML、JSON和YAML</span>
+	 * @param beanClass   <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @param chunkSize   <span class="en-US">Maximum instance count of each chunk</span>
+	 *                    <span class="zh-CN">每个分块的最大实例对象数量</span>
+	 * @return <span class="en-US">Chunk stream of JavaBean instances</span>
+	 * <span class="zh-CN">JavaBean实例对象分块流</span>
+	 * @throws IOException <span class="en-US">If an error occurs when read data from input stream</span>
+	 *                     <span class="zh-CN">如果从输入流中读取数据时出现异常</span>
+	 */
+	public static <T> Stream<List<T>> parseChunks(final InputStream inputStream, final StringType stringType,
+	                                              final Class<T> beanClass, final int chunkSize) throws IOException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive");
+		}
+		Iterator<T> iterator = parseIterator(inputStream, stringType, beanClass);
+		return StreamSupport.stream(new ChunkSpliterator<>(iterator, chunkSize), Boolean.FALSE)
+				.onClose(() -> IOUtils.closeStream((Closeable) iterator));
+	}
+
+	/**
+	 * <h3 class="en-US">Generate incremental iterator of JavaBean instances from input stream</h3>
+	 * <h3 class="zh-CN">从输入流生成JavaBean实例对象的增量迭代器</h3>
+	 *
+	 * @param <T>         <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @param inputStream <span class="en-US">Input stream instance</span>
+	 *                    <span class="zh-CN">输入流对象实例</span>
+	 * @param stringType  <span class="en-US">The string type, supported XML, JSON and YAML</span>
+	 *                    <span class="zh-CN">字符串类型，支持XML、JSON和YAML</span>
+	 * @param beanClass   <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @return <span class="en-US">Closeable iterator instance</span>
+	 * <span class="zh-CN">可关闭的迭代器实例对象</span>
+	 * @throws IOException <span class="en-US">If an error occurs when read data from input stream</span>
+	 *                     <span class="zh-CN">如果从输入流中读取数据时出现异常</span>
+	 */
+	private static <T> Iterator<T> parseIterator(final InputStream inputStream, final StringType stringType,
+	                                             final Class<T> beanClass) throws IOException {
+		switch (stringType) {
+			case JSON:
+			case YAML:
+				return objectReader(stringType, beanClass).readValues(inputStream);
+			case XML:
+				try {
+					return new ElementIterator<>(inputStream, beanClass);
+				} catch (JAXBException | XMLStreamException e) {
+					IOUtils.closeStream(inputStream);
+					throw new IOException(e);
+				}
+			default:
+				throw new IllegalArgumentException("Unsupported string type: " + stringType);
+		}
 	}
 
 	/**
@@ -2436,13 +2730,41 @@ public final class StringUtils {
 	 */
 	public static <T> T streamToObject(final InputStream inputStream, final StringType stringType,
 	                                   final Class<T> beanClass, final String... schemaPaths) throws IOException {
+		return readFrom(inputStream, stringType, beanClass, schemaPaths);
+	}
+
+	/**
+	 * <h3 class="en-US">Read the content of input stream to target JavaBean instance</h3>
+	 * <span class="en-US">JSON and YAML data were parsed from the input stream directly without buffered as string</span>
+	 * <h3 class="zh-CN">读取输入流中的内容为目标JavaBean实例对象</h3>
+	 * <span class="zh-CN">JSON和YAML数据直接从输入流解析，不会缓存为字符串</span>
+	 *
+	 * @param <T>         <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @param inputStream <span class="en-US">Input stream instance</span>
+	 *                    <span class="zh-CN">输入流对象实例</span>
+	 * @param stringType  <span class="en-US">The string type</span>
+	 *                    <span class="zh-CN">字符串类型</span>
+	 * @param beanClass   <span class="en-US">target JavaBean class</span>
+	 *                    <span class="zh-CN">目标JavaBean类</span>
+	 * @param schemaPaths <span class="en-US">XML schema path(Maybe schema uri or local path)</span>
+	 *                    <span class="zh-CN">XML描述文件路径（可能为描述文件URI或本地文件路径）</span>
+	 * @return <span class="en-US">Converted object instance</span>
+	 * <span class="zh-CN">转换后的实例对象</span>
+	 * @throws IOException <span class="en-US">If an error occurs when read data from input stream</span>
+	 *                     <span class="zh-CN">如果从输入流中读取数据时出现异常</span>
+	 */
+	public static <T> T readFrom(final InputStream inputStream, final StringType stringType,
+	                             final Class<T> beanClass, final String... schemaPaths) throws IOException {
 		switch (stringType) {
 			case XML:
 				try {
-					Unmarshaller unmarshaller = JAXBContext.newInstance(beanClass).createUnmarshaller();
+					Unmarshaller unmarshaller = borrowUnmarshaller(beanClass);
 					Optional.ofNullable(newSchema(schemaPaths))
 							.ifPresent(unmarshaller::setSchema);
-					return beanClass.cast(unmarshaller.unmarshal(inputStream));
+					T object = beanClass.cast(unmarshaller.unmarshal(inputStream));
+					releaseUnmarshaller(beanClass, unmarshaller);
+					return object;
 				} catch (JAXBException e) {
 					LOGGER.error("Parse_File_Error");
 					if (LOGGER.isDebugEnabled()) {
@@ -2460,12 +2782,8 @@ public final class StringUtils {
 						.map(beanClass::cast)
 						.orElse(null);
 			case JSON:
-				return new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
-						.readValue(IOUtils.readContent(inputStream), beanClass);
 			case YAML:
-				return new ObjectMapper(new YAMLFactory().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER))
-						.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-						.readValue(IOUtils.readContent(inputStream), beanClass);
+				return objectReader(stringType, beanClass).readValue(inputStream);
 			default:
 				return null;
 		}
@@ -2483,21 +2801,13 @@ public final class StringUtils {
 	 * <span class="zh-CN">转换后的数据映射表</span>
 	 */
 	public static Map<String, Object> dataToMap(final String string, final StringType stringType) {
-		ObjectMapper objectMapper;
-		switch (stringType) {
-			case JSON:
-				objectMapper = new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-				break;
-			case YAML:
-				objectMapper = new ObjectMapper(new YAMLFactory().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER))
-						.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-				break;
-			default:
-				return new HashMap<>();
+		if (!StringType.JSON.equals(stringType) && !StringType.YAML.equals(stringType)) {
+			return new HashMap<>();
 		}
 		try {
-			return objectMapper.readValue(string, new TypeReference<>() {
-			});
+			JavaType javaType =
+					JSON_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class);
+			return objectReader(stringType, javaType).readValue(string);
 		} catch (Exception e) {
 			LOGGER.error("Convert_To_Data_Map_Error");
 			if (StringUtils.LOGGER.isDebugEnabled()) {
@@ -2599,7 +2909,50 @@ public final class StringUtils {
 		if (StringUtils.isEmpty(str) || StringUtils.isEmpty(regex)) {
 			return Boolean.FALSE;
 		}
-		return str.matches(regex);
+		return compilePattern(regex).matcher(str).matches();
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the compiled pattern of given regex string</h3>
+	 * <span class="en-US">
+	 *     The patterns defined in RegexGlobals were precompiled, other patterns were compiled once and cached,
+	 *     the cache will be cleared when the cached count reached the limit.
+	 * </span>
+	 * <h3 class="zh-CN">获取给定正则表达式字符串的编译结果</h3>
+	 * <span class="zh-CN">RegexGlobals中定义的正则表达式已预编译，其他正则表达式编译一次后缓存，缓存数量达到上限时清空缓存。</span>
+	 *
+	 * @param regex <span class="en-US">regex string</span>
+	 *              <span class="zh-CN">正则表达式字符串</span>
+	 * @return <span class="en-US">Compiled pattern instance</span>
+	 * <span class="zh-CN">编译的正则表达式实例对象</span>
+	 */
+	public static Pattern compilePattern(final String regex) {
+		Pattern pattern = PRECOMPILED_PATTERNS.get(regex);
+		if (pattern == null) {
+			pattern = REGISTERED_PATTERNS.get(regex);
+		}
+		if (pattern != null) {
+			PATTERN_HIT_COUNT.incrementAndGet();
+			return pattern;
+		}
+		PATTERN_MISS_COUNT.incrementAndGet();
+		pattern = Pattern.compile(regex);
+		if (REGISTERED_PATTERNS.size() >= PATTERN_LIMIT) {
+			REGISTERED_PATTERNS.clear();
+		}
+		REGISTERED_PATTERNS.put(regex, pattern);
+		return pattern;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the statistics of compiled pattern cache</h3>
+	 * <h3 class="zh-CN">获取正则表达式编译缓存的统计信息</h3>
+	 *
+	 * @return <span class="en-US">Statistics of compiled pattern cache</span>
+	 * <span class="zh-CN">正则表达式编译缓存的统计信息</span>
+	 */
+	public static PatternStatistics patternStatistics() {
+		return new PatternStatistics(REGISTERED_PATTERNS.size(), PATTERN_HIT_COUNT.get(), PATTERN_MISS_COUNT.get());
 	}
 
 	/**
@@ -2641,7 +2994,7 @@ public final class StringUtils {
 		}
 
 		String matchResult = template;
-		Matcher matcher = Pattern.compile(regex).matcher(str);
+		Matcher matcher = compilePattern(regex).matcher(str);
 		if (matcher.find()) {
 			for (int i = 0; i < matcher.groupCount(); i++) {
 				int index = i + 1;
@@ -2812,7 +3165,7 @@ public final class StringUtils {
 		switch (codeType) {
 			case CHN_ID_Code:
 				String cardCode = code.toUpperCase();
-				if (StringUtils.matches(cardCode, RegexGlobals.CHN_ID_Card)) {
+				if (RegexGlobals.CHN_ID_Card_PATTERN.matcher(cardCode).matches()) {
 					int validateCode = CHN_ID_CARD_CODE.indexOf(cardCode.charAt(17));
 					if (validateCode != -1) {
 						int sigma = 0;
@@ -2825,7 +3178,7 @@ public final class StringUtils {
 				break;
 			case CHN_Social_Code:
 				String creditCode = code.toUpperCase();
-				if (StringUtils.matches(creditCode, RegexGlobals.CHN_Social_Credit)) {
+				if (RegexGlobals.CHN_Social_Credit_PATTERN.matcher(creditCode).matches()) {
 					int validateCode = CHN_SOCIAL_CREDIT_CODE.indexOf(creditCode.charAt(17));
 					if (validateCode != -1) {
 						int sigma = 0;
@@ -2839,7 +3192,7 @@ public final class StringUtils {
 				}
 				break;
 			case Luhn:
-				if (StringUtils.matches(code, RegexGlobals.LUHN)) {
+				if (RegexGlobals.LUHN_PATTERN.matcher(code).matches()) {
 					int result = 0, length = code.length();
 					for (int i = 0; i < length; i++) {
 						int currentCode = Character.getNumericValue(code.charAt(length - i - 1));
@@ -2953,6 +3306,178 @@ public final class StringUtils {
 						SCHEMA_MAPPING.put(key, StringUtils.replace(basePath, SCHEMA_MAPPING_RESOURCE_PATH, value)));
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve the shared object writer instance</h3>
+	 * <h3 class="zh-CN">获取共享的对象写入器实例对象</h3>
+	 *
+	 * @param stringType   <span class="en-US">Target string type, only supported JSON and YAML</span>
+	 *                     <span class="zh-CN">目标字符串类型，仅支持JSON和YAML</span>
+	 * @param formatOutput <span class="en-US">format output string</span>
+	 *                     <span class="zh-CN">格式化输出字符串</span>
+	 * @return <span class="en-US">Immutable object writer instance</span>
+	 * <span class="zh-CN">不可变的对象写入器实例对象</span>
+	 */
+	public static ObjectWriter objectWriter(final StringType stringType, final boolean formatOutput) {
+		ObjectMapper objectMapper = objectMapper(stringType);
+		return REGISTERED_WRITERS.computeIfAbsent(stringType.name() + formatOutput,
+				key -> formatOutput ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer());
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the shared object reader instance for given class</h3>
+	 * <h3 class="zh-CN">获取给定类共享的对象读取器实例对象</h3>
+	 *
+	 * @param stringType <span class="en-US">Source string type, only supported JSON and YAML</span>
+	 *                   <span class="zh-CN">源字符串类型，仅支持JSON和YAML</span>
+	 * @param beanClass  <span class="en-US">target JavaBean class</span>
+	 *                   <span class="zh-CN">目标JavaBean类</span>
+	 * @return <span class="en-US">Immutable object reader instance</span>
+	 * <span class="zh-CN">不可变的对象读取器实例对象</span>
+	 */
+	public static ObjectReader objectReader(final StringType stringType, final Class<?> beanClass) {
+		return objectReader(stringType, objectMapper(stringType).constructType(beanClass));
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the shared object reader instance for given java type</h3>
+	 * <h3 class="zh-CN">获取给定Java类型共享的对象读取器实例对象</h3>
+	 *
+	 * @param stringType <span class="en-US">Source string type, only supported JSON and YAML</span>
+	 *                   <span class="zh-CN">源字符串类型，仅支持JSON和YAML</span>
+	 * @param javaType   <span class="en-US">target java type</span>
+	 *                   <span class="zh-CN">目标Java类型</span>
+	 * @return <span class="en-US">Immutable object reader instance</span>
+	 * <span class="zh-CN">不可变的对象读取器实例对象</span>
+	 */
+	public static ObjectReader objectReader(final StringType stringType, final JavaType javaType) {
+		ObjectMapper objectMapper = objectMapper(stringType);
+		ReaderKey readerKey = new ReaderKey(stringType, javaType);
+		ObjectReader objectReader = REGISTERED_READERS.get(readerKey);
+		if (objectReader != null) {
+			return objectReader;
+		}
+		if (REGISTERED_READERS.size() >= CACHE_LIMIT) {
+			REGISTERED_READERS.clear();
+		}
+		return REGISTERED_READERS.computeIfAbsent(readerKey, key -> objectMapper.readerFor(javaType));
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the shared object mapper instance by given string type</h3>
+	 * <h3 class="zh-CN">根据给定的字符串类型获取共享的对象映射器实例对象</h3>
+	 *
+	 * @param stringType <span class="en-US">String type, only supported JSON and YAML</span>
+	 *                   <span class="zh-CN">字符串类型，仅支持JSON和YAML</span>
+	 * @return <span class="en-US">Shared object mapper instance</span>
+	 * <span class="zh-CN">共享的对象映射器实例对象</span>
+	 */
+	private static ObjectMapper objectMapper(final StringType stringType) {
+		return switch (stringType) {
+			case JSON -> JSON_MAPPER;
+			case YAML -> YAML_MAPPER;
+			default -> throw new IllegalArgumentException("Unsupported string type: " + stringType);
+		};
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the cached JAXB context instance of given class</h3>
+	 * <h3 class="zh-CN">获取给定类缓存的JAXB上下文实例对象</h3>
+	 *
+	 * @param beanClass <span class="en-US">JavaBean class</span>
+	 *                  <span class="zh-CN">JavaBean类</span>
+	 * @return <span class="en-US">JAXB context instance</span>
+	 * <span class="zh-CN">JAXB上下文实例对象</span>
+	 * @throws JAXBException <span class="en-US">If an error occurs when create JAXB context</span>
+	 *                       <span class="zh-CN">如果创建JAXB上下文时出现异常</span>
+	 */
+	private static JAXBContext jaxbContext(final Class<?> beanClass) throws JAXBException {
+		JAXBContext jaxbContext = REGISTERED_CONTEXTS.get(beanClass);
+		if (jaxbContext == null) {
+			if (REGISTERED_CONTEXTS.size() >= CACHE_LIMIT) {
+				REGISTERED_CONTEXTS.clear();
+				REGISTERED_MARSHALLERS.clear();
+				REGISTERED_UNMARSHALLERS.clear();
+			}
+			jaxbContext = JAXBContext.newInstance(beanClass);
+			JAXBContext existsContext = REGISTERED_CONTEXTS.putIfAbsent(beanClass, jaxbContext);
+			if (existsContext != null) {
+				jaxbContext = existsContext;
+			}
+		}
+		return jaxbContext;
+	}
+
+	/**
+	 * <h3 class="en-US">Borrow marshaller instance of given class from pool</h3>
+	 * <h3 class="zh-CN">从缓存池中获取给定类的编组器实例对象</h3>
+	 *
+	 * @param beanClass <span class="en-US">JavaBean class</span>
+	 *                  <span class="zh-CN">JavaBean类</span>
+	 * @return <span class="en-US">Marshaller instance</span>
+	 * <span class="zh-CN">编组器实例对象</span>
+	 * @throws JAXBException <span class="en-US">If an error occurs when create marshaller</span>
+	 *                       <span class="zh-CN">如果创建编组器时出现异常</span>
+	 */
+	private static Marshaller borrowMarshaller(final Class<?> beanClass) throws JAXBException {
+		Marshaller marshaller = Optional.ofNullable(REGISTERED_MARSHALLERS.get(beanClass))
+				.map(Queue::poll)
+				.orElse(null);
+		return (marshaller == null) ? jaxbContext(beanClass).createMarshaller() : marshaller;
+	}
+
+	/**
+	 * <h3 class="en-US">Return marshaller instance of given class to pool</h3>
+	 * <h3 class="zh-CN">将给定类的编组器实例对象归还到缓存池</h3>
+	 *
+	 * @param beanClass  <span class="en-US">JavaBean class</span>
+	 *                   <span class="zh-CN">JavaBean类</span>
+	 * @param marshaller <span class="en-US">Marshaller instance</span>
+	 *                   <span class="zh-CN">编组器实例对象</span>
+	 */
+	private static void releaseMarshaller(final Class<?> beanClass, final Marshaller marshaller) {
+		Queue<Marshaller> marshallers =
+				REGISTERED_MARSHALLERS.computeIfAbsent(beanClass, key -> new ConcurrentLinkedQueue<>());
+		if (marshallers.size() < POOL_LIMIT) {
+			marshallers.offer(marshaller);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Borrow unmarshaller instance of given class from pool</h3>
+	 * <h3 class="zh-CN">从缓存池中获取给定类的解组器实例对象</h3>
+	 *
+	 * @param beanClass <span class="en-US">JavaBean class</span>
+	 *                  <span class="zh-CN">JavaBean类</span>
+	 * @return <span class="en-US">Unmarshaller instance</span>
+	 * <span class="zh-CN">解组器实例对象</span>
+	 * @throws JAXBException <span class="en-US">If an error occurs when create unmarshaller</span>
+	 *                       <span class="zh-CN">如果创建解组器时出现异常</span>
+	 */
+	private static Unmarshaller borrowUnmarshaller(final Class<?> beanClass) throws JAXBException {
+		Unmarshaller unmarshaller = Optional.ofNullable(REGISTERED_UNMARSHALLERS.get(beanClass))
+				.map(Queue::poll)
+				.orElse(null);
+		return (unmarshaller == null) ? jaxbContext(beanClass).createUnmarshaller() : unmarshaller;
+	}
+
+	/**
+	 * <h3 class="en-US">Return unmarshaller instance of given class to pool</h3>
+	 * <h3 class="zh-CN">将给定类的解组器实例对象归还到缓存池</h3>
+	 *
+	 * @param beanClass    <span class="en-US">JavaBean class</span>
+	 *                     <span class="zh-CN">JavaBean类</span>
+	 * @param unmarshaller <span class="en-US">Unmarshaller instance</span>
+	 *                     <span class="zh-CN">解组器实例对象</span>
+	 */
+	private static void releaseUnmarshaller(final Class<?> beanClass, final Unmarshaller unmarshaller) {
+		unmarshaller.setSchema(null);
+		Queue<Unmarshaller> unmarshallers =
+				REGISTERED_UNMARSHALLERS.computeIfAbsent(beanClass, key -> new ConcurrentLinkedQueue<>());
+		if (unmarshallers.size() < POOL_LIMIT) {
+			unmarshallers.offer(unmarshaller);
+		}
+	}
+
 	/**
 	 * <h3 class="en-US">Generate a Schema instance object according to the given XML description file path.</h3>
 	 * <h3 class="zh-CN">根据给定的XML描述文件路径，生成Schema实例对象</h3>
@@ -2997,6 +3522,20 @@ public final class StringUtils {
 	private StringUtils() {
 	}
 
+	/**
+	 * <h3 class="en-US">Create XML input factory which does not resolve DTD and external entities</h3>
+	 * <h3 class="zh-CN">创建不解析DTD和外部实体的XML输入工厂</h3>
+	 *
+	 * @return <span class="en-US">Created XML input factory instance</span>
+	 * <span class="zh-CN">创建的XML输入工厂实例对象</span>
+	 */
+	private static XMLInputFactory secureInputFactory() {
+		XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+		inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		return inputFactory;
+	}
+
 	/**
 	 * <h2 class="en-US">Schema resource resolver for support schema mapping</h2>
 	 * <h2 class="zh-CN">支持自定义资源描述文件映射的资源文件解析器</h2>
@@ -3234,16 +3773,360 @@ public final class StringUtils {
 	}
 
 	/**
-	 * Writer for output CData string
+	 * <h2 class="en-US">Iterator of XML collection child elements</h2>
+	 * <span class="en-US">The child elements of root element were unmarshalled one at a time by StAX reader</span>
+	 * <h2 class="zh-CN">XML集合子元素迭代器</h2>
+	 * <span class="zh-CN">使用StAX读取器逐个解组根元素的子元素</span>
+	 *
+	 * @param <T> <span class="en-US">target JavaBean class</span>
+	 *            <span class="zh-CN">目标JavaBean类</span>
+	 */
+	private static final class ElementIterator<T> implements Iterator<T>, Closeable {
+		/**
+		 * <span class="en-US">Input stream instance</span>
+		 * <span class="zh-CN">输入流对象实例</span>
+		 */
+		private final InputStream inputStream;
+		/**
+		 * <span class="en-US">StAX stream reader instance</span>
+		 * <span class="zh-CN">StAX流读取器实例对象</span>
+		 */
+		private final XMLStreamReader streamReader;
+		/**
+		 * <span class="en-US">target JavaBean class</span>
+		 * <span class="zh-CN">目标JavaBean类</span>
+		 */
+		private final Class<T> beanClass;
+		/**
+		 * <span class="en-US">Borrowed unmarshaller instance</span>
+		 * <span class="zh-CN">借用的解组器实例对象</span>
+		 */
+		private Unmarshaller unmarshaller;
+		/**
+		 * <span class="en-US">Whether the reader was moved into the root element</span>
+		 * <span class="zh-CN">读取器是否已进入根元素</span>
+		 */
+		private boolean rootEntered = Boolean.FALSE;
+
+		/**
+		 * <h3 class="en-US">Constructor for ElementIterator</h3>
+		 * <span class="en-US">Move the reader to the root element, the reader and unmarshaller were released if failed</span>
+		 * <h3 class="zh-CN">XML集合子元素迭代器的构造方法</h3>
+		 * <span class="zh-CN">移动读取器到根元素，失败时释放读取器和解组器</span>
+		 *
+		 * @param inputStream <span class="en-US">Input stream instance</span>
+		 *                    <span class="zh-CN">输入流对象实例</span>
+		 * @param beanClass   <span class="en-US">target JavaBean class</span>
+		 *                    <span class="zh-CN">目标JavaBean类</span>
+		 * @throws JAXBException      <span class="en-US">If an error occurs when create unmarshaller</span>
+		 *                            <span class="zh-CN">如果创建解组器时出现异常</span>
+		 * @throws XMLStreamException <span class="en-US">If an error occurs when read XML data</span>
+		 *                            <span class="zh-CN">如果读取XML数据时出现异常</span>
+		 */
+		ElementIterator(final InputStream inputStream, final Class<T> beanClass)
+				throws JAXBException, XMLStreamException {
+			this.inputStream = inputStream;
+			this.beanClass = beanClass;
+			this.streamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+			try {
+				this.unmarshaller = borrowUnmarshaller(beanClass);
+				this.streamReader.nextTag();
+			} catch (JAXBException | XMLStreamException | RuntimeException e) {
+				this.close();
+				throw e;
+			}
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			if (this.unmarshaller == null) {
+				return Boolean.FALSE;
+			}
+			try {
+				if (!this.rootEntered) {
+					this.rootEntered = Boolean.TRUE;
+					this.streamReader.next();
+				}
+				while (true) {
+					switch (this.streamReader.getEventType()) {
+						case XMLStreamReader.START_ELEMENT:
+							return Boolean.TRUE;
+						case XMLStreamReader.END_ELEMENT:
+						case XMLStreamReader.END_DOCUMENT:
+							return Boolean.FALSE;
+						default:
+							this.streamReader.next();
+					}
+				}
+			} catch (XMLStreamException e) {
+				throw new UncheckedIOException(new IOException(e));
+			}
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			try {
+				return this.unmarshaller.unmarshal(this.streamReader, this.beanClass).getValue();
+			} catch (JAXBException e) {
+				throw new UncheckedIOException(new IOException(e));
+			}
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Closeable#close()
+		 */
+		@Override
+		public void close() {
+			if (this.unmarshaller != null) {
+				releaseUnmarshaller(this.beanClass, this.unmarshaller);
+				this.unmarshaller = null;
+			}
+			try {
+				this.streamReader.close();
+			} catch (XMLStreamException ignored) {
+			}
+			IOUtils.closeStream(this.inputStream);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Chunk spliterator of JavaBean instances</h2>
+	 * <span class="en-US">
+	 *     Split to sibling spliterators sharing the source iterator, each sibling reads the next chunk only when
+	 *     its worker requests it. The count of siblings was limited by the parallelism of the fork/join pool,
+	 *     so the read-ahead was bounded no matter how fast the chunks were consumed.
+	 * </span>
+	 * <h2 class="zh-CN">JavaBean实例对象分块拆分器</h2>
+	 * <span class="zh-CN">
+	 *     拆分为共享源迭代器的同级拆分器，每个同级拆分器仅在其工作线程请求时读取下一个分块。
+	 *     同级拆分器的数量受fork/join线程池并行度限制，因此无论分块的消费速度如何，预读取的数量都是有限的。
+	 * </span>
+	 *
+	 * @param <T> <span class="en-US">target JavaBean class</span>
+	 *            <span class="zh-CN">目标JavaBean类</span>
+	 */
+	private static final class ChunkSpliterator<T> implements Spliterator<List<T>> {
+		/**
+		 * <span class="en-US">Source iterator instance</span>
+		 * <span class="zh-CN">源迭代器实例对象</span>
+		 */
+		private final Iterator<T> iterator;
+		/**
+		 * <span class="en-US">Maximum instance count of each chunk</span>
+		 * <span class="zh-CN">每个分块的最大实例对象数量</span>
+		 */
+		private final int chunkSize;
+		/**
+		 * <span class="en-US">Count of sibling spliterators sharing the source iterator</span>
+		 * <span class="zh-CN">共享源迭代器的同级拆分器数量</span>
+		 */
+		private final AtomicInteger siblingCount;
+
+		/**
+		 * <h3 class="en-US">Constructor for ChunkSpliterator</h3>
+		 * <h3 class="zh-CN">分块拆分器的构造方法</h3>
+		 *
+		 * @param iterator  <span class="en-US">Source iterator instance</span>
+		 *                  <span class="zh-CN">源迭代器实例对象</span>
+		 * @param chunkSize <span class="en-US">Maximum instance count of each chunk</span>
+		 *                  <span class="zh-CN">每个分块的最大实例对象数量</span>
+		 */
+		ChunkSpliterator(final Iterator<T> iterator, final int chunkSize) {
+			this(iterator, chunkSize, new AtomicInteger(1));
+		}
+
+		/**
+		 * <h3 class="en-US">Constructor for sibling ChunkSpliterator</h3>
+		 * <h3 class="zh-CN">同级分块拆分器的构造方法</h3>
+		 *
+		 * @param iterator     <span class="en-US">Source iterator instance</span>
+		 *                     <span class="zh-CN">源迭代器实例对象</span>
+		 * @param chunkSize    <span class="en-US">Maximum instance count of each chunk</span>
+		 *                     <span class="zh-CN">每个分块的最大实例对象数量</span>
+		 * @param siblingCount <span class="en-US">Count of sibling spliterators</span>
+		 *                     <span class="zh-CN">同级拆分器数量</span>
+		 */
+		private ChunkSpliterator(final Iterator<T> iterator, final int chunkSize, final AtomicInteger siblingCount) {
+			this.iterator = iterator;
+			this.chunkSize = chunkSize;
+			this.siblingCount = siblingCount;
+		}
+
+		/**
+		 * <h3 class="en-US">Read next chunk from source iterator</h3>
+		 * <h3 class="zh-CN">从源迭代器读取下一个分块</h3>
+		 *
+		 * @return <span class="en-US">Next chunk or <code>null</code> if no more instances</span>
+		 * <span class="zh-CN">下一个分块，如果没有更多实例对象则返回<code>null</code></span>
+		 */
+		private List<T> nextChunk() {
+			synchronized (this.iterator) {
+				if (!this.iterator.hasNext()) {
+					return null;
+				}
+				List<T> chunk = new ArrayList<>(this.chunkSize);
+				while (chunk.size() < this.chunkSize && this.iterator.hasNext()) {
+					chunk.add(this.iterator.next());
+				}
+				return chunk;
+			}
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Spliterator#tryAdvance(Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(final Consumer<? super List<T>> action) {
+			List<T> chunk = this.nextChunk();
+			if (chunk == null) {
+				return Boolean.FALSE;
+			}
+			action.accept(chunk);
+			return Boolean.TRUE;
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Spliterator#trySplit()
+		 */
+		@Override
+		public Spliterator<List<T>> trySplit() {
+			int parallelism = ForkJoinTask.inForkJoinPool()
+					? ForkJoinTask.getPool().getParallelism()
+					: ForkJoinPool.getCommonPoolParallelism();
+			int currentCount;
+			do {
+				currentCount = this.siblingCount.get();
+				if (currentCount > parallelism) {
+					return null;
+				}
+			} while (!this.siblingCount.compareAndSet(currentCount, currentCount + 1));
+			return new ChunkSpliterator<>(this.iterator, this.chunkSize, this.siblingCount);
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Spliterator#estimateSize()
+		 */
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Spliterator#characteristics()
+		 */
+		@Override
+		public int characteristics() {
+			return Spliterator.NONNULL;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Statistics of compiled pattern cache</h2>
+	 * <h2 class="zh-CN">正则表达式编译缓存的统计信息</h2>
+	 *
+	 * @param cachedCount <span class="en-US">Count of cached patterns, not including precompiled patterns</span>
+	 *                    <span class="zh-CN">缓存的正则表达式数量，不包含预编译的正则表达式</span>
+	 * @param hitCount    <span class="en-US">Hit count of cache</span>
+	 *                    <span class="zh-CN">缓存命中次数</span>
+	 * @param missCount   <span class="en-US">Miss count of cache</span>
+	 *                    <span class="zh-CN">缓存未命中次数</span>
 	 */
-	private record CDataStreamWriter(XMLStreamWriter xmlStreamWriter) implements XMLStreamWriter {
+	public record PatternStatistics(int cachedCount, long hitCount, long missCount) {
+	}
+
+	/**
+	 * <h2 class="en-US">Registry key of object reader</h2>
+	 * <h2 class="zh-CN">对象读取器的注册键值</h2>
+	 *
+	 * @param stringType <span class="en-US">String type</span>
+	 *                   <span class="zh-CN">字符串类型</span>
+	 * @param javaType   <span class="en-US">Target java type</span>
+	 *                   <span class="zh-CN">目标Java类型</span>
+	 */
+	private record ReaderKey(StringType stringType, JavaType javaType) {
+	}
+
+	/**
+	 * Writer for output CData string, indent the elements in the same pass if format output was enabled
+	 */
+	private static final class CDataStreamWriter implements XMLStreamWriter {
+
+		/**
+		 * Indent string for each level
+		 */
+		private static final String INDENT = "    ";
+		/**
+		 * The XML stream writer
+		 */
+		private final XMLStreamWriter xmlStreamWriter;
+		/**
+		 * Format output status
+		 */
+		private final boolean formatOutput;
+		/**
+		 * Current element depth
+		 */
+		private int depth = Globals.INITIALIZE_INT_VALUE;
+		/**
+		 * Whether the last written node of current element is an element
+		 */
+		private boolean childElement = Boolean.FALSE;
 
 		/**
 		 * Instantiates a new C data stream writer.
 		 *
 		 * @param xmlStreamWriter the XML stream writer
+		 * @param formatOutput    format output status
+		 */
+		private CDataStreamWriter(final XMLStreamWriter xmlStreamWriter, final boolean formatOutput) {
+			this.xmlStreamWriter = xmlStreamWriter;
+			this.formatOutput = formatOutput;
+		}
+
+		/**
+		 * Write line break and indent before the element tag if format output was enabled
+		 *
+		 * @param indentDepth indent depth
+		 * @throws XMLStreamException XMLStreamException
+		 */
+		private void writeIndent(final int indentDepth) throws XMLStreamException {
+			if (this.formatOutput) {
+				this.xmlStreamWriter.writeCharacters(FileUtils.LF + INDENT.repeat(indentDepth));
+			}
+		}
+
+		/**
+		 * Write indent before start tag
+		 *
+		 * @throws XMLStreamException XMLStreamException
 		 */
-		private CDataStreamWriter {
+		private void beforeStartElement() throws XMLStreamException {
+			if (this.depth > 0) {
+				this.writeIndent(this.depth);
+			}
 		}
 
 		/**
@@ -3256,7 +4139,10 @@ public final class StringUtils {
 		 */
 		@Override
 		public void writeStartElement(final String localName) throws XMLStreamException {
+			this.beforeStartElement();
 			this.xmlStreamWriter.writeStartElement(localName);
+			this.depth++;
+			this.childElement = Boolean.FALSE;
 		}
 
 		/**
@@ -3269,7 +4155,10 @@ public final class StringUtils {
 		 */
 		@Override
 		public void writeStartElement(final String namespaceURI, final String localName) throws XMLStreamException {
+			this.beforeStartElement();
 			this.xmlStreamWriter.writeStartElement(namespaceURI, localName);
+			this.depth++;
+			this.childElement = Boolean.FALSE;
 		}
 
 		/**
@@ -3283,7 +4172,10 @@ public final class StringUtils {
 		@Override
 		public void writeStartElement(final String prefix, final String localName, final String namespaceURI)
 				throws XMLStreamException {
+			this.beforeStartElement();
 			this.xmlStreamWriter.writeStartElement(prefix, localName, namespaceURI);
+			this.depth++;
+			this.childElement = Boolean.FALSE;
 		}
 
 		/**
@@ -3296,7 +4188,9 @@ public final class StringUtils {
 		 */
 		@Override
 		public void writeEmptyElement(final String namespaceURI, final String localName) throws XMLStreamException {
+			this.beforeStartElement();
 			this.xmlStreamWriter.writeEmptyElement(namespaceURI, localName);
+			this.childElement = Boolean.TRUE;
 		}
 
 		/**
@@ -3310,7 +4204,9 @@ public final class StringUtils {
 		@Override
 		public void writeEmptyElement(final String prefix, final String localName, final String namespaceURI)
 				throws XMLStreamException {
+			this.beforeStartElement();
 			this.xmlStreamWriter.writeEmptyElement(prefix, localName, namespaceURI);
+			this.childElement = Boolean.TRUE;
 		}
 
 		/**
@@ -3321,7 +4217,9 @@ public final class StringUtils {
 		 */
 		@Override
 		public void writeEmptyElement(final String localName) throws XMLStreamException {
+			this.beforeStartElement();
 			this.xmlStreamWriter.writeEmptyElement(localName);
+			this.childElement = Boolean.TRUE;
 		}
 
 		/**
@@ -3333,7 +4231,15 @@ public final class StringUtils {
 		 */
 		@Override
 		public void writeEndElement() throws XMLStreamException {
+			this.depth--;
+			if (this.childElement) {
+				this.writeIndent(this.depth);
+			}
 			this.xmlStreamWriter.writeEndElement();
+			this.childElement = Boolean.TRUE;
+			if (this.depth == 0) {
+				this.writeIndent(this.depth);
+			}
 		}
 
 		/**
@@ -3485,6 +4391,7 @@ public final class StringUtils {
 		@Override
 		public void writeCData(final String data) throws XMLStreamException {
 			this.xmlStreamWriter.writeCData(data);
+			this.childElement = Boolean.FALSE;
 		}
 
 		/**
@@ -3561,6 +4468,7 @@ public final class StringUtils {
 						text.length() - CDataAdapter.CDATA_END.length()));
 			} else {
 				this.xmlStreamWriter.writeCharacters(text);
+				this.childElement = Boolean.FALSE;
 			}
 		}
 
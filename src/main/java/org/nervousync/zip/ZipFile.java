@@ -46,6 +46,7 @@ import java.io.*;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.regex.Pattern;
 
 /**
  * Zip File
@@ -356,9 +357,10 @@ public final class ZipFile implements Cloneable {
             this.centralDirectory.getFileHeaders()
                     .forEach(generalFileHeader -> entryList.add(generalFileHeader.getEntryPath()));
         } else {
+            Pattern pattern = StringUtils.compilePattern(regex);
             this.centralDirectory.getFileHeaders()
                     .stream()
-                    .filter(generalFileHeader -> StringUtils.matches(generalFileHeader.getEntryPath(), regex))
+                    .filter(generalFileHeader -> pattern.matcher(generalFileHeader.getEntryPath()).matches())
                     .forEach(generalFileHeader -> entryList.add(generalFileHeader.getEntryPath()));
         }
         return entryList;
@@ -0,0 +1,64 @@
+package org.nervousync.test.benchmark;
+
+import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.utils.RawUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH suite comparing RawUtils primitive codecs against the ByteBuffer wrapping implementation used before.
+ * Run the main method with the test classpath to execute the suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RawBenchmark {
+
+	private static final int POSITION = 27;
+
+	private final byte[] dataBytes = new byte[64];
+	private long value = 0x0102030405060708L;
+
+	@Benchmark
+	public long readWriteLong() throws DataInvalidException {
+		RawUtils.writeLong(this.dataBytes, POSITION, ByteOrder.LITTLE_ENDIAN, this.value++);
+		return RawUtils.readLong(this.dataBytes, POSITION, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	@Benchmark
+	public long readWriteLongByteBuffer() {
+		ByteBuffer.wrap(this.dataBytes, POSITION, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+				.putLong((long) (Object) this.value++);
+		Object readValue = ByteBuffer.wrap(this.dataBytes, POSITION, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+				.getLong();
+		return (long) readValue;
+	}
+
+	@Benchmark
+	public int readWriteInt() throws DataInvalidException {
+		RawUtils.writeInt(this.dataBytes, POSITION, ByteOrder.BIG_ENDIAN, (int) this.value++);
+		return RawUtils.readInt(this.dataBytes, POSITION, ByteOrder.BIG_ENDIAN);
+	}
+
+	@Benchmark
+	public int readWriteIntByteBuffer() {
+		ByteBuffer.wrap(this.dataBytes, POSITION, Integer.BYTES).order(ByteOrder.BIG_ENDIAN)
+				.putInt((int) (Object) (int) this.value++);
+		Object readValue = ByteBuffer.wrap(this.dataBytes, POSITION, Integer.BYTES).order(ByteOrder.BIG_ENDIAN)
+				.getInt();
+		return (int) readValue;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RawBenchmark.class.getSimpleName()).build()).run();
+	}
+}
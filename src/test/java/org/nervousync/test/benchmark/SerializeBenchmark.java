@@ -0,0 +1,97 @@
+package org.nervousync.test.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+import org.nervousync.proxy.ProxyConfig;
+import org.nervousync.utils.StringUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.xml.stream.XMLOutputFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.net.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH suite comparing StringUtils serialization through the shared mapper/JAXB registry against
+ * creating ObjectMapper and JAXBContext instances for every call as done before.
+ * Run the main method with the test classpath to execute the suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+	private ProxyConfig proxyConfig;
+	private String jsonContent;
+	private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+	@Setup
+	public void setup() {
+		this.proxyConfig = new ProxyConfig();
+		this.proxyConfig.setProxyType(Proxy.Type.HTTP);
+		this.proxyConfig.setProxyAddress("proxy.nervousync.org");
+		this.proxyConfig.setProxyPort(3128);
+		this.proxyConfig.setUserName("benchmark");
+		this.jsonContent = StringUtils.objectToString(this.proxyConfig, StringUtils.StringType.JSON, Boolean.FALSE);
+	}
+
+	@Benchmark
+	public String writeJson() {
+		return StringUtils.objectToString(this.proxyConfig, StringUtils.StringType.JSON, Boolean.FALSE);
+	}
+
+	@Benchmark
+	public String writeJsonPerCall() throws Exception {
+		return new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+				.writeValueAsString(this.proxyConfig);
+	}
+
+	@Benchmark
+	public ProxyConfig readJson() {
+		return StringUtils.stringToObject(this.jsonContent, StringUtils.StringType.JSON, ProxyConfig.class);
+	}
+
+	@Benchmark
+	public ProxyConfig readJsonPerCall() throws Exception {
+		return new ObjectMapper().readValue(this.jsonContent, ProxyConfig.class);
+	}
+
+	@Benchmark
+	public String writeXml() {
+		return StringUtils.objectToString(this.proxyConfig, StringUtils.StringType.XML, Boolean.FALSE);
+	}
+
+	@Benchmark
+	public String writeFormattedXml() {
+		return StringUtils.objectToString(this.proxyConfig, StringUtils.StringType.XML, Boolean.TRUE);
+	}
+
+	@Benchmark
+	public int writeXmlStream() {
+		this.outputStream.reset();
+		StringUtils.writeTo(this.proxyConfig, StringUtils.StringType.XML, this.outputStream);
+		return this.outputStream.size();
+	}
+
+	@Benchmark
+	public String writeXmlPerCall() throws Exception {
+		StringWriter stringWriter = new StringWriter();
+		Marshaller marshaller = JAXBContext.newInstance(ProxyConfig.class).createMarshaller();
+		marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+		marshaller.marshal(this.proxyConfig, XMLOutputFactory.newInstance().createXMLStreamWriter(stringWriter));
+		return stringWriter.toString();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(SerializeBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,231 @@
+package org.nervousync.test.launcher;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.annotations.launcher.Launcher;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.beans.launcher.LauncherConfig;
+import org.nervousync.beans.launcher.StartupConfig;
+import org.nervousync.commons.Globals;
+import org.nervousync.configs.ConfigureManager;
+import org.nervousync.enumerations.launcher.StartupType;
+import org.nervousync.launcher.StartupLauncher;
+import org.nervousync.launcher.StartupManager;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.FileUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class StartupManagerTest extends BaseTest {
+
+    private static final String BASE_PATH;
+    private static final Map<String, long[]> RUNNING_TIMES = new ConcurrentHashMap<>();
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger(0);
+
+    static {
+        String tmpDir = System.getProperty("java.io.tmpdir");
+        BASE_PATH = (tmpDir.endsWith(Globals.DEFAULT_PAGE_SEPARATOR)
+                ? tmpDir.substring(0, tmpDir.length() - 1)
+                : tmpDir) + Globals.DEFAULT_PAGE_SEPARATOR + "launcher";
+    }
+
+    @BeforeAll
+    public static void initialize() {
+        ConfigureManager.initialize(BASE_PATH);
+        List<LauncherConfig> launcherConfigs = new ArrayList<>();
+        for (Class<?> launcherClass : new Class<?>[]{DependentLauncher.class, FirstLauncher.class,
+                SecondLauncher.class, TimeoutLauncher.class, BlockedLauncher.class}) {
+            LauncherConfig launcherConfig = new LauncherConfig();
+            launcherConfig.setLauncherClass(launcherClass);
+            launcherConfig.setStartupType(StartupType.AUTO);
+            launcherConfigs.add(launcherConfig);
+        }
+        LauncherConfig removedConfig = new LauncherConfig();
+        removedConfig.setLauncherClass(RemovedLauncher.class);
+        removedConfig.setStartupType(StartupType.MANUAL);
+        launcherConfigs.add(removedConfig);
+        StartupConfig startupConfig = new StartupConfig();
+        startupConfig.setRegisteredLaunchers(launcherConfigs);
+        ConfigureManager.getInstance().saveConfigure(startupConfig);
+    }
+
+    @AfterAll
+    public static void clear() {
+        ConfigureManager.getInstance().removeConfigure(StartupConfig.class);
+        FileUtils.removeDir(BASE_PATH);
+        ConfigureManager.initialize();
+    }
+
+    @Test
+    @Order(0)
+    public void parallelStartup() {
+        StartupManager startupManager = StartupManager.getInstance();
+        Assertions.assertNotNull(startupManager);
+        List<String> runningLaunchers = startupManager.getRunningLaunchers();
+        Assertions.assertTrue(runningLaunchers.contains(FirstLauncher.class.getName()));
+        Assertions.assertTrue(runningLaunchers.contains(SecondLauncher.class.getName()));
+        Assertions.assertTrue(runningLaunchers.contains(DependentLauncher.class.getName()));
+        Assertions.assertFalse(runningLaunchers.contains(BlockedLauncher.class.getName()));
+
+        long[] firstTimes = RUNNING_TIMES.get(FirstLauncher.class.getName());
+        long[] secondTimes = RUNNING_TIMES.get(SecondLauncher.class.getName());
+        long[] dependentTimes = RUNNING_TIMES.get(DependentLauncher.class.getName());
+        Assertions.assertTrue(firstTimes[0] < secondTimes[1] && secondTimes[0] < firstTimes[1]);
+        Assertions.assertTrue(dependentTimes[0] >= Math.max(firstTimes[1], secondTimes[1]));
+
+        Map<String, Long> startupTimes = startupManager.getStartupTimes();
+        Assertions.assertTrue(startupTimes.get(FirstLauncher.class.getName()) >= 300L);
+        Assertions.assertFalse(startupTimes.containsKey(BlockedLauncher.class.getName()));
+    }
+
+    @Test
+    @Order(5)
+    public void timeoutStartup() throws InterruptedException {
+        StartupManager startupManager = StartupManager.getInstance();
+        Assertions.assertFalse(startupManager.getRunningLaunchers().contains(TimeoutLauncher.class.getName()));
+        Thread.sleep(600L);
+        Assertions.assertFalse(startupManager.getRunningLaunchers().contains(TimeoutLauncher.class.getName()));
+        Assertions.assertFalse(startupManager.getStartupTimes().containsKey(TimeoutLauncher.class.getName()));
+    }
+
+    @Test
+    @Order(10)
+    public void configLaunchers() {
+        StartupManager startupManager = StartupManager.getInstance();
+        Assertions.assertEquals(5, startupManager.registeredLaunchers().size());
+        startupManager.config(FirstLauncher.class.getName(), StartupType.MANUAL);
+        Assertions.assertTrue(startupManager.registeredLaunchers()
+                .stream()
+                .anyMatch(launcherConfig -> FirstLauncher.class.equals(launcherConfig.getLauncherClass())
+                        && StartupType.MANUAL.equals(launcherConfig.getStartupType())));
+
+        startupManager.stop(FirstLauncher.class.getName());
+        Assertions.assertFalse(startupManager.getRunningLaunchers().contains(FirstLauncher.class.getName()));
+        startupManager.startup(FirstLauncher.class.getName());
+        Assertions.assertTrue(startupManager.getRunningLaunchers().contains(FirstLauncher.class.getName()));
+    }
+
+    @Test
+    @Order(20)
+    public void scanLaunchers() {
+        StartupManager startupManager = StartupManager.getInstance();
+        startupManager.scanLaunchers();
+
+        List<LauncherConfig> registeredLaunchers = startupManager.registeredLaunchers();
+        Assertions.assertEquals(5, registeredLaunchers.size());
+        Assertions.assertTrue(registeredLaunchers.stream()
+                .anyMatch(launcherConfig -> FirstLauncher.class.equals(launcherConfig.getLauncherClass())
+                        && StartupType.AUTO.equals(launcherConfig.getStartupType())));
+        Assertions.assertTrue(registeredLaunchers.stream()
+                .noneMatch(launcherConfig -> RemovedLauncher.class.equals(launcherConfig.getLauncherClass())
+                        || UnannotatedLauncher.class.equals(launcherConfig.getLauncherClass())));
+        Assertions.assertEquals(0, INSTANCE_COUNT.get());
+
+        StartupConfig startupConfig = ConfigureManager.getInstance().readConfigure(StartupConfig.class);
+        Assertions.assertNotNull(startupConfig);
+        Assertions.assertEquals(5, startupConfig.getRegisteredLaunchers().size());
+        Assertions.assertTrue(startupConfig.getRegisteredLaunchers()
+                .stream()
+                .anyMatch(launcherConfig -> FirstLauncher.class.equals(launcherConfig.getLauncherClass())
+                        && StartupType.AUTO.equals(launcherConfig.getStartupType())));
+        Assertions.assertTrue(startupConfig.getRegisteredLaunchers()
+                .stream()
+                .noneMatch(launcherConfig -> RemovedLauncher.class.equals(launcherConfig.getLauncherClass())));
+    }
+
+    private static void running(final Class<?> launcherClass, final long sleepTime) {
+        long beginTime = System.currentTimeMillis();
+        try {
+            Thread.sleep(sleepTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RUNNING_TIMES.put(launcherClass.getName(), new long[]{beginTime, System.currentTimeMillis()});
+    }
+
+    public static abstract class TestLauncher implements StartupLauncher {
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+
+    @Provider(name = "FirstLauncher", titleKey = "First.Launcher")
+    @Launcher(StartupType.AUTO)
+    public static final class FirstLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            running(FirstLauncher.class, 400L);
+        }
+    }
+
+    @Provider(name = "SecondLauncher", titleKey = "Second.Launcher")
+    @Launcher(StartupType.AUTO)
+    public static final class SecondLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            running(SecondLauncher.class, 400L);
+        }
+    }
+
+    @Provider(name = "DependentLauncher", titleKey = "Dependent.Launcher")
+    @Launcher(value = StartupType.AUTO, dependencies = {FirstLauncher.class, SecondLauncher.class})
+    public static final class DependentLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            running(DependentLauncher.class, 10L);
+        }
+    }
+
+    @Provider(name = "TimeoutLauncher", titleKey = "Timeout.Launcher")
+    @Launcher(value = StartupType.AUTO, timeout = 100L)
+    public static final class TimeoutLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            running(TimeoutLauncher.class, 500L);
+        }
+    }
+
+    @Provider(name = "BlockedLauncher", titleKey = "Blocked.Launcher")
+    @Launcher(value = StartupType.AUTO, dependencies = TimeoutLauncher.class)
+    public static final class BlockedLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            running(BlockedLauncher.class, 10L);
+        }
+    }
+
+    @Provider(name = "RemovedLauncher", titleKey = "Removed.Launcher")
+    @Launcher(StartupType.MANUAL)
+    public static final class RemovedLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            running(RemovedLauncher.class, 10L);
+        }
+    }
+
+    public static final class UnannotatedLauncher extends TestLauncher {
+
+        public UnannotatedLauncher() {
+            INSTANCE_COUNT.incrementAndGet();
+        }
+
+        @Override
+        public void startup() {
+            running(UnannotatedLauncher.class, 10L);
+        }
+    }
+}
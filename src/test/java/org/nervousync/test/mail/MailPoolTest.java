@@ -0,0 +1,405 @@
+package org.nervousync.test.mail;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.Message;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
+import org.junit.jupiter.api.*;
+import org.nervousync.commons.Globals;
+import org.nervousync.enumerations.mail.MailProtocol;
+import org.nervousync.exceptions.builder.BuilderException;
+import org.nervousync.mail.MailObject;
+import org.nervousync.mail.config.MailConfig;
+import org.nervousync.mail.config.builder.MailConfigBuilder;
+import org.nervousync.mail.pool.ConnectionPool;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.*;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public final class MailPoolTest extends BaseTest {
+
+    private SMTPServer smtpServer;
+    private POP3Server pop3Server;
+    private MailConfig mailConfig;
+
+    @BeforeAll
+    public void initialize() throws IOException, BuilderException {
+        this.smtpServer = new SMTPServer();
+        this.pop3Server = new POP3Server(30);
+        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        KeyPair keyPair = SecurityUtils.RSAKeyPair(1024);
+        X509Certificate x509Certificate = CertificateUtils.x509(keyPair.getPublic(), IDUtils.snowflake(),
+                new Date(currentTime), new Date(currentTime + 365 * 24 * 60 * 60 * 1000L), "TestCert",
+                keyPair.getPrivate(), "SHA1withRSA");
+        this.mailConfig = MailConfigBuilder.newBuilder()
+                .sendConfig()
+                .mailProtocol(MailProtocol.SMTP)
+                .configHost("127.0.0.1", this.smtpServer.port())
+                .authLogin(Boolean.FALSE)
+                .useSSL(Boolean.FALSE)
+                .connectionTimeout(10)
+                .processTimeout(10)
+                .confirm()
+                .receiveConfig()
+                .mailProtocol(MailProtocol.POP3)
+                .configHost("127.0.0.1", this.pop3Server.port())
+                .authLogin(Boolean.FALSE)
+                .useSSL(Boolean.FALSE)
+                .confirm()
+                .authentication("sender@nervousync.org", "password")
+                .signer(x509Certificate, keyPair.getPrivate())
+                .confirm();
+    }
+
+    @AfterAll
+    public void clear() throws IOException {
+        ConnectionPool.clear();
+        this.smtpServer.close();
+        this.pop3Server.close();
+    }
+
+    @Test
+    @Order(0)
+    public void sendMails() {
+        MailUtils.Agent mailAgent = MailUtils.mailAgent(this.mailConfig);
+        Assertions.assertNotNull(mailAgent);
+        for (int i = 0; i < 5; i++) {
+            MailObject mailObject = new MailObject();
+            mailObject.setReceiveAddress(List.of("receiver@nervousync.org"));
+            mailObject.setSubject("Pooled mail " + i);
+            mailObject.setContent("Pooled mail content " + i);
+            Assertions.assertTrue(mailAgent.sendMail(mailObject));
+        }
+        Assertions.assertEquals(5, this.smtpServer.messageCount.get());
+        Assertions.assertEquals(1, this.smtpServer.connectionCount.get());
+        ConnectionPool.statistics().forEach(poolStatistics ->
+                this.logger.info("Mail_Pool_Statistics", poolStatistics.poolName(), poolStatistics.createdCount(),
+                        poolStatistics.reusedCount(), poolStatistics.evictedCount(), poolStatistics.idleCount()));
+    }
+
+    @Test
+    @Order(10)
+    public void bulkSend() {
+        MailUtils.Agent mailAgent = MailUtils.mailAgent(this.mailConfig);
+        Assertions.assertNotNull(mailAgent);
+        int beginCount = this.smtpServer.messageCount.get();
+        List<MailObject> mailList = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            MailObject mailObject = new MailObject();
+            mailObject.setReceiveAddress(List.of("receiver@nervousync.org"));
+            mailObject.setSubject("Bulk mail " + i);
+            mailObject.setContent("Bulk mail content " + i);
+            mailList.add(mailObject);
+        }
+        MailUtils.SendReport sendReport = mailAgent.sendMails(mailList, 4, null);
+        Assertions.assertEquals(40, sendReport.successCount());
+        Assertions.assertEquals(40, this.smtpServer.messageCount.get() - beginCount);
+        Assertions.assertTrue(sendReport.connectionCount() <= 4);
+        for (int i = 0; i < mailList.size(); i++) {
+            Assertions.assertSame(mailList.get(i), sendReport.outcomes().get(i).mailObject());
+        }
+        this.logger.info("Mail_Bulk_Report", sendReport.successCount(), sendReport.failedCount(),
+                sendReport.workerCount(), sendReport.connectionCount(), sendReport.throughput());
+    }
+
+    @Test
+    @Order(20)
+    public void listMails() {
+        MailUtils.Agent mailAgent = MailUtils.mailAgent(this.mailConfig);
+        Assertions.assertNotNull(mailAgent);
+        List<String> uidList = mailAgent.mailList();
+        Assertions.assertEquals(30, uidList.size());
+        Assertions.assertEquals(1, this.pop3Server.uidlCount.get());
+        List<MailObject> mailList = mailAgent.readMailList(Globals.DEFAULT_EMAIL_FOLDER_INBOX,
+                uidList.get(25), uidList.get(3), uidList.get(12));
+        Assertions.assertEquals(3, mailList.size());
+        Assertions.assertEquals("Message 3", mailList.get(0).getSubject());
+        Assertions.assertEquals("Message 25", mailList.get(2).getSubject());
+        MailObject mailObject = mailAgent.readMail(Globals.DEFAULT_EMAIL_FOLDER_INBOX, uidList.get(7));
+        Assertions.assertNotNull(mailObject);
+        Assertions.assertEquals(uidList.get(7), mailObject.getUid());
+    }
+
+    @Test
+    @Order(30)
+    public void streamMails() {
+        MailUtils.Agent mailAgent = MailUtils.mailAgent(this.mailConfig);
+        Assertions.assertNotNull(mailAgent);
+        try (Stream<MailObject> mailStream = mailAgent.mailStream(Globals.DEFAULT_EMAIL_FOLDER_INBOX, 7, Boolean.FALSE)) {
+            List<String> subjectList = mailStream.map(MailObject::getSubject).toList();
+            Assertions.assertEquals(30, subjectList.size());
+            Assertions.assertEquals("Message 0", subjectList.get(0));
+            Assertions.assertEquals("Message 29", subjectList.get(29));
+        }
+    }
+
+    @Test
+    @Order(40)
+    public void saveAttachments() throws Exception {
+        byte[] sharedContent = new byte[150 * 1024];
+        new Random(17L).nextBytes(sharedContent);
+        byte[] largeContent = new byte[300 * 1024];
+        new Random(31L).nextBytes(largeContent);
+        Path storagePath = Files.createTempDirectory("attachments");
+        try (POP3Server attachServer = new POP3Server(List.of(
+                attachMessage("Attachment 0", "shared.bin", sharedContent),
+                attachMessage("Attachment 1", "copied.bin", sharedContent),
+                attachMessage("Attachment 2", "large.bin", largeContent)))) {
+            MailConfig attachConfig = MailConfigBuilder.newBuilder()
+                    .receiveConfig()
+                    .mailProtocol(MailProtocol.POP3)
+                    .configHost("127.0.0.1", attachServer.port())
+                    .authLogin(Boolean.FALSE)
+                    .useSSL(Boolean.FALSE)
+                    .confirm()
+                    .authentication("sender@nervousync.org", "password")
+                    .storagePath(storagePath.toString())
+                    .confirm();
+            MailUtils.Agent mailAgent = MailUtils.mailAgent(attachConfig);
+            Assertions.assertNotNull(mailAgent);
+            mailAgent.attachmentConfig(null, 200 * 1024L);
+            List<String> uidList = mailAgent.mailList();
+            Assertions.assertEquals(3, uidList.size());
+
+            MailObject sharedObject = mailAgent.readMail(Globals.DEFAULT_EMAIL_FOLDER_INBOX, uidList.get(0), Boolean.TRUE);
+            Assertions.assertNotNull(sharedObject);
+            Assertions.assertEquals(1, sharedObject.getAttachFiles().size());
+            Assertions.assertArrayEquals(sharedContent, Files.readAllBytes(Paths.get(sharedObject.getAttachFiles().get(0))));
+
+            MailObject copiedObject = mailAgent.readMail(Globals.DEFAULT_EMAIL_FOLDER_INBOX, uidList.get(1), Boolean.TRUE);
+            Assertions.assertNotNull(copiedObject);
+            Assertions.assertEquals(sharedObject.getAttachFiles(), copiedObject.getAttachFiles());
+            Assertions.assertFalse(Files.exists(storagePath.resolve("copied.bin")));
+
+            MailObject largeObject = mailAgent.readMail(Globals.DEFAULT_EMAIL_FOLDER_INBOX, uidList.get(2), Boolean.TRUE);
+            Assertions.assertNotNull(largeObject);
+            Assertions.assertTrue(largeObject.getAttachFiles().isEmpty());
+            Assertions.assertFalse(Files.exists(storagePath.resolve("large.bin")));
+            try (Stream<Path> pathStream = Files.list(storagePath)) {
+                Assertions.assertEquals(1, pathStream.count());
+            }
+        } finally {
+            FileUtils.removeDir(storagePath.toString());
+        }
+    }
+
+    private static String attachMessage(final String subject, final String fileName, final byte[] content)
+            throws Exception {
+        MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
+        mimeMessage.setFrom("author@nervousync.org");
+        mimeMessage.setRecipients(Message.RecipientType.TO, "sender@nervousync.org");
+        mimeMessage.setSubject(subject);
+        MimeMultipart mimeMultipart = new MimeMultipart();
+        MimeBodyPart textPart = new MimeBodyPart();
+        textPart.setText(subject + " content", "UTF-8");
+        mimeMultipart.addBodyPart(textPart);
+        MimeBodyPart attachPart = new MimeBodyPart();
+        attachPart.setDataHandler(new DataHandler(new ByteArrayDataSource(content, "application/octet-stream")));
+        attachPart.setFileName(fileName);
+        attachPart.setDisposition(Part.ATTACHMENT);
+        mimeMultipart.addBodyPart(attachPart);
+        mimeMessage.setContent(mimeMultipart);
+        mimeMessage.saveChanges();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mimeMessage.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static final class POP3Server implements Closeable {
+
+        private final ServerSocket serverSocket;
+        private final List<String> messageList = new ArrayList<>();
+        private final AtomicInteger uidlCount = new AtomicInteger(0);
+
+        POP3Server(final int messageCount) throws IOException {
+            this(textMessages(messageCount));
+        }
+
+        POP3Server(final List<String> messageList) throws IOException {
+            this.messageList.addAll(messageList);
+            this.serverSocket = new ServerSocket(0);
+            Thread acceptThread = new Thread(this::accept, "POP3-Stand-In");
+            acceptThread.setDaemon(Boolean.TRUE);
+            acceptThread.start();
+        }
+
+        private static List<String> textMessages(final int messageCount) {
+            List<String> messageList = new ArrayList<>();
+            for (int i = 0; i < messageCount; i++) {
+                messageList.add("From: author@nervousync.org\r\n"
+                        + "To: sender@nervousync.org\r\n"
+                        + "Subject: Message " + i + "\r\n"
+                        + "Message-ID: <message-" + i + "@nervousync.org>\r\n"
+                        + "Content-Type: text/plain; charset=UTF-8\r\n"
+                        + "\r\n"
+                        + "Message content " + i + "\r\n");
+            }
+            return messageList;
+        }
+
+        int port() {
+            return this.serverSocket.getLocalPort();
+        }
+
+        private void accept() {
+            while (!this.serverSocket.isClosed()) {
+                try {
+                    Socket socket = this.serverSocket.accept();
+                    Thread sessionThread = new Thread(() -> this.session(socket));
+                    sessionThread.setDaemon(Boolean.TRUE);
+                    sessionThread.start();
+                } catch (IOException ignored) {
+                    return;
+                }
+            }
+        }
+
+        private void session(final Socket socket) {
+            try (socket;
+                 BufferedReader reader =
+                         new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                SMTPServer.reply(writer, "+OK POP3 stand-in");
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] commands = line.split(" ");
+                    switch (commands[0].toUpperCase()) {
+                        case "STAT" -> {
+                            int totalSize = this.messageList.stream().mapToInt(String::length).sum();
+                            SMTPServer.reply(writer, "+OK " + this.messageList.size() + " " + totalSize);
+                        }
+                        case "LIST" -> {
+                            if (commands.length > 1) {
+                                int index = Integer.parseInt(commands[1]);
+                                SMTPServer.reply(writer,
+                                        "+OK " + index + " " + this.messageList.get(index - 1).length());
+                            } else {
+                                StringBuilder response = new StringBuilder("+OK\r\n");
+                                for (int i = 0; i < this.messageList.size(); i++) {
+                                    response.append(i + 1).append(" ").append(this.messageList.get(i).length())
+                                            .append("\r\n");
+                                }
+                                SMTPServer.reply(writer, response.append(".").toString());
+                            }
+                        }
+                        case "UIDL" -> {
+                            this.uidlCount.incrementAndGet();
+                            StringBuilder response = new StringBuilder("+OK\r\n");
+                            for (int i = 0; i < this.messageList.size(); i++) {
+                                response.append(i + 1).append(" UID-").append(i).append("\r\n");
+                            }
+                            SMTPServer.reply(writer, response.append(".").toString());
+                        }
+                        case "RETR" -> SMTPServer.reply(writer,
+                                "+OK\r\n" + this.messageList.get(Integer.parseInt(commands[1]) - 1) + ".");
+                        case "TOP" -> {
+                            String message = this.messageList.get(Integer.parseInt(commands[1]) - 1);
+                            SMTPServer.reply(writer,
+                                    "+OK\r\n" + message.substring(0, message.indexOf("\r\n\r\n") + 4) + ".");
+                        }
+                        case "CAPA" -> SMTPServer.reply(writer, "+OK\r\nUSER\r\nTOP\r\nUIDL\r\n.");
+                        case "QUIT" -> {
+                            SMTPServer.reply(writer, "+OK Bye");
+                            return;
+                        }
+                        default -> SMTPServer.reply(writer, "+OK");
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.serverSocket.close();
+        }
+    }
+
+    private static final class SMTPServer implements Closeable {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connectionCount = new AtomicInteger(0);
+        private final AtomicInteger messageCount = new AtomicInteger(0);
+
+        SMTPServer() throws IOException {
+            this.serverSocket = new ServerSocket(0);
+            Thread acceptThread = new Thread(this::accept, "SMTP-Stand-In");
+            acceptThread.setDaemon(Boolean.TRUE);
+            acceptThread.start();
+        }
+
+        int port() {
+            return this.serverSocket.getLocalPort();
+        }
+
+        private void accept() {
+            while (!this.serverSocket.isClosed()) {
+                try {
+                    Socket socket = this.serverSocket.accept();
+                    this.connectionCount.incrementAndGet();
+                    Thread sessionThread = new Thread(() -> this.session(socket));
+                    sessionThread.setDaemon(Boolean.TRUE);
+                    sessionThread.start();
+                } catch (IOException ignored) {
+                    return;
+                }
+            }
+        }
+
+        private void session(final Socket socket) {
+            try (socket;
+                 BufferedReader reader =
+                         new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                reply(writer, "220 localhost SMTP stand-in");
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String command = line.length() > 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                    switch (command) {
+                        case "EHLO", "HELO" -> reply(writer, "250 localhost");
+                        case "DATA" -> {
+                            reply(writer, "354 End data with <CR><LF>.<CR><LF>");
+                            while ((line = reader.readLine()) != null && !".".equals(line)) {
+                                //  Discard message content
+                            }
+                            this.messageCount.incrementAndGet();
+                            reply(writer, "250 OK");
+                        }
+                        case "QUIT" -> {
+                            reply(writer, "221 Bye");
+                            return;
+                        }
+                        default -> reply(writer, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        private static void reply(final Writer writer, final String message) throws IOException {
+            writer.write(message + "\r\n");
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.serverSocket.close();
+        }
+    }
+}
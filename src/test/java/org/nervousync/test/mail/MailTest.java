@@ -1,5 +1,13 @@
 package org.nervousync.test.mail;
 
+import jakarta.activation.DataHandler;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
 import org.junit.jupiter.api.*;
 import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
@@ -13,10 +21,14 @@ import org.nervousync.test.BaseTest;
 import org.nervousync.utils.*;
 
 import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -277,4 +289,51 @@ public final class MailTest extends BaseTest {
                     this.logger.info("Trash_Count: {}", mailAgent.mailCount(Globals.DEFAULT_EMAIL_FOLDER_TRASH));
                 });
     }
+
+    @Test
+    @Order(80)
+    public void saveAttachments() throws Exception {
+        Path storagePath = Files.createTempDirectory("attachment");
+        try {
+            MailConfig mailConfig = new MailConfig();
+            mailConfig.setUserName("attachment@nervousync.org");
+            mailConfig.setPassword("Password");
+            mailConfig.setStoragePath(storagePath.toString());
+            MailUtils.Agent mailAgent = MailUtils.mailAgent(mailConfig);
+            Assertions.assertNotNull(mailAgent);
+
+            MimeMultipart mimeMultipart = new MimeMultipart();
+            mimeMultipart.addBodyPart(attachmentPart("A.txt", "Content X"));
+            mimeMultipart.addBodyPart(attachmentPart("A.txt", "Content Y"));
+            mimeMultipart.addBodyPart(attachmentPart("B.txt", "Content X"));
+            MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
+            mimeMessage.setContent(mimeMultipart);
+            mimeMessage.saveChanges();
+
+            List<String> savedFiles = mailAgent.saveAttachments(mimeMessage);
+            Assertions.assertEquals(3, savedFiles.size());
+            Assertions.assertEquals("Content X", Files.readString(Path.of(savedFiles.get(0))));
+            Assertions.assertEquals("Content Y", Files.readString(Path.of(savedFiles.get(1))));
+            Assertions.assertEquals("Content X", Files.readString(Path.of(savedFiles.get(2))));
+            Assertions.assertNotEquals(savedFiles.get(0), savedFiles.get(1));
+
+            List<String> resavedFiles = mailAgent.saveAttachments(mimeMessage);
+            for (int i = 0; i < savedFiles.size(); i++) {
+                Assertions.assertEquals(Files.readString(Path.of(savedFiles.get(i))),
+                        Files.readString(Path.of(resavedFiles.get(i))));
+            }
+        } finally {
+            FileUtils.removeDir(storagePath.toString());
+        }
+    }
+
+    private static MimeBodyPart attachmentPart(final String fileName, final String content)
+            throws MessagingException {
+        MimeBodyPart mimeBodyPart = new MimeBodyPart();
+        mimeBodyPart.setDataHandler(new DataHandler(new ByteArrayDataSource(
+                content.getBytes(StandardCharsets.UTF_8), Globals.DEFAULT_CONTENT_TYPE_BINARY)));
+        mimeBodyPart.setFileName(fileName);
+        mimeBodyPart.setDisposition(Part.ATTACHMENT);
+        return mimeBodyPart;
+    }
 }
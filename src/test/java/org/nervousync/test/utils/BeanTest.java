@@ -4,6 +4,7 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.annotations.beans.BeanProperties;
@@ -20,15 +21,25 @@ import org.nervousync.beans.transfer.beans.XmlBeanAdapter;
 import org.nervousync.beans.transfer.beans.YamlBeanAdapter;
 import org.nervousync.beans.transfer.blob.Base32Adapter;
 import org.nervousync.beans.transfer.blob.Base64Adapter;
+import org.nervousync.commons.RegexGlobals;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.BeanUtils;
 import org.nervousync.utils.ClassUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.Serial;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public final class BeanTest extends BaseTest {
 
@@ -94,6 +105,161 @@ public final class BeanTest extends BaseTest {
 				StringUtils.objectToString(innerBean, StringUtils.StringType.JSON, Boolean.TRUE));
 	}
 
+	@Test
+	@Order(35)
+	public void parseStream() throws IOException {
+		StringBuilder jsonBuilder = new StringBuilder("[");
+		StringBuilder xmlBuilder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><list>");
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) {
+				jsonBuilder.append(",");
+			}
+			jsonBuilder.append("{\"dataString\":\"data").append(i).append("\",\"dataInteger\":").append(i).append("}");
+			xmlBuilder.append("<data_bean><data_string>data").append(i).append("</data_string><data_integer>")
+					.append(i).append("</data_integer></data_bean>");
+		}
+		jsonBuilder.append("]");
+		xmlBuilder.append("</list>");
+		try (Stream<DataBean> beanStream = StringUtils.parseStream(
+				new ByteArrayInputStream(jsonBuilder.toString().getBytes(StandardCharsets.UTF_8)),
+				StringUtils.StringType.JSON, DataBean.class)) {
+			Assertions.assertEquals(4950, beanStream.mapToInt(DataBean::getDataInteger).sum());
+		}
+		try (Stream<DataBean> beanStream = StringUtils.parseStream(
+				new ByteArrayInputStream(xmlBuilder.toString().getBytes(StandardCharsets.UTF_8)),
+				StringUtils.StringType.XML, DataBean.class)) {
+			List<DataBean> beanList = beanStream.toList();
+			Assertions.assertEquals(100, beanList.size());
+			Assertions.assertEquals("data99", beanList.get(99).getDataString());
+		}
+		try (Stream<List<DataBean>> chunkStream = StringUtils.parseChunks(
+				new ByteArrayInputStream(jsonBuilder.toString().getBytes(StandardCharsets.UTF_8)),
+				StringUtils.StringType.JSON, DataBean.class, 16)) {
+			Assertions.assertEquals(4950, chunkStream.parallel()
+					.mapToInt(chunk -> chunk.stream().mapToInt(DataBean::getDataInteger).sum())
+					.sum());
+		}
+	}
+
+	@Test
+	@Order(36)
+	public void parseChunksParallel() throws IOException {
+		StringBuilder jsonBuilder = new StringBuilder("[");
+		for (int i = 0; i < 2000; i++) {
+			if (i > 0) {
+				jsonBuilder.append(",");
+			}
+			jsonBuilder.append("{\"dataInteger\":").append(i).append("}");
+		}
+		jsonBuilder.append("]");
+		int chunkSize = 10;
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		AtomicInteger processedCount = new AtomicInteger(0);
+		AtomicInteger maxPending = new AtomicInteger(0);
+		CountedBean.PARSED_COUNT.set(0);
+		try (Stream<List<CountedBean>> chunkStream = StringUtils.parseChunks(
+				new ByteArrayInputStream(jsonBuilder.toString().getBytes(StandardCharsets.UTF_8)),
+				StringUtils.StringType.JSON, CountedBean.class, chunkSize)) {
+			long totalValue = chunkStream.parallel()
+					.mapToLong(chunk -> {
+						maxPending.accumulateAndGet(CountedBean.PARSED_COUNT.get() - processedCount.get(), Math::max);
+						try {
+							Thread.sleep(1L);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						processedCount.addAndGet(chunk.size());
+						return chunk.stream().mapToLong(CountedBean::getDataInteger).sum();
+					})
+					.sum();
+			Assertions.assertEquals(1999000L, totalValue);
+		}
+		Assertions.assertEquals(2000, processedCount.get());
+		Assertions.assertTrue(maxPending.get() <= (parallelism + 2) * chunkSize,
+				"Pending instances: " + maxPending.get());
+	}
+
+	@Test
+	@Order(37)
+	public void compilePattern() {
+		Assertions.assertSame(RegexGlobals.EMAIL_ADDRESS_PATTERN, StringUtils.compilePattern(RegexGlobals.EMAIL_ADDRESS));
+		Assertions.assertSame(RegexGlobals.UUID_PATTERN, StringUtils.compilePattern(RegexGlobals.UUID));
+		Assertions.assertSame(RegexGlobals.IPV4_PATTERN, StringUtils.compilePattern(RegexGlobals.IPV4_REGEX));
+
+		String regex = "^pattern-" + Pattern.quote(StringUtils.randomString(8)) + "-\\d+$";
+		StringUtils.PatternStatistics beforeStatistics = StringUtils.patternStatistics();
+		Pattern pattern = StringUtils.compilePattern(regex);
+		Assertions.assertSame(pattern, StringUtils.compilePattern(regex));
+		Assertions.assertSame(RegexGlobals.BASE64_PATTERN, StringUtils.compilePattern(RegexGlobals.BASE64));
+		StringUtils.PatternStatistics afterStatistics = StringUtils.patternStatistics();
+		Assertions.assertEquals(beforeStatistics.missCount() + 1, afterStatistics.missCount());
+		Assertions.assertEquals(beforeStatistics.hitCount() + 2, afterStatistics.hitCount());
+		Assertions.assertTrue(afterStatistics.cachedCount() > 0);
+	}
+
+	@Test
+	@Order(38)
+	public void streamRoundTrip() throws IOException {
+		DataBean dataBean = new DataBean();
+		dataBean.setDataString("Data <&> \"String\"");
+		dataBean.setDataInteger(227);
+		for (StringUtils.StringType stringType :
+				new StringUtils.StringType[]{StringUtils.StringType.JSON, StringUtils.StringType.YAML,
+						StringUtils.StringType.XML}) {
+			for (boolean formatOutput : new boolean[]{Boolean.FALSE, Boolean.TRUE}) {
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				Assertions.assertTrue(StringUtils.writeTo(dataBean, stringType, outputStream,
+						formatOutput, Boolean.TRUE, StandardCharsets.UTF_8.name()));
+				DataBean parsedBean = StringUtils.readFrom(new ByteArrayInputStream(outputStream.toByteArray()),
+						stringType, DataBean.class);
+				Assertions.assertNotNull(parsedBean, stringType + " " + formatOutput);
+				Assertions.assertEquals(dataBean.getDataString(), parsedBean.getDataString());
+				Assertions.assertEquals(dataBean.getDataInteger(), parsedBean.getDataInteger());
+			}
+		}
+		Assertions.assertFalse(StringUtils.writeTo(null, StringUtils.StringType.JSON, new ByteArrayOutputStream()));
+	}
+
+	@Test
+	@Order(39)
+	public void formatXml() throws IOException {
+		DataListBean listBean = new DataListBean();
+		listBean.setListName("");
+		DataBean firstBean = new DataBean();
+		firstBean.setDataString("First");
+		firstBean.setDataInteger(1);
+		DataBean secondBean = new DataBean();
+		secondBean.setDataString("");
+		listBean.setDataBeans(List.of(firstBean, secondBean));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		Assertions.assertTrue(StringUtils.writeTo(listBean, StringUtils.StringType.XML, outputStream,
+				Boolean.TRUE, Boolean.TRUE, StandardCharsets.UTF_8.name()));
+		Assertions.assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+						+ "<data_list>\n"
+						+ "    <list_name></list_name>\n"
+						+ "    <data_bean>\n"
+						+ "        <data_string>First</data_string>\n"
+						+ "        <data_integer>1</data_integer>\n"
+						+ "    </data_bean>\n"
+						+ "    <data_bean>\n"
+						+ "        <data_string></data_string>\n"
+						+ "    </data_bean>\n"
+						+ "</data_list>\n",
+				outputStream.toString(StandardCharsets.UTF_8));
+		outputStream = new ByteArrayOutputStream();
+		Assertions.assertTrue(StringUtils.writeTo(listBean, StringUtils.StringType.XML, outputStream,
+				Boolean.FALSE, Boolean.FALSE, StandardCharsets.UTF_8.name()));
+		Assertions.assertEquals("<data_list><list_name></list_name>"
+						+ "<data_bean><data_string>First</data_string><data_integer>1</data_integer></data_bean>"
+						+ "<data_bean><data_string></data_string></data_bean></data_list>",
+				outputStream.toString(StandardCharsets.UTF_8));
+		DataListBean parsedBean = StringUtils.readFrom(new ByteArrayInputStream(outputStream.toByteArray()),
+				StringUtils.StringType.XML, DataListBean.class);
+		Assertions.assertNotNull(parsedBean);
+		Assertions.assertEquals(2, parsedBean.getDataBeans().size());
+		Assertions.assertEquals("", parsedBean.getDataBeans().get(1).getDataString());
+	}
+
 	@Test
 	@Order(40)
 	public void removeConfig() {
@@ -686,4 +852,45 @@ public final class BeanTest extends BaseTest {
 			this.dataInteger = dataInteger;
 		}
 	}
+
+	@XmlRootElement(name = "data_list")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class DataListBean {
+
+		@XmlElement(name = "list_name")
+		private String listName;
+		@XmlElement(name = "data_bean")
+		private List<DataBean> dataBeans;
+
+		public String getListName() {
+			return listName;
+		}
+
+		public void setListName(String listName) {
+			this.listName = listName;
+		}
+
+		public List<DataBean> getDataBeans() {
+			return dataBeans;
+		}
+
+		public void setDataBeans(List<DataBean> dataBeans) {
+			this.dataBeans = dataBeans;
+		}
+	}
+
+	public static final class CountedBean {
+
+		private static final AtomicInteger PARSED_COUNT = new AtomicInteger(0);
+		private Integer dataInteger;
+
+		public Integer getDataInteger() {
+			return dataInteger;
+		}
+
+		public void setDataInteger(Integer dataInteger) {
+			PARSED_COUNT.incrementAndGet();
+			this.dataInteger = dataInteger;
+		}
+	}
 }
@@ -0,0 +1,49 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.DateTimeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+public final class DateTimeTest extends BaseTest {
+
+	private static final long TIME_MILLISECONDS = 784111777000L;
+
+	@Test
+	@Order(0)
+	public void formatter() {
+		Assertions.assertSame(DateTimeUtils.formatter("yyyyMMdd", Locale.US),
+				DateTimeUtils.formatter("yyyyMMdd", Locale.US));
+		Assertions.assertNotSame(DateTimeUtils.formatter("yyyyMMdd", Locale.US),
+				DateTimeUtils.formatter("yyyyMMdd", Locale.CHINA));
+	}
+
+	@Test
+	@Order(10)
+	public void lastModified() {
+		String lastModified = DateTimeUtils.lastModified(TIME_MILLISECONDS);
+		Assertions.assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", lastModified);
+		Assertions.assertEquals(DateTimeFormatter.ofPattern(DateTimeUtils.LAST_MODIFIED_DATETIME_PATTERN, Locale.US)
+				.format(Instant.ofEpochMilli(TIME_MILLISECONDS).atOffset(ZoneOffset.UTC)), lastModified);
+		byte[] dataBytes = new byte[DateTimeUtils.RFC1123_LENGTH];
+		int length = DateTimeUtils.writeRFC1123(dataBytes, 0, TIME_MILLISECONDS);
+		Assertions.assertEquals(lastModified, new String(dataBytes, 0, length, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	@Order(20)
+	public void iso8601() {
+		String iso8601 = DateTimeUtils.appendISO8601(new StringBuilder(), TIME_MILLISECONDS).toString();
+		Assertions.assertEquals("1994-11-06T08:49:37Z", iso8601);
+		byte[] dataBytes = new byte[DateTimeUtils.ISO8601_LENGTH];
+		int length = DateTimeUtils.writeISO8601(dataBytes, 0, TIME_MILLISECONDS);
+		Assertions.assertEquals(iso8601, new String(dataBytes, 0, length, StandardCharsets.US_ASCII));
+	}
+}
@@ -0,0 +1,133 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.commons.io.FileWalker;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.FileUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public final class FileTest extends BaseTest {
+
+	private static Path BASE_PATH;
+
+	@BeforeAll
+	public static void initialize() throws IOException {
+		BASE_PATH = Files.createTempDirectory("walker");
+		Path childPath = Files.createDirectories(BASE_PATH.resolve("child").resolve("deep"));
+		Files.writeString(BASE_PATH.resolve("root.txt"), "root");
+		Files.writeString(BASE_PATH.resolve("root.xml"), "root");
+		Files.writeString(childPath.resolve("deep.txt"), "deep");
+		Files.writeString(childPath.getParent().resolve("child.txt"), "child");
+	}
+
+	@AfterAll
+	public static void clean() {
+		FileUtils.removeDir(BASE_PATH.toString());
+	}
+
+	@Test
+	@Order(0)
+	public void listFiles() throws FileNotFoundException {
+		Assertions.assertEquals(4, FileUtils.listFiles(BASE_PATH.toString()).size());
+		Assertions.assertEquals(2,
+				FileUtils.listFiles(BASE_PATH.toString(), Boolean.TRUE, Boolean.FALSE, Boolean.FALSE).size());
+		Assertions.assertEquals(7,
+				FileUtils.listFiles(BASE_PATH.toString(), Boolean.TRUE, Boolean.TRUE, Boolean.TRUE).size());
+		Assertions.assertEquals(3,
+				FileUtils.listFilesByRegex(BASE_PATH.toString(), ".*\\.txt",
+						Boolean.TRUE, Boolean.FALSE, Boolean.TRUE).size());
+	}
+
+	@Test
+	@Order(10)
+	public void walker() {
+		try (Stream<Path> pathStream = FileWalker.newWalker(BASE_PATH).glob("*.txt").stream()) {
+			Assertions.assertEquals(3, pathStream.count());
+		}
+		List<String> fileList = FileWalker.newWalker(BASE_PATH).maxDepth(2).regex("child.*")
+				.parallel(ForkJoinPool.commonPool()).list();
+		Assertions.assertEquals(1, fileList.size());
+		Assertions.assertTrue(fileList.get(0).endsWith("child.txt"));
+	}
+
+	@Test
+	@Order(15)
+	public void walkerHiddenAndLinks() throws IOException {
+		Path walkPath = Files.createTempDirectory("hidden");
+		try {
+			Path hiddenPath = Files.createDirectories(walkPath.resolve(".hidden"));
+			Files.writeString(hiddenPath.resolve("inner.txt"), "hidden");
+			Path visiblePath = Files.createDirectories(walkPath.resolve("visible"));
+			Files.writeString(visiblePath.resolve("visible.txt"), "visible");
+			Path dataPath = Files.createDirectories(walkPath.resolve("data"));
+			Files.writeString(dataPath.resolve("data.txt"), "data");
+			boolean linkSupported;
+			try {
+				Files.createSymbolicLink(visiblePath.resolve("loop"), walkPath);
+				Files.createSymbolicLink(visiblePath.resolve("link"), dataPath);
+				linkSupported = Boolean.TRUE;
+			} catch (UnsupportedOperationException | IOException e) {
+				linkSupported = Boolean.FALSE;
+			}
+			List<String> sequentialList = FileWalker.newWalker(walkPath).readHiddenFiles(Boolean.FALSE)
+					.includeDirectories(Boolean.TRUE).list();
+			List<String> parallelList = FileWalker.newWalker(walkPath).readHiddenFiles(Boolean.FALSE)
+					.includeDirectories(Boolean.TRUE).parallel().list();
+			Assertions.assertTrue(sequentialList.stream().noneMatch(path -> path.contains(".hidden")));
+			Assertions.assertTrue(sequentialList.stream().anyMatch(path -> path.endsWith("visible.txt")));
+			Assertions.assertEquals(sequentialList.stream().sorted().toList(), parallelList.stream().sorted().toList());
+
+			String loopPath = visiblePath.resolve("loop").toAbsolutePath().toString();
+			Assertions.assertTrue(sequentialList.stream().noneMatch(path -> path.startsWith(loopPath)));
+			List<String> fileList = FileWalker.newWalker(walkPath).readHiddenFiles(Boolean.FALSE).list();
+			Assertions.assertTrue(fileList.stream().noneMatch(path -> path.startsWith(loopPath)));
+			if (linkSupported) {
+				String linkPath = visiblePath.resolve("link").toAbsolutePath().toString();
+				Assertions.assertTrue(sequentialList.contains(linkPath));
+				Assertions.assertFalse(fileList.contains(linkPath));
+				Assertions.assertTrue(fileList.contains(Path.of(linkPath, "data.txt").toString()));
+				Assertions.assertEquals(3, fileList.size());
+			}
+		} finally {
+			Files.deleteIfExists(walkPath.resolve("visible").resolve("loop"));
+			Files.deleteIfExists(walkPath.resolve("visible").resolve("link"));
+			FileUtils.removeDir(walkPath.toString());
+		}
+	}
+
+	@Test
+	@Order(20)
+	public void copyAndMove() throws IOException {
+		String copyPath = BASE_PATH.resolve("copy").toString();
+		AtomicLong copiedBytes = new AtomicLong(0L);
+		AtomicLong copiedFiles = new AtomicLong(0L);
+		Assertions.assertTrue(FileUtils.copy(BASE_PATH.resolve("child").toString(), copyPath, Boolean.FALSE,
+				(targetPath, totalBytes, totalFiles) -> {
+					copiedBytes.accumulateAndGet(totalBytes, Math::max);
+					copiedFiles.accumulateAndGet(totalFiles, Math::max);
+				}));
+		Assertions.assertEquals(2L, copiedFiles.get());
+		Assertions.assertEquals(9L, copiedBytes.get());
+		Assertions.assertEquals("deep", Files.readString(Path.of(copyPath, "deep", "deep.txt")));
+
+		String movePath = BASE_PATH.resolve("move").resolve("target").toString();
+		Assertions.assertTrue(FileUtils.moveDir(copyPath, null, movePath, null, Boolean.FALSE));
+		Assertions.assertFalse(Files.exists(Path.of(copyPath)));
+		Assertions.assertEquals("child", Files.readString(Path.of(movePath, "child.txt")));
+		Assertions.assertTrue(FileUtils.moveFile(Path.of(movePath, "child.txt").toString(),
+				Path.of(movePath, "moved.txt").toString()));
+		Assertions.assertEquals("child", Files.readString(Path.of(movePath, "moved.txt")));
+	}
+}
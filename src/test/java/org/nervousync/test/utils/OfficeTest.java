@@ -17,19 +17,36 @@
 
 package org.nervousync.test.utils;
 
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.commons.Globals;
 import org.nervousync.office.excel.ExcelWriter;
+import org.nervousync.office.excel.SheetSchema;
 import org.nervousync.office.excel.SheetWriter;
+import org.nervousync.office.excel.impl.EventModelReaderImpl;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.FileUtils;
 import org.nervousync.utils.OfficeUtils;
 
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 public class OfficeTest extends BaseTest {
     private static final String FILE_PATH = "src/test/resources/test.xlsx";
@@ -46,6 +63,11 @@ public class OfficeTest extends BaseTest {
     public static void clean() {
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "test.xls");
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "test.xlsx");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "stream.xlsx");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "shared.xlsx");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "parallel.xls");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "parallel.xlsx");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "bulk.xlsx");
     }
 
     @Test
@@ -126,4 +148,156 @@ public class OfficeTest extends BaseTest {
                                     this.logger.info("Office_Excel_Rows_Count", sheetName, rowsData.size()));
                 });
     }
+
+    @Test
+    @Order(80)
+    public void streamRows() throws Exception {
+        final int rowCount = 20000;
+        String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "stream.xlsx";
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath)) {
+            SheetWriter sheetWriter = excelWriter.sheetWriter("Stream");
+            for (int i = 0; i < rowCount; i++) {
+                sheetWriter.writeData(i, Arrays.asList("Name " + i, i));
+            }
+            excelWriter.write();
+        }
+        Assertions.assertEquals(rowCount, OfficeUtils.excelRowsCount(filePath, "Stream"));
+
+        long beginTime = System.currentTimeMillis();
+        final AtomicInteger streamCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+        OfficeUtils.readRows(filePath, "Stream", 100, 200, rowData -> {
+            Assertions.assertEquals("Name " + (100 + streamCount.get()), rowData.get(0));
+            streamCount.incrementAndGet();
+        });
+        Assertions.assertEquals(100, streamCount.get());
+        this.logger.info("Office_Stream_Rows", "Stream", streamCount.get(), rowCount,
+                System.currentTimeMillis() - beginTime);
+
+        List<RowBean> beanList = OfficeUtils.readBeans(filePath, "Stream", 0, 10,
+                RowBean.class, "name", "index");
+        Assertions.assertEquals(10, beanList.size());
+        Assertions.assertEquals("Name 9", beanList.get(9).name);
+        Assertions.assertEquals(9, beanList.get(9).index);
+    }
+
+    @Test
+    @Order(90)
+    public void indexedSharedStrings() throws Exception {
+        String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "shared.xlsx";
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream outputStream = new FileOutputStream(filePath)) {
+            Sheet sheet = workbook.createSheet("Shared");
+            for (int i = 0; i < 1000; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("Category " + (i % 10));
+                row.createCell(1).setCellValue("中文内容 " + i);
+            }
+            workbook.write(outputStream);
+        }
+        try (EventModelReaderImpl memoryReader = new EventModelReaderImpl(filePath, Boolean.FALSE);
+             EventModelReaderImpl indexedReader = new EventModelReaderImpl(filePath, Boolean.TRUE)) {
+            List<List<String>> memoryData = memoryReader.read("Shared");
+            Assertions.assertEquals(1000, memoryData.size());
+            Assertions.assertEquals(memoryData, indexedReader.read("Shared"));
+            Assertions.assertEquals(memoryData.subList(500, 510), indexedReader.read("Shared", 500, 510));
+            this.logger.info("Office_Excel_Rows_Count", "Shared", indexedReader.maxRow("Shared"));
+        }
+    }
+
+    @Test
+    @Order(100)
+    public void parallelRead() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (String fileName : Arrays.asList("parallel.xls", "parallel.xlsx")) {
+                String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + fileName;
+                try (Workbook workbook = fileName.endsWith(".xls") ? new HSSFWorkbook() : new XSSFWorkbook();
+                     OutputStream outputStream = new FileOutputStream(filePath)) {
+                    for (int i = 0; i < 4; i++) {
+                        Sheet sheet = workbook.createSheet("Sheet" + i);
+                        for (int j = 0; j < 500; j++) {
+                            Row row = sheet.createRow(j);
+                            row.createCell(0).setCellValue("Row " + j);
+                            row.createCell(1).setCellValue(j);
+                            row.createCell(3).setCellValue(j % 2 == 0);
+                            row.createCell(4).setCellFormula("B" + (j + 1) + "*2");
+                        }
+                        sheet.getRow(0).createCell(2).setCellValue("Merged");
+                        sheet.addMergedRegion(new CellRangeAddress(0, 1, 2, 2));
+                    }
+                    workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+                    workbook.write(outputStream);
+                }
+                Map<String, List<List<String>>> sequentialData = OfficeUtils.readExcel(filePath);
+                Assertions.assertEquals(4, sequentialData.size());
+                List<List<String>> sheetData = sequentialData.get("Sheet3");
+                Assertions.assertEquals(500, sheetData.size());
+                Assertions.assertEquals(Arrays.asList("Row 1", "1", "Merged", "false", "2"), sheetData.get(1));
+                Assertions.assertEquals(sequentialData,
+                        OfficeUtils.readExcel(filePath, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+                                executorService));
+                Assertions.assertEquals(500, OfficeUtils.excelRowsCount(filePath, "Sheet2"));
+
+                final Map<String, AtomicInteger> rowCounts = new ConcurrentHashMap<>();
+                OfficeUtils.readRows(filePath, 10, 20, sheetName -> {
+                    AtomicInteger rowCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+                    rowCounts.put(sheetName, rowCount);
+                    return rowData -> rowCount.incrementAndGet();
+                }, executorService);
+                Assertions.assertEquals(4, rowCounts.size());
+                rowCounts.forEach((sheetName, rowCount) -> {
+                    Assertions.assertEquals(10, rowCount.get());
+                    this.logger.info("Office_Excel_Rows_Count", sheetName, rowCount.get());
+                });
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(110)
+    public void bulkWrite() throws Exception {
+        String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "bulk.xlsx";
+        FileUtils.removeFile(filePath);
+        SheetSchema<RowBean> sheetSchema = SheetSchema.beanSchema(RowBean.class, "name", "index");
+        AtomicInteger counter = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath, 50, Boolean.TRUE)) {
+            SheetWriter sheetWriter = excelWriter.sheetWriter("Bulk");
+            Assertions.assertSame(sheetWriter, excelWriter.sheetWriter("Bulk"));
+            int writeCount = sheetWriter.writeRows(sheetSchema, () -> {
+                int index = counter.getAndIncrement();
+                return index < 5000 ? new RowBean("Name " + index, index) : null;
+            });
+            Assertions.assertEquals(5000, writeCount);
+            excelWriter.write();
+        }
+        SheetSchema<Integer> appendSchema = SheetSchema.<Integer>newSchema()
+                .stringColumn("name", index -> "Name " + index)
+                .numberColumn("index", "0", index -> index);
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath, 50, Boolean.TRUE)) {
+            Assertions.assertEquals(1000,
+                    excelWriter.sheetWriter("Bulk").writeRows(appendSchema, IntStream.range(5000, 6000).boxed()));
+            excelWriter.write();
+        }
+        Assertions.assertEquals(6001, OfficeUtils.excelRowsCount(filePath, "Bulk"));
+        List<List<String>> rowsData = OfficeUtils.readExcel(filePath, "Bulk");
+        Assertions.assertEquals(Arrays.asList("name", "index"), rowsData.get(0));
+        Assertions.assertEquals(Arrays.asList("Name 5999", "5999"), rowsData.get(6000));
+        this.logger.info("Office_Excel_Rows_Count", "Bulk", rowsData.size());
+    }
+
+    public static final class RowBean {
+
+        private String name;
+        private int index;
+
+        public RowBean() {
+        }
+
+        RowBean(final String name, final int index) {
+            this.name = name;
+            this.index = index;
+        }
+    }
 }
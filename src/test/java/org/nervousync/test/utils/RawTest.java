@@ -7,6 +7,7 @@ import org.nervousync.utils.ConvertUtils;
 import org.nervousync.utils.RawUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 public class RawTest extends BaseTest {
@@ -151,4 +152,25 @@ public class RawTest extends BaseTest {
         RawUtils.writeString(this.dataBytes, randomString);
         Assertions.assertEquals(RawUtils.readString(this.dataBytes), randomString);
     }
+
+    @Test
+    @Order(150)
+    public void testByteBuffer() throws DataInvalidException {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(this.dataBytes);
+        RawUtils.writeShort(byteBuffer, POSITION, ByteOrder.LITTLE_ENDIAN, Short.MAX_VALUE);
+        Assertions.assertEquals(RawUtils.readShort(this.dataBytes, POSITION, ByteOrder.LITTLE_ENDIAN), Short.MAX_VALUE);
+        RawUtils.writeInt(byteBuffer, POSITION, ByteOrder.BIG_ENDIAN, Integer.MAX_VALUE);
+        Assertions.assertEquals(RawUtils.readInt(byteBuffer, POSITION, ByteOrder.BIG_ENDIAN), Integer.MAX_VALUE);
+        RawUtils.writeLong(this.dataBytes, POSITION, ByteOrder.LITTLE_ENDIAN, Long.MAX_VALUE);
+        Assertions.assertEquals(RawUtils.readLong(byteBuffer, POSITION, ByteOrder.LITTLE_ENDIAN), Long.MAX_VALUE);
+        Assertions.assertEquals(0, byteBuffer.position());
+        Assertions.assertThrows(DataInvalidException.class,
+                () -> RawUtils.readLong(byteBuffer, ARRAY_LENGTH - 4, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    @Order(160)
+    public void testBitArray() throws Exception {
+        Assertions.assertEquals((byte) 0xA5, RawUtils.bitArrayToByte(new int[]{1, 0, 1, 0, 0, 1, 0, 1}));
+    }
 }
@@ -1,16 +1,43 @@
 package org.nervousync.test.utils;
 
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.beans.servlet.request.RequestInfo;
 import org.nervousync.beans.servlet.response.ResponseInfo;
+import org.nervousync.beans.servlet.response.ResponseStream;
 import org.nervousync.enumerations.web.HttpMethodOption;
+import org.nervousync.http.client.ClientRegistry;
+import org.nervousync.http.client.RequestBatch;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.RequestUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.cert.CertificateEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 public final class RequestTest extends BaseTest {
 
@@ -60,4 +87,255 @@ public final class RequestTest extends BaseTest {
                         this.logger.info("Request_Content_Info",
                                 responseInfo.getContentLength(), responseInfo.parseString()));
     }
+
+    @Test
+    @Order(50)
+    public void clientRegistry() {
+        RequestInfo requestInfo = RequestInfo.builder(HttpMethodOption.GET).requestUrl("http://www.baidu.com").build();
+        HttpClient httpClient = ClientRegistry.client(requestInfo);
+        Assertions.assertSame(httpClient,
+                ClientRegistry.client(RequestInfo.builder(HttpMethodOption.POST).requestUrl("http://www.qq.com").build()));
+        RequestInfo http11Request = RequestInfo.builder(HttpMethodOption.GET)
+                .requestUrl("http://www.baidu.com")
+                .httpVersion(HttpClient.Version.HTTP_1_1)
+                .build();
+        Assertions.assertNotSame(httpClient, ClientRegistry.client(http11Request));
+        Assertions.assertEquals(HttpClient.Version.HTTP_1_1, ClientRegistry.client(http11Request).version());
+        ClientRegistry.statistics().forEach(clientStatistics -> this.logger.info("Request_Client_Statistics",
+                clientStatistics.clientName(), clientStatistics.requestCount(), clientStatistics.handshakeCount()));
+    }
+
+    @Test
+    @Order(60)
+    public void sendBatch() throws IOException {
+        AtomicInteger activeCount = new AtomicInteger(0);
+        AtomicInteger maxActive = new AtomicInteger(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.setExecutor(executorService);
+        httpServer.createContext("/", httpExchange -> {
+            maxActive.accumulateAndGet(activeCount.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] dataBytes = "OK".getBytes(StandardCharsets.UTF_8);
+            httpExchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
+            httpExchange.sendResponseHeaders(200, dataBytes.length);
+            try (OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(dataBytes);
+            }
+            activeCount.decrementAndGet();
+        });
+        httpServer.start();
+        try {
+            String requestUrl = "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/batch";
+            List<RequestInfo> requestInfos = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                requestInfos.add(RequestInfo.builder(HttpMethodOption.GET)
+                        .requestUrl(requestUrl)
+                        .httpVersion(HttpClient.Version.HTTP_1_1)
+                        .build());
+            }
+            List<ResponseInfo> responseInfos =
+                    RequestUtils.sendBatch(requestInfos, ResponseInfo.class, 2, 0).all().join();
+            Assertions.assertEquals(8, responseInfos.size());
+            responseInfos.forEach(responseInfo -> {
+                Assertions.assertNotNull(responseInfo);
+                Assertions.assertEquals(200, responseInfo.getStatusCode());
+                Assertions.assertEquals("OK", responseInfo.parseString());
+            });
+            Assertions.assertTrue(maxActive.get() <= 2);
+
+            RequestBatch<ResponseInfo> requestBatch = RequestUtils.sendBatch(requestInfos, ResponseInfo.class, 1, 0);
+            requestBatch.cancel();
+            Assertions.assertTrue(requestBatch.isCancelled());
+            Assertions.assertEquals(0, requestBatch.pendingCount());
+            Assertions.assertTrue(requestBatch.all().join().stream().allMatch(Objects::isNull));
+        } finally {
+            httpServer.stop(0);
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(65)
+    public void batchDispatch() {
+        List<RequestInfo> requestInfos = new ArrayList<>();
+        RequestInfo failedInfo = RequestInfo.builder(HttpMethodOption.GET).requestUrl("http://127.0.0.1/failed").build();
+        for (int i = 0; i < 50000; i++) {
+            requestInfos.add(failedInfo);
+        }
+        List<Object> results = RequestBatch.<Object>execute(requestInfo ->
+                        CompletableFuture.failedFuture(new IllegalStateException()), requestInfos, 1, 0)
+                .all().join();
+        Assertions.assertEquals(50000, results.size());
+        Assertions.assertTrue(results.stream().allMatch(Objects::isNull));
+
+        Map<String, Long> sendTimes = new ConcurrentHashMap<>();
+        List<RequestInfo> limitedInfos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            limitedInfos.add(RequestInfo.builder(HttpMethodOption.GET).requestUrl("http://slow.host/" + i).build());
+        }
+        limitedInfos.add(RequestInfo.builder(HttpMethodOption.GET).requestUrl("http://fast.host/0").build());
+        long beginTime = System.currentTimeMillis();
+        RequestBatch.<String>execute(requestInfo -> {
+            sendTimes.put(requestInfo.getRequestUrl(), System.currentTimeMillis() - beginTime);
+            return CompletableFuture.completedFuture(requestInfo.getRequestUrl());
+        }, limitedInfos, 1, 2).all().join();
+        Assertions.assertEquals(4, sendTimes.size());
+        Assertions.assertTrue(sendTimes.get("http://fast.host/0") < 400L);
+        Assertions.assertTrue(sendTimes.get("http://slow.host/2") >= 900L);
+    }
+
+    @Test
+    @Order(70)
+    public void download() throws IOException {
+        byte[] fileBytes = new byte[64 * 1024];
+        byte[] changedBytes = new byte[fileBytes.length];
+        for (int i = 0; i < fileBytes.length; i++) {
+            fileBytes[i] = (byte) (i % 251);
+            changedBytes[i] = (byte) (i % 241);
+        }
+        byte[] jsonBytes = "[{\"code\":1},{\"code\":2},{\"code\":3}]".getBytes(StandardCharsets.UTF_8);
+        AtomicReference<byte[]> content = new AtomicReference<>(fileBytes);
+        AtomicReference<String> eTag = new AtomicReference<>("\"v1\"");
+        AtomicInteger abortLength = new AtomicInteger(0);
+        AtomicInteger lastStatus = new AtomicInteger(0);
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.createContext("/file", httpExchange -> {
+            byte[] dataBytes = content.get();
+            String range = httpExchange.getRequestHeaders().getFirst("Range");
+            String ifRange = httpExchange.getRequestHeaders().getFirst("If-Range");
+            int start = (range == null || (ifRange != null && !ifRange.equals(eTag.get())))
+                    ? 0 : Integer.parseInt(range.substring(6, range.indexOf('-')));
+            if (start > 0) {
+                httpExchange.getResponseHeaders().set("Content-Range",
+                        "bytes " + start + "-" + (dataBytes.length - 1) + "/" + dataBytes.length);
+            }
+            httpExchange.getResponseHeaders().set("ETag", eTag.get());
+            lastStatus.set(start > 0 ? 206 : 200);
+            httpExchange.sendResponseHeaders(lastStatus.get(), dataBytes.length - start);
+            int writeLength = abortLength.getAndSet(0);
+            if (writeLength > 0) {
+                //  Throwing from handler makes the server close the connection before the response completed
+                OutputStream outputStream = httpExchange.getResponseBody();
+                outputStream.write(dataBytes, start, writeLength);
+                outputStream.flush();
+                throw new IOException("Connection aborted");
+            }
+            try (OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(dataBytes, start, dataBytes.length - start);
+            }
+        });
+        httpServer.createContext("/list", httpExchange -> {
+            httpExchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            httpExchange.sendResponseHeaders(200, jsonBytes.length);
+            try (OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(jsonBytes);
+            }
+        });
+        httpServer.start();
+        Path tempDir = Files.createTempDirectory("download");
+        try {
+            String baseUrl = "http://127.0.0.1:" + httpServer.getAddress().getPort();
+            RequestInfo requestInfo = RequestInfo.builder(HttpMethodOption.GET)
+                    .requestUrl(baseUrl + "/file")
+                    .httpVersion(HttpClient.Version.HTTP_1_1)
+                    .build();
+            Path targetPath = tempDir.resolve("download.dat");
+            Path validatorPath = tempDir.resolve("download.dat.validator");
+            //  Partial file without stored validator was downloaded from the beginning
+            Files.write(targetPath, Arrays.copyOf(changedBytes, 1000));
+            Assertions.assertTrue(RequestUtils.download(requestInfo, targetPath));
+            Assertions.assertEquals(200, lastStatus.get());
+            Assertions.assertArrayEquals(fileBytes, Files.readAllBytes(targetPath));
+            Assertions.assertFalse(Files.exists(validatorPath));
+            Files.delete(targetPath);
+            Assertions.assertTrue(RequestUtils.download(requestInfo, targetPath));
+            Assertions.assertArrayEquals(fileBytes, Files.readAllBytes(targetPath));
+            Files.delete(targetPath);
+
+            //  Interrupted download resumes while the remote resource is unchanged
+            abortLength.set(16 * 1024);
+            Assertions.assertFalse(RequestUtils.download(requestInfo, targetPath));
+            Assertions.assertTrue(Files.size(targetPath) > 0L && Files.size(targetPath) < fileBytes.length);
+            Assertions.assertEquals("\"v1\"", Files.readString(validatorPath));
+            Assertions.assertTrue(RequestUtils.download(requestInfo, targetPath));
+            Assertions.assertEquals(206, lastStatus.get());
+            Assertions.assertArrayEquals(fileBytes, Files.readAllBytes(targetPath));
+            Assertions.assertFalse(Files.exists(validatorPath));
+            Files.delete(targetPath);
+
+            //  Interrupted download restarts from zero when the remote resource was changed
+            abortLength.set(16 * 1024);
+            Assertions.assertFalse(RequestUtils.download(requestInfo, targetPath));
+            content.set(changedBytes);
+            eTag.set("\"v2\"");
+            Assertions.assertTrue(RequestUtils.download(requestInfo, targetPath));
+            Assertions.assertEquals(200, lastStatus.get());
+            Assertions.assertArrayEquals(changedBytes, Files.readAllBytes(targetPath));
+            Assertions.assertFalse(Files.exists(validatorPath));
+
+            RequestInfo listRequest = RequestInfo.builder(HttpMethodOption.GET)
+                    .requestUrl(baseUrl + "/list")
+                    .httpVersion(HttpClient.Version.HTTP_1_1)
+                    .build();
+            ResponseStream responseStream = RequestUtils.openStream(listRequest);
+            Assertions.assertNotNull(responseStream);
+            Assertions.assertEquals(jsonBytes.length, responseStream.getContentLength());
+            try (Stream<Map> stream = responseStream.parseList(Map.class)) {
+                Assertions.assertEquals(6, stream.mapToInt(map -> (Integer) map.get("code")).sum());
+            }
+        } finally {
+            httpServer.stop(0);
+            Files.walk(tempDir).sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    @Order(80)
+    public void upload() throws IOException {
+        byte[] fileBytes = new byte[256 * 1024];
+        Arrays.fill(fileBytes, (byte) 'N');
+        List<String> transferEncodings = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.createContext("/upload", httpExchange -> {
+            transferEncodings.add(httpExchange.getRequestHeaders().containsKey("Content-Length")
+                    ? "length"
+                    : httpExchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            receivedBody.set(httpExchange.getRequestBody().readAllBytes());
+            httpExchange.sendResponseHeaders(200, -1);
+            httpExchange.close();
+        });
+        httpServer.start();
+        Path tempFile = Files.createTempFile("upload", ".dat");
+        try {
+            Files.write(tempFile, fileBytes);
+            AtomicLong transferred = new AtomicLong(0L);
+            String requestUrl = "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/upload";
+            for (boolean chunked : new boolean[]{false, true}) {
+                RequestInfo requestInfo = RequestInfo.builder(HttpMethodOption.POST)
+                        .requestUrl(requestUrl)
+                        .httpVersion(HttpClient.Version.HTTP_1_1)
+                        .addParameter("name", new String[]{"value"})
+                        .addUploadParam("file", tempFile.toFile())
+                        .chunkedUpload(chunked)
+                        .uploadProgress((count, totalLength) -> transferred.set(count))
+                        .build();
+                ResponseInfo responseInfo = RequestUtils.sendRequest(requestInfo, ResponseInfo.class);
+                Assertions.assertNotNull(responseInfo);
+                Assertions.assertEquals(200, responseInfo.getStatusCode());
+                Assertions.assertEquals(receivedBody.get().length, transferred.get());
+                Assertions.assertTrue(receivedBody.get().length > fileBytes.length);
+                Assertions.assertTrue(new String(receivedBody.get(), StandardCharsets.ISO_8859_1).trim().endsWith("--"));
+            }
+            Assertions.assertEquals(List.of("length", "chunked"), transferEncodings);
+        } finally {
+            httpServer.stop(0);
+            Files.deleteIfExists(tempFile);
+        }
+    }
 }
@@ -0,0 +1,792 @@
+package org.nervousync.test.utils;
+
+import jakarta.ws.rs.FormParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.MatrixParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Form;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.NewCookie;
+import jakarta.ws.rs.core.Response;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.ws.BindingProvider;
+import jakarta.xml.ws.Dispatch;
+import jakarta.xml.ws.Endpoint;
+import jakarta.xml.ws.EndpointReference;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.WebServiceClient;
+import jakarta.xml.ws.WebServiceFeature;
+import jakarta.xml.ws.handler.HandlerResolver;
+import jakarta.xml.ws.spi.Provider;
+import jakarta.xml.ws.spi.ServiceDelegate;
+import jakarta.xml.ws.wsaddressing.W3CEndpointReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.ServiceUtils;
+import org.w3c.dom.Element;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+public final class ServiceTest extends BaseTest {
+
+    private static final String SERVICE_LOCATION = "http://127.0.0.1/mock";
+    private static final String ENDPOINT_ADDRESS = "http://127.0.0.1/mock/endpoint";
+
+    @Test
+    @Order(0)
+    public void soapRequestContext() throws MalformedURLException {
+        ServiceUtils.clearSOAPCache();
+        MockPort mockPort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class,
+                Map.of(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, ENDPOINT_ADDRESS));
+        Map<String, Object> requestContext = ((BindingProvider) mockPort).getRequestContext();
+        Assertions.assertEquals(ENDPOINT_ADDRESS, requestContext.get(BindingProvider.ENDPOINT_ADDRESS_PROPERTY));
+        Assertions.assertEquals("Hello", mockPort.echo("Hello"));
+        requestContext.put(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, "http://127.0.0.1/modified");
+        requestContext.put(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.TRUE);
+
+        MockPort reusedPort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class,
+                Map.of(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, ENDPOINT_ADDRESS));
+        Assertions.assertSame(mockPort, reusedPort);
+        Assertions.assertEquals(ENDPOINT_ADDRESS, requestContext.get(BindingProvider.ENDPOINT_ADDRESS_PROPERTY));
+        Assertions.assertFalse(requestContext.containsKey(BindingProvider.SESSION_MAINTAIN_PROPERTY));
+        ServiceUtils.clearSOAPCache();
+    }
+
+    @Test
+    @Order(10)
+    public void soapServiceReuse() throws MalformedURLException {
+        ServiceUtils.clearSOAPCache();
+        int serviceCount = MockProvider.SERVICE_COUNT.get();
+        int portCount = MockProvider.PORT_COUNT.get();
+        MockPort firstPort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", "1"));
+        MockPort secondPort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", "2"));
+        Assertions.assertNotSame(firstPort, secondPort);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            MockPort threadPort = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", "1"));
+                } catch (MalformedURLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executorService).join();
+            Assertions.assertNotSame(firstPort, threadPort);
+        } finally {
+            executorService.shutdown();
+        }
+        Assertions.assertSame(firstPort,
+                ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", "1")));
+        Assertions.assertEquals(serviceCount + 1, MockProvider.SERVICE_COUNT.get());
+        Assertions.assertEquals(portCount + 3, MockProvider.PORT_COUNT.get());
+        ServiceUtils.clearSOAPCache();
+    }
+
+    @Test
+    @Order(20)
+    public void soapCacheLimit() throws MalformedURLException {
+        ServiceUtils.clearSOAPCache();
+        MockPort livePort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", "Live"));
+        for (int i = 0; i < 256; i++) {
+            ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", Integer.toString(i)));
+            Assertions.assertSame(livePort,
+                    ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class, Map.of("Config", "Live")));
+        }
+        ServiceUtils.clearSOAPCache();
+    }
+
+    @Test
+    @Order(30)
+    public void soapSnapshot() throws IOException {
+        ServiceUtils.clearSOAPCache();
+        Path snapshotPath = Files.createTempFile("mock", ".wsdl");
+        try {
+            MockPort remotePort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class);
+            Assertions.assertEquals(new URL(SERVICE_LOCATION + "/mock?wsdl"), MockProvider.WSDL_LOCATION.get());
+            Assertions.assertFalse(ServiceUtils.registerSnapshot(SERVICE_LOCATION, Object.class, snapshotPath.toString()));
+            Assertions.assertTrue(ServiceUtils.registerSnapshot(SERVICE_LOCATION, MockPort.class, snapshotPath.toString()));
+
+            int serviceCount = MockProvider.SERVICE_COUNT.get();
+            MockPort snapshotPort = ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class);
+            Assertions.assertNotSame(remotePort, snapshotPort);
+            Assertions.assertEquals(serviceCount + 1, MockProvider.SERVICE_COUNT.get());
+            Assertions.assertEquals(snapshotPath.toFile().toURI().toURL(), MockProvider.WSDL_LOCATION.get());
+            Assertions.assertSame(snapshotPort, ServiceUtils.SOAPClient(SERVICE_LOCATION, MockPort.class));
+        } finally {
+            ServiceUtils.clearSOAPCache();
+            Files.deleteIfExists(snapshotPath);
+        }
+    }
+
+    @Test
+    @Order(40)
+    public void restfulInvocationPlans() throws MalformedURLException {
+        MockResource mockResource = ServiceUtils.RestfulClient(SERVICE_LOCATION, new MockClientBuilder(), MockResource.class);
+        MockClientBuilder.RECORDED_REQUESTS.clear();
+        mockResource.echo("Value");
+        RecordedRequest recordedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(recordedRequest);
+        Assertions.assertEquals("GET", recordedRequest.method());
+        Assertions.assertEquals(SERVICE_LOCATION + "/api/echo", recordedRequest.requestUri());
+        Assertions.assertEquals(Map.of("value", List.of("Value")), recordedRequest.queryParameters());
+
+        mockResource.echo("First", 2);
+        recordedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(recordedRequest);
+        Assertions.assertEquals(SERVICE_LOCATION + "/api/echo", recordedRequest.requestUri());
+        Assertions.assertEquals(Map.of("first", List.of("First"), "second", List.of("2")),
+                recordedRequest.queryParameters());
+
+        mockResource.item("Item Code");
+        recordedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(recordedRequest);
+        Assertions.assertEquals(SERVICE_LOCATION + "/api/item/Item+Code", recordedRequest.requestUri());
+
+        mockResource.submit("Data");
+        recordedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(recordedRequest);
+        Assertions.assertEquals("POST", recordedRequest.method());
+        Assertions.assertEquals(SERVICE_LOCATION + "/api/submit", recordedRequest.requestUri());
+        Assertions.assertNotNull(recordedRequest.entity());
+        Assertions.assertEquals(List.of("Data"), ((Form) recordedRequest.entity().getEntity()).asMap().get("field"));
+        Assertions.assertTrue(MockClientBuilder.RECORDED_REQUESTS.isEmpty());
+    }
+
+    @Test
+    @Order(50)
+    public void restfulParameters() throws MalformedURLException {
+        MockResource mockResource = ServiceUtils.RestfulClient(SERVICE_LOCATION, new MockClientBuilder(),
+                MockResource.class, Map.of("X-Static", "Static"));
+        MockClientBuilder.RECORDED_REQUESTS.clear();
+        Assertions.assertEquals(SERVICE_LOCATION + "/api/query",
+                mockResource.query("Name", List.of("First", "Second"), null));
+        RecordedRequest recordedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(recordedRequest);
+        Assertions.assertEquals(Map.of("name", List.of("Name")), recordedRequest.queryParameters());
+        Assertions.assertEquals(Map.of("item", List.of("First", "Second")), recordedRequest.matrixParameters());
+        Assertions.assertEquals(Map.of("X-Static", "Static"), recordedRequest.headers());
+    }
+
+    @Test
+    @Order(60)
+    public void restfulHeaderIsolation() throws MalformedURLException {
+        MockResource mockResource =
+                ServiceUtils.RestfulClient(SERVICE_LOCATION, MockResource.class, Map.of("X-Static", "Static"));
+        MockClientBuilder.RECORDED_REQUESTS.clear();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> futures = IntStream.range(0, 32)
+                    .mapToObj(index -> CompletableFuture.runAsync(() ->
+                            Assertions.assertEquals("Call-" + index,
+                                    mockResource.query("Name-" + index, List.of(Integer.toString(index)),
+                                            "Call-" + index)), executorService))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executorService.shutdown();
+        }
+        Assertions.assertEquals(32, MockClientBuilder.RECORDED_REQUESTS.size());
+        for (RecordedRequest recordedRequest : MockClientBuilder.RECORDED_REQUESTS) {
+            String index = recordedRequest.matrixParameters().get("item").get(0);
+            Assertions.assertEquals(List.of("Name-" + index), recordedRequest.queryParameters().get("name"));
+            Assertions.assertEquals(Map.of("X-Static", "Static", "X-Call", "Call-" + index),
+                    recordedRequest.headers());
+        }
+        MockClientBuilder.RECORDED_REQUESTS.clear();
+        mockResource.query("Name", List.of(), null);
+        RecordedRequest recordedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(recordedRequest);
+        Assertions.assertEquals(Map.of("X-Static", "Static"), recordedRequest.headers());
+    }
+
+    @Test
+    @Order(70)
+    public void restfulSharedClient() throws MalformedURLException {
+        int buildCount = MockClientBuilder.BUILD_COUNT.get();
+        MockResource firstResource = ServiceUtils.RestfulClient(SERVICE_LOCATION, MockResource.class);
+        MockResource secondResource = ServiceUtils.RestfulClient(SERVICE_LOCATION, MockResource.class);
+        MockClientBuilder.RECORDED_REQUESTS.clear();
+        firstResource.echo("First");
+        secondResource.echo("Second");
+        RecordedRequest firstRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        RecordedRequest secondRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(firstRequest);
+        Assertions.assertNotNull(secondRequest);
+        Assertions.assertSame(firstRequest.client(), secondRequest.client());
+        Assertions.assertTrue(MockClientBuilder.BUILD_COUNT.get() - buildCount <= 1);
+
+        buildCount = MockClientBuilder.BUILD_COUNT.get();
+        MockResource builderResource =
+                ServiceUtils.RestfulClient(SERVICE_LOCATION, new MockClientBuilder(), MockResource.class);
+        Assertions.assertEquals(buildCount + 1, MockClientBuilder.BUILD_COUNT.get());
+        builderResource.echo("First");
+        builderResource.echo("Second");
+        Assertions.assertEquals(buildCount + 1, MockClientBuilder.BUILD_COUNT.get());
+        RecordedRequest builderRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(builderRequest);
+        Assertions.assertNotSame(firstRequest.client(), builderRequest.client());
+        RecordedRequest reusedRequest = MockClientBuilder.RECORDED_REQUESTS.poll();
+        Assertions.assertNotNull(reusedRequest);
+        Assertions.assertSame(builderRequest.client(), reusedRequest.client());
+    }
+
+    @jakarta.ws.rs.Path("/api")
+    public interface MockResource {
+
+        @GET
+        @jakarta.ws.rs.Path("query")
+        String query(@QueryParam("name") final String name, @MatrixParam("item") final List<String> items,
+                     @HeaderParam("X-Call") final String call);
+
+        @GET
+        @jakarta.ws.rs.Path("echo")
+        String echo(@QueryParam("value") final String value);
+
+        @GET
+        @jakarta.ws.rs.Path("echo")
+        String echo(@QueryParam("first") final String first, @QueryParam("second") final Integer second);
+
+        @GET
+        @jakarta.ws.rs.Path("item/{id}")
+        String item(@PathParam("id") final String id);
+
+        @POST
+        @jakarta.ws.rs.Path("submit")
+        String submit(@FormParam("field") final String field);
+    }
+
+    private record RecordedRequest(Client client, String method, String requestUri,
+                                   Map<String, List<String>> queryParameters,
+                                   Map<String, List<String>> matrixParameters,
+                                   Map<String, Object> headers, Entity<?> entity) {
+    }
+
+    public static final class MockClientBuilder extends ClientBuilder {
+
+        private static final AtomicInteger BUILD_COUNT = new AtomicInteger(0);
+        private static final ConcurrentLinkedQueue<RecordedRequest> RECORDED_REQUESTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public Client build() {
+            BUILD_COUNT.incrementAndGet();
+            return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "target" -> webTarget((Client) proxy, args[0].toString(), Map.of(), Map.of());
+                        case "close" -> null;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "MockClient@" + Integer.toHexString(System.identityHashCode(proxy));
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private static WebTarget webTarget(final Client client, final String requestUri,
+                                           final Map<String, List<String>> queryParameters,
+                                           final Map<String, List<String>> matrixParameters) {
+            return (WebTarget) Proxy.newProxyInstance(WebTarget.class.getClassLoader(), new Class<?>[]{WebTarget.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "queryParam" -> webTarget(client, requestUri,
+                                appendParameter(queryParameters, (String) args[0], (Object[]) args[1]), matrixParameters);
+                        case "matrixParam" -> webTarget(client, requestUri, queryParameters,
+                                appendParameter(matrixParameters, (String) args[0], (Object[]) args[1]));
+                        case "request" -> invocationBuilder(client, requestUri, queryParameters, matrixParameters);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private static Map<String, List<String>> appendParameter(final Map<String, List<String>> parameters,
+                                                                 final String paramName, final Object[] paramValues) {
+            Map<String, List<String>> newParameters = new LinkedHashMap<>(parameters);
+            List<String> newValues = new ArrayList<>(newParameters.getOrDefault(paramName, List.of()));
+            Arrays.stream(paramValues).map(Object::toString).forEach(newValues::add);
+            newParameters.put(paramName, List.copyOf(newValues));
+            return Map.copyOf(newParameters);
+        }
+
+        private static Invocation.Builder invocationBuilder(final Client client, final String requestUri,
+                                                            final Map<String, List<String>> queryParameters,
+                                                            final Map<String, List<String>> matrixParameters) {
+            Map<String, Object> headers = new LinkedHashMap<>();
+            return (Invocation.Builder) Proxy.newProxyInstance(Invocation.Builder.class.getClassLoader(),
+                    new Class<?>[]{Invocation.Builder.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "accept" -> proxy;
+                        case "header" -> {
+                            if (args[1] != null) {
+                                headers.put((String) args[0], args[1]);
+                            }
+                            yield proxy;
+                        }
+                        case "get", "delete", "head" -> response(new RecordedRequest(client,
+                                method.getName().toUpperCase(Locale.ROOT), requestUri, queryParameters,
+                                matrixParameters, Map.copyOf(headers), null));
+                        case "post", "put" -> response(new RecordedRequest(client,
+                                method.getName().toUpperCase(Locale.ROOT), requestUri, queryParameters,
+                                matrixParameters, Map.copyOf(headers), (Entity<?>) args[0]));
+                        case "method" -> response(new RecordedRequest(client, (String) args[0], requestUri,
+                                queryParameters, matrixParameters, Map.copyOf(headers), (Entity<?>) args[1]));
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private static Response response(final RecordedRequest recordedRequest) {
+            RECORDED_REQUESTS.add(recordedRequest);
+            return new MockResponse(recordedRequest.headers().getOrDefault("X-Call", recordedRequest.requestUri()));
+        }
+
+        @Override
+        public ClientBuilder withConfig(final Configuration config) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder sslContext(final SSLContext sslContext) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder keyStore(final KeyStore keyStore, final char[] password) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder trustStore(final KeyStore trustStore) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder hostnameVerifier(final HostnameVerifier verifier) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder executorService(final ExecutorService executorService) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder scheduledExecutorService(final ScheduledExecutorService scheduledExecutorService) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder connectTimeout(final long timeout, final TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder readTimeout(final long timeout, final TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return null;
+        }
+
+        @Override
+        public ClientBuilder property(final String name, final Object value) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Class<?> componentClass) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Class<?> componentClass, final int priority) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Class<?> componentClass, final Class<?>... contracts) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Class<?> componentClass, final Map<Class<?>, Integer> contracts) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Object component) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Object component, final int priority) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Object component, final Class<?>... contracts) {
+            return this;
+        }
+
+        @Override
+        public ClientBuilder register(final Object component, final Map<Class<?>, Integer> contracts) {
+            return this;
+        }
+    }
+
+    private static final class MockResponse extends Response {
+
+        private final Object entity;
+
+        MockResponse(final Object entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public int getStatus() {
+            return 200;
+        }
+
+        @Override
+        public StatusType getStatusInfo() {
+            return Status.OK;
+        }
+
+        @Override
+        public Object getEntity() {
+            return this.entity;
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType) {
+            return entityType.cast(this.entity);
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType, final Annotation[] annotations) {
+            return entityType.cast(this.entity);
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType, final Annotation[] annotations) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasEntity() {
+            return this.entity != null;
+        }
+
+        @Override
+        public boolean bufferEntity() {
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return MediaType.TEXT_PLAIN_TYPE;
+        }
+
+        @Override
+        public Locale getLanguage() {
+            return null;
+        }
+
+        @Override
+        public int getLength() {
+            return -1;
+        }
+
+        @Override
+        public Set<String> getAllowedMethods() {
+            return Set.of();
+        }
+
+        @Override
+        public Map<String, NewCookie> getCookies() {
+            return Map.of();
+        }
+
+        @Override
+        public EntityTag getEntityTag() {
+            return null;
+        }
+
+        @Override
+        public Date getDate() {
+            return null;
+        }
+
+        @Override
+        public Date getLastModified() {
+            return null;
+        }
+
+        @Override
+        public URI getLocation() {
+            return null;
+        }
+
+        @Override
+        public Set<Link> getLinks() {
+            return Set.of();
+        }
+
+        @Override
+        public boolean hasLink(final String relation) {
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public Link getLink(final String relation) {
+            return null;
+        }
+
+        @Override
+        public Link.Builder getLinkBuilder(final String relation) {
+            return null;
+        }
+
+        @Override
+        public MultivaluedMap<String, Object> getMetadata() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getStringHeaders() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getHeaderString(final String name) {
+            return "Content-Type".equalsIgnoreCase(name) ? MediaType.TEXT_PLAIN : null;
+        }
+    }
+
+    @WebServiceClient(name = "MockService", targetNamespace = "http://mock.nervousync.org/", wsdlLocation = "mock?wsdl")
+    public interface MockPort {
+
+        String echo(final String message);
+    }
+
+    public static final class MockProvider extends Provider {
+
+        private static final AtomicInteger SERVICE_COUNT = new AtomicInteger(0);
+        private static final AtomicInteger PORT_COUNT = new AtomicInteger(0);
+        private static final AtomicReference<URL> WSDL_LOCATION = new AtomicReference<>();
+
+        @Override
+        public ServiceDelegate createServiceDelegate(final URL wsdlDocumentLocation, final QName serviceName,
+                                                     final Class<? extends Service> serviceClass) {
+            SERVICE_COUNT.incrementAndGet();
+            WSDL_LOCATION.set(wsdlDocumentLocation);
+            return new MockDelegate(wsdlDocumentLocation, serviceName);
+        }
+
+        @Override
+        public Endpoint createEndpoint(final String bindingId, final Object implementor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Endpoint createAndPublishEndpoint(final String address, final Object implementor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EndpointReference readEndpointReference(final Source eprInfoset) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T getPort(final EndpointReference endpointReference, final Class<T> serviceEndpointInterface,
+                             final WebServiceFeature... features) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public W3CEndpointReference createW3CEndpointReference(final String address, final QName serviceName,
+                                                               final QName portName, final List<Element> metadata,
+                                                               final String wsdlDocumentLocation,
+                                                               final List<Element> referenceParameters) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class MockDelegate extends ServiceDelegate {
+
+        private final URL wsdlLocation;
+        private final QName serviceName;
+        private HandlerResolver handlerResolver;
+        private Executor executor;
+
+        MockDelegate(final URL wsdlLocation, final QName serviceName) {
+            this.wsdlLocation = wsdlLocation;
+            this.serviceName = serviceName;
+        }
+
+        @Override
+        public <T> T getPort(final QName portName, final Class<T> serviceEndpointInterface) {
+            return this.getPort(serviceEndpointInterface);
+        }
+
+        @Override
+        public <T> T getPort(final QName portName, final Class<T> serviceEndpointInterface,
+                             final WebServiceFeature... features) {
+            return this.getPort(serviceEndpointInterface);
+        }
+
+        @Override
+        public <T> T getPort(final EndpointReference endpointReference, final Class<T> serviceEndpointInterface,
+                             final WebServiceFeature... features) {
+            return this.getPort(serviceEndpointInterface);
+        }
+
+        @Override
+        public <T> T getPort(final Class<T> serviceEndpointInterface) {
+            MockProvider.PORT_COUNT.incrementAndGet();
+            Map<String, Object> requestContext = new HashMap<>();
+            return serviceEndpointInterface.cast(Proxy.newProxyInstance(serviceEndpointInterface.getClassLoader(),
+                    new Class<?>[]{serviceEndpointInterface, BindingProvider.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getRequestContext" -> requestContext;
+                        case "echo" -> args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "MockPort@" + Integer.toHexString(System.identityHashCode(proxy));
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }));
+        }
+
+        @Override
+        public <T> T getPort(final Class<T> serviceEndpointInterface, final WebServiceFeature... features) {
+            return this.getPort(serviceEndpointInterface);
+        }
+
+        @Override
+        public void addPort(final QName portName, final String bindingId, final String endpointAddress) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Dispatch<T> createDispatch(final QName portName, final Class<T> type, final Service.Mode mode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Dispatch<T> createDispatch(final QName portName, final Class<T> type, final Service.Mode mode,
+                                              final WebServiceFeature... features) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Dispatch<T> createDispatch(final EndpointReference endpointReference, final Class<T> type,
+                                              final Service.Mode mode, final WebServiceFeature... features) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Dispatch<Object> createDispatch(final QName portName, final JAXBContext context,
+                                               final Service.Mode mode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Dispatch<Object> createDispatch(final QName portName, final JAXBContext context,
+                                               final Service.Mode mode, final WebServiceFeature... features) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Dispatch<Object> createDispatch(final EndpointReference endpointReference, final JAXBContext context,
+                                               final Service.Mode mode, final WebServiceFeature... features) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QName getServiceName() {
+            return this.serviceName;
+        }
+
+        @Override
+        public Iterator<QName> getPorts() {
+            return List.<QName>of().iterator();
+        }
+
+        @Override
+        public URL getWSDLDocumentLocation() {
+            return this.wsdlLocation;
+        }
+
+        @Override
+        public HandlerResolver getHandlerResolver() {
+            return this.handlerResolver;
+        }
+
+        @Override
+        public void setHandlerResolver(final HandlerResolver handlerResolver) {
+            this.handlerResolver = handlerResolver;
+        }
+
+        @Override
+        public Executor getExecutor() {
+            return this.executor;
+        }
+
+        @Override
+        public void setExecutor(final Executor executor) {
+            this.executor = executor;
+        }
+    }
+}
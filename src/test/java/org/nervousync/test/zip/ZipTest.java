@@ -2,6 +2,7 @@ package org.nervousync.test.zip;
 
 import org.junit.jupiter.api.*;
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.io.ArchiveCache;
 import org.nervousync.zip.options.ZipOptions;
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.test.BaseTest;
@@ -11,6 +12,7 @@ import org.nervousync.zip.ZipFile;
 
 import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.List;
 import java.util.Random;
 
@@ -148,6 +150,42 @@ public final class ZipTest extends BaseTest {
 		}
 	}
 
+	@Test
+	@Order(47)
+	public void archiveCacheTest() throws ZipException, IOException {
+		String zipPath = ZIP_FILE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "demoFile.zip";
+		ZipFile zipFile = ZipFile.openZipFile(zipPath);
+		ArchiveCache.clear();
+		for (String entryPath : zipFile.entryList()) {
+			Assertions.assertTrue(FileUtils.isEntryExists(zipPath, entryPath));
+			Assertions.assertArrayEquals(zipFile.readEntry(entryPath),
+					FileUtils.readFileBytes(zipPath + FileUtils.JAR_URL_SEPARATOR + entryPath));
+		}
+		Assertions.assertEquals(1, ArchiveCache.size());
+
+		try (ArchiveCache.Handle encHandle = ArchiveCache.acquireZip(
+				FileUtils.getFile(ZIP_FILE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "demoEnc.zip"))) {
+			Assertions.assertNotNull(encHandle.zipFile());
+			Assertions.assertEquals(1, ArchiveCache.size());
+		}
+
+		String copyPath = ZIP_FILE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "cacheCopy.zip";
+		Assertions.assertTrue(FileUtils.copy(zipPath, copyPath, Boolean.TRUE));
+		try (ArchiveCache.Handle firstHandle = ArchiveCache.acquireJar(FileUtils.getFile(copyPath));
+		     ArchiveCache.Handle secondHandle = ArchiveCache.acquireJar(FileUtils.getFile(copyPath))) {
+			Assertions.assertEquals(2, ArchiveCache.size());
+			firstHandle.close();
+			firstHandle.close();
+			ArchiveCache.invalidate(FileUtils.getFile(copyPath));
+			Assertions.assertEquals(1, ArchiveCache.size());
+			Assertions.assertTrue(secondHandle.jarFile().entries().hasMoreElements());
+		}
+		ArchiveCache.acquireJar(FileUtils.getFile(copyPath)).close();
+		Assertions.assertEquals(2, ArchiveCache.size());
+		Assertions.assertTrue(FileUtils.removeFile(copyPath));
+		Assertions.assertEquals(1, ArchiveCache.size());
+	}
+
 	@Test
 	@Order(50)
 	public void extractFile() throws ZipException {